@@ -251,6 +251,11 @@ public abstract class AbstractAzureAiSearchEmbeddingStore implements EmbeddingSt
         return ids;
     }
 
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        addAllInternal(ids, embeddings, embedded);
+    }
+
     @Override
     public List<EmbeddingMatch<TextSegment>> findRelevant(Embedding referenceEmbedding, int maxResults, double minScore) {
         List<Float> vector = referenceEmbedding.vectorAsList();
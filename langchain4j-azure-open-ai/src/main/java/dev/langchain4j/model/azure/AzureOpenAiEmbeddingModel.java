@@ -13,6 +13,7 @@ import dev.langchain4j.model.Tokenizer;
 import dev.langchain4j.model.azure.spi.AzureOpenAiEmbeddingModelBuilderFactory;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.TokenCountEstimator;
+import dev.langchain4j.model.embedding.batch.EmbeddingBatcher;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
 
@@ -53,7 +54,9 @@ import static java.util.stream.Collectors.toList;
  */
 public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEstimator {
 
-    private static final int BATCH_SIZE = 16;
+    private static final EmbeddingBatcher BATCHER = EmbeddingBatcher.builder()
+            .maxSegmentsPerBatch(16)
+            .build();
 
     private OpenAIClient client;
     private final String deploymentName;
@@ -124,37 +127,26 @@ public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEsti
      */
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        return BATCHER.embedAll(textSegments, this::embedBatch);
+    }
+
+    private Response<List<Embedding>> embedBatch(List<TextSegment> textSegments) {
 
         List<String> texts = textSegments.stream()
                 .map(TextSegment::text)
                 .collect(toList());
 
-        return embedTexts(texts);
-    }
-
-    private Response<List<Embedding>> embedTexts(List<String> texts) {
+        EmbeddingsOptions options = new EmbeddingsOptions(texts);
+        Embeddings response = client.getEmbeddings(deploymentName, options);
 
         List<Embedding> embeddings = new ArrayList<>();
-
-        int inputTokenCount = 0;
-        for (int i = 0; i < texts.size(); i += BATCH_SIZE) {
-
-            List<String> batch = texts.subList(i, Math.min(i + BATCH_SIZE, texts.size()));
-
-            EmbeddingsOptions options = new EmbeddingsOptions(batch);
-            Embeddings response =  client.getEmbeddings(deploymentName, options);
-
-            for (EmbeddingItem embeddingItem : response.getData()) {
-                Embedding embedding = from(embeddingItem.getEmbedding());
-                embeddings.add(embedding);
-            }
-
-            inputTokenCount += response.getUsage().getPromptTokens();
+        for (EmbeddingItem embeddingItem : response.getData()) {
+            embeddings.add(from(embeddingItem.getEmbedding()));
         }
 
         return Response.from(
                 embeddings,
-                new TokenUsage(inputTokenCount)
+                new TokenUsage(response.getUsage().getPromptTokens())
         );
     }
 
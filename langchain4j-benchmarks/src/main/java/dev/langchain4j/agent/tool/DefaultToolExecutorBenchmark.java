@@ -0,0 +1,94 @@
+package dev.langchain4j.agent.tool;
+
+import dev.langchain4j.internal.Json;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static dev.langchain4j.agent.tool.ToolExecutionRequestUtil.argumentsAsMap;
+
+/**
+ * Compares the execution of a tool by {@link DefaultToolExecutor}, through a pre-built {@code MethodHandle}
+ * ({@code methodHandle}), with its execution through {@link Method#invoke(Object, Object...)},
+ * resolving the parameters of the method on every execution ({@code reflection}),
+ * as {@link DefaultToolExecutor} used to do.
+ * <p>
+ * Both include the parsing of the arguments from JSON and the conversion of the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DefaultToolExecutorBenchmark {
+
+    public static class Tools {
+
+        @Tool
+        public String bookFlight(String from, String to, int passengers, boolean returnFlight, @ToolMemoryId String user) {
+            return from + "-" + to + " for " + passengers + (returnFlight ? " (return)" : "") + " by " + user;
+        }
+    }
+
+    private Tools tools;
+    private Method method;
+    private DefaultToolExecutor toolExecutor;
+    private ToolExecutionRequest toolExecutionRequest;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        tools = new Tools();
+        method = Tools.class.getMethod("bookFlight", String.class, String.class, int.class, boolean.class, String.class);
+        toolExecutor = new DefaultToolExecutor(tools, method);
+        // without the -parameters compiler option, the parameters are named arg0, arg1, ...
+        toolExecutionRequest = ToolExecutionRequest.builder()
+                .name("bookFlight")
+                .arguments("{\"arg0\":\"Berlin\",\"arg1\":\"Lisbon\",\"arg2\":2,\"arg3\":true}")
+                .build();
+    }
+
+    @Benchmark
+    public String methodHandle() {
+        return toolExecutor.execute(toolExecutionRequest, "klaus");
+    }
+
+    @Benchmark
+    public String reflection() throws Exception {
+        Map<String, Object> argumentsMap = argumentsAsMap(toolExecutionRequest.arguments());
+        Parameter[] parameters = method.getParameters();
+        Object[] arguments = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].isAnnotationPresent(ToolMemoryId.class)) {
+                arguments[i] = "klaus";
+                continue;
+            }
+            String parameterName = parameters[i].getName();
+            if (argumentsMap.containsKey(parameterName)) {
+                arguments[i] = DefaultToolExecutor.coerceArgument(
+                        argumentsMap.get(parameterName), parameterName, parameters[i].getType());
+            }
+        }
+        Object result = method.invoke(tools, arguments);
+        Class<?> returnType = method.getReturnType();
+        if (returnType == void.class) {
+            return "Success";
+        } else if (returnType == String.class) {
+            return (String) result;
+        } else {
+            return Json.toJson(result);
+        }
+    }
+}
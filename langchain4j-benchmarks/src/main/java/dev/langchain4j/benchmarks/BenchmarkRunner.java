@@ -0,0 +1,35 @@
+package dev.langchain4j.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of this module.
+ * <p>
+ * Accepts the same arguments as {@code org.openjdk.jmh.Main} (for example, a regular expression
+ * selecting the benchmarks to run, or {@code -p size=1000} to restrict a parameter).
+ * Unless specified otherwise (with {@code -rf} and {@code -rff}), the results are written
+ * in JSON format to {@value #DEFAULT_RESULT_FILE}, so that the results of two commits can be compared,
+ * for example with <a href="https://jmh.morethan.io">JMH Visualizer</a>.
+ */
+public class BenchmarkRunner {
+
+    static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,33 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.embedding.Embedding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates random (but reproducible) embeddings for the benchmarks.
+ */
+public class Embeddings {
+
+    private Embeddings() {
+    }
+
+    public static List<Embedding> randomEmbeddings(int count, int dimension, long seed) {
+        Random random = new Random(seed);
+        List<Embedding> embeddings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            embeddings.add(randomEmbedding(dimension, random));
+        }
+        return embeddings;
+    }
+
+    public static Embedding randomEmbedding(int dimension, Random random) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return Embedding.from(vector);
+    }
+}
@@ -0,0 +1,403 @@
+package dev.langchain4j.benchmarks.load;
+
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.openai.OpenAiChatModel;
+import dev.langchain4j.model.openai.OpenAiEmbeddingModel;
+import dev.langchain4j.model.openai.OpenAiStreamingChatModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.rag.DefaultRetrievalAugmentor;
+import dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever;
+import dev.langchain4j.service.AiServices;
+import dev.langchain4j.service.MemoryId;
+import dev.langchain4j.service.TokenStream;
+import dev.langchain4j.service.UserMessage;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Measures the throughput and the latency of {@link AiServices} under load, from many concurrent callers,
+ * against a {@link MockOpenAiServer}, so that the overhead of the framework can be told apart
+ * from the latency of the provider.
+ * <p>
+ * The AI Service uses a chat memory per user, a tool (that the mock LLM calls on every user message)
+ * and a {@link DefaultRetrievalAugmentor} retrieving from an {@link InMemoryEmbeddingStore}.
+ * <p>
+ * Arguments are given as {@code name=value} (for example {@code callers=64 streaming=true}):
+ * <ul>
+ * <li>{@code callers}: the number of concurrent callers (default: 32)</li>
+ * <li>{@code warmup}: the duration of the warm-up, in seconds (default: 10)</li>
+ * <li>{@code duration}: the duration of the measurement, in seconds (default: 30)</li>
+ * <li>{@code latency}: the latency of every request to the mock server, in milliseconds (default: 100)</li>
+ * <li>{@code tokensPerSecond}: the rate at which the mock server streams tokens (default: 100)</li>
+ * <li>{@code responseTokens}: the number of tokens of each answer (default: 50)</li>
+ * <li>{@code streaming}: whether to use a {@link TokenStream} instead of a {@code String} (default: false)</li>
+ * <li>{@code tools}: whether to give the AI Service a tool (default: true)</li>
+ * <li>{@code rag}: whether to give the AI Service a retrieval augmentor (default: true)</li>
+ * <li>{@code users}: the number of distinct users, and thus of chat memories (default: 1000)</li>
+ * <li>{@code maxMessages}: the size of the chat memory window of each user (default: 20)</li>
+ * <li>{@code documents}: the number of text segments in the embedding store (default: 1000)</li>
+ * </ul>
+ * It reports the throughput, the latency percentiles (and of the time to first token, when streaming),
+ * the minimum latency implied by the mock server (so the rest is spent in the framework and the HTTP client),
+ * and the allocation rate of all threads but those of the mock server.
+ * Threads that terminate during the measurement are not accounted for in the allocation rate.
+ */
+public class AiServicesLoadTest {
+
+    interface Assistant {
+
+        String chat(@MemoryId int userId, @UserMessage String message);
+
+        TokenStream chatStreaming(@MemoryId int userId, @UserMessage String message);
+    }
+
+    static class OrderTools {
+
+        @Tool("Returns the status of the given order")
+        String orderStatus(String orderId) {
+            return "Order " + orderId + " has been shipped";
+        }
+    }
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private final Map<String, String> options;
+    private final int callers;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Duration latency;
+    private final int tokensPerSecond;
+    private final int responseTokens;
+    private final boolean streaming;
+    private final boolean tools;
+    private final boolean rag;
+    private final int users;
+    private final int maxMessages;
+    private final int documents;
+
+    AiServicesLoadTest(Map<String, String> options) {
+        this.options = options;
+        this.callers = intOption("callers", 32);
+        this.warmup = Duration.ofSeconds(intOption("warmup", 10));
+        this.duration = Duration.ofSeconds(intOption("duration", 30));
+        this.latency = Duration.ofMillis(intOption("latency", 100));
+        this.tokensPerSecond = intOption("tokensPerSecond", 100);
+        this.responseTokens = intOption("responseTokens", 50);
+        this.streaming = booleanOption("streaming", false);
+        this.tools = booleanOption("tools", true);
+        this.rag = booleanOption("rag", true);
+        this.users = intOption("users", 1_000);
+        this.maxMessages = intOption("maxMessages", 20);
+        this.documents = intOption("documents", 1_000);
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] nameAndValue = arg.split("=", 2);
+            if (nameAndValue.length != 2) {
+                throw new IllegalArgumentException("Arguments must be given as name=value, but got: " + arg);
+            }
+            options.put(nameAndValue[0], nameAndValue[1]);
+        }
+        new AiServicesLoadTest(options).run();
+    }
+
+    void run() throws InterruptedException {
+        try (MockOpenAiServer server = MockOpenAiServer.builder()
+                .latency(latency)
+                .tokensPerSecond(tokensPerSecond)
+                .responseTokens(responseTokens)
+                .build()) {
+
+            Assistant assistant = assistant(server.baseUrl());
+
+            long startNanos = System.nanoTime();
+            long measurementStartNanos = startNanos + warmup.toNanos();
+            long endNanos = measurementStartNanos + duration.toNanos();
+
+            List<Caller> callerList = new ArrayList<>(callers);
+            for (int i = 0; i < callers; i++) {
+                callerList.add(new Caller(i, assistant, measurementStartNanos, endNanos));
+            }
+            callerList.forEach(Thread::start);
+
+            sleepUntil(measurementStartNanos);
+            long chatCompletionsBefore = server.chatCompletions() + server.streamingChatCompletions();
+            long embeddingsBefore = server.embeddings();
+            Map<Long, Long> allocatedBytesBefore = allocatedBytesPerThread();
+
+            sleepUntil(endNanos);
+            Map<Long, Long> allocatedBytesAfter = allocatedBytesPerThread();
+            long chatCompletions = server.chatCompletions() + server.streamingChatCompletions() - chatCompletionsBefore;
+            long embeddings = server.embeddings() - embeddingsBefore;
+
+            for (Caller caller : callerList) {
+                caller.join();
+            }
+
+            report(callerList, allocatedBytes(allocatedBytesBefore, allocatedBytesAfter), chatCompletions, embeddings);
+        }
+    }
+
+    private Assistant assistant(String baseUrl) {
+        AiServices<Assistant> builder = AiServices.builder(Assistant.class)
+                .chatLanguageModel(OpenAiChatModel.builder()
+                        .baseUrl(baseUrl)
+                        .apiKey("mock")
+                        .timeout(TIMEOUT)
+                        .build())
+                .streamingChatLanguageModel(OpenAiStreamingChatModel.builder()
+                        .baseUrl(baseUrl)
+                        .apiKey("mock")
+                        .timeout(TIMEOUT)
+                        .build())
+                .chatMemoryProvider(memoryId -> MessageWindowChatMemory.builder()
+                        .id(memoryId)
+                        .maxMessages(maxMessages)
+                        .build());
+
+        if (tools) {
+            builder.tools(new OrderTools());
+        }
+
+        if (rag) {
+            EmbeddingModel embeddingModel = OpenAiEmbeddingModel.builder()
+                    .baseUrl(baseUrl)
+                    .apiKey("mock")
+                    .timeout(TIMEOUT)
+                    .build();
+            InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+            List<TextSegment> segments = new ArrayList<>(documents);
+            for (int i = 0; i < documents; i++) {
+                segments.add(TextSegment.from("Order " + i + " is shipped within " + (i % 5 + 1) + " business days."));
+            }
+            embeddingStore.addAll(embeddingModel.embedAll(segments).content(), segments);
+            builder.retrievalAugmentor(DefaultRetrievalAugmentor.builder()
+                    .contentRetriever(EmbeddingStoreContentRetriever.builder()
+                            .embeddingStore(embeddingStore)
+                            .embeddingModel(embeddingModel)
+                            .maxResults(3)
+                            .build())
+                    .build());
+        }
+
+        return builder.build();
+    }
+
+    private class Caller extends Thread {
+
+        private final Assistant assistant;
+        private final long measurementStartNanos;
+        private final long endNanos;
+        private final int firstUserId;
+
+        private final Samples latencies = new Samples();
+        private final Samples timesToFirstToken = new Samples();
+        private long errors;
+        private Throwable firstError;
+
+        Caller(int index, Assistant assistant, long measurementStartNanos, long endNanos) {
+            super("caller-" + index);
+            this.assistant = assistant;
+            this.measurementStartNanos = measurementStartNanos;
+            this.endNanos = endNanos;
+            this.firstUserId = index;
+        }
+
+        @Override
+        public void run() {
+            int userId = firstUserId;
+            int messageId = 0;
+            long callStartNanos;
+            while ((callStartNanos = System.nanoTime()) < endNanos) {
+                boolean measured = callStartNanos >= measurementStartNanos;
+                String message = "What is the status of my order " + messageId++ + "?";
+                try {
+                    if (streaming) {
+                        long timeToFirstTokenNanos = chatStreaming(userId, message, callStartNanos);
+                        if (measured) {
+                            timesToFirstToken.add(timeToFirstTokenNanos);
+                        }
+                    } else {
+                        assistant.chat(userId, message);
+                    }
+                    if (measured) {
+                        latencies.add(System.nanoTime() - callStartNanos);
+                    }
+                } catch (Throwable e) {
+                    if (measured) {
+                        errors++;
+                        if (firstError == null) {
+                            firstError = e;
+                        }
+                    }
+                }
+                userId = (userId + callers) % users;
+            }
+        }
+
+        private long chatStreaming(int userId, String message, long callStartNanos) throws Exception {
+            CompletableFuture<Response<AiMessage>> response = new CompletableFuture<>();
+            AtomicLong firstTokenNanos = new AtomicLong();
+            assistant.chatStreaming(userId, message)
+                    .onNext(token -> firstTokenNanos.compareAndSet(0, System.nanoTime()))
+                    .onComplete(response::complete)
+                    .onError(response::completeExceptionally)
+                    .start();
+            response.get(TIMEOUT.toNanos(), NANOSECONDS);
+            return firstTokenNanos.get() - callStartNanos;
+        }
+    }
+
+    private void report(List<Caller> callerList, long allocatedBytes, long chatCompletions, long embeddings) {
+        Samples latencies = new Samples();
+        Samples timesToFirstToken = new Samples();
+        long errors = 0;
+        Throwable firstError = null;
+        for (Caller caller : callerList) {
+            latencies.addAll(caller.latencies);
+            timesToFirstToken.addAll(caller.timesToFirstToken);
+            errors += caller.errors;
+            if (firstError == null) {
+                firstError = caller.firstError;
+            }
+        }
+
+        long calls = latencies.size();
+        double seconds = duration.toNanos() / 1e9;
+        System.out.printf("AI Service calls: %s (%s callers, streaming: %s, tools: %s, rag: %s)%n",
+                calls, callers, streaming, tools, rag);
+        System.out.printf("Errors: %s%n", errors);
+        System.out.printf("Throughput: %.1f calls/s%n", calls / seconds);
+        if (calls == 0) {
+            return;
+        }
+
+        System.out.printf("Latency: p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                latencies.percentileMillis(50), latencies.percentileMillis(90),
+                latencies.percentileMillis(99), latencies.percentileMillis(100));
+        if (streaming) {
+            System.out.printf("Time to first token: p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                    timesToFirstToken.percentileMillis(50), timesToFirstToken.percentileMillis(90),
+                    timesToFirstToken.percentileMillis(99), timesToFirstToken.percentileMillis(100));
+        }
+
+        // every request to the mock server takes at least its latency, and every streamed answer its emission time
+        double requestsPerCall = (double) (chatCompletions + embeddings) / calls;
+        double minimumLatencyMillis = requestsPerCall * latency.toMillis()
+                + (streaming ? 1_000.0 * responseTokens / tokensPerSecond : 0);
+        System.out.printf("Requests to the mock server per call: %.2f (chat: %.2f, embeddings: %.2f)%n",
+                requestsPerCall, (double) chatCompletions / calls, (double) embeddings / calls);
+        System.out.printf("Minimum latency implied by the mock server: %.1f ms, " +
+                        "so the framework and the HTTP client take %.1f ms at p50%n",
+                minimumLatencyMillis, latencies.percentileMillis(50) - minimumLatencyMillis);
+
+        System.out.printf("Allocation rate: %.1f MB/s, %.1f KB/call%n",
+                allocatedBytes / seconds / (1024 * 1024), allocatedBytes / 1024.0 / calls);
+
+        if (firstError != null) {
+            System.out.println("First error:");
+            firstError.printStackTrace(System.out);
+        }
+    }
+
+    /**
+     * @return The number of bytes allocated by each live thread (but those of the mock server), by thread ID.
+     */
+    private static Map<Long, Long> allocatedBytesPerThread() {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] threadIds = threadMXBean.getAllThreadIds();
+        long[] allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadIds);
+        ThreadInfo[] threadInfos = threadMXBean.getThreadInfo(threadIds);
+        Map<Long, Long> allocatedBytesPerThread = new HashMap<>();
+        for (int i = 0; i < threadIds.length; i++) {
+            if (threadInfos[i] != null
+                    && allocatedBytes[i] >= 0
+                    && !threadInfos[i].getThreadName().startsWith(MockOpenAiServer.THREAD_NAME_PREFIX)) {
+                allocatedBytesPerThread.put(threadIds[i], allocatedBytes[i]);
+            }
+        }
+        return allocatedBytesPerThread;
+    }
+
+    private static long allocatedBytes(Map<Long, Long> before, Map<Long, Long> after) {
+        long allocatedBytes = 0;
+        for (Map.Entry<Long, Long> entry : after.entrySet()) {
+            allocatedBytes += entry.getValue() - before.getOrDefault(entry.getKey(), 0L);
+        }
+        return allocatedBytes;
+    }
+
+    private static void sleepUntil(long deadlineNanos) throws InterruptedException {
+        long remainingNanos;
+        while ((remainingNanos = deadlineNanos - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(remainingNanos);
+        }
+    }
+
+    private int intOption(String name, int defaultValue) {
+        String value = options.remove(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private boolean booleanOption(String name, boolean defaultValue) {
+        String value = options.remove(name);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Durations in nanoseconds, recorded without allocating (most of the time),
+     * so that the recording does not count in the allocation rate.
+     */
+    private static class Samples {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(Samples samples) {
+            for (int i = 0; i < samples.size; i++) {
+                add(samples.values[i]);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        double percentileMillis(double percentile) {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100 * size) - 1;
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,381 @@
+package dev.langchain4j.benchmarks.load;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A local stand-in for the OpenAI API, speaking its wire format for
+ * chat completions (with and without SSE streaming, with tool calls) and embeddings.
+ * <p>
+ * Every response is delayed by a configurable latency (the time to the first byte),
+ * and streamed responses are emitted at a configurable rate of tokens per second,
+ * so that the overhead of the framework can be measured separately from the latency of the provider.
+ * <p>
+ * When tools are provided and the last message is a user message, the server calls the first tool
+ * (with empty arguments, or with the required parameters set to "1"), as if the LLM decided so;
+ * otherwise, it answers with text. Embeddings are pseudo-random but deterministic for a given text.
+ * <p>
+ * The server threads are named {@value #THREAD_NAME_PREFIX}..., so that they can be told apart
+ * from the threads of the framework.
+ */
+public class MockOpenAiServer implements AutoCloseable {
+
+    static final String THREAD_NAME_PREFIX = "mock-openai-";
+
+    static {
+        // otherwise, as headers and body are written separately, Nagle's algorithm delays every response
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private static final Gson GSON = new Gson();
+    private static final String[] WORDS = {
+            " the", " order", " has", " been", " shipped", " and", " will", " be", " delivered", " soon"
+    };
+
+    private final Duration latency;
+    private final int tokensPerSecond;
+    private final int responseTokens;
+    private final int embeddingDimension;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private final AtomicLong chatCompletions = new AtomicLong();
+    private final AtomicLong streamingChatCompletions = new AtomicLong();
+    private final AtomicLong embeddings = new AtomicLong();
+
+    private MockOpenAiServer(Builder builder) {
+        this.latency = ensureNotNull(builder.latency, "latency");
+        this.tokensPerSecond = ensureGreaterThanZero(builder.tokensPerSecond, "tokensPerSecond");
+        this.responseTokens = ensureGreaterThanZero(builder.responseTokens, "responseTokens");
+        this.embeddingDimension = ensureGreaterThanZero(builder.embeddingDimension, "embeddingDimension");
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 1_000);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        server.setExecutor(executor);
+        server.createContext("/v1/chat/completions", this::handleChatCompletion);
+        server.createContext("/v1/embeddings", this::handleEmbeddings);
+        server.start();
+    }
+
+    /**
+     * @return The base URL to configure on the OpenAI models.
+     */
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/v1/";
+    }
+
+    public long chatCompletions() {
+        return chatCompletions.get();
+    }
+
+    public long streamingChatCompletions() {
+        return streamingChatCompletions.get();
+    }
+
+    public long embeddings() {
+        return embeddings.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleChatCompletion(HttpExchange exchange) throws IOException {
+        try {
+            JsonObject request = readJson(exchange);
+            boolean stream = request.has("stream") && request.get("stream").getAsBoolean();
+            JsonObject toolCall = toolCallFor(request);
+            sleep(latency.toMillis());
+            if (stream) {
+                streamingChatCompletions.incrementAndGet();
+                streamChatCompletion(exchange, toolCall);
+            } else {
+                chatCompletions.incrementAndGet();
+                writeJson(exchange, chatCompletion(toolCall));
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private JsonObject chatCompletion(JsonObject toolCall) {
+        JsonObject message = new JsonObject();
+        message.addProperty("role", "assistant");
+        if (toolCall == null) {
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < responseTokens; i++) {
+                content.append(WORDS[i % WORDS.length]);
+            }
+            message.addProperty("content", content.toString());
+        } else {
+            JsonArray toolCalls = new JsonArray();
+            toolCalls.add(toolCall);
+            message.add("tool_calls", toolCalls);
+        }
+
+        JsonObject choice = new JsonObject();
+        choice.addProperty("index", 0);
+        choice.add("message", message);
+        choice.addProperty("finish_reason", toolCall == null ? "stop" : "tool_calls");
+
+        JsonObject response = completion("chat.completion", choice);
+        JsonObject usage = new JsonObject();
+        usage.addProperty("prompt_tokens", 100);
+        usage.addProperty("completion_tokens", toolCall == null ? responseTokens : 10);
+        usage.addProperty("total_tokens", 100 + (toolCall == null ? responseTokens : 10));
+        response.add("usage", usage);
+        return response;
+    }
+
+    private void streamChatCompletion(HttpExchange exchange, JsonObject toolCall) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        long tokenIntervalNanos = 1_000_000_000L / tokensPerSecond;
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            if (toolCall == null) {
+                long startNanos = System.nanoTime();
+                for (int i = 0; i < responseTokens; i++) {
+                    JsonObject delta = new JsonObject();
+                    if (i == 0) {
+                        delta.addProperty("role", "assistant");
+                    }
+                    delta.addProperty("content", WORDS[i % WORDS.length]);
+                    writeEvent(outputStream, chunk(delta, null));
+                    sleepUntil(startNanos + (i + 1) * tokenIntervalNanos);
+                }
+                writeEvent(outputStream, chunk(new JsonObject(), "stop"));
+            } else {
+                JsonObject delta = new JsonObject();
+                delta.addProperty("role", "assistant");
+                JsonArray toolCalls = new JsonArray();
+                JsonObject indexedToolCall = toolCall.deepCopy();
+                indexedToolCall.addProperty("index", 0);
+                toolCalls.add(indexedToolCall);
+                delta.add("tool_calls", toolCalls);
+                writeEvent(outputStream, chunk(delta, null));
+                writeEvent(outputStream, chunk(new JsonObject(), "tool_calls"));
+            }
+            outputStream.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+            outputStream.flush();
+        }
+    }
+
+    private JsonObject chunk(JsonObject delta, String finishReason) {
+        JsonObject choice = new JsonObject();
+        choice.addProperty("index", 0);
+        choice.add("delta", delta);
+        if (finishReason != null) {
+            choice.addProperty("finish_reason", finishReason);
+        }
+        return completion("chat.completion.chunk", choice);
+    }
+
+    private static JsonObject completion(String object, JsonObject choice) {
+        JsonObject completion = new JsonObject();
+        completion.addProperty("id", "chatcmpl-mock");
+        completion.addProperty("object", object);
+        completion.addProperty("created", System.currentTimeMillis() / 1000);
+        completion.addProperty("model", "gpt-3.5-turbo");
+        JsonArray choices = new JsonArray();
+        choices.add(choice);
+        completion.add("choices", choices);
+        return completion;
+    }
+
+    /**
+     * @return The call of the first tool of the request if the last message is a user message, {@code null} otherwise.
+     */
+    private static JsonObject toolCallFor(JsonObject request) {
+        if (!request.has("tools") || request.getAsJsonArray("tools").size() == 0) {
+            return null;
+        }
+        JsonArray messages = request.getAsJsonArray("messages");
+        JsonObject lastMessage = messages.get(messages.size() - 1).getAsJsonObject();
+        if (!"user".equals(lastMessage.get("role").getAsString())) {
+            return null;
+        }
+
+        JsonObject function = request.getAsJsonArray("tools").get(0).getAsJsonObject().getAsJsonObject("function");
+        JsonObject arguments = new JsonObject();
+        JsonObject parameters = function.getAsJsonObject("parameters");
+        if (parameters != null && parameters.has("required")) {
+            for (JsonElement required : parameters.getAsJsonArray("required")) {
+                arguments.addProperty(required.getAsString(), "1");
+            }
+        }
+
+        JsonObject toolCallFunction = new JsonObject();
+        toolCallFunction.addProperty("name", function.get("name").getAsString());
+        toolCallFunction.addProperty("arguments", GSON.toJson(arguments));
+        JsonObject toolCall = new JsonObject();
+        toolCall.addProperty("id", "call_" + System.nanoTime());
+        toolCall.addProperty("type", "function");
+        toolCall.add("function", toolCallFunction);
+        return toolCall;
+    }
+
+    private void handleEmbeddings(HttpExchange exchange) throws IOException {
+        try {
+            JsonObject request = readJson(exchange);
+            List<String> inputs = new ArrayList<>();
+            JsonElement input = request.get("input");
+            if (input.isJsonArray()) {
+                input.getAsJsonArray().forEach(element -> inputs.add(element.getAsString()));
+            } else {
+                inputs.add(input.getAsString());
+            }
+            sleep(latency.toMillis());
+            embeddings.incrementAndGet();
+
+            JsonArray data = new JsonArray();
+            for (int i = 0; i < inputs.size(); i++) {
+                JsonObject embedding = new JsonObject();
+                embedding.addProperty("object", "embedding");
+                embedding.addProperty("index", i);
+                embedding.add("embedding", embeddingOf(inputs.get(i)));
+                data.add(embedding);
+            }
+            JsonObject response = new JsonObject();
+            response.addProperty("object", "list");
+            response.add("data", data);
+            response.addProperty("model", "text-embedding-ada-002");
+            JsonObject usage = new JsonObject();
+            usage.addProperty("prompt_tokens", 10 * inputs.size());
+            usage.addProperty("total_tokens", 10 * inputs.size());
+            response.add("usage", usage);
+            writeJson(exchange, response);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private JsonArray embeddingOf(String text) {
+        Random random = new Random(text.hashCode());
+        JsonArray vector = new JsonArray(embeddingDimension);
+        for (int i = 0; i < embeddingDimension; i++) {
+            vector.add(random.nextFloat() * 2 - 1);
+        }
+        return vector;
+    }
+
+    private static JsonObject readJson(HttpExchange exchange) throws IOException {
+        try (InputStream inputStream = exchange.getRequestBody()) {
+            return GSON.fromJson(new InputStreamReader(inputStream, StandardCharsets.UTF_8), JsonObject.class);
+        }
+    }
+
+    private static void writeJson(HttpExchange exchange, JsonObject json) throws IOException {
+        byte[] body = GSON.toJson(json).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static void writeEvent(OutputStream outputStream, JsonObject data) throws IOException {
+        outputStream.write(("data: " + GSON.toJson(data) + "\n\n").getBytes(StandardCharsets.UTF_8));
+        outputStream.flush();
+    }
+
+    private static void sleep(long millis) {
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private static void sleepUntil(long deadlineNanos) {
+        sleep((deadlineNanos - System.nanoTime()) / 1_000_000);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Duration latency = Duration.ofMillis(100);
+        private Integer tokensPerSecond = 100;
+        private Integer responseTokens = 50;
+        private Integer embeddingDimension = 384;
+
+        /**
+         * @param latency The delay before each response (the time to the first byte). Default: 100 ms.
+         * @return builder
+         */
+        public Builder latency(Duration latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * @param tokensPerSecond The rate at which the tokens of streamed responses are emitted. Default: 100.
+         * @return builder
+         */
+        public Builder tokensPerSecond(Integer tokensPerSecond) {
+            this.tokensPerSecond = tokensPerSecond;
+            return this;
+        }
+
+        /**
+         * @param responseTokens The number of tokens in each text response. Default: 50.
+         * @return builder
+         */
+        public Builder responseTokens(Integer responseTokens) {
+            this.responseTokens = responseTokens;
+            return this;
+        }
+
+        /**
+         * @param embeddingDimension The dimension of the returned embeddings. Default: 384.
+         * @return builder
+         */
+        public Builder embeddingDimension(Integer embeddingDimension) {
+            this.embeddingDimension = embeddingDimension;
+            return this;
+        }
+
+        public MockOpenAiServer build() {
+            return new MockOpenAiServer(this);
+        }
+    }
+}
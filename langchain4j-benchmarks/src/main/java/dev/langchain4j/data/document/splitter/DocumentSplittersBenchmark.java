@@ -0,0 +1,89 @@
+package dev.langchain4j.data.document.splitter;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.openai.OpenAiTokenizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static dev.langchain4j.model.openai.OpenAiChatModelName.GPT_3_5_TURBO;
+
+/**
+ * Measures {@link DocumentSplitters#recursive} on a generated document,
+ * with the segment size in characters and in tokens (estimated by an {@link OpenAiTokenizer}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentSplittersBenchmark {
+
+    private static final String[] WORDS = {
+            "the", "model", "answers", "questions", "about", "documents", "that", "were", "split",
+            "into", "segments", "and", "embedded", "before", "being", "stored", "in", "a", "vector", "store"
+    };
+
+    @Param({"100000", "1000000"})
+    int documentLength;
+
+    @Param({"CHARACTERS", "TOKENS"})
+    String unit;
+
+    private Document document;
+    private DocumentSplitter splitter;
+
+    @Setup
+    public void setUp() {
+        document = Document.from(generateText(documentLength));
+        if ("TOKENS".equals(unit)) {
+            splitter = DocumentSplitters.recursive(300, 30, new OpenAiTokenizer(GPT_3_5_TURBO));
+        } else {
+            splitter = DocumentSplitters.recursive(1_000, 100);
+        }
+    }
+
+    @Benchmark
+    public List<TextSegment> split() {
+        return splitter.split(document);
+    }
+
+    private static String generateText(int length) {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder(length + 100);
+        int wordsInSentence = 0;
+        int sentencesInParagraph = 0;
+        while (text.length() < length) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            text.append(wordsInSentence == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+            if (++wordsInSentence < 5 + random.nextInt(20)) {
+                text.append(' ');
+                continue;
+            }
+            wordsInSentence = 0;
+            text.append('.');
+            if (++sentencesInParagraph < 3 + random.nextInt(8)) {
+                text.append(' ');
+                continue;
+            }
+            sentencesInParagraph = 0;
+            text.append("\n\n");
+        }
+        return text.toString();
+    }
+}
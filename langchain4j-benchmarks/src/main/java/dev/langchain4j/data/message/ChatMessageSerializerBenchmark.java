@@ -0,0 +1,71 @@
+package dev.langchain4j.data.message;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization of a conversation to JSON with {@link ChatMessageSerializer}
+ * and its deserialization with {@link ChatMessageDeserializer}, as done by persistent chat memory stores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatMessageSerializerBenchmark {
+
+    @Param({"10", "100"})
+    int messageCount;
+
+    private List<ChatMessage> messages;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        messages = new ArrayList<>(messageCount);
+        messages.add(SystemMessage.from("You are a helpful assistant."));
+        for (int i = 1; messages.size() < messageCount; i++) {
+            messages.add(UserMessage.from("user", "What is the weather like in city #" + i + " today?"));
+            ToolExecutionRequest toolExecutionRequest = ToolExecutionRequest.builder()
+                    .id("call_" + i)
+                    .name("weather")
+                    .arguments("{\"city\":\"city #" + i + "\"}")
+                    .build();
+            messages.add(AiMessage.from(toolExecutionRequest));
+            messages.add(ToolExecutionResultMessage.from(toolExecutionRequest, "Sunny, 25 degrees"));
+            messages.add(AiMessage.from("It is sunny in city #" + i + ", with 25 degrees."));
+        }
+        messages = new ArrayList<>(messages.subList(0, messageCount));
+        json = ChatMessageSerializer.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public String messagesToJson() {
+        return ChatMessageSerializer.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public List<ChatMessage> messagesFromJson() {
+        return ChatMessageDeserializer.messagesFromJson(json);
+    }
+
+    @Benchmark
+    public List<ChatMessage> roundTrip() {
+        return ChatMessageDeserializer.messagesFromJson(ChatMessageSerializer.messagesToJson(messages));
+    }
+}
@@ -0,0 +1,60 @@
+package dev.langchain4j.model.input;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PromptTemplate#apply(Map)}, on a template created once ({@code apply})
+ * and on a template created from its string on every invocation, as AI Services do with dynamic templates
+ * ({@code fromAndApply}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PromptTemplateBenchmark {
+
+    private static final String TEMPLATE = "Answer the following question from {{name}}, " +
+            "using only the information provided below.\n\n" +
+            "Question:\n{{question}}\n\n" +
+            "Information:\n{{information}}\n\n" +
+            "Answer in {{language}}, and address {{name}} by their name.";
+
+    private PromptTemplate promptTemplate;
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setUp() {
+        promptTemplate = PromptTemplate.from(TEMPLATE);
+        variables = new HashMap<>();
+        variables.put("name", "Klaus");
+        variables.put("question", "How many days of vacation do I have left this year?");
+        variables.put("information", "Employees are entitled to 25 days of vacation per year. " +
+                "Klaus took 12 days of vacation this year.");
+        variables.put("language", "English");
+    }
+
+    @Benchmark
+    public Prompt apply() {
+        return promptTemplate.apply(variables);
+    }
+
+    @Benchmark
+    public Prompt fromAndApply() {
+        return PromptTemplate.from(TEMPLATE).apply(variables);
+    }
+}
@@ -0,0 +1,98 @@
+package dev.langchain4j.model.openai;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static dev.langchain4j.model.openai.OpenAiChatModelName.GPT_3_5_TURBO;
+
+/**
+ * Measures {@link OpenAiTokenizer#estimateTokenCountInMessages(Iterable)} on a conversation,
+ * as done by a token window chat memory each time it is evaluated.
+ * <p>
+ * {@code SAME} evaluates the same conversation again and again (so the token counts of its messages are cached),
+ * {@code DISTINCT} cycles through more distinct conversations than the cache can hold (so they never are).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpenAiTokenizerBenchmark {
+
+    @Param({"10", "50"})
+    int messageCount;
+
+    @Param({"SAME", "DISTINCT"})
+    String conversations;
+
+    private OpenAiTokenizer tokenizer;
+    private List<List<ChatMessage>> messages;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        tokenizer = new OpenAiTokenizer(GPT_3_5_TURBO);
+        int conversationCount = "SAME".equals(conversations)
+                ? 1
+                : 2 * OpenAiTokenizer.MAX_CACHED_MESSAGES / messageCount + 1;
+        messages = new ArrayList<>(conversationCount);
+        for (int i = 0; i < conversationCount; i++) {
+            messages.add(conversation(i, messageCount));
+        }
+    }
+
+    @Benchmark
+    public int estimateTokenCountInMessages() {
+        List<ChatMessage> conversation = messages.get(next);
+        next = (next + 1) % messages.size();
+        return tokenizer.estimateTokenCountInMessages(conversation);
+    }
+
+    private static List<ChatMessage> conversation(int id, int messageCount) {
+        List<ChatMessage> messages = new ArrayList<>(messageCount);
+        messages.add(SystemMessage.from("You are a helpful assistant of the customer #" + id
+                + ". Answer the questions of the customer as precisely as possible."));
+        for (int i = 1; messages.size() < messageCount; i++) {
+            messages.add(UserMessage.from("Question #" + i + " of the customer #" + id
+                    + ": what is the status of my order, and when will it be delivered?"));
+            if (i % 3 == 0) {
+                ToolExecutionRequest first = ToolExecutionRequest.builder()
+                        .id("call_" + id + "_" + i + "_1")
+                        .name("order_status")
+                        .arguments("{\"orderId\":\"" + id + "-" + i + "\"}")
+                        .build();
+                ToolExecutionRequest second = ToolExecutionRequest.builder()
+                        .id("call_" + id + "_" + i + "_2")
+                        .name("delivery_date")
+                        .arguments("{\"orderId\":\"" + id + "-" + i + "\",\"country\":\"FR\"}")
+                        .build();
+                messages.add(AiMessage.from(first, second));
+                messages.add(ToolExecutionResultMessage.from(first, "SHIPPED"));
+                messages.add(ToolExecutionResultMessage.from(second, "2024-06-0" + (i % 9 + 1)));
+            }
+            messages.add(AiMessage.from("Your order " + id + "-" + i
+                    + " has been shipped and will be delivered within two business days."));
+        }
+        return messages.subList(0, messageCount);
+    }
+}
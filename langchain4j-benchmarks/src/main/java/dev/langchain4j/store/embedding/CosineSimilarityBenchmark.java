@@ -0,0 +1,49 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.embedding.Embedding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static dev.langchain4j.benchmarks.Embeddings.randomEmbeddings;
+
+/**
+ * Measures {@link CosineSimilarity#between(Embedding, Embedding)} for several dimensions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CosineSimilarityBenchmark {
+
+    @Param({"384", "768", "1536", "3072"})
+    int dimension;
+
+    private Embedding embeddingA;
+    private Embedding embeddingB;
+
+    @Setup
+    public void setUp() {
+        List<Embedding> embeddings = randomEmbeddings(2, dimension, 42);
+        embeddingA = embeddings.get(0);
+        embeddingB = embeddings.get(1);
+    }
+
+    @Benchmark
+    public double between() {
+        return CosineSimilarity.between(embeddingA, embeddingB);
+    }
+}
@@ -0,0 +1,81 @@
+package dev.langchain4j.store.embedding.filter;
+
+import dev.langchain4j.data.document.Metadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static dev.langchain4j.store.embedding.filter.Filter.not;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+
+/**
+ * Measures {@link Filter#test(Object)} over a {@link Metadata}, as done by in-memory embedding stores
+ * for every stored embedding: a comparison of strings, a comparison of numbers of different types,
+ * a membership test and a composition of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterBenchmark {
+
+    private Metadata metadata;
+
+    private Filter isEqualTo;
+    private Filter isGreaterThan;
+    private Filter isIn;
+    private Filter composite;
+
+    @Setup
+    public void setUp() {
+        metadata = new Metadata()
+                .put("file_name", "employee_handbook.pdf")
+                .put("author", "Human Resources")
+                .put("category", "policies")
+                .put("language", "en")
+                .put("page", 42)
+                .put("year", 2024L)
+                .put("score", 0.87f)
+                .put("views", 1_234.0)
+                .put("index", "17");
+
+        isEqualTo = metadataKey("category").isEqualTo("policies");
+        isGreaterThan = metadataKey("year").isGreaterThan(2020);
+        isIn = metadataKey("language").isIn("de", "en", "fr");
+        composite = isEqualTo
+                .and(isGreaterThan.or(metadataKey("page").isLessThan(10)))
+                .and(not(metadataKey("author").isIn("Legal", "Finance")))
+                .and(metadataKey("score").isBetween(0.5f, 1.0f));
+    }
+
+    @Benchmark
+    public boolean isEqualTo() {
+        return isEqualTo.test(metadata);
+    }
+
+    @Benchmark
+    public boolean isGreaterThan() {
+        return isGreaterThan.test(metadata);
+    }
+
+    @Benchmark
+    public boolean isIn() {
+        return isIn.test(metadata);
+    }
+
+    @Benchmark
+    public boolean composite() {
+        return composite.test(metadata);
+    }
+}
@@ -0,0 +1,86 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static dev.langchain4j.benchmarks.Embeddings.randomEmbedding;
+import static dev.langchain4j.benchmarks.Embeddings.randomEmbeddings;
+
+/**
+ * Measures {@link InMemoryEmbeddingStore#search(EmbeddingSearchRequest)} for several store sizes and dimensions,
+ * with a sequential scan, a parallel scan and an HNSW index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class InMemoryEmbeddingStoreBenchmark {
+
+    private static final int QUERIES = 64;
+
+    public enum SearchMode {
+        SEQUENTIAL, PARALLEL, HNSW
+    }
+
+    @Param({"1000", "10000", "100000"})
+    int size;
+
+    @Param({"384", "1536"})
+    int dimension;
+
+    @Param({"SEQUENTIAL", "PARALLEL", "HNSW"})
+    SearchMode searchMode;
+
+    private InMemoryEmbeddingStore<TextSegment> store;
+    private List<EmbeddingSearchRequest> requests;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryEmbeddingStore.Builder<TextSegment> builder = InMemoryEmbeddingStore.builder();
+        if (searchMode == SearchMode.PARALLEL) {
+            builder.parallelSearchThreshold(1_000);
+        } else if (searchMode == SearchMode.HNSW) {
+            builder.hnswIndex(HnswIndexConfig.defaults());
+        }
+        store = builder.build();
+        store.addAll(randomEmbeddings(size, dimension, 42));
+
+        Random random = new Random(24);
+        requests = new ArrayList<>(QUERIES);
+        for (int i = 0; i < QUERIES; i++) {
+            Embedding queryEmbedding = randomEmbedding(dimension, random);
+            requests.add(EmbeddingSearchRequest.builder()
+                    .queryEmbedding(queryEmbedding)
+                    .maxResults(10)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<EmbeddingMatch<TextSegment>> search() {
+        EmbeddingSearchRequest request = requests.get(next++ & (QUERIES - 1));
+        return store.search(request).matches();
+    }
+}
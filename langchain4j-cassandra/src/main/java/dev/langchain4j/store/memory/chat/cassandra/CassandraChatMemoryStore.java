@@ -1,7 +1,14 @@
 package dev.langchain4j.store.memory.chat.cassandra;
 
+import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.CqlSessionBuilder;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
 import com.datastax.oss.driver.api.core.uuid.Uuids;
 import com.dtsx.astra.sdk.cassio.CassIO;
 import com.dtsx.astra.sdk.cassio.ClusteredRecord;
@@ -10,21 +17,33 @@ import com.dtsx.astra.sdk.utils.AstraEnvironment;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.ChatMessageDeserializer;
 import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.ChatMessageType;
+import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import static com.dtsx.astra.sdk.cassio.AbstractCassandraTable.BODY_BLOB;
+import static com.dtsx.astra.sdk.cassio.AbstractCassandraTable.PARTITION_ID;
+import static com.dtsx.astra.sdk.cassio.AbstractCassandraTable.ROW_ID;
 import static java.util.stream.Collectors.toList;
 
 /**
  * Implementation of {@link ChatMemoryStore} using Astra DB Vector Search.
  * Table contains all chats. (default name is message_store). Each chat with multiple messages
  * is a partition.Message id is a time uuid.
+ * <p>
+ * Next to the columns of the CassIO clustered table, a {@code message_type} column holds the
+ * {@link ChatMessageType} of each message, so that messages can be evicted without parsing their body.
+ * It is added to existing tables by {@link #create()}; until then, messages are stored without a type
+ * and evicted by parsing their body.
  *
  * @see <a href="https://docs.datastax.com/en/astra-serverless/docs/vector-search/overview.html">Astra Vector Store Documentation</a>
  */
@@ -36,11 +55,21 @@ public class CassandraChatMemoryStore implements ChatMemoryStore {
      */
     public static final String DEFAULT_TABLE_NAME = "message_store";
 
+    /**
+     * Column holding the {@link ChatMessageType} of the message.
+     */
+    public static final String MESSAGE_TYPE = "message_type";
+
     /**
      * Message Table.
      */
     private final ClusteredTable messageTable;
 
+    private final CqlIdentifier keyspaceName;
+    private final CqlIdentifier tableName;
+
+    private volatile Statements statements;
+
     /**
      * Constructor for message store
      *
@@ -58,13 +87,20 @@ public class CassandraChatMemoryStore implements ChatMemoryStore {
      */
     public CassandraChatMemoryStore(CqlSession session, String tableName) {
         messageTable = new ClusteredTable(session, session.getKeyspace().get().asInternal(), tableName);
+        this.keyspaceName = session.getKeyspace().get();
+        this.tableName = CqlIdentifier.fromInternal(tableName);
     }
 
     /**
-     * Create the table if not exist.
+     * Create the table if not exist, and add the {@value #MESSAGE_TYPE} column if the table lacks it.
      */
-    public void create() {
+    public synchronized void create() {
         messageTable.create();
+        if (!tableMetadata().flatMap(table -> table.getColumn(MESSAGE_TYPE)).isPresent()) {
+            messageTable.getCqlSession().execute("ALTER TABLE " + qualifiedTableName() + " ADD " + MESSAGE_TYPE + " text");
+            log.info("Column '{}' has been added to table '{}'", MESSAGE_TYPE, qualifiedTableName());
+        }
+        statements = null;
     }
 
     /**
@@ -118,9 +154,51 @@ public class CassandraChatMemoryStore implements ChatMemoryStore {
     @Override
     public void updateMessages(@NonNull Object memoryId, @NonNull List<ChatMessage> messages) {
         deleteMessages(memoryId);
-        messageTable.upsertPartition(messages.stream()
-                .map(record -> fromChatMessage(getMemoryId(memoryId), record))
-                .collect(toList()));
+        insertMessages(getMemoryId(memoryId), messages);
+    }
+
+    /**
+     * Inserts only the new messages. Their time-based row ids keep them after the existing messages.
+     */
+    @Override
+    public void appendMessages(@NonNull Object memoryId, @NonNull List<ChatMessage> messages) {
+        insertMessages(getMemoryId(memoryId), messages);
+    }
+
+    /**
+     * Reads only the type of the oldest rows, and deletes the evicted rows with a single statement.
+     * The window keeps at most one {@link SystemMessage}, so {@code count + 1} rows are usually enough;
+     * more rows are read only if there are more system messages among them.
+     */
+    @Override
+    public void evictOldest(@NonNull Object memoryId, int count) {
+        if (count <= 0) {
+            return;
+        }
+        Statements statements = statements();
+        String partitionId = getMemoryId(memoryId);
+        List<UUID> evictedRowIds = new ArrayList<>();
+        int limit = count + 1;
+        while (true) {
+            evictedRowIds.clear();
+            int rows = 0;
+            for (Row row : messageTable.getCqlSession().execute(statements.findOldestMessages.bind(partitionId, limit))) {
+                rows++;
+                if (!isSystemMessage(row, statements.hasMessageType)) {
+                    evictedRowIds.add(row.getUuid(ROW_ID));
+                    if (evictedRowIds.size() == count) {
+                        break;
+                    }
+                }
+            }
+            if (evictedRowIds.size() == count || rows < limit) {
+                break;
+            }
+            limit *= 2;
+        }
+        if (!evictedRowIds.isEmpty()) {
+            messageTable.getCqlSession().execute(statements.deleteMessages.bind(partitionId, evictedRowIds));
+        }
     }
 
     /**
@@ -131,6 +209,107 @@ public class CassandraChatMemoryStore implements ChatMemoryStore {
         messageTable.deletePartition(getMemoryId(memoryId));
     }
 
+    private void insertMessages(String partitionId, List<ChatMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        Statements statements = statements();
+        BatchStatementBuilder batch = BatchStatement.builder(DefaultBatchType.UNLOGGED);
+        for (ChatMessage message : messages) {
+            ClusteredRecord record = fromChatMessage(partitionId, message);
+            if (statements.hasMessageType) {
+                batch.addStatement(statements.insertMessage.bind(
+                        record.getPartitionId(), record.getRowId(), record.getBody(), message.type().name()));
+            } else {
+                batch.addStatement(statements.insertMessage.bind(
+                        record.getPartitionId(), record.getRowId(), record.getBody()));
+            }
+        }
+        messageTable.getCqlSession().execute(batch.build());
+    }
+
+    /**
+     * Rows written before the {@value #MESSAGE_TYPE} column existed have no type, their body is parsed instead.
+     */
+    private boolean isSystemMessage(Row row, boolean hasMessageType) {
+        String messageType = hasMessageType ? row.getString(MESSAGE_TYPE) : null;
+        if (messageType == null) {
+            return toChatMessage(row.getString(BODY_BLOB)) instanceof SystemMessage;
+        }
+        return ChatMessageType.SYSTEM.name().equals(messageType);
+    }
+
+    private Statements statements() {
+        Statements statements = this.statements;
+        if (statements == null) {
+            synchronized (this) {
+                statements = this.statements;
+                if (statements == null) {
+                    statements = prepareStatements();
+                    this.statements = statements;
+                }
+            }
+        }
+        return statements;
+    }
+
+    /**
+     * Prepares the statements according to the current schema of the table, without altering it.
+     */
+    private Statements prepareStatements() {
+        CqlSession session = messageTable.getCqlSession();
+        String table = qualifiedTableName();
+        boolean hasMessageType = tableMetadata().flatMap(t -> t.getColumn(MESSAGE_TYPE)).isPresent();
+        if (!hasMessageType) {
+            log.warn("Table '{}' has no '{}' column, messages will be evicted by parsing their body; " +
+                    "call create() to add the column", table, MESSAGE_TYPE);
+        }
+        PreparedStatement insertMessage = session.prepare(hasMessageType
+                ? "INSERT INTO " + table
+                + " (" + PARTITION_ID + ", " + ROW_ID + ", " + BODY_BLOB + ", " + MESSAGE_TYPE + ")"
+                + " VALUES (?, ?, ?, ?)"
+                : "INSERT INTO " + table
+                + " (" + PARTITION_ID + ", " + ROW_ID + ", " + BODY_BLOB + ")"
+                + " VALUES (?, ?, ?)");
+        PreparedStatement findOldestMessages = session.prepare("SELECT " + ROW_ID
+                + (hasMessageType ? ", " + MESSAGE_TYPE : "") + ", " + BODY_BLOB
+                + " FROM " + table
+                + " WHERE " + PARTITION_ID + " = ?"
+                + " ORDER BY " + ROW_ID + " ASC"
+                + " LIMIT ?");
+        PreparedStatement deleteMessages = session.prepare("DELETE FROM " + table
+                + " WHERE " + PARTITION_ID + " = ? AND " + ROW_ID + " IN ?");
+        return new Statements(insertMessage, findOldestMessages, deleteMessages, hasMessageType);
+    }
+
+    private Optional<TableMetadata> tableMetadata() {
+        return messageTable.getCqlSession().refreshSchema()
+                .getKeyspace(keyspaceName)
+                .flatMap(keyspace -> keyspace.getTable(tableName));
+    }
+
+    private String qualifiedTableName() {
+        return keyspaceName.asCql(true) + "." + tableName.asCql(true);
+    }
+
+    private static class Statements {
+
+        private final PreparedStatement insertMessage;
+        private final PreparedStatement findOldestMessages;
+        private final PreparedStatement deleteMessages;
+        private final boolean hasMessageType;
+
+        private Statements(PreparedStatement insertMessage,
+                           PreparedStatement findOldestMessages,
+                           PreparedStatement deleteMessages,
+                           boolean hasMessageType) {
+            this.insertMessage = insertMessage;
+            this.findOldestMessages = findOldestMessages;
+            this.deleteMessages = deleteMessages;
+            this.hasMessageType = hasMessageType;
+        }
+    }
+
     /**
      * Unmarshalling Cassandra row as a Message with proper subtype.
      *
@@ -138,8 +317,12 @@ public class CassandraChatMemoryStore implements ChatMemoryStore {
      * @return chat message
      */
     private ChatMessage toChatMessage(@NonNull ClusteredRecord record) {
+        return toChatMessage(record.getBody());
+    }
+
+    private ChatMessage toChatMessage(String body) {
         try {
-            return ChatMessageDeserializer.messageFromJson(record.getBody());
+            return ChatMessageDeserializer.messageFromJson(body);
         } catch (Exception e) {
             throw new IllegalArgumentException("Unable to parse message body", e);
         }
@@ -1,5 +1,6 @@
 package dev.langchain4j.store.memory.chat.cassandra;
 
+import com.datastax.oss.driver.api.core.CqlSession;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.memory.ChatMemory;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.TestMethodOrder;
 import java.util.UUID;
 
 import static dev.langchain4j.data.message.AiMessage.aiMessage;
+import static dev.langchain4j.data.message.SystemMessage.systemMessage;
 import static dev.langchain4j.data.message.UserMessage.userMessage;
 import static dev.langchain4j.model.openai.OpenAiModelName.GPT_3_5_TURBO;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -57,6 +59,12 @@ abstract class CassandraChatMemoryStoreTestSupport {
                 .refreshSchema()
                 .getKeyspace(KEYSPACE).get()
                 .getTable(CassandraChatMemoryStore.DEFAULT_TABLE_NAME)).isPresent();
+        // Message type column exists
+        assertThat(chatMemoryStore.getCassandraSession()
+                .getMetadata()
+                .getKeyspace(KEYSPACE).get()
+                .getTable(CassandraChatMemoryStore.DEFAULT_TABLE_NAME).get()
+                .getColumn(CassandraChatMemoryStore.MESSAGE_TYPE)).isPresent();
         chatMemoryStore.clear();
     }
 
@@ -84,6 +92,65 @@ abstract class CassandraChatMemoryStoreTestSupport {
         assertThat(chatMemory.messages()).containsExactly(userMessage, aiMessage);
     }
 
+    @Test
+    @Order(5)
+    @DisplayName("5. Evict oldest items")
+    void shouldEvictOldestItems() {
+        // Given
+        String chatSessionId = "chat-" + UUID.randomUUID();
+
+        ChatMemory chatMemory = MessageWindowChatMemory.builder()
+                .chatMemoryStore(chatMemoryStore)
+                .maxMessages(3)
+                .id(chatSessionId)
+                .build();
+
+        // When
+        chatMemory.add(systemMessage("You are an expert of ff4j."));
+        chatMemory.add(userMessage("What is ff4j?"));
+        chatMemory.add(aiMessage("A feature flags framework."));
+        chatMemory.add(userMessage("Who created it?"));
+
+        // Then
+        assertThat(chatMemoryStore.getMessages(chatSessionId)).containsExactly(
+                systemMessage("You are an expert of ff4j."),
+                aiMessage("A feature flags framework."),
+                userMessage("Who created it?"));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("6. Evict oldest items from a table without message type")
+    void shouldEvictOldestItemsWithoutMessageType() {
+        // Given
+        CqlSession session = chatMemoryStore.getCassandraSession();
+        session.execute("ALTER TABLE " + KEYSPACE + "." + CassandraChatMemoryStore.DEFAULT_TABLE_NAME
+                + " DROP " + CassandraChatMemoryStore.MESSAGE_TYPE);
+        CassandraChatMemoryStore storeWithoutMessageType = new CassandraChatMemoryStore(session);
+        String chatSessionId = "chat-" + UUID.randomUUID();
+
+        ChatMemory chatMemory = MessageWindowChatMemory.builder()
+                .chatMemoryStore(storeWithoutMessageType)
+                .maxMessages(2)
+                .id(chatSessionId)
+                .build();
+
+        // When
+        chatMemory.add(systemMessage("You are an expert of ff4j."));
+        chatMemory.add(userMessage("What is ff4j?"));
+        chatMemory.add(aiMessage("A feature flags framework."));
+
+        // Then
+        assertThat(storeWithoutMessageType.getMessages(chatSessionId)).containsExactly(
+                systemMessage("You are an expert of ff4j."),
+                aiMessage("A feature flags framework."));
+        // The table is not altered outside of create()
+        assertThat(session.refreshSchema()
+                .getKeyspace(KEYSPACE).get()
+                .getTable(CassandraChatMemoryStore.DEFAULT_TABLE_NAME).get()
+                .getColumn(CassandraChatMemoryStore.MESSAGE_TYPE)).isNotPresent();
+    }
+
     abstract void createDatabase();
 
     abstract CassandraChatMemoryStore createChatMemoryStore();
@@ -13,6 +13,9 @@ import java.security.NoSuchAlgorithmException;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 /**
@@ -243,4 +246,20 @@ public class Utils {
 
     return unmodifiableList(list);
   }
+
+  /**
+   * Creates a cached thread pool of daemon threads,
+   * so that its idle threads do not prevent the JVM from exiting when the pool is not shut down.
+   *
+   * @param threadNamePrefix The prefix of the names of the threads.
+   * @return The thread pool.
+   */
+  public static ExecutorService newDaemonCachedThreadPool(String threadNamePrefix) {
+    AtomicInteger threadCount = new AtomicInteger();
+    return Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
 }
@@ -9,6 +9,11 @@ import dev.langchain4j.model.output.FinishReason;
 import dev.langchain4j.model.output.TokenUsage;
 import lombok.Builder;
 
+import java.time.Duration;
+import java.util.List;
+
+import static dev.langchain4j.internal.Utils.copyIfNotNull;
+
 /**
  * A response from the {@link ChatLanguageModel} or {@link StreamingChatLanguageModel},
  * intended to be used with {@link ModelListener}.
@@ -21,18 +26,44 @@ public class ChatLanguageModelResponse {
     private final TokenUsage tokenUsage;
     private final FinishReason finishReason;
     private final AiMessage aiMessage;
+    private final Duration duration;
+    private final Duration timeToFirstToken;
+    private final List<Duration> interTokenGaps;
+    private final Integer retries;
 
-    @Builder
     public ChatLanguageModelResponse(String id,
                                      String model,
                                      TokenUsage tokenUsage,
                                      FinishReason finishReason,
                                      AiMessage aiMessage) {
+        this(id, model, tokenUsage, finishReason, aiMessage, null, null, null, null);
+    }
+
+    /**
+     * @param duration         The wall-clock time from sending the request to receiving the complete response.
+     * @param timeToFirstToken When streaming, the time from sending the request to receiving the first token.
+     * @param interTokenGaps   When streaming, the time between each two consecutive tokens.
+     * @param retries          The number of times the request was retried, if known.
+     */
+    @Builder
+    public ChatLanguageModelResponse(String id,
+                                     String model,
+                                     TokenUsage tokenUsage,
+                                     FinishReason finishReason,
+                                     AiMessage aiMessage,
+                                     Duration duration,
+                                     Duration timeToFirstToken,
+                                     List<Duration> interTokenGaps,
+                                     Integer retries) {
         this.id = id;
         this.model = model;
         this.tokenUsage = tokenUsage;
         this.finishReason = finishReason;
         this.aiMessage = aiMessage;
+        this.duration = duration;
+        this.timeToFirstToken = timeToFirstToken;
+        this.interTokenGaps = copyIfNotNull(interTokenGaps);
+        this.retries = retries;
     }
 
     public String id() {
@@ -54,4 +85,20 @@ public class ChatLanguageModelResponse {
     public AiMessage aiMessage() {
         return aiMessage;
     }
+
+    public Duration duration() {
+        return duration;
+    }
+
+    public Duration timeToFirstToken() {
+        return timeToFirstToken;
+    }
+
+    public List<Duration> interTokenGaps() {
+        return interTokenGaps;
+    }
+
+    public Integer retries() {
+        return retries;
+    }
 }
@@ -0,0 +1,129 @@
+package dev.langchain4j.model.chat.listener;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.listener.ModelListener;
+import dev.langchain4j.model.output.Response;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.model.listener.ModelListeners.onError;
+import static dev.langchain4j.model.listener.ModelListeners.onRequest;
+import static dev.langchain4j.model.listener.ModelListeners.onResponse;
+import static java.util.Collections.singletonList;
+
+/**
+ * A {@link ChatLanguageModel} that notifies {@link ModelListener}s about every call to another {@link ChatLanguageModel}.
+ * It works with any {@link ChatLanguageModel}, including those that do not support listeners natively.
+ * <p>
+ * Responses are reported with the wall-clock duration of the call.
+ * The ID of the response and the parameters of the request are not known to this class and are not reported,
+ * except for the name of the model, if configured.
+ */
+@Experimental
+public class ListeningChatLanguageModel implements ChatLanguageModel {
+
+    private final ChatLanguageModel delegate;
+    private final String modelName;
+    private final List<ModelListener<ChatLanguageModelRequest, ChatLanguageModelResponse>> listeners;
+
+    private ListeningChatLanguageModel(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        this.modelName = builder.modelName;
+        this.listeners = builder.listeners == null ? new ArrayList<>() : new ArrayList<>(builder.listeners);
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return generate(messages, null, () -> delegate.generate(messages));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        return generate(messages, toolSpecifications, () -> delegate.generate(messages, toolSpecifications));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        return generate(messages, singletonList(toolSpecification), () -> delegate.generate(messages, toolSpecification));
+    }
+
+    private Response<AiMessage> generate(List<ChatMessage> messages,
+                                         List<ToolSpecification> toolSpecifications,
+                                         Supplier<Response<AiMessage>> generation) {
+        ChatLanguageModelRequest request = ChatLanguageModelRequest.builder()
+                .model(modelName)
+                .messages(messages)
+                .toolSpecifications(toolSpecifications)
+                .build();
+        onRequest(listeners, request);
+
+        long start = System.nanoTime();
+        try {
+            Response<AiMessage> response = generation.get();
+
+            ChatLanguageModelResponse modelListenerResponse = ChatLanguageModelResponse.builder()
+                    .model(modelName)
+                    .tokenUsage(response.tokenUsage())
+                    .finishReason(response.finishReason())
+                    .aiMessage(response.content())
+                    .duration(Duration.ofNanos(System.nanoTime() - start))
+                    .build();
+            onResponse(listeners, modelListenerResponse, request);
+
+            return response;
+        } catch (RuntimeException e) {
+            onError(listeners, e, null, request);
+            throw e;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private ChatLanguageModel delegate;
+        private String modelName;
+        private List<ModelListener<ChatLanguageModelRequest, ChatLanguageModelResponse>> listeners;
+
+        /**
+         * @param delegate The {@link ChatLanguageModel} to observe. Mandatory.
+         * @return builder
+         */
+        public Builder delegate(ChatLanguageModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param modelName The name of the model, reported to the listeners. Optional.
+         * @return builder
+         */
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        /**
+         * @param listeners The listeners to notify.
+         * @return builder
+         */
+        public Builder listeners(List<ModelListener<ChatLanguageModelRequest, ChatLanguageModelResponse>> listeners) {
+            this.listeners = listeners;
+            return this;
+        }
+
+        public ListeningChatLanguageModel build() {
+            return new ListeningChatLanguageModel(this);
+        }
+    }
+}
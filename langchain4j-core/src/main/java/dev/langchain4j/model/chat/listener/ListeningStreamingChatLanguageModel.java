@@ -0,0 +1,173 @@
+package dev.langchain4j.model.chat.listener;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.listener.ModelListener;
+import dev.langchain4j.model.listener.TokenTimer;
+import dev.langchain4j.model.output.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.model.listener.ModelListeners.onError;
+import static dev.langchain4j.model.listener.ModelListeners.onRequest;
+import static dev.langchain4j.model.listener.ModelListeners.onResponse;
+import static java.util.Collections.singletonList;
+
+/**
+ * A {@link StreamingChatLanguageModel} that notifies {@link ModelListener}s about every call
+ * to another {@link StreamingChatLanguageModel}.
+ * It works with any {@link StreamingChatLanguageModel}, including those that do not support listeners natively.
+ * <p>
+ * Responses are reported with the wall-clock duration of the call, the time to the first token
+ * and the gaps between consecutive tokens.
+ * When an error occurs, the text streamed so far is reported as a partial response.
+ */
+@Experimental
+public class ListeningStreamingChatLanguageModel implements StreamingChatLanguageModel {
+
+    private final StreamingChatLanguageModel delegate;
+    private final String modelName;
+    private final List<ModelListener<ChatLanguageModelRequest, ChatLanguageModelResponse>> listeners;
+
+    private ListeningStreamingChatLanguageModel(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        this.modelName = builder.modelName;
+        this.listeners = builder.listeners == null ? new ArrayList<>() : new ArrayList<>(builder.listeners);
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+        generate(messages, null, handler, listeningHandler -> delegate.generate(messages, listeningHandler));
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages,
+                         List<ToolSpecification> toolSpecifications,
+                         StreamingResponseHandler<AiMessage> handler) {
+        generate(messages, toolSpecifications, handler,
+                listeningHandler -> delegate.generate(messages, toolSpecifications, listeningHandler));
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages,
+                         ToolSpecification toolSpecification,
+                         StreamingResponseHandler<AiMessage> handler) {
+        generate(messages, singletonList(toolSpecification), handler,
+                listeningHandler -> delegate.generate(messages, toolSpecification, listeningHandler));
+    }
+
+    private void generate(List<ChatMessage> messages,
+                          List<ToolSpecification> toolSpecifications,
+                          StreamingResponseHandler<AiMessage> handler,
+                          Consumer<StreamingResponseHandler<AiMessage>> generation) {
+        ChatLanguageModelRequest request = ChatLanguageModelRequest.builder()
+                .model(modelName)
+                .messages(messages)
+                .toolSpecifications(toolSpecifications)
+                .build();
+        onRequest(listeners, request);
+
+        TokenTimer timer = new TokenTimer();
+        StringBuilder partialText = new StringBuilder();
+        try {
+            generation.accept(new StreamingResponseHandler<AiMessage>() {
+
+                @Override
+                public void onNext(String token) {
+                    timer.onToken();
+                    partialText.append(token);
+                    handler.onNext(token);
+                }
+
+                @Override
+                public void onComplete(Response<AiMessage> response) {
+                    onResponse(listeners, modelListenerResponse(response, timer), request);
+                    handler.onComplete(response);
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    notifyError(error, partialText, timer, request);
+                    handler.onError(error);
+                }
+            });
+        } catch (RuntimeException e) {
+            notifyError(e, partialText, timer, request);
+            throw e;
+        }
+    }
+
+    private void notifyError(Throwable error,
+                             StringBuilder partialText,
+                             TokenTimer timer,
+                             ChatLanguageModelRequest request) {
+        Response<AiMessage> partialResponse = partialText.length() == 0
+                ? null
+                : Response.from(AiMessage.from(partialText.toString()));
+        onError(listeners, error, modelListenerResponse(partialResponse, timer), request);
+    }
+
+    private ChatLanguageModelResponse modelListenerResponse(Response<AiMessage> response, TokenTimer timer) {
+        if (response == null) {
+            return null;
+        }
+        return ChatLanguageModelResponse.builder()
+                .model(modelName)
+                .tokenUsage(response.tokenUsage())
+                .finishReason(response.finishReason())
+                .aiMessage(response.content())
+                .duration(timer.elapsed())
+                .timeToFirstToken(timer.timeToFirstToken())
+                .interTokenGaps(timer.interTokenGaps())
+                .build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private StreamingChatLanguageModel delegate;
+        private String modelName;
+        private List<ModelListener<ChatLanguageModelRequest, ChatLanguageModelResponse>> listeners;
+
+        /**
+         * @param delegate The {@link StreamingChatLanguageModel} to observe. Mandatory.
+         * @return builder
+         */
+        public Builder delegate(StreamingChatLanguageModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param modelName The name of the model, reported to the listeners. Optional.
+         * @return builder
+         */
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        /**
+         * @param listeners The listeners to notify.
+         * @return builder
+         */
+        public Builder listeners(List<ModelListener<ChatLanguageModelRequest, ChatLanguageModelResponse>> listeners) {
+            this.listeners = listeners;
+            return this;
+        }
+
+        public ListeningStreamingChatLanguageModel build() {
+            return new ListeningStreamingChatLanguageModel(this);
+        }
+    }
+}
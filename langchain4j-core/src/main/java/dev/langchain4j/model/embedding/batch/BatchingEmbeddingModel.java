@@ -0,0 +1,119 @@
+package dev.langchain4j.model.embedding.batch;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * An {@link EmbeddingModel} that splits the segments passed to {@link #embedAll(List)} into batches
+ * and embeds them with another {@link EmbeddingModel}, possibly concurrently.
+ * See {@link EmbeddingBatcher} for details.
+ * <p>
+ * When the delegate model implements {@link TokenCountEstimator}, it is used to estimate the tokens in each segment.
+ */
+public class BatchingEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel delegate;
+    private final EmbeddingBatcher batcher;
+
+    private BatchingEmbeddingModel(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        TokenCountEstimator delegateEstimator = delegate instanceof TokenCountEstimator
+                ? (TokenCountEstimator) delegate
+                : null;
+        this.batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(builder.maxSegmentsPerBatch)
+                .maxTokensPerBatch(builder.maxTokensPerBatch)
+                .tokenCountEstimator(getOrDefault(builder.tokenCountEstimator, delegateEstimator))
+                .maxConcurrentBatches(builder.maxConcurrentBatches)
+                .executor(builder.executor)
+                .build();
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        return batcher.embedAll(textSegments, delegate::embedAll);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private EmbeddingModel delegate;
+        private Integer maxSegmentsPerBatch;
+        private Integer maxTokensPerBatch;
+        private TokenCountEstimator tokenCountEstimator;
+        private Integer maxConcurrentBatches;
+        private Executor executor;
+
+        /**
+         * @param delegate The {@link EmbeddingModel} embedding each batch. Mandatory.
+         * @return builder
+         */
+        public Builder delegate(EmbeddingModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param maxSegmentsPerBatch The maximum number of segments in a batch. Default value: unlimited.
+         * @return builder
+         */
+        public Builder maxSegmentsPerBatch(Integer maxSegmentsPerBatch) {
+            this.maxSegmentsPerBatch = maxSegmentsPerBatch;
+            return this;
+        }
+
+        /**
+         * @param maxTokensPerBatch The maximum number of tokens in a batch. Default value: unlimited.
+         * @return builder
+         */
+        public Builder maxTokensPerBatch(Integer maxTokensPerBatch) {
+            this.maxTokensPerBatch = maxTokensPerBatch;
+            return this;
+        }
+
+        /**
+         * @param tokenCountEstimator Estimates the token count of each segment.
+         *                            Default value: the delegate, if it implements {@link TokenCountEstimator}.
+         * @return builder
+         */
+        public Builder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        /**
+         * @param maxConcurrentBatches The maximum number of batches embedded at the same time. Default value: 1.
+         * @return builder
+         */
+        public Builder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * @param executor The executor embedding the batches when {@code maxConcurrentBatches} is greater than 1.
+         *                 Default value: a cached thread pool.
+         * @return builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public BatchingEmbeddingModel build() {
+            return new BatchingEmbeddingModel(this);
+        }
+    }
+}
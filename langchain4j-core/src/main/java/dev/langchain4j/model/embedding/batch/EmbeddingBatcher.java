@@ -0,0 +1,274 @@
+package dev.langchain4j.model.embedding.batch;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.newDaemonCachedThreadPool;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Splits the {@link TextSegment}s passed to {@link EmbeddingModel#embedAll(List)} into batches
+ * that respect the limits of an embedding API, embeds the batches, and reassembles the results.
+ * <p>
+ * A batch holds at most {@code maxSegmentsPerBatch} segments and, when {@code maxTokensPerBatch} is set,
+ * at most {@code maxTokensPerBatch} tokens (as estimated by the {@link TokenCountEstimator}).
+ * Consecutive segments are kept together; a single segment exceeding {@code maxTokensPerBatch}
+ * is sent alone in its own batch.
+ * <p>
+ * Up to {@code maxConcurrentBatches} batches are embedded at the same time on the {@code executor}
+ * (a cached thread pool by default). By default, batches are embedded one after another in the calling thread.
+ * The embeddings are returned in the order of the segments, and the {@link TokenUsage} is summed over all batches.
+ * <p>
+ * {@link EmbeddingModel} implementations can use this class in their {@link EmbeddingModel#embedAll(List)},
+ * passing the method embedding a single batch. To batch any existing {@link EmbeddingModel}, see {@link BatchingEmbeddingModel}.
+ */
+public class EmbeddingBatcher {
+
+    private final int maxSegmentsPerBatch;
+    private final Integer maxTokensPerBatch;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final int maxConcurrentBatches;
+    private final Executor executor;
+
+    private EmbeddingBatcher(Builder builder) {
+        this.maxSegmentsPerBatch = ensureGreaterThanZero(
+                getOrDefault(builder.maxSegmentsPerBatch, Integer.MAX_VALUE), "maxSegmentsPerBatch");
+        this.maxTokensPerBatch = builder.maxTokensPerBatch == null
+                ? null
+                : ensureGreaterThanZero(builder.maxTokensPerBatch, "maxTokensPerBatch");
+        this.tokenCountEstimator = builder.tokenCountEstimator;
+        this.maxConcurrentBatches = ensureGreaterThanZero(
+                getOrDefault(builder.maxConcurrentBatches, 1), "maxConcurrentBatches");
+        this.executor = maxConcurrentBatches > 1
+                ? getOrDefault(builder.executor, () -> newDaemonCachedThreadPool("langchain4j-embedding"))
+                : null;
+    }
+
+    /**
+     * Splits the segments into batches, estimating the token count of each segment
+     * with the {@link TokenCountEstimator} when {@code maxTokensPerBatch} is set.
+     *
+     * @param segments The segments to split.
+     * @return The batches, in the order of the segments.
+     */
+    public List<List<TextSegment>> split(List<TextSegment> segments) {
+        if (maxTokensPerBatch == null) {
+            return split(segments, null);
+        }
+        ensureNotNull(tokenCountEstimator, "tokenCountEstimator");
+        List<Integer> tokenCounts = new ArrayList<>(segments.size());
+        for (TextSegment segment : segments) {
+            tokenCounts.add(tokenCountEstimator.estimateTokenCount(segment));
+        }
+        return split(segments, tokenCounts);
+    }
+
+    /**
+     * Splits the segments into batches, using known token counts.
+     * This is useful when the token counts are computed by the provider rather than estimated.
+     *
+     * @param segments    The segments to split.
+     * @param tokenCounts The token count of each segment. Ignored when {@code maxTokensPerBatch} is not set.
+     * @return The batches, in the order of the segments.
+     */
+    public List<List<TextSegment>> split(List<TextSegment> segments, List<Integer> tokenCounts) {
+        if (maxTokensPerBatch != null && (tokenCounts == null || tokenCounts.size() != segments.size())) {
+            throw illegalArgument("Expected a token count for each of the %s segments", segments.size());
+        }
+
+        List<List<TextSegment>> batches = new ArrayList<>();
+        int batchStart = 0;
+        int batchTokens = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            int tokens = maxTokensPerBatch == null ? 0 : tokenCounts.get(i);
+            boolean batchIsFull = i - batchStart == maxSegmentsPerBatch
+                    || (maxTokensPerBatch != null && batchTokens + tokens > maxTokensPerBatch);
+            if (i > batchStart && batchIsFull) {
+                batches.add(segments.subList(batchStart, i));
+                batchStart = i;
+                batchTokens = 0;
+            }
+            batchTokens += tokens;
+        }
+        if (batchStart < segments.size()) {
+            batches.add(segments.subList(batchStart, segments.size()));
+        }
+        return batches;
+    }
+
+    /**
+     * Splits the segments into batches (see {@link #split(List)}) and embeds each batch with {@code embedBatch}.
+     *
+     * @param segments   The segments to embed.
+     * @param embedBatch Embeds a single batch, returning one embedding per segment of the batch.
+     * @return The embeddings, in the order of the segments, and the {@link TokenUsage} summed over all batches.
+     */
+    public Response<List<Embedding>> embedAll(List<TextSegment> segments,
+                                              Function<List<TextSegment>, Response<List<Embedding>>> embedBatch) {
+        return embedAllBatches(split(segments), embedBatch);
+    }
+
+    /**
+     * Embeds batches that have already been split, with {@code embedBatch}.
+     *
+     * @param batches    The batches to embed.
+     * @param embedBatch Embeds a single batch, returning one embedding per segment of the batch.
+     * @return The embeddings, in the order of the batches, and the {@link TokenUsage} summed over all batches.
+     */
+    public Response<List<Embedding>> embedAllBatches(List<List<TextSegment>> batches,
+                                                     Function<List<TextSegment>, Response<List<Embedding>>> embedBatch) {
+        ensureNotNull(embedBatch, "embedBatch");
+
+        List<Response<List<Embedding>>> responses = executor == null || batches.size() < 2
+                ? embedSequentially(batches, embedBatch)
+                : embedConcurrently(batches, embedBatch);
+
+        List<Embedding> embeddings = new ArrayList<>();
+        TokenUsage tokenUsage = null;
+        for (int i = 0; i < batches.size(); i++) {
+            List<Embedding> batchEmbeddings = responses.get(i).content();
+            if (batchEmbeddings.size() != batches.get(i).size()) {
+                throw illegalArgument("Expected %s embeddings for batch %s, but got %s",
+                        batches.get(i).size(), i, batchEmbeddings.size());
+            }
+            embeddings.addAll(batchEmbeddings);
+            tokenUsage = TokenUsage.sum(tokenUsage, responses.get(i).tokenUsage());
+        }
+
+        return Response.from(embeddings, tokenUsage);
+    }
+
+    private static List<Response<List<Embedding>>> embedSequentially(
+            List<List<TextSegment>> batches,
+            Function<List<TextSegment>, Response<List<Embedding>>> embedBatch) {
+
+        List<Response<List<Embedding>>> responses = new ArrayList<>(batches.size());
+        for (List<TextSegment> batch : batches) {
+            responses.add(embedBatch.apply(batch));
+        }
+        return responses;
+    }
+
+    /**
+     * Runs at most {@code maxConcurrentBatches} workers on the executor.
+     * Each worker picks the next batch that has not been started yet, so a slow batch does not hold up the others.
+     * After the first failure, no new batch is started and the failure is rethrown.
+     */
+    private List<Response<List<Embedding>>> embedConcurrently(
+            List<List<TextSegment>> batches,
+            Function<List<TextSegment>, Response<List<Embedding>>> embedBatch) {
+
+        List<Response<List<Embedding>>> responses = new ArrayList<>(batches.size());
+        for (int i = 0; i < batches.size(); i++) {
+            responses.add(null);
+        }
+        AtomicInteger nextBatch = new AtomicInteger();
+
+        int workerCount = Math.min(maxConcurrentBatches, batches.size());
+        CompletableFuture<?>[] workers = new CompletableFuture[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = CompletableFuture.runAsync(() -> {
+                int batch;
+                while ((batch = nextBatch.getAndIncrement()) < batches.size()) {
+                    try {
+                        responses.set(batch, embedBatch.apply(batches.get(batch)));
+                    } catch (RuntimeException e) {
+                        nextBatch.set(batches.size());
+                        throw e;
+                    }
+                }
+            }, executor);
+        }
+
+        try {
+            CompletableFuture.allOf(workers).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+
+        return responses;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer maxSegmentsPerBatch;
+        private Integer maxTokensPerBatch;
+        private TokenCountEstimator tokenCountEstimator;
+        private Integer maxConcurrentBatches;
+        private Executor executor;
+
+        /**
+         * @param maxSegmentsPerBatch The maximum number of segments in a batch. Default value: unlimited.
+         * @return builder
+         */
+        public Builder maxSegmentsPerBatch(Integer maxSegmentsPerBatch) {
+            this.maxSegmentsPerBatch = maxSegmentsPerBatch;
+            return this;
+        }
+
+        /**
+         * @param maxTokensPerBatch The maximum number of tokens in a batch. Default value: unlimited.
+         *                          Requires a {@link TokenCountEstimator}, unless token counts are passed
+         *                          to {@link EmbeddingBatcher#split(List, List)}.
+         * @return builder
+         */
+        public Builder maxTokensPerBatch(Integer maxTokensPerBatch) {
+            this.maxTokensPerBatch = maxTokensPerBatch;
+            return this;
+        }
+
+        /**
+         * @param tokenCountEstimator Estimates the token count of each segment when {@code maxTokensPerBatch} is set.
+         * @return builder
+         */
+        public Builder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        /**
+         * @param maxConcurrentBatches The maximum number of batches embedded at the same time. Default value: 1.
+         * @return builder
+         */
+        public Builder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * @param executor The executor embedding the batches when {@code maxConcurrentBatches} is greater than 1.
+         *                 Default value: a cached thread pool of daemon threads.
+         * @return builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public EmbeddingBatcher build() {
+            return new EmbeddingBatcher(this);
+        }
+    }
+}
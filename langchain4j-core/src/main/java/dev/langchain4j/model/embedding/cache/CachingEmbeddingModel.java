@@ -0,0 +1,136 @@
+package dev.langchain4j.model.embedding.cache;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.generateUUIDFrom;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Arrays.asList;
+
+/**
+ * An {@link EmbeddingModel} that caches the embeddings computed by another {@link EmbeddingModel}.
+ * <p>
+ * Embeddings are cached under a key derived from the {@code modelId} and the text of the {@link TextSegment}
+ * (the metadata of the segment is not embedded, so it is not part of the key).
+ * The {@code modelId} must identify the delegate model and its configuration,
+ * so that caches can be shared between models without mixing up their embeddings.
+ * <p>
+ * {@link #embedAll(List)} looks every text up in the {@link EmbeddingCache} first.
+ * Only the texts that are not cached are sent to the delegate, in a single call to its {@link #embedAll(List)}
+ * and without duplicates. The returned embeddings keep the order of the given segments.
+ * The returned {@link TokenUsage} is the one reported by the delegate, or {@code null} if every text was cached.
+ */
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel delegate;
+    private final EmbeddingCache cache;
+    private final String modelId;
+
+    private CachingEmbeddingModel(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        this.cache = getOrDefault(builder.cache, InMemoryEmbeddingCache::new);
+        this.modelId = ensureNotBlank(builder.modelId, "modelId");
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        ensureNotNull(textSegments, "textSegments");
+
+        Embedding[] embeddings = new Embedding[textSegments.size()];
+        String[] keys = new String[textSegments.size()];
+        Map<String, TextSegment> misses = new LinkedHashMap<>();
+        for (int i = 0; i < textSegments.size(); i++) {
+            TextSegment textSegment = textSegments.get(i);
+            keys[i] = key(textSegment.text());
+            embeddings[i] = cache.get(keys[i]);
+            if (embeddings[i] == null) {
+                misses.putIfAbsent(keys[i], textSegment);
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return Response.from(asList(embeddings));
+        }
+
+        Response<List<Embedding>> response = delegate.embedAll(new ArrayList<>(misses.values()));
+        List<Embedding> computed = response.content();
+        if (computed == null || computed.size() != misses.size()) {
+            throw illegalArgument("Expected %s embeddings from the delegate model, but got %s",
+                    misses.size(), computed == null ? null : computed.size());
+        }
+
+        Map<String, Embedding> computedByKey = new LinkedHashMap<>();
+        int index = 0;
+        for (String key : misses.keySet()) {
+            Embedding embedding = computed.get(index++);
+            cache.put(key, embedding);
+            computedByKey.put(key, embedding);
+        }
+        for (int i = 0; i < embeddings.length; i++) {
+            if (embeddings[i] == null) {
+                embeddings[i] = computedByKey.get(keys[i]);
+            }
+        }
+
+        return Response.from(asList(embeddings), response.tokenUsage(), response.finishReason());
+    }
+
+    private String key(String text) {
+        return generateUUIDFrom(modelId + '\u0000' + text);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private EmbeddingModel delegate;
+        private EmbeddingCache cache;
+        private String modelId;
+
+        /**
+         * @param delegate The {@link EmbeddingModel} computing the embeddings that are not cached. Mandatory.
+         * @return builder
+         */
+        public Builder delegate(EmbeddingModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param cache The {@link EmbeddingCache}. Default value: a new {@link InMemoryEmbeddingCache}.
+         * @return builder
+         */
+        public Builder cache(EmbeddingCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * @param modelId Identifies the delegate model and its configuration (e.g. provider, model name and dimension).
+         *                Embeddings are only reused for the same {@code modelId},
+         *                so it must change whenever the delegate is configured differently. Mandatory.
+         * @return builder
+         */
+        public Builder modelId(String modelId) {
+            this.modelId = modelId;
+            return this;
+        }
+
+        public CachingEmbeddingModel build() {
+            return new CachingEmbeddingModel(this);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package dev.langchain4j.model.embedding.cache;
+
+import dev.langchain4j.data.embedding.Embedding;
+
+/**
+ * Represents a cache of {@link Embedding}s used by a {@link CachingEmbeddingModel}.
+ * <br>
+ * Ready-to-use implementations are {@link InMemoryEmbeddingCache} and {@link FileSystemEmbeddingCache},
+ * but you can implement this interface to keep the embeddings in any storage of your choice.
+ * Implementations must be thread-safe.
+ */
+public interface EmbeddingCache {
+
+    /**
+     * Retrieves a cached embedding.
+     *
+     * @param key The key of the embedding, derived from the model and the embedded text.
+     *            Contains only letters, digits and dashes.
+     * @return The cached embedding, or {@code null} if there is none or it has expired.
+     */
+    Embedding get(String key);
+
+    /**
+     * Caches an embedding.
+     *
+     * @param key       The key of the embedding, derived from the model and the embedded text.
+     *                  Contains only letters, digits and dashes.
+     * @param embedding The embedding to cache.
+     */
+    void put(String key, Embedding embedding);
+}
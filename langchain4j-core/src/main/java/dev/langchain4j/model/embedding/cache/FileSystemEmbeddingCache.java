@@ -0,0 +1,269 @@
+package dev.langchain4j.model.embedding.cache;
+
+import dev.langchain4j.data.embedding.Embedding;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Implementation of {@link EmbeddingCache} that keeps the embeddings in files, so that they survive restarts.
+ * <p>
+ * Each embedding is written into its own small file, named after its key,
+ * in a subdirectory named after the first two characters of the key.
+ * Files are written to a temporary file first and then moved into place,
+ * so that concurrent readers (including other processes) never see a partially written embedding.
+ * <p>
+ * Optionally, embeddings expire once {@code timeToLive} has elapsed since their file was last written.
+ * Expired files are deleted when they are read, and the whole directory is swept for expired files
+ * once per {@code timeToLive} period, when an embedding is put.
+ * <p>
+ * Optionally, the cache holds at most {@code maxSize} embeddings. When a put exceeds it,
+ * the least recently written embeddings are deleted, leaving 10% of free room
+ * so that the directory is not swept on every put.
+ * <p>
+ * Failures to read or write a file are logged and otherwise ignored:
+ * the embedding is then simply computed again.
+ * <p>
+ * Since every lookup reads a file, consider putting an {@link InMemoryEmbeddingCache}
+ * in front of this cache when the same texts are embedded very frequently.
+ */
+public class FileSystemEmbeddingCache implements EmbeddingCache {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSystemEmbeddingCache.class);
+
+    private static final Pattern VALID_KEY = Pattern.compile("[A-Za-z0-9-]{3,}");
+
+    private final Path directory;
+    private final Integer maxSize;
+    private final Duration timeToLive;
+    private final Clock clock;
+
+    private int size = -1; // unknown until the directory is swept
+    private Instant nextSweepAt;
+
+    private FileSystemEmbeddingCache(Builder builder) {
+        this.directory = ensureNotNull(builder.directory, "directory");
+        this.maxSize = builder.maxSize == null ? null : ensureGreaterThanZero(builder.maxSize, "maxSize");
+        this.timeToLive = builder.timeToLive;
+        this.clock = getOrDefault(builder.clock, Clock::systemUTC);
+    }
+
+    /**
+     * Constructs a new {@link FileSystemEmbeddingCache} keeping embeddings in the specified directory forever.
+     *
+     * @param directory The directory. It is created if it does not exist yet.
+     */
+    public FileSystemEmbeddingCache(Path directory) {
+        this(builder().directory(directory));
+    }
+
+    @Override
+    public Embedding get(String key) {
+        Path file = file(key);
+        try {
+            if (timeToLive != null) {
+                Instant writtenAt = Files.getLastModifiedTime(file).toInstant();
+                if (!clock.instant().isBefore(writtenAt.plus(timeToLive))) {
+                    Files.deleteIfExists(file);
+                    return null;
+                }
+            }
+            return read(Files.readAllBytes(file));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to read cached embedding from '{}'", file, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String key, Embedding embedding) {
+        ensureNotNull(embedding, "embedding");
+        Path file = file(key);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temporaryFile = Files.createTempFile(file.getParent(), key, ".tmp");
+            try {
+                Files.write(temporaryFile, write(embedding));
+                Files.move(temporaryFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to cache embedding into '{}'", file, e);
+            return;
+        }
+        evictIfNeeded();
+    }
+
+    private synchronized void evictIfNeeded() {
+        if (size >= 0) {
+            size++; // an overwritten embedding is counted twice until the next sweep
+        }
+        boolean full = maxSize != null && (size < 0 || size > maxSize);
+        boolean due = timeToLive != null && (nextSweepAt == null || !clock.instant().isBefore(nextSweepAt));
+        if (full || due) {
+            sweep();
+        }
+    }
+
+    private void sweep() {
+        Instant now = clock.instant();
+        List<CachedFile> files = new ArrayList<>();
+        try (DirectoryStream<Path> subdirectories = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path subdirectory : subdirectories) {
+                try (DirectoryStream<Path> keyFiles = Files.newDirectoryStream(subdirectory,
+                        file -> VALID_KEY.matcher(file.getFileName().toString()).matches())) {
+                    for (Path file : keyFiles) {
+                        Instant writtenAt;
+                        try {
+                            writtenAt = Files.getLastModifiedTime(file).toInstant();
+                        } catch (NoSuchFileException e) {
+                            continue; // deleted concurrently
+                        }
+                        if (timeToLive != null && !now.isBefore(writtenAt.plus(timeToLive))) {
+                            Files.deleteIfExists(file);
+                        } else {
+                            files.add(new CachedFile(file, writtenAt));
+                        }
+                    }
+                }
+            }
+
+            if (maxSize != null && files.size() > maxSize) {
+                files.sort(Comparator.comparing(cachedFile -> cachedFile.writtenAt));
+                int toDelete = files.size() - (maxSize - maxSize / 10);
+                for (CachedFile cachedFile : files.subList(0, toDelete)) {
+                    Files.deleteIfExists(cachedFile.file);
+                }
+                files = files.subList(toDelete, files.size());
+            }
+            size = files.size();
+        } catch (IOException e) {
+            log.warn("Failed to evict cached embeddings from '{}'", directory, e);
+        }
+        if (timeToLive != null) {
+            nextSweepAt = now.plus(timeToLive);
+        }
+    }
+
+    private Path file(String key) {
+        if (key == null || !VALID_KEY.matcher(key).matches()) {
+            throw illegalArgument("Invalid key: '%s'. Only letters, digits and dashes are allowed", key);
+        }
+        return directory.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    private static byte[] write(Embedding embedding) {
+        float[] vector = embedding.vector();
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + vector.length * Float.BYTES);
+        buffer.putInt(vector.length);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    private static Embedding read(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int dimension = buffer.getInt();
+        if (dimension < 0 || buffer.remaining() != dimension * Float.BYTES) {
+            throw illegalArgument("Corrupted embedding of dimension %s and %s bytes", dimension, bytes.length);
+        }
+        float[] vector = new float[dimension];
+        buffer.asFloatBuffer().get(vector);
+        return Embedding.from(vector);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Path directory;
+        private Integer maxSize;
+        private Duration timeToLive;
+        private Clock clock;
+
+        /**
+         * @param directory The directory holding the cached embeddings. Mandatory.
+         *                  It is created if it does not exist yet.
+         * @return builder
+         */
+        public Builder directory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        /**
+         * @param directory The directory holding the cached embeddings. Mandatory.
+         *                  It is created if it does not exist yet.
+         * @return builder
+         */
+        public Builder directory(String directory) {
+            return directory(Paths.get(directory));
+        }
+
+        /**
+         * @param maxSize The maximum number of cached embeddings.
+         *                When it is exceeded, the least recently written embeddings are deleted.
+         *                If not provided, the number of cached embeddings is not limited.
+         * @return builder
+         */
+        public Builder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * @param timeToLive The time after which a cached embedding expires.
+         *                   If not provided, cached embeddings never expire.
+         * @return builder
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public FileSystemEmbeddingCache build() {
+            return new FileSystemEmbeddingCache(this);
+        }
+    }
+
+    private static class CachedFile {
+
+        private final Path file;
+        private final Instant writtenAt;
+
+        private CachedFile(Path file, Instant writtenAt) {
+            this.file = file;
+            this.writtenAt = writtenAt;
+        }
+    }
+}
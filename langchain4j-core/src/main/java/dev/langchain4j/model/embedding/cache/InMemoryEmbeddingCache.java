@@ -0,0 +1,130 @@
+package dev.langchain4j.model.embedding.cache;
+
+import dev.langchain4j.data.embedding.Embedding;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Implementation of {@link EmbeddingCache} that keeps the embeddings in-memory.
+ * <p>
+ * When the cache holds {@code maxSize} embeddings, the least recently used one is evicted to make room for a new one.
+ * Optionally, embeddings expire once {@code timeToLive} has elapsed since they were cached.
+ * <p>
+ * This storage mechanism is transient and does not persist data across application restarts.
+ */
+public class InMemoryEmbeddingCache implements EmbeddingCache {
+
+    static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final int maxSize;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final Map<String, CachedEmbedding> embeddings;
+
+    private InMemoryEmbeddingCache(Builder builder) {
+        this.maxSize = ensureGreaterThanZero(getOrDefault(builder.maxSize, DEFAULT_MAX_SIZE), "maxSize");
+        this.timeToLive = builder.timeToLive;
+        this.clock = getOrDefault(builder.clock, Clock::systemUTC);
+        this.embeddings = new LinkedHashMap<String, CachedEmbedding>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedEmbedding> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Constructs a new {@link InMemoryEmbeddingCache} holding up to {@value #DEFAULT_MAX_SIZE} embeddings,
+     * which never expire.
+     */
+    public InMemoryEmbeddingCache() {
+        this(builder());
+    }
+
+    @Override
+    public synchronized Embedding get(String key) {
+        CachedEmbedding cachedEmbedding = embeddings.get(key);
+        if (cachedEmbedding == null) {
+            return null;
+        }
+        if (cachedEmbedding.expiresAt != null && !clock.instant().isBefore(cachedEmbedding.expiresAt)) {
+            embeddings.remove(key);
+            return null;
+        }
+        return cachedEmbedding.embedding;
+    }
+
+    @Override
+    public synchronized void put(String key, Embedding embedding) {
+        ensureNotNull(embedding, "embedding");
+        Instant expiresAt = timeToLive == null ? null : clock.instant().plus(timeToLive);
+        embeddings.put(key, new CachedEmbedding(embedding, expiresAt));
+    }
+
+    /**
+     * @return the number of cached embeddings, including the expired ones that were not evicted yet.
+     */
+    public synchronized int size() {
+        return embeddings.size();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer maxSize;
+        private Duration timeToLive;
+        private Clock clock;
+
+        /**
+         * @param maxSize The maximum number of cached embeddings.
+         *                Default value: {@value InMemoryEmbeddingCache#DEFAULT_MAX_SIZE}.
+         * @return builder
+         */
+        public Builder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * @param timeToLive The time after which a cached embedding expires.
+         *                   If not provided, embeddings only leave the cache when they are evicted.
+         * @return builder
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public InMemoryEmbeddingCache build() {
+            return new InMemoryEmbeddingCache(this);
+        }
+    }
+
+    private static class CachedEmbedding {
+
+        private final Embedding embedding;
+        private final Instant expiresAt;
+
+        private CachedEmbedding(Embedding embedding, Instant expiresAt) {
+            this.embedding = embedding;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
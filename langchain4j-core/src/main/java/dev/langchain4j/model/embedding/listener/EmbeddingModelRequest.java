@@ -0,0 +1,41 @@
+package dev.langchain4j.model.embedding.listener;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.listener.ModelListener;
+import lombok.Builder;
+
+import java.util.List;
+
+import static dev.langchain4j.internal.Utils.copyIfNotNull;
+
+/**
+ * A request to the {@link EmbeddingModel}, intended to be used with {@link ModelListener}.
+ * <br>
+ * When the model splits the segments into several requests to the provider, one request is reported per batch.
+ */
+@Experimental
+public class EmbeddingModelRequest {
+
+    private final String model;
+    private final List<TextSegment> textSegments;
+
+    @Builder
+    public EmbeddingModelRequest(String model, List<TextSegment> textSegments) {
+        this.model = model;
+        this.textSegments = copyIfNotNull(textSegments);
+    }
+
+    public String model() {
+        return model;
+    }
+
+    public List<TextSegment> textSegments() {
+        return textSegments;
+    }
+
+    public int batchSize() {
+        return textSegments == null ? 0 : textSegments.size();
+    }
+}
@@ -0,0 +1,63 @@
+package dev.langchain4j.model.embedding.listener;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.listener.ModelListener;
+import dev.langchain4j.model.output.TokenUsage;
+import lombok.Builder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static dev.langchain4j.internal.Utils.copyIfNotNull;
+
+/**
+ * A response from the {@link EmbeddingModel}, intended to be used with {@link ModelListener}.
+ */
+@Experimental
+public class EmbeddingModelResponse {
+
+    private final String model;
+    private final List<Embedding> embeddings;
+    private final TokenUsage tokenUsage;
+    private final Duration duration;
+    private final Integer retries;
+
+    /**
+     * @param duration The wall-clock time from sending the request to receiving the response.
+     * @param retries  The number of times the request was retried, if known.
+     */
+    @Builder
+    public EmbeddingModelResponse(String model,
+                                  List<Embedding> embeddings,
+                                  TokenUsage tokenUsage,
+                                  Duration duration,
+                                  Integer retries) {
+        this.model = model;
+        this.embeddings = copyIfNotNull(embeddings);
+        this.tokenUsage = tokenUsage;
+        this.duration = duration;
+        this.retries = retries;
+    }
+
+    public String model() {
+        return model;
+    }
+
+    public List<Embedding> embeddings() {
+        return embeddings;
+    }
+
+    public TokenUsage tokenUsage() {
+        return tokenUsage;
+    }
+
+    public Duration duration() {
+        return duration;
+    }
+
+    public Integer retries() {
+        return retries;
+    }
+}
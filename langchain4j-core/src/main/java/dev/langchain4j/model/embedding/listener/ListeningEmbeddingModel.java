@@ -0,0 +1,106 @@
+package dev.langchain4j.model.embedding.listener;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.listener.ModelListener;
+import dev.langchain4j.model.output.Response;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.model.listener.ModelListeners.onError;
+import static dev.langchain4j.model.listener.ModelListeners.onRequest;
+import static dev.langchain4j.model.listener.ModelListeners.onResponse;
+
+/**
+ * An {@link EmbeddingModel} that notifies {@link ModelListener}s about every call to another {@link EmbeddingModel}.
+ * It works with any {@link EmbeddingModel}, including those that do not support listeners natively.
+ * <p>
+ * One request is reported per call to {@link #embedAll(List)}, with the wall-clock duration of the call.
+ */
+@Experimental
+public class ListeningEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel delegate;
+    private final String modelName;
+    private final List<ModelListener<EmbeddingModelRequest, EmbeddingModelResponse>> listeners;
+
+    private ListeningEmbeddingModel(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        this.modelName = builder.modelName;
+        this.listeners = builder.listeners == null ? new ArrayList<>() : new ArrayList<>(builder.listeners);
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        EmbeddingModelRequest request = EmbeddingModelRequest.builder()
+                .model(modelName)
+                .textSegments(textSegments)
+                .build();
+        onRequest(listeners, request);
+
+        long start = System.nanoTime();
+        try {
+            Response<List<Embedding>> response = delegate.embedAll(textSegments);
+
+            EmbeddingModelResponse modelListenerResponse = EmbeddingModelResponse.builder()
+                    .model(modelName)
+                    .embeddings(response.content())
+                    .tokenUsage(response.tokenUsage())
+                    .duration(Duration.ofNanos(System.nanoTime() - start))
+                    .build();
+            onResponse(listeners, modelListenerResponse, request);
+
+            return response;
+        } catch (RuntimeException e) {
+            onError(listeners, e, null, request);
+            throw e;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private EmbeddingModel delegate;
+        private String modelName;
+        private List<ModelListener<EmbeddingModelRequest, EmbeddingModelResponse>> listeners;
+
+        /**
+         * @param delegate The {@link EmbeddingModel} to observe. Mandatory.
+         * @return builder
+         */
+        public Builder delegate(EmbeddingModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param modelName The name of the model, reported to the listeners. Optional.
+         * @return builder
+         */
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        /**
+         * @param listeners The listeners to notify.
+         * @return builder
+         */
+        public Builder listeners(List<ModelListener<EmbeddingModelRequest, EmbeddingModelResponse>> listeners) {
+            this.listeners = listeners;
+            return this;
+        }
+
+        public ListeningEmbeddingModel build() {
+            return new ListeningEmbeddingModel(this);
+        }
+    }
+}
@@ -2,15 +2,24 @@ package dev.langchain4j.model.input;
 
 import dev.langchain4j.spi.prompt.PromptTemplateFactory;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 
+/**
+ * Creates templates that are parsed once into literal and variable segments,
+ * and rendered in a single pass.
+ * <p>
+ * Parsed templates are immutable but not cached:
+ * callers rendering the same template repeatedly should keep the {@link PromptTemplate} they created.
+ */
 class DefaultPromptTemplateFactory implements PromptTemplateFactory {
 
     @Override
@@ -22,51 +31,89 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
 
         private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\{\\{(.+?)}}");
 
-        private final String template;
-        private final Set<String> allVariables;
+        /**
+         * The text between the variables: {@code literals[i]} precedes the i-th variable occurrence,
+         * and the last literal follows the last one.
+         */
+        private final String[] literals;
+        /**
+         * For each variable occurrence, the index of the variable in {@link #variableNames}.
+         */
+        private final int[] occurrences;
+        private final String[] variableNames;
+        private final Map<String, Integer> variableIndexes;
+        private final int literalsLength;
 
         public DefaultTemplate(String template) {
-            this.template = ensureNotBlank(template, "template");
-            this.allVariables = extractVariables(template);
-        }
+            ensureNotBlank(template, "template");
 
-        private static Set<String> extractVariables(String template) {
-            Set<String> variables = new HashSet<>();
+            List<String> literals = new ArrayList<>();
+            List<Integer> occurrences = new ArrayList<>();
+            Map<String, Integer> variableIndexes = new LinkedHashMap<>();
+            int literalsLength = 0;
+            int literalStart = 0;
             Matcher matcher = VARIABLE_PATTERN.matcher(template);
             while (matcher.find()) {
-                variables.add(matcher.group(1));
+                String literal = template.substring(literalStart, matcher.start());
+                literals.add(literal);
+                literalsLength += literal.length();
+                String variable = matcher.group(1);
+                Integer index = variableIndexes.get(variable);
+                if (index == null) {
+                    index = variableIndexes.size();
+                    variableIndexes.put(variable, index);
+                }
+                occurrences.add(index);
+                literalStart = matcher.end();
             }
-            return variables;
+            String lastLiteral = template.substring(literalStart);
+            literals.add(lastLiteral);
+            literalsLength += lastLiteral.length();
+
+            this.literals = literals.toArray(new String[0]);
+            this.occurrences = occurrences.stream().mapToInt(Integer::intValue).toArray();
+            this.variableNames = variableIndexes.keySet().toArray(new String[0]);
+            this.variableIndexes = new HashMap<>(variableIndexes);
+            this.literalsLength = literalsLength;
         }
 
         public String render(Map<String, Object> variables) {
             ensureAllVariablesProvided(variables);
 
-            String result = template;
+            String[] values = new String[variableNames.length];
             for (Map.Entry<String, Object> entry : variables.entrySet()) {
-                result = replaceAll(result, entry.getKey(), entry.getValue());
+                String value = valueOf(entry.getKey(), entry.getValue());
+                Integer index = variableIndexes.get(entry.getKey());
+                if (index != null) {
+                    values[index] = value;
+                }
             }
 
-            return result;
+            int length = literalsLength;
+            for (int occurrence : occurrences) {
+                length += values[occurrence].length();
+            }
+            StringBuilder result = new StringBuilder(length);
+            for (int i = 0; i < occurrences.length; i++) {
+                result.append(literals[i]).append(values[occurrences[i]]);
+            }
+            return result.append(literals[occurrences.length]).toString();
         }
 
         private void ensureAllVariablesProvided(Map<String, Object> providedVariables) {
-            for (String variable : allVariables) {
+            for (String variable : variableNames) {
                 if (!providedVariables.containsKey(variable)) {
                     throw illegalArgument("Value for the variable '%s' is missing", variable);
                 }
             }
         }
 
-        private static String replaceAll(String template, String variable, Object value) {
-            if (value == null || value.toString() == null) {
+        private static String valueOf(String variable, Object value) {
+            String string = value == null ? null : value.toString();
+            if (string == null) {
                 throw illegalArgument("Value for the variable '%s' is null", variable);
             }
-            return template.replace(inDoubleCurlyBrackets(variable), value.toString());
-        }
-
-        private static String inDoubleCurlyBrackets(String variable) {
-            return "{{" + variable + "}}";
+            return string;
         }
     }
 }
@@ -0,0 +1,56 @@
+package dev.langchain4j.model.listener;
+
+import dev.langchain4j.Experimental;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Utility methods to notify {@link ModelListener}s.
+ * An exception thrown by a listener is logged and does not prevent other listeners from being notified.
+ */
+@Experimental
+public class ModelListeners {
+
+    private static final Logger log = LoggerFactory.getLogger(ModelListeners.class);
+
+    private ModelListeners() {
+    }
+
+    public static <Request, Response> void onRequest(List<? extends ModelListener<Request, Response>> listeners,
+                                                     Request request) {
+        for (ModelListener<Request, Response> listener : listeners) {
+            try {
+                listener.onRequest(request);
+            } catch (Exception e) {
+                log.warn("Exception while calling model listener", e);
+            }
+        }
+    }
+
+    public static <Request, Response> void onResponse(List<? extends ModelListener<Request, Response>> listeners,
+                                                      Response response,
+                                                      Request request) {
+        for (ModelListener<Request, Response> listener : listeners) {
+            try {
+                listener.onResponse(response, request);
+            } catch (Exception e) {
+                log.warn("Exception while calling model listener", e);
+            }
+        }
+    }
+
+    public static <Request, Response> void onError(List<? extends ModelListener<Request, Response>> listeners,
+                                                   Throwable error,
+                                                   Response response,
+                                                   Request request) {
+        for (ModelListener<Request, Response> listener : listeners) {
+            try {
+                listener.onError(error, response, request);
+            } catch (Exception e) {
+                log.warn("Exception while calling model listener", e);
+            }
+        }
+    }
+}
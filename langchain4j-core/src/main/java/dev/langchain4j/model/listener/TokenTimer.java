@@ -0,0 +1,60 @@
+package dev.langchain4j.model.listener;
+
+import dev.langchain4j.Experimental;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the timing of a streamed response:
+ * the time to the first token, the gaps between consecutive tokens and the total duration.
+ * <br>
+ * The timer starts when it is created, so it should be created right before the request is sent.
+ */
+@Experimental
+public class TokenTimer {
+
+    private final long startNanos;
+    private long firstTokenNanos = -1;
+    private long lastTokenNanos = -1;
+    private final List<Duration> interTokenGaps = new ArrayList<>();
+
+    public TokenTimer() {
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Records the arrival of a token.
+     */
+    public synchronized void onToken() {
+        long now = System.nanoTime();
+        if (firstTokenNanos < 0) {
+            firstTokenNanos = now;
+        } else {
+            interTokenGaps.add(Duration.ofNanos(now - lastTokenNanos));
+        }
+        lastTokenNanos = now;
+    }
+
+    /**
+     * @return The time from the creation of this timer to the first token, or {@code null} if no token arrived.
+     */
+    public synchronized Duration timeToFirstToken() {
+        return firstTokenNanos < 0 ? null : Duration.ofNanos(firstTokenNanos - startNanos);
+    }
+
+    /**
+     * @return The gaps between consecutive tokens, in order of arrival.
+     */
+    public synchronized List<Duration> interTokenGaps() {
+        return new ArrayList<>(interTokenGaps);
+    }
+
+    /**
+     * @return The time elapsed since the creation of this timer.
+     */
+    public Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+}
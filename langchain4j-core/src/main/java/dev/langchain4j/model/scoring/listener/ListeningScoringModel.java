@@ -0,0 +1,106 @@
+package dev.langchain4j.model.scoring.listener;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.listener.ModelListener;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.scoring.ScoringModel;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.model.listener.ModelListeners.onError;
+import static dev.langchain4j.model.listener.ModelListeners.onRequest;
+import static dev.langchain4j.model.listener.ModelListeners.onResponse;
+
+/**
+ * A {@link ScoringModel} that notifies {@link ModelListener}s about every call to another {@link ScoringModel}.
+ * It works with any {@link ScoringModel}, including those that do not support listeners natively.
+ * <p>
+ * One request is reported per call to {@link #scoreAll(List, String)}, with the wall-clock duration of the call.
+ */
+@Experimental
+public class ListeningScoringModel implements ScoringModel {
+
+    private final ScoringModel delegate;
+    private final String modelName;
+    private final List<ModelListener<ScoringModelRequest, ScoringModelResponse>> listeners;
+
+    private ListeningScoringModel(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        this.modelName = builder.modelName;
+        this.listeners = builder.listeners == null ? new ArrayList<>() : new ArrayList<>(builder.listeners);
+    }
+
+    @Override
+    public Response<List<Double>> scoreAll(List<TextSegment> segments, String query) {
+        ScoringModelRequest request = ScoringModelRequest.builder()
+                .model(modelName)
+                .segments(segments)
+                .query(query)
+                .build();
+        onRequest(listeners, request);
+
+        long start = System.nanoTime();
+        try {
+            Response<List<Double>> response = delegate.scoreAll(segments, query);
+
+            ScoringModelResponse modelListenerResponse = ScoringModelResponse.builder()
+                    .model(modelName)
+                    .scores(response.content())
+                    .tokenUsage(response.tokenUsage())
+                    .duration(Duration.ofNanos(System.nanoTime() - start))
+                    .build();
+            onResponse(listeners, modelListenerResponse, request);
+
+            return response;
+        } catch (RuntimeException e) {
+            onError(listeners, e, null, request);
+            throw e;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private ScoringModel delegate;
+        private String modelName;
+        private List<ModelListener<ScoringModelRequest, ScoringModelResponse>> listeners;
+
+        /**
+         * @param delegate The {@link ScoringModel} to observe. Mandatory.
+         * @return builder
+         */
+        public Builder delegate(ScoringModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param modelName The name of the model, reported to the listeners. Optional.
+         * @return builder
+         */
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        /**
+         * @param listeners The listeners to notify.
+         * @return builder
+         */
+        public Builder listeners(List<ModelListener<ScoringModelRequest, ScoringModelResponse>> listeners) {
+            this.listeners = listeners;
+            return this;
+        }
+
+        public ListeningScoringModel build() {
+            return new ListeningScoringModel(this);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package dev.langchain4j.model.scoring.listener;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.listener.ModelListener;
+import dev.langchain4j.model.scoring.ScoringModel;
+import lombok.Builder;
+
+import java.util.List;
+
+import static dev.langchain4j.internal.Utils.copyIfNotNull;
+
+/**
+ * A request to the {@link ScoringModel}, intended to be used with {@link ModelListener}.
+ */
+@Experimental
+public class ScoringModelRequest {
+
+    private final String model;
+    private final List<TextSegment> segments;
+    private final String query;
+
+    @Builder
+    public ScoringModelRequest(String model, List<TextSegment> segments, String query) {
+        this.model = model;
+        this.segments = copyIfNotNull(segments);
+        this.query = query;
+    }
+
+    public String model() {
+        return model;
+    }
+
+    public List<TextSegment> segments() {
+        return segments;
+    }
+
+    public String query() {
+        return query;
+    }
+
+    public int batchSize() {
+        return segments == null ? 0 : segments.size();
+    }
+}
@@ -0,0 +1,62 @@
+package dev.langchain4j.model.scoring.listener;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.model.listener.ModelListener;
+import dev.langchain4j.model.output.TokenUsage;
+import dev.langchain4j.model.scoring.ScoringModel;
+import lombok.Builder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static dev.langchain4j.internal.Utils.copyIfNotNull;
+
+/**
+ * A response from the {@link ScoringModel}, intended to be used with {@link ModelListener}.
+ */
+@Experimental
+public class ScoringModelResponse {
+
+    private final String model;
+    private final List<Double> scores;
+    private final TokenUsage tokenUsage;
+    private final Duration duration;
+    private final Integer retries;
+
+    /**
+     * @param duration The wall-clock time from sending the request to receiving the response.
+     * @param retries  The number of times the request was retried, if known.
+     */
+    @Builder
+    public ScoringModelResponse(String model,
+                                List<Double> scores,
+                                TokenUsage tokenUsage,
+                                Duration duration,
+                                Integer retries) {
+        this.model = model;
+        this.scores = copyIfNotNull(scores);
+        this.tokenUsage = tokenUsage;
+        this.duration = duration;
+        this.retries = retries;
+    }
+
+    public String model() {
+        return model;
+    }
+
+    public List<Double> scores() {
+        return scores;
+    }
+
+    public TokenUsage tokenUsage() {
+        return tokenUsage;
+    }
+
+    public Duration duration() {
+        return duration;
+    }
+
+    public Integer retries() {
+        return retries;
+    }
+}
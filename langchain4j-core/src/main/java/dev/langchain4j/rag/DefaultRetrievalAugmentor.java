@@ -18,6 +18,8 @@ import lombok.Builder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -25,9 +27,11 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Collections.emptyList;
 import static java.util.concurrent.CompletableFuture.allOf;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.stream.Collectors.*;
@@ -91,6 +95,10 @@ import static java.util.stream.Collectors.*;
  * <br>
  * By default, query routing and content retrieval are performed concurrently (for efficiency)
  * using {@link Executors#newCachedThreadPool()}, but you can provide a custom {@link Executor}.
+ * <br>
+ * <br>
+ * The duration of each stage, and of each retrieval by each {@link ContentRetriever},
+ * is reported to the configured {@link RetrievalAugmentorListener}s.
  *
  * @see DefaultQueryTransformer
  * @see DefaultQueryRouter
@@ -106,18 +114,29 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
     private final ContentAggregator contentAggregator;
     private final ContentInjector contentInjector;
     private final Executor executor;
+    private final List<RetrievalAugmentorListener> listeners;
 
-    @Builder
     public DefaultRetrievalAugmentor(QueryTransformer queryTransformer,
                                      QueryRouter queryRouter,
                                      ContentAggregator contentAggregator,
                                      ContentInjector contentInjector,
                                      Executor executor) {
+        this(queryTransformer, queryRouter, contentAggregator, contentInjector, executor, null);
+    }
+
+    @Builder
+    public DefaultRetrievalAugmentor(QueryTransformer queryTransformer,
+                                     QueryRouter queryRouter,
+                                     ContentAggregator contentAggregator,
+                                     ContentInjector contentInjector,
+                                     Executor executor,
+                                     List<RetrievalAugmentorListener> listeners) {
         this.queryTransformer = getOrDefault(queryTransformer, DefaultQueryTransformer::new);
         this.queryRouter = ensureNotNull(queryRouter, "queryRouter");
         this.contentAggregator = getOrDefault(contentAggregator, DefaultContentAggregator::new);
         this.contentInjector = getOrDefault(contentInjector, DefaultContentInjector::new);
         this.executor = getOrDefault(executor, Executors::newCachedThreadPool);
+        this.listeners = listeners == null ? emptyList() : new ArrayList<>(listeners);
     }
 
     /**
@@ -133,39 +152,59 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
     @Override
     public AugmentationResult augment(AugmentationRequest augmentationRequest) {
 
+        long augmentationStart = System.nanoTime();
+
         ChatMessage chatMessage = augmentationRequest.chatMessage();
         Metadata metadata = augmentationRequest.metadata();
 
         Query originalQuery = Query.from(chatMessage.text(), metadata);
 
+        long transformationStart = System.nanoTime();
         Collection<Query> queries = queryTransformer.transform(originalQuery);
+        Duration transformationDuration = since(transformationStart);
         logQueries(originalQuery, queries);
+        notifyListeners(listener -> listener.onQueryTransformed(originalQuery, queries, transformationDuration));
 
         Map<Query, CompletableFuture<Collection<List<Content>>>> queryToFutureContents = new ConcurrentHashMap<>();
         queries.forEach(query -> {
             CompletableFuture<Collection<List<Content>>> futureContents =
-                    supplyAsync(() -> {
-                                Collection<ContentRetriever> retrievers = queryRouter.route(query);
-                                log(query, retrievers);
-                                return retrievers;
-                            },
-                            executor
-                    ).thenCompose(retrievers -> retrieveFromAll(retrievers, query));
+                    supplyAsync(() -> route(query), executor)
+                            .thenCompose(retrievers -> retrieveFromAll(retrievers, query));
             queryToFutureContents.put(query, futureContents);
         });
 
         Map<Query, Collection<List<Content>>> queryToContents = join(queryToFutureContents);
 
+        long aggregationStart = System.nanoTime();
         List<Content> contents = contentAggregator.aggregate(queryToContents);
+        Duration aggregationDuration = since(aggregationStart);
         log(queryToContents, contents);
+        notifyListeners(listener -> listener.onContentAggregated(queryToContents, contents, aggregationDuration));
 
+        long injectionStart = System.nanoTime();
         ChatMessage augmentedChatMessage = contentInjector.inject(contents, chatMessage);
+        Duration injectionDuration = since(injectionStart);
         log(augmentedChatMessage);
+        notifyListeners(listener -> listener.onContentInjected(contents, augmentedChatMessage, injectionDuration));
 
-        return AugmentationResult.builder()
+        AugmentationResult augmentationResult = AugmentationResult.builder()
                 .chatMessage(augmentedChatMessage)
                 .contents(contents)
                 .build();
+
+        Duration augmentationDuration = since(augmentationStart);
+        notifyListeners(listener -> listener.onAugmented(augmentationRequest, augmentationResult, augmentationDuration));
+
+        return augmentationResult;
+    }
+
+    private Collection<ContentRetriever> route(Query query) {
+        long start = System.nanoTime();
+        Collection<ContentRetriever> retrievers = queryRouter.route(query);
+        Duration duration = since(start);
+        log(query, retrievers);
+        notifyListeners(listener -> listener.onQueryRouted(query, retrievers, duration));
+        return retrievers;
     }
 
     private CompletableFuture<Collection<List<Content>>> retrieveFromAll(Collection<ContentRetriever> retrievers,
@@ -182,12 +221,36 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
                 );
     }
 
-    private static List<Content> retrieve(ContentRetriever retriever, Query query) {
-        List<Content> contents = retriever.retrieve(query);
+    private List<Content> retrieve(ContentRetriever retriever, Query query) {
+        long start = System.nanoTime();
+        List<Content> contents;
+        try {
+            contents = retriever.retrieve(query);
+        } catch (RuntimeException e) {
+            Duration duration = since(start);
+            notifyListeners(listener -> listener.onContentRetrievalError(query, retriever, e, duration));
+            throw e;
+        }
+        Duration duration = since(start);
         log(query, retriever, contents);
+        notifyListeners(listener -> listener.onContentRetrieved(query, retriever, contents, duration));
         return contents;
     }
 
+    private void notifyListeners(Consumer<RetrievalAugmentorListener> notification) {
+        for (RetrievalAugmentorListener listener : listeners) {
+            try {
+                notification.accept(listener);
+            } catch (Exception e) {
+                log.warn("Exception while calling retrieval augmentor listener", e);
+            }
+        }
+    }
+
+    private static Duration since(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
     private static Map<Query, Collection<List<Content>>> join(
             Map<Query, CompletableFuture<Collection<List<Content>>>> queryToFutureContents) {
         return allOf(queryToFutureContents.values().toArray(new CompletableFuture[0]))
@@ -201,6 +264,9 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
     }
 
     private static void logQueries(Query originalQuery, Collection<Query> queries) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
         if (queries.size() == 1) {
             Query transformedQuery = queries.iterator().next();
             if (!transformedQuery.equals(originalQuery)) {
@@ -217,26 +283,27 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
     }
 
     private static void log(Query query, Collection<ContentRetriever> retrievers) {
-        // TODO use retriever id
+        if (!log.isDebugEnabled()) {
+            return;
+        }
         if (retrievers.size() == 1) {
             log.debug("Routing query '{}' to the following retriever: {}",
-                    query.text(), retrievers.iterator().next());
+                    query.text(), retrievers.iterator().next().id());
         } else {
             log.debug("Routing query '{}' to the following retrievers:\n{}",
                     query.text(), retrievers.stream()
-                            .map(retriever -> "- " + retriever.toString())
+                            .map(retriever -> "- " + retriever.id())
                             .collect(joining("\n")));
         }
     }
 
     private static void log(Query query, ContentRetriever retriever, List<Content> contents) {
-        // TODO use retriever id
         log.debug("Retrieved {} contents using query '{}' and retriever '{}'",
-                contents.size(), query.text(), retriever);
+                contents.size(), query.text(), retriever.id());
 
-        if (contents.size() > 0) {
+        if (contents.size() > 0 && log.isTraceEnabled()) {
             log.trace("Retrieved {} contents using query '{}' and retriever '{}':\n{}",
-                    contents.size(), query.text(), retriever, contents.stream()
+                    contents.size(), query.text(), retriever.id(), contents.stream()
                             .map(Content::textSegment)
                             .map(segment -> "- " + escapeNewlines(segment.text()))
                             .collect(joining("\n")));
@@ -244,6 +311,9 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
     }
 
     private static void log(Map<Query, Collection<List<Content>>> queryToContents, List<Content> contents) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
 
         int contentCount = 0;
         for (Map.Entry<Query, Collection<List<Content>>> entry : queryToContents.entrySet()) {
@@ -257,6 +327,9 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
 
         log.debug("Aggregated {} content(s) into {}", contentCount, contents.size());
 
+        if (!log.isTraceEnabled()) {
+            return;
+        }
         log.trace("Aggregated {} content(s) into:\n{}",
                 contentCount, contents.stream()
                         .map(Content::textSegment)
@@ -265,7 +338,9 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
     }
 
     private static void log(ChatMessage augmentedChatMessage) {
-        log.trace("Augmented chat message: {}", escapeNewlines(augmentedChatMessage.text()));
+        if (log.isTraceEnabled()) {
+            log.trace("Augmented chat message: {}", escapeNewlines(augmentedChatMessage.text()));
+        }
     }
 
     private static String escapeNewlines(String text) {
@@ -0,0 +1,109 @@
+package dev.langchain4j.rag;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.aggregator.ContentAggregator;
+import dev.langchain4j.rag.content.injector.ContentInjector;
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.query.Query;
+import dev.langchain4j.rag.query.router.QueryRouter;
+import dev.langchain4j.rag.query.transformer.QueryTransformer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Listens for the stages of an augmentation performed by the {@link DefaultRetrievalAugmentor},
+ * each reported with its wall-clock duration.
+ * <br>
+ * Query routing and content retrieval are performed concurrently,
+ * so the corresponding methods can be called from several threads at the same time.
+ * Use {@link ContentRetriever#id()} to tell apart the retrievers.
+ */
+@Experimental
+public interface RetrievalAugmentorListener {
+
+    /**
+     * Called after the {@link QueryTransformer} has transformed the original query.
+     *
+     * @param originalQuery The original query.
+     * @param queries       The transformed queries.
+     * @param duration      The duration of the transformation.
+     */
+    default void onQueryTransformed(Query originalQuery, Collection<Query> queries, Duration duration) {
+
+    }
+
+    /**
+     * Called after the {@link QueryRouter} has routed a query.
+     *
+     * @param query      The query.
+     * @param retrievers The retrievers the query has been routed to.
+     * @param duration   The duration of the routing.
+     */
+    default void onQueryRouted(Query query, Collection<ContentRetriever> retrievers, Duration duration) {
+
+    }
+
+    /**
+     * Called after a {@link ContentRetriever} has retrieved contents for a query.
+     *
+     * @param query     The query.
+     * @param retriever The retriever.
+     * @param contents  The retrieved contents.
+     * @param duration  The duration of the retrieval.
+     */
+    default void onContentRetrieved(Query query, ContentRetriever retriever, List<Content> contents, Duration duration) {
+
+    }
+
+    /**
+     * Called when a {@link ContentRetriever} has failed to retrieve contents for a query.
+     *
+     * @param query     The query.
+     * @param retriever The retriever.
+     * @param error     The error that occurred.
+     * @param duration  The time until the error occurred.
+     */
+    default void onContentRetrievalError(Query query, ContentRetriever retriever, Throwable error, Duration duration) {
+
+    }
+
+    /**
+     * Called after the {@link ContentAggregator} has aggregated the retrieved contents.
+     *
+     * @param queryToContents The contents retrieved for each query, by each retriever.
+     * @param contents        The aggregated contents.
+     * @param duration        The duration of the aggregation.
+     */
+    default void onContentAggregated(Map<Query, Collection<List<Content>>> queryToContents,
+                                     List<Content> contents,
+                                     Duration duration) {
+
+    }
+
+    /**
+     * Called after the {@link ContentInjector} has injected the contents into the chat message.
+     *
+     * @param contents             The injected contents.
+     * @param augmentedChatMessage The augmented chat message.
+     * @param duration             The duration of the injection.
+     */
+    default void onContentInjected(List<Content> contents, ChatMessage augmentedChatMessage, Duration duration) {
+
+    }
+
+    /**
+     * Called after the whole augmentation has completed.
+     *
+     * @param request  The augmentation request.
+     * @param result   The augmentation result.
+     * @param duration The total duration of the augmentation, including all the stages above.
+     */
+    default void onAugmented(AugmentationRequest request, AugmentationResult result, Duration duration) {
+
+    }
+}
@@ -35,4 +35,15 @@ public interface ContentRetriever {
      * @return A list of retrieved {@link Content}s.
      */
     List<Content> retrieve(Query query);
+
+    /**
+     * Returns the ID of this retriever, used in logs and reported to listeners
+     * (e.g. {@link dev.langchain4j.rag.RetrievalAugmentorListener}).
+     * It helps to tell apart several retrievers used by the same application.
+     *
+     * @return The ID of this retriever. By default, the simple name of its class.
+     */
+    default String id() {
+        return getClass().getSimpleName();
+    }
 }
@@ -50,6 +50,8 @@ import static java.util.stream.Collectors.toList;
  * - {@code dynamicFilter}: It is a {@link Function} that accepts a {@link Query} and returns a {@code filter} value.
  * It can be used to dynamically define {@code filter} value, depending on factors such as the query,
  * the user (using Metadata#chatMemoryId()} from {@link Query#metadata()}), etc.
+ * <br>
+ * - {@code id}: The ID of this retriever (see {@link ContentRetriever#id()}).
  */
 public class EmbeddingStoreContentRetriever implements ContentRetriever {
 
@@ -64,6 +66,8 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
     private final Function<Query, Double> minScoreProvider;
     private final Function<Query, Filter> filterProvider;
 
+    private final String id;
+
     public EmbeddingStoreContentRetriever(EmbeddingStore<TextSegment> embeddingStore,
                                           EmbeddingModel embeddingModel) {
         this(
@@ -71,7 +75,8 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
                 embeddingModel,
                 DEFAULT_MAX_RESULTS,
                 DEFAULT_MIN_SCORE,
-                DEFAULT_FILTER
+                DEFAULT_FILTER,
+                null
         );
     }
 
@@ -83,7 +88,8 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
                 embeddingModel,
                 (query) -> maxResults,
                 DEFAULT_MIN_SCORE,
-                DEFAULT_FILTER
+                DEFAULT_FILTER,
+                null
         );
     }
 
@@ -96,7 +102,8 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
                 embeddingModel,
                 (query) -> maxResults,
                 (query) -> minScore,
-                DEFAULT_FILTER
+                DEFAULT_FILTER,
+                null
         );
     }
 
@@ -105,7 +112,8 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
                                            EmbeddingModel embeddingModel,
                                            Function<Query, Integer> dynamicMaxResults,
                                            Function<Query, Double> dynamicMinScore,
-                                           Function<Query, Filter> dynamicFilter) {
+                                           Function<Query, Filter> dynamicFilter,
+                                           String id) {
         this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
         this.embeddingModel = ensureNotNull(
                 getOrDefault(embeddingModel, EmbeddingStoreContentRetriever::loadEmbeddingModel),
@@ -114,6 +122,7 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
         this.maxResultsProvider = getOrDefault(dynamicMaxResults, DEFAULT_MAX_RESULTS);
         this.minScoreProvider = getOrDefault(dynamicMinScore, DEFAULT_MIN_SCORE);
         this.filterProvider = getOrDefault(dynamicFilter, DEFAULT_FILTER);
+        this.id = getOrDefault(id, getClass().getSimpleName());
     }
 
     private static EmbeddingModel loadEmbeddingModel() {
@@ -162,6 +171,11 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
         return builder().embeddingStore(embeddingStore).build();
     }
 
+    @Override
+    public String id() {
+        return id;
+    }
+
     @Override
     public List<Content> retrieve(Query query) {
 
@@ -58,6 +58,19 @@ public interface EmbeddingStore<Embedded> {
      */
     List<String> addAll(List<Embedding> embeddings, List<Embedded> embedded);
 
+    /**
+     * Adds multiple embeddings and their corresponding contents that have been embedded to the store,
+     * using the specified IDs.
+     *
+     * @param ids        A list of unique IDs for the embeddings to be added.
+     * @param embeddings A list of embeddings to be added to the store.
+     * @param embedded   A list of original contents that were embedded.
+     */
+    @Experimental
+    default void addAll(List<String> ids, List<Embedding> embeddings, List<Embedded> embedded) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
     /**
      * Removes a single embedding from the store by ID.
      *
@@ -3,6 +3,7 @@ package dev.langchain4j.store.embedding;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.DocumentTransformer;
+import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.data.segment.TextSegmentTransformer;
@@ -11,14 +12,38 @@ import dev.langchain4j.spi.data.document.splitter.DocumentSplitterFactory;
 import dev.langchain4j.spi.model.embedding.EmbeddingModelFactory;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.generateUUIDFrom;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.Utils.newDaemonCachedThreadPool;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.Comparator.comparingInt;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -46,15 +71,56 @@ import static java.util.stream.Collectors.toList;
  * <br>
  * Including a document title or a short summary in each {@code TextSegment} is a common technique
  * to improve the quality of similarity searches.
+ * <br>
+ * <br>
+ * By default, all documents are transformed, split and embedded in one go, and all segments are stored
+ * with a single call to the {@code EmbeddingStore}.
+ * When a batch size, a maximum number of in-flight batches or an {@link Executor} is specified,
+ * or when documents are provided as a {@link Stream} or an {@link Iterator},
+ * the {@code EmbeddingStoreIngestor} works as a pipeline instead:
+ * documents are transformed and split one by one on the calling thread,
+ * the resulting segments are grouped into batches of {@code batchSize},
+ * and each batch is embedded and stored by a task running on the {@code executor}.
+ * At most {@code maxInFlightBatches} batches are embedded or stored at the same time;
+ * when this limit is reached, the calling thread waits before splitting further documents.
+ * This way, splitting, embedding and storing overlap, and only a bounded number of segments
+ * and embeddings is kept in memory.
+ * Batches can be stored in a different order than the one in which documents were provided,
+ * and the {@code EmbeddingStore} must support concurrent calls to {@link EmbeddingStore#addAll(List, List)}
+ * when {@code maxInFlightBatches} is greater than 1.
+ * When no {@code executor} is specified, a cached thread pool of daemon threads is created on first use;
+ * it can be shut down with {@link #close()}.
+ * <br>
+ * <br>
+ * When an {@link IngestionRecordStore} is specified, documents are ingested incrementally,
+ * so that re-ingesting a mostly unchanged corpus only embeds and stores what has changed.
+ * Each segment is stored under an ID derived from a hash of its text and metadata
+ * (which includes the source of the document and the position of the segment within it).
+ * For each document, identified by a stable key (by default, its URL or file path),
+ * the IDs of the stored segments are recorded.
+ * When the document is ingested again, segments whose IDs are already recorded are skipped,
+ * and, once its new segments are stored, recorded segments that are no longer produced by the document
+ * are removed from the {@code EmbeddingStore}.
+ * A document without a key cannot be ingested incrementally.
  */
 @Slf4j
-public class EmbeddingStoreIngestor {
+public class EmbeddingStoreIngestor implements AutoCloseable {
+
+    static final int DEFAULT_BATCH_SIZE = 64;
+    static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 4;
 
     private final DocumentTransformer documentTransformer;
     private final DocumentSplitter documentSplitter;
     private final TextSegmentTransformer textSegmentTransformer;
     private final EmbeddingModel embeddingModel;
     private final EmbeddingStore<TextSegment> embeddingStore;
+    private final boolean pipelined;
+    private final int batchSize;
+    private final int maxInFlightBatches;
+    private final Executor executor;
+    private ExecutorService defaultExecutor;
+    private final IngestionRecordStore ingestionRecordStore;
+    private final Function<Document, String> documentKeyProvider;
 
     /**
      * Creates an instance of an {@code EmbeddingStoreIngestor}.
@@ -72,6 +138,48 @@ public class EmbeddingStoreIngestor {
                                   TextSegmentTransformer textSegmentTransformer,
                                   EmbeddingModel embeddingModel,
                                   EmbeddingStore<TextSegment> embeddingStore) {
+        this(documentTransformer, documentSplitter, textSegmentTransformer, embeddingModel, embeddingStore,
+                null, null, null, null, null);
+    }
+
+    /**
+     * Creates an instance of an {@code EmbeddingStoreIngestor}.
+     * <br>
+     * When at least one of {@code batchSize}, {@code maxInFlightBatches}, {@code executor}
+     * and {@code ingestionRecordStore} is specified,
+     * documents are ingested in a pipelined way (see {@link EmbeddingStoreIngestor}).
+     * When {@code ingestionRecordStore} is specified, documents are ingested incrementally.
+     *
+     * @param documentTransformer    The {@link DocumentTransformer} to use. Optional.
+     * @param documentSplitter       The {@link DocumentSplitter} to use. Optional.
+     *                               If none is specified, it tries to load one through SPI (see {@link DocumentSplitterFactory}).
+     * @param textSegmentTransformer The {@link TextSegmentTransformer} to use. Optional.
+     * @param embeddingModel         The {@link EmbeddingModel} to use. Mandatory.
+     *                               If none is specified, it tries to load one through SPI (see {@link EmbeddingModelFactory}).
+     * @param embeddingStore         The {@link EmbeddingStore} to use. Mandatory.
+     * @param batchSize              The maximum number of segments embedded and stored together. Optional.
+     *                               Default: {@value #DEFAULT_BATCH_SIZE}.
+     * @param maxInFlightBatches     The maximum number of batches embedded or stored at the same time. Optional.
+     *                               Default: {@value #DEFAULT_MAX_IN_FLIGHT_BATCHES}.
+     * @param executor               The {@link Executor} embedding and storing batches. Optional.
+     *                               Default: a cached thread pool of daemon threads, shut down by {@link #close()}.
+     * @param ingestionRecordStore   The {@link IngestionRecordStore} enabling incremental ingestion. Optional.
+     *                               The {@code embeddingStore} must then implement
+     *                               {@link EmbeddingStore#addAll(List, List, List)}
+     *                               and {@link EmbeddingStore#removeAll(Collection)}.
+     * @param documentKeyProvider    The function providing the stable key of a document during incremental ingestion.
+     *                               Optional. Default: the URL or the file path of the document.
+     */
+    public EmbeddingStoreIngestor(DocumentTransformer documentTransformer,
+                                  DocumentSplitter documentSplitter,
+                                  TextSegmentTransformer textSegmentTransformer,
+                                  EmbeddingModel embeddingModel,
+                                  EmbeddingStore<TextSegment> embeddingStore,
+                                  Integer batchSize,
+                                  Integer maxInFlightBatches,
+                                  Executor executor,
+                                  IngestionRecordStore ingestionRecordStore,
+                                  Function<Document, String> documentKeyProvider) {
         this.documentTransformer = documentTransformer;
         this.documentSplitter = getOrDefault(documentSplitter, EmbeddingStoreIngestor::loadDocumentSplitter);
         this.textSegmentTransformer = textSegmentTransformer;
@@ -80,6 +188,31 @@ public class EmbeddingStoreIngestor {
                 "embeddingModel"
         );
         this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
+        if (ingestionRecordStore != null
+                && !(overrides(embeddingStore, "addAll", List.class, List.class, List.class)
+                && overrides(embeddingStore, "removeAll", Collection.class))) {
+            throw illegalArgument("Incremental ingestion requires an embedding store implementing " +
+                    "addAll(List, List, List) and removeAll(Collection), but %s does not",
+                    embeddingStore.getClass().getName());
+        }
+        this.ingestionRecordStore = ingestionRecordStore;
+        this.documentKeyProvider = getOrDefault(documentKeyProvider, EmbeddingStoreIngestor::documentKey);
+        this.pipelined = batchSize != null || maxInFlightBatches != null || executor != null
+                || ingestionRecordStore != null;
+        this.batchSize = ensureGreaterThanZero(getOrDefault(batchSize, DEFAULT_BATCH_SIZE), "batchSize");
+        this.maxInFlightBatches = ensureGreaterThanZero(
+                getOrDefault(maxInFlightBatches, DEFAULT_MAX_IN_FLIGHT_BATCHES),
+                "maxInFlightBatches"
+        );
+        this.executor = executor;
+    }
+
+    private static boolean overrides(EmbeddingStore<?> store, String methodName, Class<?>... parameterTypes) {
+        try {
+            return store.getClass().getMethod(methodName, parameterTypes).getDeclaringClass() != EmbeddingStore.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
     }
 
     private static DocumentSplitter loadDocumentSplitter() {
@@ -170,6 +303,11 @@ public class EmbeddingStoreIngestor {
 
         log.debug("Starting to ingest {} documents", documents.size());
 
+        if (pipelined) {
+            ingestPipelined(documents.iterator(), true, null);
+            return;
+        }
+
         if (documentTransformer != null) {
             documents = documentTransformer.transformAll(documents);
             log.debug("Documents were transformed into {} documents", documents.size());
@@ -188,15 +326,412 @@ public class EmbeddingStoreIngestor {
             log.debug("Text segments were transformed into {} text segments", documents.size());
         }
 
-        // TODO handle failures, parallelize
+        embedAndStore(segments, null);
+    }
+
+    /**
+     * Ingests documents from the specified stream into an {@link EmbeddingStore} that was specified
+     * during the creation of this {@code EmbeddingStoreIngestor}.
+     * <br>
+     * Documents are consumed lazily and ingested in a pipelined way (see {@link EmbeddingStoreIngestor}),
+     * so that only a bounded number of documents, segments and embeddings is kept in memory at any time.
+     * A batch that fails to be embedded or stored does not stop the ingestion,
+     * its failure is reported in the returned {@link IngestionResult}.
+     * The IDs of the stored segments are not retained, use {@link #ingest(Iterator, Consumer)} to receive them.
+     * <br>
+     * The stream is not closed by this method.
+     *
+     * @param documents the documents to ingest.
+     * @return the counts and the failed batches of the ingestion.
+     */
+    public IngestionResult ingest(Stream<Document> documents) {
+        return ingest(documents.iterator());
+    }
+
+    /**
+     * Ingests documents from the specified iterator into an {@link EmbeddingStore} that was specified
+     * during the creation of this {@code EmbeddingStoreIngestor}.
+     * <br>
+     * Documents are consumed lazily and ingested in a pipelined way (see {@link EmbeddingStoreIngestor}),
+     * so that only a bounded number of documents, segments and embeddings is kept in memory at any time.
+     * A batch that fails to be embedded or stored does not stop the ingestion,
+     * its failure is reported in the returned {@link IngestionResult}.
+     * The IDs of the stored segments are not retained, use {@link #ingest(Iterator, Consumer)} to receive them.
+     *
+     * @param documents the documents to ingest.
+     * @return the counts and the failed batches of the ingestion.
+     */
+    public IngestionResult ingest(Iterator<Document> documents) {
+        return ingest(documents, null);
+    }
+
+    /**
+     * Ingests documents from the specified iterator into an {@link EmbeddingStore} that was specified
+     * during the creation of this {@code EmbeddingStoreIngestor}, reporting progress after each batch.
+     * <br>
+     * Documents are consumed lazily and ingested in a pipelined way (see {@link EmbeddingStoreIngestor}),
+     * so that only a bounded number of documents, segments and embeddings is kept in memory at any time.
+     * A batch that fails to be embedded or stored does not stop the ingestion,
+     * its failure is reported to the {@code batchListener} and in the returned {@link IngestionResult}.
+     * The IDs of the stored segments are only reported to the {@code batchListener}.
+     *
+     * @param documents     the documents to ingest.
+     * @param batchListener notified with the result of each batch as soon as it is stored or has failed. Optional.
+     *                      It is called from the threads of the {@code executor}, possibly concurrently.
+     * @return the counts and the failed batches of the ingestion.
+     */
+    public IngestionResult ingest(Iterator<Document> documents, Consumer<IngestionBatchResult> batchListener) {
+        log.debug("Starting to ingest documents from an iterator");
+        return ingestPipelined(documents, false, batchListener);
+    }
+
+    /**
+     * @return the executor embedding and storing batches, creating the default one if needed.
+     */
+    private synchronized Executor executor() {
+        if (executor != null) {
+            return executor;
+        }
+        if (defaultExecutor == null) {
+            defaultExecutor = newDaemonCachedThreadPool("langchain4j-ingestion");
+        }
+        return defaultExecutor;
+    }
+
+    /**
+     * Shuts down the thread pool that was created when no {@code executor} was specified, if any.
+     * Batches that are being embedded or stored are completed.
+     * An {@link Executor} that was specified is left untouched.
+     * <br>
+     * The {@code EmbeddingStoreIngestor} can still be used afterward, a new thread pool is then created.
+     */
+    @Override
+    public synchronized void close() {
+        if (defaultExecutor != null) {
+            defaultExecutor.shutdown();
+            defaultExecutor = null;
+        }
+    }
+
+    private IngestionResult ingestPipelined(Iterator<Document> documents,
+                                            boolean stopOnFailure,
+                                            Consumer<IngestionBatchResult> batchListener) {
+
+        Pipeline pipeline = new Pipeline(stopOnFailure, batchListener);
+
+        int documentCount = 0;
+        try {
+            while (pipeline.failure.get() == null && documents.hasNext()) {
+                Document document = documents.next();
+                documentCount++;
+                if (ingestionRecordStore == null) {
+                    pipeline.add(toTextSegments(document), null, null);
+                } else {
+                    ingestIncrementally(document, pipeline);
+                }
+            }
+            if (pipeline.failure.get() == null) {
+                pipeline.flush();
+            }
+        } catch (RuntimeException | Error e) {
+            pipeline.fail(e);
+        }
+
+        // wait until all submitted batches are embedded and stored
+        pipeline.inFlightBatches.acquireUninterruptibly(maxInFlightBatches);
+
+        Throwable throwable = pipeline.failure.get();
+        if (throwable instanceof RuntimeException) {
+            throw (RuntimeException) throwable;
+        } else if (throwable instanceof Error) {
+            throw (Error) throwable;
+        } else if (throwable != null) {
+            throw new RuntimeException(throwable);
+        }
+
+        List<IngestionBatchResult> failedBatches = new ArrayList<>(pipeline.failedBatches);
+        failedBatches.sort(comparingInt(IngestionBatchResult::index));
+        int batchCount = pipeline.batchCount.get();
+        log.debug("Finished ingesting {} documents in {} batches", documentCount, batchCount);
+        return new IngestionResult(documentCount, batchCount, pipeline.storedSegmentCount.get(), failedBatches);
+    }
+
+    private void ingestIncrementally(Document document, Pipeline pipeline) {
+
+        String documentKey = documentKeyProvider.apply(document);
+        if (isNullOrBlank(documentKey)) {
+            throw illegalArgument("Cannot ingest incrementally a document without a key " +
+                    "(neither '%s' nor '%s' metadata is present), please specify a document key provider: %s",
+                    Document.URL, Document.FILE_NAME, document);
+        }
+        Map<String, TextSegment> segmentsById = new LinkedHashMap<>();
+        for (TextSegment segment : toTextSegments(document)) {
+            segmentsById.putIfAbsent(segmentId(segment), segment);
+        }
+
+        Set<String> storedSegmentIds = ingestionRecordStore.getSegmentIds(documentKey);
+        if (storedSegmentIds.equals(segmentsById.keySet())) {
+            log.debug("Skipping unchanged document '{}'", documentKey);
+            return;
+        }
+
+        // stale segments are removed only once the new ones are stored, see DocumentRecord
+        List<String> staleSegmentIds = storedSegmentIds.stream()
+                .filter(id -> !segmentsById.containsKey(id))
+                .collect(toList());
+
+        List<String> newSegmentIds = new ArrayList<>();
+        List<TextSegment> newSegments = new ArrayList<>();
+        segmentsById.forEach((id, segment) -> {
+            if (!storedSegmentIds.contains(id)) {
+                newSegmentIds.add(id);
+                newSegments.add(segment);
+            }
+        });
+        log.debug("Document '{}' has {} new text segments", documentKey, newSegments.size());
+
+        DocumentRecord record = new DocumentRecord(
+                documentKey, new LinkedHashSet<>(segmentsById.keySet()), staleSegmentIds);
+        pipeline.add(newSegments, newSegmentIds, record);
+        record.release(true);
+    }
+
+    /**
+     * @return the key identifying the source of the document: its URL, its file path,
+     * or {@code null} if neither is known.
+     */
+    static String documentKey(Document document) {
+        Metadata metadata = document.metadata();
+        if (metadata.containsKey(Document.URL)) {
+            return metadata.getString(Document.URL);
+        }
+        if (metadata.containsKey(Document.FILE_NAME)) {
+            String directory = metadata.containsKey(Document.ABSOLUTE_DIRECTORY_PATH)
+                    ? metadata.getString(Document.ABSOLUTE_DIRECTORY_PATH) + "/"
+                    : "";
+            return directory + metadata.getString(Document.FILE_NAME);
+        }
+        return null;
+    }
+
+    /**
+     * @return a deterministic ID derived from the text and the metadata (including the source and the position
+     * of the segment within its document) of the segment.
+     */
+    static String segmentId(TextSegment segment) {
+        return generateUUIDFrom(segment.text() + "\u0000" + new TreeMap<>(segment.metadata().toMap()));
+    }
+
+    private List<TextSegment> toTextSegments(Document document) {
+        if (documentTransformer != null) {
+            document = documentTransformer.transform(document);
+            if (document == null) {
+                return emptyList();
+            }
+        }
+        List<TextSegment> segments = documentSplitter != null
+                ? documentSplitter.split(document)
+                : singletonList(document.toTextSegment());
+        if (textSegmentTransformer != null) {
+            segments = textSegmentTransformer.transformAll(segments);
+        }
+        return segments;
+    }
+
+    private List<String> embedAndStore(List<TextSegment> segments, List<String> ids) {
+
         log.debug("Starting to embed {} text segments", segments.size());
         List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
         log.debug("Finished embedding {} text segments", segments.size());
 
-        // TODO handle failures, parallelize
         log.debug("Starting to store {} text segments into the embedding store", segments.size());
-        embeddingStore.addAll(embeddings, segments);
+        if (ids == null) {
+            ids = embeddingStore.addAll(embeddings, segments);
+        } else {
+            embeddingStore.addAll(ids, embeddings, segments);
+        }
         log.debug("Finished storing {} text segments into the embedding store", segments.size());
+        return ids;
+    }
+
+    /**
+     * The state shared between the thread splitting documents and the tasks embedding and storing batches.
+     */
+    private class Pipeline {
+
+        private final Semaphore inFlightBatches = new Semaphore(maxInFlightBatches);
+        private final Executor executor = executor();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final AtomicInteger batchCount = new AtomicInteger();
+        private final AtomicInteger storedSegmentCount = new AtomicInteger();
+        private final Queue<IngestionBatchResult> failedBatches = new ConcurrentLinkedQueue<>();
+        private final boolean stopOnFailure;
+        private final Consumer<IngestionBatchResult> batchListener;
+
+        private Batch batch = new Batch(0);
+
+        private Pipeline(boolean stopOnFailure, Consumer<IngestionBatchResult> batchListener) {
+            this.stopOnFailure = stopOnFailure;
+            this.batchListener = batchListener;
+        }
+
+        /**
+         * Adds segments to the current batch, submitting it each time it is full.
+         *
+         * @param ids    the IDs to store the segments with, or {@code null} to let the store generate them
+         * @param record the record to update once all segments are stored, or {@code null}
+         */
+        private void add(List<TextSegment> segments, List<String> ids, DocumentRecord record) {
+            for (int i = 0; i < segments.size(); i++) {
+                batch.add(segments.get(i), ids == null ? null : ids.get(i), record);
+                if (batch.segments.size() == batchSize) {
+                    flush();
+                }
+            }
+        }
+
+        private void flush() {
+            if (batch.segments.isEmpty()) {
+                return;
+            }
+            Batch full = batch;
+            batch = new Batch(full.index + 1);
+            submit(full);
+        }
+
+        private void submit(Batch batch) {
+            try {
+                inFlightBatches.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        if (failure.get() == null) {
+                            process(batch);
+                        } else {
+                            batch.release(false);
+                        }
+                    } catch (Throwable t) {
+                        fail(t);
+                    } finally {
+                        inFlightBatches.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                inFlightBatches.release();
+                throw e;
+            }
+        }
+
+        private void process(Batch batch) {
+            int segmentCount = batch.segments.size();
+            IngestionBatchResult batchResult;
+            try {
+                List<String> ids = embedAndStore(batch.segments, batch.ids);
+                batch.release(true);
+                batchResult = IngestionBatchResult.success(batch.index, segmentCount, ids);
+                storedSegmentCount.addAndGet(segmentCount);
+            } catch (RuntimeException e) {
+                batch.release(false);
+                if (stopOnFailure) {
+                    throw e;
+                }
+                log.warn("Failed to embed or store a batch of {} text segments", segmentCount, e);
+                batchResult = IngestionBatchResult.failure(batch.index, segmentCount, e);
+                failedBatches.add(batchResult);
+            }
+            batchCount.incrementAndGet();
+            if (batchListener != null) {
+                batchListener.accept(batchResult);
+            }
+        }
+
+        private void fail(Throwable t) {
+            if (!failure.compareAndSet(null, t) && failure.get() != t) {
+                failure.get().addSuppressed(t);
+            }
+        }
+    }
+
+    private static class Batch {
+
+        private final int index;
+        private final List<TextSegment> segments = new ArrayList<>();
+        private List<String> ids;
+        private final List<DocumentRecord> records = new ArrayList<>();
+
+        private Batch(int index) {
+            this.index = index;
+        }
+
+        private void add(TextSegment segment, String id, DocumentRecord record) {
+            segments.add(segment);
+            if (id != null) {
+                if (ids == null) {
+                    ids = new ArrayList<>();
+                }
+                ids.add(id);
+            }
+            // segments of a document are added consecutively
+            if (record != null && (records.isEmpty() || records.get(records.size() - 1) != record)) {
+                record.retain();
+                records.add(record);
+            }
+        }
+
+        private void release(boolean stored) {
+            for (DocumentRecord record : records) {
+                record.release(stored);
+            }
+        }
+    }
+
+    /**
+     * Once all batches holding segments of a document are stored, removes the stale segments of the document
+     * from the {@link EmbeddingStore} and updates the {@link IngestionRecordStore}.
+     * If any batch fails, neither happens, so that the document is ingested again next time.
+     * A failure to remove the stale segments or to update the {@code IngestionRecordStore} is only logged:
+     * the new segments are stored, and the record is left unchanged so that the removal is retried next time.
+     * The thread splitting the document holds a reference until all its segments are added to batches.
+     */
+    private class DocumentRecord {
+
+        private final String documentKey;
+        private final Set<String> segmentIds;
+        private final List<String> staleSegmentIds;
+        private final AtomicInteger references = new AtomicInteger(1);
+        private volatile boolean failed;
+
+        private DocumentRecord(String documentKey, Set<String> segmentIds, List<String> staleSegmentIds) {
+            this.documentKey = documentKey;
+            this.segmentIds = segmentIds;
+            this.staleSegmentIds = staleSegmentIds;
+        }
+
+        private void retain() {
+            references.incrementAndGet();
+        }
+
+        private void release(boolean stored) {
+            if (!stored) {
+                failed = true;
+            }
+            if (references.decrementAndGet() == 0 && !failed) {
+                try {
+                    if (!staleSegmentIds.isEmpty()) {
+                        log.debug("Removing {} stale text segments of document '{}'", staleSegmentIds.size(), documentKey);
+                        embeddingStore.removeAll(staleSegmentIds);
+                    }
+                    ingestionRecordStore.updateSegmentIds(documentKey, segmentIds);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to remove the stale text segments of document '{}', " +
+                            "they will be removed the next time it is ingested", documentKey, e);
+                }
+            }
+        }
     }
 
     /**
@@ -218,6 +753,11 @@ public class EmbeddingStoreIngestor {
         private TextSegmentTransformer textSegmentTransformer;
         private EmbeddingModel embeddingModel;
         private EmbeddingStore<TextSegment> embeddingStore;
+        private Integer batchSize;
+        private Integer maxInFlightBatches;
+        private Executor executor;
+        private IngestionRecordStore ingestionRecordStore;
+        private Function<Document, String> documentKeyProvider;
 
         /**
          * Creates a new EmbeddingStoreIngestor builder.
@@ -284,6 +824,79 @@ public class EmbeddingStoreIngestor {
             return this;
         }
 
+        /**
+         * Sets the maximum number of segments embedded and stored together. Optional.
+         * Enables pipelined ingestion (see {@link EmbeddingStoreIngestor}).
+         * <br>
+         * Default: {@value EmbeddingStoreIngestor#DEFAULT_BATCH_SIZE}.
+         *
+         * @param batchSize the batch size.
+         * @return {@code this}
+         */
+        public Builder batchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches embedded or stored at the same time. Optional.
+         * Enables pipelined ingestion (see {@link EmbeddingStoreIngestor}).
+         * <br>
+         * Default: {@value EmbeddingStoreIngestor#DEFAULT_MAX_IN_FLIGHT_BATCHES}.
+         *
+         * @param maxInFlightBatches the maximum number of in-flight batches.
+         * @return {@code this}
+         */
+        public Builder maxInFlightBatches(Integer maxInFlightBatches) {
+            this.maxInFlightBatches = maxInFlightBatches;
+            return this;
+        }
+
+        /**
+         * Sets the executor embedding and storing batches. Optional.
+         * Enables pipelined ingestion (see {@link EmbeddingStoreIngestor}).
+         * <br>
+         * Default: a cached thread pool of daemon threads, shut down by {@link EmbeddingStoreIngestor#close()}.
+         *
+         * @param executor the executor.
+         * @return {@code this}
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the store keeping track of the segments stored for each document. Optional.
+         * Enables incremental and pipelined ingestion (see {@link EmbeddingStoreIngestor}).
+         * The {@link EmbeddingStore} must implement {@link EmbeddingStore#addAll(List, List, List)}
+         * and {@link EmbeddingStore#removeAll(Collection)}, otherwise {@link #build()} fails.
+         *
+         * @param ingestionRecordStore the ingestion record store.
+         * @return {@code this}
+         */
+        public Builder ingestionRecordStore(IngestionRecordStore ingestionRecordStore) {
+            this.ingestionRecordStore = ingestionRecordStore;
+            return this;
+        }
+
+        /**
+         * Sets the function providing the key that identifies a document across incremental ingestions. Optional.
+         * The key must stay the same when the content of the document changes,
+         * otherwise the segments of the previous version of the document are never removed.
+         * A document for which {@code null} is returned cannot be ingested incrementally.
+         * <br>
+         * Default: the URL ({@value Document#URL} metadata) or the file path
+         * ({@value Document#ABSOLUTE_DIRECTORY_PATH} and {@value Document#FILE_NAME} metadata) of the document.
+         *
+         * @param documentKeyProvider the document key provider.
+         * @return {@code this}
+         */
+        public Builder documentKeyProvider(Function<Document, String> documentKeyProvider) {
+            this.documentKeyProvider = documentKeyProvider;
+            return this;
+        }
+
         /**
          * Builds the EmbeddingStoreIngestor.
          *
@@ -295,7 +908,12 @@ public class EmbeddingStoreIngestor {
                     documentSplitter,
                     textSegmentTransformer,
                     embeddingModel,
-                    embeddingStore
+                    embeddingStore,
+                    batchSize,
+                    maxInFlightBatches,
+                    executor,
+                    ingestionRecordStore,
+                    documentKeyProvider
             );
         }
     }
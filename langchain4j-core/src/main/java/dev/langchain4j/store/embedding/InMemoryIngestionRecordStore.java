@@ -0,0 +1,34 @@
+package dev.langchain4j.store.embedding;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.emptySet;
+
+/**
+ * Implementation of {@link IngestionRecordStore} that keeps the records in-memory.
+ * <p>
+ * This storage mechanism is transient and does not persist data across application restarts,
+ * so it is only suitable when the {@link EmbeddingStore} itself lives in memory.
+ */
+public class InMemoryIngestionRecordStore implements IngestionRecordStore {
+
+    private final Map<String, Set<String>> segmentIdsByDocumentKey = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@link InMemoryIngestionRecordStore}.
+     */
+    public InMemoryIngestionRecordStore() {
+    }
+
+    @Override
+    public Set<String> getSegmentIds(String documentKey) {
+        return segmentIdsByDocumentKey.getOrDefault(documentKey, emptySet());
+    }
+
+    @Override
+    public void updateSegmentIds(String documentKey, Set<String> segmentIds) {
+        segmentIdsByDocumentKey.put(documentKey, segmentIds);
+    }
+}
@@ -0,0 +1,87 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.segment.TextSegment;
+
+import java.util.List;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Collections.emptyList;
+
+/**
+ * Represents the outcome of embedding and storing a single batch of {@link TextSegment}s
+ * during a streaming ingestion (see {@link EmbeddingStoreIngestor#ingest(java.util.Iterator)}).
+ */
+public class IngestionBatchResult {
+
+    private final int index;
+    private final int segmentCount;
+    private final List<String> ids;
+    private final Throwable error;
+
+    private IngestionBatchResult(int index, int segmentCount, List<String> ids, Throwable error) {
+        this.index = index;
+        this.segmentCount = segmentCount;
+        this.ids = ids;
+        this.error = error;
+    }
+
+    /**
+     * Creates the result of a batch that was embedded and stored successfully.
+     *
+     * @param index        the index of the batch, starting from 0, in the order in which batches were formed.
+     * @param segmentCount the number of segments in the batch.
+     * @param ids          the IDs assigned by the {@link EmbeddingStore} to the stored segments.
+     * @return the batch result.
+     */
+    public static IngestionBatchResult success(int index, int segmentCount, List<String> ids) {
+        return new IngestionBatchResult(index, segmentCount, getOrDefault(ids, emptyList()), null);
+    }
+
+    /**
+     * Creates the result of a batch that failed to be embedded or stored.
+     *
+     * @param index        the index of the batch, starting from 0, in the order in which batches were formed.
+     * @param segmentCount the number of segments in the batch.
+     * @param error        the cause of the failure.
+     * @return the batch result.
+     */
+    public static IngestionBatchResult failure(int index, int segmentCount, Throwable error) {
+        return new IngestionBatchResult(index, segmentCount, emptyList(), ensureNotNull(error, "error"));
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public int segmentCount() {
+        return segmentCount;
+    }
+
+    /**
+     * @return the IDs of the stored segments, or an empty list if the batch failed.
+     */
+    public List<String> ids() {
+        return ids;
+    }
+
+    /**
+     * @return the cause of the failure, or {@code null} if the batch was stored successfully.
+     */
+    public Throwable error() {
+        return error;
+    }
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+
+    @Override
+    public String toString() {
+        return "IngestionBatchResult {" +
+                " index = " + index +
+                ", segmentCount = " + segmentCount +
+                ", error = " + error +
+                " }";
+    }
+}
@@ -0,0 +1,35 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.segment.TextSegment;
+
+import java.util.Set;
+
+/**
+ * Keeps track of the {@link TextSegment}s that were stored into an {@link EmbeddingStore}
+ * for each ingested {@link Document}, so that the {@link EmbeddingStoreIngestor} can re-ingest a corpus incrementally:
+ * segments that are already stored are not embedded again, and segments of changed documents are removed.
+ * <br>
+ * The records must be kept as long as the embeddings they describe are kept in the {@code EmbeddingStore}.
+ * {@link InMemoryIngestionRecordStore} is a ready-to-use implementation, but you can implement this interface
+ * to keep the records in any storage of your choice (typically, next to the embeddings).
+ */
+public interface IngestionRecordStore {
+
+    /**
+     * Retrieves the IDs of the segments that were stored for a specified document.
+     *
+     * @param documentKey The key identifying the source of the document (e.g., its file path or URL).
+     * @return The IDs of the stored segments, or an empty set if the document was never ingested. Must not be null.
+     */
+    Set<String> getSegmentIds(String documentKey);
+
+    /**
+     * Updates the IDs of the segments that are stored for a specified document.
+     * Called once all segments of the document were successfully stored.
+     *
+     * @param documentKey The key identifying the source of the document (e.g., its file path or URL).
+     * @param segmentIds  The IDs of all segments currently stored for the document.
+     */
+    void updateSegmentIds(String documentKey, Set<String> segmentIds);
+}
@@ -0,0 +1,75 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.document.Document;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Represents the outcome of a streaming ingestion (see {@link EmbeddingStoreIngestor#ingest(java.util.Iterator)}).
+ * <br>
+ * Only counts and the results of the failed batches are retained, so that the result does not grow
+ * with the number of ingested segments. The IDs of the stored segments are only reported to the
+ * {@code batchListener} (see {@link EmbeddingStoreIngestor#ingest(java.util.Iterator, Consumer)}).
+ */
+public class IngestionResult {
+
+    private final int documentCount;
+    private final int batchCount;
+    private final int storedSegmentCount;
+    private final List<IngestionBatchResult> failedBatches;
+
+    public IngestionResult(int documentCount,
+                           int batchCount,
+                           int storedSegmentCount,
+                           List<IngestionBatchResult> failedBatches) {
+        this.documentCount = documentCount;
+        this.batchCount = batchCount;
+        this.storedSegmentCount = storedSegmentCount;
+        this.failedBatches = ensureNotNull(failedBatches, "failedBatches");
+    }
+
+    /**
+     * @return the number of {@link Document}s read from the source.
+     */
+    public int documentCount() {
+        return documentCount;
+    }
+
+    /**
+     * @return the number of batches that were formed, whether they succeeded or failed.
+     */
+    public int batchCount() {
+        return batchCount;
+    }
+
+    /**
+     * @return the results of the batches that failed to be embedded or stored,
+     * ordered by {@link IngestionBatchResult#index()}.
+     */
+    public List<IngestionBatchResult> failedBatches() {
+        return failedBatches;
+    }
+
+    /**
+     * @return the number of segments that were embedded and stored successfully.
+     */
+    public int storedSegmentCount() {
+        return storedSegmentCount;
+    }
+
+    public boolean isSuccessful() {
+        return failedBatches.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "IngestionResult {" +
+                " documentCount = " + documentCount +
+                ", batchCount = " + batchCount +
+                ", failedBatchCount = " + failedBatches.size() +
+                " }";
+    }
+}
@@ -0,0 +1,77 @@
+package dev.langchain4j.store.embedding.listener;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.model.listener.ModelListener;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.filter.Filter;
+import lombok.Builder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * A request to the {@link EmbeddingStore}, intended to be used with {@link ModelListener}.
+ */
+@Experimental
+public class EmbeddingStoreRequest {
+
+    /**
+     * The kind of operation performed on the {@link EmbeddingStore}.
+     */
+    public enum Operation {
+
+        ADD,
+        SEARCH,
+        REMOVE
+    }
+
+    private final Operation operation;
+    private final int batchSize;
+    private final List<String> ids;
+    private final EmbeddingSearchRequest searchRequest;
+    private final Filter filter;
+
+    /**
+     * @param operation     The operation.
+     * @param batchSize     The number of embeddings added or removed by the operation, if known.
+     * @param ids           The IDs given by the caller, when adding or removing embeddings by ID.
+     * @param searchRequest The search request, when searching.
+     * @param filter        The filter, when removing embeddings by filter.
+     */
+    @Builder
+    public EmbeddingStoreRequest(Operation operation,
+                                 int batchSize,
+                                 Collection<String> ids,
+                                 EmbeddingSearchRequest searchRequest,
+                                 Filter filter) {
+        this.operation = operation;
+        this.batchSize = batchSize;
+        this.ids = ids == null ? null : unmodifiableList(new ArrayList<>(ids));
+        this.searchRequest = searchRequest;
+        this.filter = filter;
+    }
+
+    public Operation operation() {
+        return operation;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    public List<String> ids() {
+        return ids;
+    }
+
+    public EmbeddingSearchRequest searchRequest() {
+        return searchRequest;
+    }
+
+    public Filter filter() {
+        return filter;
+    }
+}
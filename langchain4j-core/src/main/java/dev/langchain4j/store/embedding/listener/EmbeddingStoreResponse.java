@@ -0,0 +1,47 @@
+package dev.langchain4j.store.embedding.listener;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.model.listener.ModelListener;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import lombok.Builder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static dev.langchain4j.internal.Utils.copyIfNotNull;
+
+/**
+ * A response from the {@link EmbeddingStore}, intended to be used with {@link ModelListener}.
+ */
+@Experimental
+public class EmbeddingStoreResponse {
+
+    private final Duration duration;
+    private final List<String> ids;
+    private final EmbeddingSearchResult<?> searchResult;
+
+    /**
+     * @param duration     The wall-clock time of the operation.
+     * @param ids          The IDs generated by the store, when adding embeddings without IDs.
+     * @param searchResult The search result, when searching.
+     */
+    @Builder
+    public EmbeddingStoreResponse(Duration duration, List<String> ids, EmbeddingSearchResult<?> searchResult) {
+        this.duration = duration;
+        this.ids = copyIfNotNull(ids);
+        this.searchResult = searchResult;
+    }
+
+    public Duration duration() {
+        return duration;
+    }
+
+    public List<String> ids() {
+        return ids;
+    }
+
+    public EmbeddingSearchResult<?> searchResult() {
+        return searchResult;
+    }
+}
@@ -0,0 +1,214 @@
+package dev.langchain4j.store.embedding.listener;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.model.listener.ModelListener;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.filter.Filter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.model.listener.ModelListeners.onError;
+import static dev.langchain4j.model.listener.ModelListeners.onRequest;
+import static dev.langchain4j.model.listener.ModelListeners.onResponse;
+import static dev.langchain4j.store.embedding.listener.EmbeddingStoreRequest.Operation.ADD;
+import static dev.langchain4j.store.embedding.listener.EmbeddingStoreRequest.Operation.REMOVE;
+import static dev.langchain4j.store.embedding.listener.EmbeddingStoreRequest.Operation.SEARCH;
+import static java.util.Collections.singletonList;
+
+/**
+ * An {@link EmbeddingStore} that notifies {@link ModelListener}s about every operation on another {@link EmbeddingStore}.
+ * It works with any {@link EmbeddingStore}.
+ * <p>
+ * Additions, removals and searches are reported with their batch size and wall-clock duration.
+ * The deprecated {@code findRelevant} methods without a memory ID are reported as searches.
+ *
+ * @param <Embedded> The class of the object that has been embedded.
+ */
+@Experimental
+public class ListeningEmbeddingStore<Embedded> implements EmbeddingStore<Embedded> {
+
+    private final EmbeddingStore<Embedded> delegate;
+    private final List<ModelListener<EmbeddingStoreRequest, EmbeddingStoreResponse>> listeners;
+
+    private ListeningEmbeddingStore(Builder<Embedded> builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        this.listeners = builder.listeners == null ? new ArrayList<>() : new ArrayList<>(builder.listeners);
+    }
+
+    @Override
+    public String add(Embedding embedding) {
+        EmbeddingStoreRequest request = EmbeddingStoreRequest.builder().operation(ADD).batchSize(1).build();
+        return observe(request, () -> delegate.add(embedding), (id, duration) -> response(duration, singletonList(id), null));
+    }
+
+    @Override
+    public void add(String id, Embedding embedding) {
+        EmbeddingStoreRequest request = EmbeddingStoreRequest.builder()
+                .operation(ADD)
+                .batchSize(1)
+                .ids(singletonList(id))
+                .build();
+        observe(request, () -> delegate.add(id, embedding));
+    }
+
+    @Override
+    public String add(Embedding embedding, Embedded embedded) {
+        EmbeddingStoreRequest request = EmbeddingStoreRequest.builder().operation(ADD).batchSize(1).build();
+        return observe(request, () -> delegate.add(embedding, embedded), (id, duration) -> response(duration, singletonList(id), null));
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings) {
+        EmbeddingStoreRequest request = EmbeddingStoreRequest.builder()
+                .operation(ADD)
+                .batchSize(embeddings.size())
+                .build();
+        return observe(request, () -> delegate.addAll(embeddings), (ids, duration) -> response(duration, ids, null));
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings, List<Embedded> embedded) {
+        EmbeddingStoreRequest request = EmbeddingStoreRequest.builder()
+                .operation(ADD)
+                .batchSize(embeddings.size())
+                .build();
+        return observe(request, () -> delegate.addAll(embeddings, embedded), (ids, duration) -> response(duration, ids, null));
+    }
+
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<Embedded> embedded) {
+        EmbeddingStoreRequest request = EmbeddingStoreRequest.builder()
+                .operation(ADD)
+                .batchSize(embeddings.size())
+                .ids(ids)
+                .build();
+        observe(request, () -> delegate.addAll(ids, embeddings, embedded));
+    }
+
+    @Override
+    public void remove(String id) {
+        EmbeddingStoreRequest request = EmbeddingStoreRequest.builder()
+                .operation(REMOVE)
+                .batchSize(1)
+                .ids(singletonList(id))
+                .build();
+        observe(request, () -> delegate.remove(id));
+    }
+
+    @Override
+    public void removeAll(Collection<String> ids) {
+        EmbeddingStoreRequest request = EmbeddingStoreRequest.builder()
+                .operation(REMOVE)
+                .batchSize(ids.size())
+                .ids(ids)
+                .build();
+        observe(request, () -> delegate.removeAll(ids));
+    }
+
+    @Override
+    public void removeAll(Filter filter) {
+        EmbeddingStoreRequest request = EmbeddingStoreRequest.builder().operation(REMOVE).filter(filter).build();
+        observe(request, () -> delegate.removeAll(filter));
+    }
+
+    @Override
+    public void removeAll() {
+        EmbeddingStoreRequest request = EmbeddingStoreRequest.builder().operation(REMOVE).build();
+        observe(request, delegate::removeAll);
+    }
+
+    @Override
+    public EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest searchRequest) {
+        EmbeddingStoreRequest request = EmbeddingStoreRequest.builder()
+                .operation(SEARCH)
+                .searchRequest(searchRequest)
+                .build();
+        return observe(request, () -> delegate.search(searchRequest), (result, duration) -> response(duration, null, result));
+    }
+
+    @Override
+    public List<EmbeddingMatch<Embedded>> findRelevant(Object memoryId,
+                                                       Embedding referenceEmbedding,
+                                                       int maxResults,
+                                                       double minScore) {
+        return delegate.findRelevant(memoryId, referenceEmbedding, maxResults, minScore);
+    }
+
+    private void observe(EmbeddingStoreRequest request, Runnable action) {
+        observe(request, () -> {
+            action.run();
+            return null;
+        }, (nothing, duration) -> response(duration, null, null));
+    }
+
+    private <T> T observe(EmbeddingStoreRequest request,
+                          Supplier<T> action,
+                          BiFunction<T, Duration, EmbeddingStoreResponse> responseFactory) {
+        onRequest(listeners, request);
+
+        long start = System.nanoTime();
+        try {
+            T result = action.get();
+
+            Duration duration = Duration.ofNanos(System.nanoTime() - start);
+            onResponse(listeners, responseFactory.apply(result, duration), request);
+
+            return result;
+        } catch (RuntimeException e) {
+            onError(listeners, e, null, request);
+            throw e;
+        }
+    }
+
+    private static EmbeddingStoreResponse response(Duration duration,
+                                                   List<String> ids,
+                                                   EmbeddingSearchResult<?> searchResult) {
+        return EmbeddingStoreResponse.builder()
+                .duration(duration)
+                .ids(ids)
+                .searchResult(searchResult)
+                .build();
+    }
+
+    public static <Embedded> Builder<Embedded> builder() {
+        return new Builder<>();
+    }
+
+    public static class Builder<Embedded> {
+
+        private EmbeddingStore<Embedded> delegate;
+        private List<ModelListener<EmbeddingStoreRequest, EmbeddingStoreResponse>> listeners;
+
+        /**
+         * @param delegate The {@link EmbeddingStore} to observe. Mandatory.
+         * @return builder
+         */
+        public Builder<Embedded> delegate(EmbeddingStore<Embedded> delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param listeners The listeners to notify.
+         * @return builder
+         */
+        public Builder<Embedded> listeners(List<ModelListener<EmbeddingStoreRequest, EmbeddingStoreResponse>> listeners) {
+            this.listeners = listeners;
+            return this;
+        }
+
+        public ListeningEmbeddingStore<Embedded> build() {
+            return new ListeningEmbeddingStore<>(this);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package dev.langchain4j.store.memory.chat;
 
+import dev.langchain4j.Experimental;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.ChatMessageDeserializer;
 import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.memory.ChatMemory;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -33,10 +37,64 @@ public interface ChatMemoryStore {
      */
     void updateMessages(Object memoryId, List<ChatMessage> messages);
 
+    /**
+     * Appends messages to the end of a specified chat memory.
+     * <p>
+     * By default, this reads all messages and writes them back with {@link #updateMessages(Object, List)}.
+     * Implementations are encouraged to override this method to write only the new messages.
+     *
+     * @param memoryId The ID of the chat memory.
+     * @param messages The messages to append, in order.
+     */
+    @Experimental
+    default void appendMessages(Object memoryId, List<ChatMessage> messages) {
+        List<ChatMessage> allMessages = new ArrayList<>(getMessages(memoryId));
+        allMessages.addAll(messages);
+        updateMessages(memoryId, allMessages);
+    }
+
+    /**
+     * Evicts the {@code count} oldest messages of a specified chat memory, skipping {@link SystemMessage}s,
+     * which are never evicted by this method (the same way a {@link ChatMemory} always retains its {@code SystemMessage}).
+     * <p>
+     * By default, this reads all messages and writes the remaining ones back with {@link #updateMessages(Object, List)}.
+     * Implementations are encouraged to override this method to delete only the evicted messages.
+     *
+     * @param memoryId The ID of the chat memory.
+     * @param count    The number of messages to evict. If there are fewer messages, all of them (but the
+     *                 {@code SystemMessage}s) are evicted.
+     */
+    @Experimental
+    default void evictOldest(Object memoryId, int count) {
+        List<ChatMessage> messages = new ArrayList<>(getMessages(memoryId));
+        if (removeOldest(messages, count) > 0) {
+            updateMessages(memoryId, messages);
+        }
+    }
+
     /**
      * Deletes all messages for a specified chat memory.
      *
      * @param memoryId The ID of the chat memory.
      */
     void deleteMessages(Object memoryId);
+
+    /**
+     * Removes the {@code count} oldest messages that are not {@link SystemMessage}s from the list.
+     *
+     * @param messages The messages, oldest first.
+     * @param count    The number of messages to remove.
+     * @return The number of removed messages.
+     */
+    static int removeOldest(List<ChatMessage> messages, int count) {
+        int evicted = 0;
+        Iterator<ChatMessage> iterator = messages.iterator();
+        while (evicted < count && iterator.hasNext()) {
+            if (!(iterator.next() instanceof SystemMessage)) {
+                iterator.remove();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
 }
@@ -30,6 +30,30 @@ public class InMemoryChatMemoryStore implements ChatMemoryStore {
         messagesByMemoryId.put(memoryId, messages);
     }
 
+    /**
+     * Appends the messages to a copy of the current list, so that the lists previously returned by
+     * {@link #getMessages(Object)} are not modified while they may be read.
+     */
+    @Override
+    public void appendMessages(Object memoryId, List<ChatMessage> messages) {
+        messagesByMemoryId.compute(memoryId, (id, currentMessages) -> {
+            List<ChatMessage> allMessages = currentMessages == null
+                    ? new ArrayList<>(messages.size())
+                    : new ArrayList<>(currentMessages);
+            allMessages.addAll(messages);
+            return allMessages;
+        });
+    }
+
+    @Override
+    public void evictOldest(Object memoryId, int count) {
+        messagesByMemoryId.computeIfPresent(memoryId, (id, currentMessages) -> {
+            List<ChatMessage> remainingMessages = new ArrayList<>(currentMessages);
+            ChatMemoryStore.removeOldest(remainingMessages, count);
+            return remainingMessages;
+        });
+    }
+
     @Override
     public void deleteMessages(Object memoryId) {
         messagesByMemoryId.remove(memoryId);
@@ -12,6 +12,9 @@ import java.net.InetSocketAddress;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import static dev.langchain4j.internal.Utils.quoted;
@@ -214,4 +217,17 @@ class UtilsTest {
         assertThat(Utils.copyIfNotNull(singletonList("one"))).containsExactly("one");
         assertThat(Utils.copyIfNotNull(asList("one", "two"))).containsExactly("one", "two");
     }
+
+    @Test
+    void newDaemonCachedThreadPoolCreatesNamedDaemonThreads() throws InterruptedException {
+        ExecutorService executor = Utils.newDaemonCachedThreadPool("test-pool");
+        AtomicReference<Thread> thread = new AtomicReference<>();
+
+        executor.execute(() -> thread.set(Thread.currentThread()));
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(thread.get().isDaemon()).isTrue();
+        assertThat(thread.get().getName()).isEqualTo("test-pool-1");
+    }
 }
@@ -0,0 +1,123 @@
+package dev.langchain4j.model.chat.listener;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.listener.ModelListener;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static dev.langchain4j.model.output.FinishReason.STOP;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ListeningChatLanguageModelTest {
+
+    static class EchoChatLanguageModel implements ChatLanguageModel {
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            return Response.from(AiMessage.from("echo"), new TokenUsage(1, 2), STOP);
+        }
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+            return generate(messages);
+        }
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+            return generate(messages);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    ModelListener<ChatLanguageModelRequest, ChatLanguageModelResponse> listener = mock(ModelListener.class);
+
+    ToolSpecification toolSpecification = ToolSpecification.builder().name("tool").build();
+
+    @Test
+    void should_notify_listeners_about_request_and_response() {
+
+        // given
+        ChatLanguageModel model = ListeningChatLanguageModel.builder()
+                .delegate(new EchoChatLanguageModel())
+                .modelName("test-model")
+                .listeners(singletonList(listener))
+                .build();
+
+        // when
+        String answer = model.generate("hi");
+
+        // then
+        assertThat(answer).isEqualTo("echo");
+
+        ArgumentCaptor<ChatLanguageModelRequest> request = ArgumentCaptor.forClass(ChatLanguageModelRequest.class);
+        verify(listener).onRequest(request.capture());
+        assertThat(request.getValue().model()).isEqualTo("test-model");
+        assertThat(request.getValue().messages()).containsExactly(UserMessage.from("hi"));
+        assertThat(request.getValue().toolSpecifications()).isNull();
+
+        ArgumentCaptor<ChatLanguageModelResponse> response = ArgumentCaptor.forClass(ChatLanguageModelResponse.class);
+        verify(listener).onResponse(response.capture(), same(request.getValue()));
+        assertThat(response.getValue().model()).isEqualTo("test-model");
+        assertThat(response.getValue().aiMessage()).isEqualTo(AiMessage.from("echo"));
+        assertThat(response.getValue().tokenUsage()).isEqualTo(new TokenUsage(1, 2));
+        assertThat(response.getValue().finishReason()).isEqualTo(STOP);
+        assertThat(response.getValue().duration()).isNotNull();
+        assertThat(response.getValue().timeToFirstToken()).isNull();
+    }
+
+    @Test
+    void should_report_tool_specifications() {
+
+        // given
+        ChatLanguageModel model = ListeningChatLanguageModel.builder()
+                .delegate(new EchoChatLanguageModel())
+                .listeners(singletonList(listener))
+                .build();
+        List<ChatMessage> messages = singletonList(UserMessage.from("hi"));
+
+        // when
+        model.generate(messages, singletonList(toolSpecification));
+        model.generate(messages, toolSpecification);
+
+        // then
+        ArgumentCaptor<ChatLanguageModelRequest> request = ArgumentCaptor.forClass(ChatLanguageModelRequest.class);
+        verify(listener, times(2)).onRequest(request.capture());
+        assertThat(request.getAllValues()).allSatisfy(it ->
+                assertThat(it.toolSpecifications()).containsExactly(toolSpecification));
+    }
+
+    @Test
+    void should_notify_listeners_about_error() {
+
+        // given
+        RuntimeException error = new RuntimeException("boom");
+        ChatLanguageModel delegate = messages -> {
+            throw error;
+        };
+        ChatLanguageModel model = ListeningChatLanguageModel.builder()
+                .delegate(delegate)
+                .listeners(singletonList(listener))
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> model.generate("hi")).isSameAs(error);
+        verify(listener).onRequest(any());
+        verify(listener).onError(same(error), isNull(), any());
+    }
+}
@@ -0,0 +1,163 @@
+package dev.langchain4j.model.chat.listener;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.chat.TestStreamingResponseHandler;
+import dev.langchain4j.model.listener.ModelListener;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static dev.langchain4j.model.output.FinishReason.STOP;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ListeningStreamingChatLanguageModelTest {
+
+    static class TokenStreamingChatLanguageModel implements StreamingChatLanguageModel {
+
+        final RuntimeException error;
+
+        TokenStreamingChatLanguageModel(RuntimeException error) {
+            this.error = error;
+        }
+
+        @Override
+        public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+            handler.onNext("Hello");
+            handler.onNext(", ");
+            if (error != null) {
+                handler.onError(error);
+                return;
+            }
+            handler.onNext("world");
+            handler.onComplete(Response.from(AiMessage.from("Hello, world"), new TokenUsage(1, 3), STOP));
+        }
+
+        @Override
+        public void generate(List<ChatMessage> messages,
+                             List<ToolSpecification> toolSpecifications,
+                             StreamingResponseHandler<AiMessage> handler) {
+            generate(messages, handler);
+        }
+
+        @Override
+        public void generate(List<ChatMessage> messages,
+                             ToolSpecification toolSpecification,
+                             StreamingResponseHandler<AiMessage> handler) {
+            generate(messages, handler);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    ModelListener<ChatLanguageModelRequest, ChatLanguageModelResponse> listener = mock(ModelListener.class);
+
+    @Test
+    void should_notify_listeners_about_request_and_response_with_token_timings() {
+
+        // given
+        StreamingChatLanguageModel model = ListeningStreamingChatLanguageModel.builder()
+                .delegate(new TokenStreamingChatLanguageModel(null))
+                .modelName("test-model")
+                .listeners(singletonList(listener))
+                .build();
+        TestStreamingResponseHandler<AiMessage> handler = new TestStreamingResponseHandler<>();
+
+        // when
+        model.generate("hi", handler);
+
+        // then
+        assertThat(handler.get().content().text()).isEqualTo("Hello, world");
+
+        ArgumentCaptor<ChatLanguageModelRequest> request = ArgumentCaptor.forClass(ChatLanguageModelRequest.class);
+        verify(listener).onRequest(request.capture());
+        assertThat(request.getValue().model()).isEqualTo("test-model");
+        assertThat(request.getValue().messages()).containsExactly(UserMessage.from("hi"));
+
+        ArgumentCaptor<ChatLanguageModelResponse> response = ArgumentCaptor.forClass(ChatLanguageModelResponse.class);
+        verify(listener).onResponse(response.capture(), same(request.getValue()));
+        assertThat(response.getValue().aiMessage()).isEqualTo(AiMessage.from("Hello, world"));
+        assertThat(response.getValue().tokenUsage()).isEqualTo(new TokenUsage(1, 3));
+        assertThat(response.getValue().finishReason()).isEqualTo(STOP);
+        assertThat(response.getValue().duration()).isNotNull();
+        assertThat(response.getValue().timeToFirstToken()).isNotNull();
+        assertThat(response.getValue().interTokenGaps()).hasSize(2);
+    }
+
+    @Test
+    void should_report_tool_specifications() {
+
+        // given
+        StreamingChatLanguageModel model = ListeningStreamingChatLanguageModel.builder()
+                .delegate(new TokenStreamingChatLanguageModel(null))
+                .listeners(singletonList(listener))
+                .build();
+        ToolSpecification toolSpecification = ToolSpecification.builder().name("tool").build();
+        List<ChatMessage> messages = singletonList(UserMessage.from("hi"));
+
+        // when
+        model.generate(messages, singletonList(toolSpecification), new TestStreamingResponseHandler<>());
+        model.generate(messages, toolSpecification, new TestStreamingResponseHandler<>());
+
+        // then
+        ArgumentCaptor<ChatLanguageModelRequest> request = ArgumentCaptor.forClass(ChatLanguageModelRequest.class);
+        verify(listener, times(2)).onRequest(request.capture());
+        assertThat(request.getAllValues()).allSatisfy(it ->
+                assertThat(it.toolSpecifications()).containsExactly(toolSpecification));
+    }
+
+    @Test
+    void should_notify_listeners_about_error_with_partial_response() {
+
+        // given
+        RuntimeException error = new RuntimeException("boom");
+        StreamingChatLanguageModel model = ListeningStreamingChatLanguageModel.builder()
+                .delegate(new TokenStreamingChatLanguageModel(error))
+                .listeners(singletonList(listener))
+                .build();
+        TestStreamingResponseHandler<AiMessage> handler = new TestStreamingResponseHandler<>();
+
+        // when
+        model.generate("hi", handler);
+
+        // then
+        assertThatThrownBy(handler::get).hasCause(error);
+
+        ArgumentCaptor<ChatLanguageModelResponse> partialResponse = ArgumentCaptor.forClass(ChatLanguageModelResponse.class);
+        verify(listener).onError(same(error), partialResponse.capture(), any());
+        assertThat(partialResponse.getValue().aiMessage()).isEqualTo(AiMessage.from("Hello, "));
+        assertThat(partialResponse.getValue().interTokenGaps()).hasSize(1);
+    }
+
+    @Test
+    void should_notify_listeners_when_delegate_throws() {
+
+        // given
+        RuntimeException error = new RuntimeException("boom");
+        StreamingChatLanguageModel delegate = (messages, handler) -> {
+            throw error;
+        };
+        StreamingChatLanguageModel model = ListeningStreamingChatLanguageModel.builder()
+                .delegate(delegate)
+                .listeners(singletonList(listener))
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> model.generate("hi", new TestStreamingResponseHandler<>())).isSameAs(error);
+        verify(listener).onError(same(error), isNull(), any());
+    }
+}
@@ -0,0 +1,87 @@
+package dev.langchain4j.model.embedding.batch;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.langchain4j.model.embedding.batch.EmbeddingBatcherTest.segments;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchingEmbeddingModelTest {
+
+    static class RecordingEmbeddingModel implements EmbeddingModel, TokenCountEstimator {
+
+        final List<List<String>> batches = new ArrayList<>();
+
+        @Override
+        public synchronized Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            batches.add(textSegments.stream().map(TextSegment::text).collect(toList()));
+            return EmbeddingBatcherTest.embed(textSegments);
+        }
+
+        @Override
+        public int estimateTokenCount(String text) {
+            return text.length();
+        }
+    }
+
+    @Test
+    void should_batch_using_delegate_as_token_count_estimator() {
+
+        // given
+        RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+        EmbeddingModel model = BatchingEmbeddingModel.builder()
+                .delegate(delegate)
+                .maxSegmentsPerBatch(10)
+                .maxTokensPerBatch(4)
+                .build();
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(segments("aa", "bb", "ccc", "d"));
+
+        // then
+        assertThat(delegate.batches).hasSize(2);
+        assertThat(response.content()).extracting(embedding -> embedding.vector()[0]).containsExactly(2f, 2f, 3f, 1f);
+        assertThat(response.tokenUsage()).isEqualTo(new TokenUsage(8));
+    }
+
+    @Test
+    void should_batch_concurrently_with_custom_token_count_estimator() {
+
+        // given
+        RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+        EmbeddingModel model = BatchingEmbeddingModel.builder()
+                .delegate(delegate)
+                .maxTokensPerBatch(1)
+                .tokenCountEstimator(text -> 1)
+                .maxConcurrentBatches(2)
+                .executor(Runnable::run)
+                .build();
+
+        // when
+        Response<Embedding> response = model.embed("text");
+
+        // then
+        assertThat(delegate.batches).hasSize(1);
+        assertThat(response.content().vector()).containsExactly(4f);
+        assertThat(model.embedAll(segments("a", "bb", "ccc")).content()).hasSize(3);
+        assertThat(delegate.batches).hasSize(4);
+    }
+
+    @Test
+    void should_validate() {
+
+        assertThatThrownBy(() -> BatchingEmbeddingModel.builder().build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("delegate cannot be null");
+    }
+}
@@ -0,0 +1,226 @@
+package dev.langchain4j.model.embedding.batch;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmbeddingBatcherTest {
+
+    @Test
+    void should_split_by_segment_count() {
+
+        EmbeddingBatcher batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(2)
+                .build();
+
+        assertThat(texts(batcher.split(segments("a", "b", "c", "d", "e"))))
+                .containsExactly(asList("a", "b"), asList("c", "d"), asList("e"));
+        assertThat(batcher.split(emptyList())).isEmpty();
+    }
+
+    @Test
+    void should_not_split_without_limits() {
+
+        EmbeddingBatcher batcher = EmbeddingBatcher.builder().build();
+
+        assertThat(texts(batcher.split(segments("a", "b", "c"))))
+                .containsExactly(asList("a", "b", "c"));
+    }
+
+    @Test
+    void should_split_by_estimated_tokens() {
+
+        // given
+        EmbeddingBatcher batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(3)
+                .maxTokensPerBatch(5)
+                .tokenCountEstimator(String::length)
+                .build();
+
+        // when
+        List<List<TextSegment>> batches = batcher.split(segments("aa", "bb", "c", "dddddddd", "e", "f", "g", "h"));
+
+        // then
+        assertThat(texts(batches)).containsExactly(
+                asList("aa", "bb", "c"),
+                asList("dddddddd"),
+                asList("e", "f", "g"),
+                asList("h"));
+    }
+
+    @Test
+    void should_split_by_given_token_counts() {
+
+        EmbeddingBatcher batcher = EmbeddingBatcher.builder()
+                .maxTokensPerBatch(10)
+                .build();
+
+        assertThat(texts(batcher.split(segments("a", "b", "c"), asList(6, 4, 1))))
+                .containsExactly(asList("a", "b"), asList("c"));
+
+        assertThatThrownBy(() -> batcher.split(segments("a", "b"), asList(1)))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected a token count for each of the 2 segments");
+        assertThatThrownBy(() -> batcher.split(segments("a")))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("tokenCountEstimator cannot be null");
+    }
+
+    @Test
+    void should_embed_batches_sequentially_and_sum_token_usage() {
+
+        // given
+        EmbeddingBatcher batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(2)
+                .build();
+        List<String> threads = new ArrayList<>();
+
+        // when
+        Response<List<Embedding>> response = batcher.embedAll(segments("a", "bb", "ccc"), batch -> {
+            threads.add(Thread.currentThread().getName());
+            return embed(batch);
+        });
+
+        // then
+        assertThat(response.content()).extracting(embedding -> embedding.vector()[0]).containsExactly(1f, 2f, 3f);
+        assertThat(response.tokenUsage()).isEqualTo(new TokenUsage(6));
+        assertThat(threads).containsOnly(Thread.currentThread().getName()).hasSize(2);
+    }
+
+    @Test
+    void should_embed_batches_concurrently_and_keep_order() throws Exception {
+
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        EmbeddingBatcher batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(1)
+                .maxConcurrentBatches(3)
+                .executor(executor)
+                .build();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch allWorkersStarted = new CountDownLatch(3);
+
+        List<String> texts = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            texts.add(repeat(i));
+        }
+
+        // when
+        Response<List<Embedding>> response = batcher.embedAll(segments(texts.toArray(new String[0])), batch -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            allWorkersStarted.countDown();
+            try {
+                allWorkersStarted.await(5, TimeUnit.SECONDS);
+                Thread.sleep(batch.get(0).text().length() % 3);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            running.decrementAndGet();
+            return embed(batch);
+        });
+
+        // then
+        assertThat(response.content()).extracting(embedding -> (int) embedding.vector()[0])
+                .containsExactlyElementsOf(texts.stream().map(String::length).collect(toList()));
+        assertThat(response.tokenUsage()).isEqualTo(new TokenUsage(210));
+        assertThat(maxRunning.get()).isEqualTo(3);
+
+        executor.shutdown();
+    }
+
+    @Test
+    void should_stop_on_first_failure() {
+
+        // given
+        EmbeddingBatcher batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(1)
+                .maxConcurrentBatches(2)
+                .build();
+        AtomicInteger calls = new AtomicInteger();
+
+        // when-then
+        assertThatThrownBy(() -> batcher.embedAll(segments("a", "b", "c", "d", "e", "f"), batch -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("failed: " + batch.get(0).text());
+        }))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("failed: ");
+        assertThat(calls.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void should_fail_on_wrong_number_of_embeddings() {
+
+        EmbeddingBatcher batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(2)
+                .build();
+
+        assertThatThrownBy(() -> batcher.embedAll(segments("a", "b", "c"), batch -> Response.from(emptyList())))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected 2 embeddings for batch 0, but got 0");
+    }
+
+    @Test
+    void should_validate() {
+
+        assertThatThrownBy(() -> EmbeddingBatcher.builder().maxSegmentsPerBatch(0).build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxSegmentsPerBatch must be greater than zero, but is: 0");
+        assertThatThrownBy(() -> EmbeddingBatcher.builder().maxTokensPerBatch(0).build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxTokensPerBatch must be greater than zero, but is: 0");
+        assertThatThrownBy(() -> EmbeddingBatcher.builder().maxConcurrentBatches(0).build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxConcurrentBatches must be greater than zero, but is: 0");
+        assertThatThrownBy(() -> EmbeddingBatcher.builder().build().embedAll(segments("a"), null))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("embedBatch cannot be null");
+    }
+
+    static List<TextSegment> segments(String... texts) {
+        List<TextSegment> segments = new ArrayList<>();
+        for (String text : texts) {
+            segments.add(TextSegment.from(text));
+        }
+        return segments;
+    }
+
+    static Response<List<Embedding>> embed(List<TextSegment> batch) {
+        List<Embedding> embeddings = batch.stream()
+                .map(segment -> Embedding.from(new float[]{segment.text().length()}))
+                .collect(toList());
+        int tokens = batch.stream().mapToInt(segment -> segment.text().length()).sum();
+        return Response.from(embeddings, new TokenUsage(tokens));
+    }
+
+    private static List<List<String>> texts(List<List<TextSegment>> batches) {
+        return batches.stream()
+                .map(batch -> batch.stream().map(TextSegment::text).collect(toList()))
+                .collect(toList());
+    }
+
+    private static String repeat(int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            sb.append('x');
+        }
+        return sb.toString();
+    }
+}
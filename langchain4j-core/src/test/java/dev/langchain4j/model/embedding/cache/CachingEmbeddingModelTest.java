@@ -0,0 +1,149 @@
+package dev.langchain4j.model.embedding.cache;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingEmbeddingModelTest {
+
+    static class CountingEmbeddingModel implements EmbeddingModel {
+
+        final List<List<String>> calls = new ArrayList<>();
+        final float offset;
+
+        CountingEmbeddingModel(float offset) {
+            this.offset = offset;
+        }
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            calls.add(textSegments.stream().map(TextSegment::text).collect(toList()));
+            List<Embedding> embeddings = textSegments.stream()
+                    .map(segment -> Embedding.from(new float[]{segment.text().length() + offset, segment.text().hashCode()}))
+                    .collect(toList());
+            return Response.from(embeddings, new TokenUsage(textSegments.size()));
+        }
+    }
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @Test
+    void should_forward_only_misses_and_keep_order() {
+
+        // given
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel(0);
+        EmbeddingModel model = CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .modelId("counting-model")
+                .build();
+        model.embed("b");
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(asList(
+                TextSegment.from("aaa"), TextSegment.from("b"), TextSegment.from("cc"), TextSegment.from("aaa")));
+
+        // then
+        assertThat(delegate.calls).containsExactly(singletonList("b"), asList("aaa", "cc"));
+        assertThat(response.content()).extracting(embedding -> embedding.vector()[0])
+                .containsExactly(3f, 1f, 2f, 3f);
+        assertThat(response.content()).isEqualTo(delegate.embedAll(asList(
+                TextSegment.from("aaa"), TextSegment.from("b"), TextSegment.from("cc"), TextSegment.from("aaa"))).content());
+        assertThat(response.tokenUsage()).isEqualTo(new TokenUsage(2));
+    }
+
+    @Test
+    void should_not_call_delegate_when_everything_is_cached() {
+
+        // given
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel(0);
+        EmbeddingModel model = CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .modelId("counting-model")
+                .build();
+        model.embedAll(asList(TextSegment.from("a"), TextSegment.from("b")));
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(asList(TextSegment.from("b"), TextSegment.from("a")));
+
+        // then
+        assertThat(delegate.calls).hasSize(1);
+        assertThat(response.content()).extracting(embedding -> embedding.vector()[1])
+                .containsExactly((float) "b".hashCode(), (float) "a".hashCode());
+        assertThat(response.tokenUsage()).isNull();
+        assertThat(model.embedAll(emptyList()).content()).isEmpty();
+    }
+
+    @Test
+    void should_separate_models_sharing_a_persistent_cache() {
+
+        // given
+        EmbeddingCache cache = new FileSystemEmbeddingCache(temporaryDirectory);
+        CountingEmbeddingModel delegate1 = new CountingEmbeddingModel(0);
+        CountingEmbeddingModel delegate2 = new CountingEmbeddingModel(100);
+        EmbeddingModel model1 = CachingEmbeddingModel.builder().delegate(delegate1).cache(cache).modelId("model-1").build();
+        EmbeddingModel model2 = CachingEmbeddingModel.builder().delegate(delegate2).cache(cache).modelId("model-2").build();
+
+        // when
+        Embedding embedding1 = model1.embed("text").content();
+        Embedding embedding2 = model2.embed("text").content();
+        Embedding cachedEmbedding1 = CachingEmbeddingModel.builder()
+                .delegate(new CountingEmbeddingModel(0))
+                .cache(new FileSystemEmbeddingCache(temporaryDirectory))
+                .modelId("model-1")
+                .build()
+                .embed("text")
+                .content();
+
+        // then
+        assertThat(embedding1.vector()[0]).isEqualTo(4f);
+        assertThat(embedding2.vector()[0]).isEqualTo(104f);
+        assertThat(cachedEmbedding1).isEqualTo(embedding1);
+        assertThat(delegate1.calls).hasSize(1);
+        assertThat(delegate2.calls).hasSize(1);
+    }
+
+    @Test
+    void should_fail_when_delegate_returns_wrong_number_of_embeddings() {
+
+        EmbeddingModel model = CachingEmbeddingModel.builder()
+                .delegate(textSegments -> Response.from(emptyList()))
+                .modelId("empty-model")
+                .build();
+
+        assertThatThrownBy(() -> model.embedAll(asList(TextSegment.from("a"), TextSegment.from("b"))))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected 2 embeddings from the delegate model, but got 0");
+    }
+
+    @Test
+    void should_validate() {
+
+        assertThatThrownBy(() -> CachingEmbeddingModel.builder().build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("delegate cannot be null");
+
+        assertThatThrownBy(() -> CachingEmbeddingModel.builder().delegate(new CountingEmbeddingModel(0)).build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("modelId cannot be null or blank");
+
+        assertThatThrownBy(() -> CachingEmbeddingModel.builder().delegate(new CountingEmbeddingModel(0)).modelId(" ").build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("modelId cannot be null or blank");
+    }
+}
@@ -0,0 +1,187 @@
+package dev.langchain4j.model.embedding.cache;
+
+import dev.langchain4j.data.embedding.Embedding;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FileSystemEmbeddingCacheTest {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    Embedding embedding = Embedding.from(new float[]{1.5f, -2, 3.25f});
+
+    @Test
+    void should_put_and_get() {
+
+        // given
+        FileSystemEmbeddingCache cache = new FileSystemEmbeddingCache(temporaryDirectory.resolve("cache"));
+        assertThat(cache.get("key1")).isNull();
+
+        // when
+        cache.put("key1", embedding);
+        cache.put("key2", Embedding.from(new float[0]));
+
+        // then
+        assertThat(temporaryDirectory.resolve("cache").resolve("ke").resolve("key1")).isRegularFile();
+        assertThat(cache.get("key1")).isEqualTo(embedding);
+        assertThat(cache.get("key2").dimension()).isZero();
+    }
+
+    @Test
+    void should_survive_restart() {
+
+        // given
+        FileSystemEmbeddingCache.builder()
+                .directory(temporaryDirectory.toString())
+                .build()
+                .put("key", embedding);
+
+        // when
+        FileSystemEmbeddingCache cache = new FileSystemEmbeddingCache(temporaryDirectory);
+
+        // then
+        assertThat(cache.get("key")).isEqualTo(embedding);
+    }
+
+    @Test
+    void should_overwrite() {
+
+        FileSystemEmbeddingCache cache = new FileSystemEmbeddingCache(temporaryDirectory);
+        cache.put("key", Embedding.from(new float[]{1, 2, 3, 4}));
+
+        cache.put("key", embedding);
+
+        assertThat(cache.get("key")).isEqualTo(embedding);
+    }
+
+    @Test
+    void should_expire_after_time_to_live() {
+
+        // given
+        Clock clock = mock(Clock.class);
+        FileSystemEmbeddingCache cache = FileSystemEmbeddingCache.builder()
+                .directory(temporaryDirectory)
+                .timeToLive(Duration.ofHours(1))
+                .clock(clock)
+                .build();
+        when(clock.instant()).thenReturn(Instant.now());
+        cache.put("key", embedding);
+
+        // when-then
+        assertThat(cache.get("key")).isEqualTo(embedding);
+
+        when(clock.instant()).thenReturn(Instant.now().plus(Duration.ofHours(2)));
+        assertThat(cache.get("key")).isNull();
+        assertThat(temporaryDirectory.resolve("ke").resolve("key")).doesNotExist();
+    }
+
+    @Test
+    void should_sweep_expired_files_once_per_time_to_live() throws Exception {
+
+        // given
+        Clock clock = mock(Clock.class);
+        FileSystemEmbeddingCache cache = FileSystemEmbeddingCache.builder()
+                .directory(temporaryDirectory)
+                .timeToLive(Duration.ofHours(1))
+                .clock(clock)
+                .build();
+        Instant now = Instant.now();
+        when(clock.instant()).thenReturn(now.minus(Duration.ofMinutes(90)));
+        cache.put("key1", embedding);
+        Files.setLastModifiedTime(temporaryDirectory.resolve("ke").resolve("key1"),
+                FileTime.from(now.minus(Duration.ofMinutes(90))));
+
+        // when
+        when(clock.instant()).thenReturn(now);
+        cache.put("key2", embedding);
+
+        // then
+        assertThat(temporaryDirectory.resolve("ke").resolve("key1")).doesNotExist();
+        assertThat(temporaryDirectory.resolve("ke").resolve("key2")).isRegularFile();
+    }
+
+    @Test
+    void should_delete_least_recently_written_when_exceeding_max_size() throws Exception {
+
+        // given
+        FileSystemEmbeddingCache cache = FileSystemEmbeddingCache.builder()
+                .directory(temporaryDirectory)
+                .maxSize(2)
+                .build();
+        cache.put("key1", embedding);
+        cache.put("key2", embedding);
+        Instant now = Instant.now();
+        Files.setLastModifiedTime(temporaryDirectory.resolve("ke").resolve("key1"), FileTime.from(now.minusSeconds(20)));
+        Files.setLastModifiedTime(temporaryDirectory.resolve("ke").resolve("key2"), FileTime.from(now.minusSeconds(10)));
+
+        // when
+        cache.put("key3", embedding);
+
+        // then
+        assertThat(cache.get("key1")).isNull();
+        assertThat(cache.get("key2")).isEqualTo(embedding);
+        assertThat(cache.get("key3")).isEqualTo(embedding);
+    }
+
+    @Test
+    void should_treat_corrupted_file_as_miss() throws Exception {
+
+        // given
+        FileSystemEmbeddingCache cache = new FileSystemEmbeddingCache(temporaryDirectory);
+        cache.put("key", embedding);
+        Files.write(temporaryDirectory.resolve("ke").resolve("key"), new byte[]{0, 0, 0, 7, 1});
+
+        // when-then
+        assertThat(cache.get("key")).isNull();
+    }
+
+    @Test
+    void should_validate() {
+
+        assertThatThrownBy(() -> new FileSystemEmbeddingCache(null))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("directory cannot be null");
+
+        FileSystemEmbeddingCache cache = new FileSystemEmbeddingCache(temporaryDirectory);
+
+        assertThatThrownBy(() -> cache.get("../key"))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid key: '../key'. Only letters, digits and dashes are allowed");
+        assertThatThrownBy(() -> cache.put(null, embedding))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid key: 'null'. Only letters, digits and dashes are allowed");
+        assertThatThrownBy(() -> cache.put("key", null))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("embedding cannot be null");
+        assertThatThrownBy(() -> FileSystemEmbeddingCache.builder().directory(temporaryDirectory).maxSize(0).build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxSize must be greater than zero, but is: 0");
+    }
+
+    @Test
+    void should_ignore_failure_to_write_into_a_file() throws Exception {
+
+        // given
+        Path file = Files.createFile(temporaryDirectory.resolve("file"));
+        FileSystemEmbeddingCache cache = new FileSystemEmbeddingCache(file);
+
+        // when
+        cache.put("key", embedding);
+
+        // then
+        assertThat(cache.get("key")).isNull();
+    }
+}
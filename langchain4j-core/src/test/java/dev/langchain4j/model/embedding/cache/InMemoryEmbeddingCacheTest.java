@@ -0,0 +1,93 @@
+package dev.langchain4j.model.embedding.cache;
+
+import dev.langchain4j.data.embedding.Embedding;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemoryEmbeddingCacheTest {
+
+    Embedding embedding1 = Embedding.from(new float[]{1, 2});
+    Embedding embedding2 = Embedding.from(new float[]{3, 4});
+    Embedding embedding3 = Embedding.from(new float[]{5, 6});
+
+    @Test
+    void should_put_and_get() {
+
+        InMemoryEmbeddingCache cache = new InMemoryEmbeddingCache();
+
+        assertThat(cache.get("key1")).isNull();
+
+        cache.put("key1", embedding1);
+        cache.put("key2", embedding2);
+
+        assertThat(cache.get("key1")).isEqualTo(embedding1);
+        assertThat(cache.get("key2")).isEqualTo(embedding2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void should_evict_least_recently_used() {
+
+        // given
+        InMemoryEmbeddingCache cache = InMemoryEmbeddingCache.builder()
+                .maxSize(2)
+                .build();
+        cache.put("key1", embedding1);
+        cache.put("key2", embedding2);
+        cache.get("key1");
+
+        // when
+        cache.put("key3", embedding3);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("key1")).isEqualTo(embedding1);
+        assertThat(cache.get("key2")).isNull();
+        assertThat(cache.get("key3")).isEqualTo(embedding3);
+    }
+
+    @Test
+    void should_expire_after_time_to_live() {
+
+        // given
+        Clock clock = mock(Clock.class);
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        when(clock.instant()).thenReturn(now);
+        InMemoryEmbeddingCache cache = InMemoryEmbeddingCache.builder()
+                .timeToLive(Duration.ofMinutes(10))
+                .clock(clock)
+                .build();
+        cache.put("key1", embedding1);
+
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(5)));
+        cache.put("key2", embedding2);
+
+        // when
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(10)));
+
+        // then
+        assertThat(cache.get("key1")).isNull();
+        assertThat(cache.get("key2")).isEqualTo(embedding2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void should_validate() {
+
+        assertThatThrownBy(() -> InMemoryEmbeddingCache.builder().maxSize(0).build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxSize must be greater than zero, but is: 0");
+
+        assertThatThrownBy(() -> new InMemoryEmbeddingCache().put("key", null))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("embedding cannot be null");
+    }
+}
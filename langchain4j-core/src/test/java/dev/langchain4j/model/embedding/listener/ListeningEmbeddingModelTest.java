@@ -0,0 +1,79 @@
+package dev.langchain4j.model.embedding.listener;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.listener.ModelListener;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ListeningEmbeddingModelTest {
+
+    @SuppressWarnings("unchecked")
+    ModelListener<EmbeddingModelRequest, EmbeddingModelResponse> listener = mock(ModelListener.class);
+
+    @Test
+    void should_notify_listeners_about_request_and_response() {
+
+        // given
+        EmbeddingModel delegate = textSegments -> Response.from(
+                textSegments.stream().map(segment -> Embedding.from(new float[]{1, 2})).collect(toList()),
+                new TokenUsage(textSegments.size()));
+        EmbeddingModel model = ListeningEmbeddingModel.builder()
+                .delegate(delegate)
+                .modelName("test-model")
+                .listeners(singletonList(listener))
+                .build();
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(asList(TextSegment.from("a"), TextSegment.from("b")));
+
+        // then
+        ArgumentCaptor<EmbeddingModelRequest> request = ArgumentCaptor.forClass(EmbeddingModelRequest.class);
+        verify(listener).onRequest(request.capture());
+        assertThat(request.getValue().model()).isEqualTo("test-model");
+        assertThat(request.getValue().batchSize()).isEqualTo(2);
+
+        ArgumentCaptor<EmbeddingModelResponse> modelListenerResponse = ArgumentCaptor.forClass(EmbeddingModelResponse.class);
+        verify(listener).onResponse(modelListenerResponse.capture(), same(request.getValue()));
+        assertThat(modelListenerResponse.getValue().model()).isEqualTo("test-model");
+        assertThat(modelListenerResponse.getValue().embeddings()).isEqualTo(response.content());
+        assertThat(modelListenerResponse.getValue().tokenUsage()).isEqualTo(new TokenUsage(2));
+        assertThat(modelListenerResponse.getValue().duration()).isNotNull();
+        assertThat(modelListenerResponse.getValue().retries()).isNull();
+    }
+
+    @Test
+    void should_notify_listeners_about_error() {
+
+        // given
+        RuntimeException error = new RuntimeException("boom");
+        EmbeddingModel delegate = textSegments -> {
+            throw error;
+        };
+        EmbeddingModel model = ListeningEmbeddingModel.builder()
+                .delegate(delegate)
+                .listeners(singletonList(listener))
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> model.embed("a")).isSameAs(error);
+        verify(listener).onRequest(any());
+        verify(listener).onError(same(error), isNull(), any());
+    }
+}
@@ -0,0 +1,46 @@
+package dev.langchain4j.model.input;
+
+import dev.langchain4j.spi.prompt.PromptTemplateFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DefaultPromptTemplateFactoryTest {
+
+    DefaultPromptTemplateFactory factory = new DefaultPromptTemplateFactory();
+
+    @Test
+    void should_render_literals_and_variables_in_order() {
+
+        PromptTemplateFactory.Template template = factory.create(input("{{a}}, {{b}} and {{a}} again{{c}}"));
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("a", "first");
+        variables.put("b", 2);
+        variables.put("c", '!');
+        variables.put("unused", "ignored");
+
+        assertThat(template.render(variables)).isEqualTo("first, 2 and first again!");
+        assertThat(factory.create(input("no variables")).render(emptyMap())).isEqualTo("no variables");
+    }
+
+    @Test
+    void should_not_render_variables_found_in_values() {
+
+        PromptTemplateFactory.Template template = factory.create(input("{{a}} {{b}}"));
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("a", "{{b}}");
+        variables.put("b", "{{a}}");
+
+        assertThat(template.render(variables)).isEqualTo("{{b}} {{a}}");
+    }
+
+    private static PromptTemplateFactory.Input input(String template) {
+        return () -> template;
+    }
+}
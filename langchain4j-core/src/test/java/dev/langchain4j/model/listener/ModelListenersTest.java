@@ -0,0 +1,70 @@
+package dev.langchain4j.model.listener;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModelListenersTest {
+
+    static class FailingListener implements ModelListener<String, String> {
+
+        @Override
+        public void onRequest(String request) {
+            throw new RuntimeException("onRequest");
+        }
+
+        @Override
+        public void onResponse(String response, String request) {
+            throw new RuntimeException("onResponse");
+        }
+
+        @Override
+        public void onError(Throwable error, String response, String request) {
+            throw new RuntimeException("onError");
+        }
+    }
+
+    static class RecordingListener implements ModelListener<String, String> {
+
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onRequest(String request) {
+            events.add("request " + request);
+        }
+
+        @Override
+        public void onResponse(String response, String request) {
+            events.add("response " + response + " to " + request);
+        }
+
+        @Override
+        public void onError(Throwable error, String response, String request) {
+            events.add("error " + error.getMessage() + " after " + response + " to " + request);
+        }
+    }
+
+    @Test
+    void should_notify_all_listeners_even_if_one_fails() {
+
+        // given
+        RecordingListener recordingListener = new RecordingListener();
+        List<ModelListener<String, String>> listeners = asList(new FailingListener(), recordingListener);
+
+        // when
+        ModelListeners.onRequest(listeners, "req");
+        ModelListeners.onResponse(listeners, "resp", "req");
+        ModelListeners.onError(listeners, new RuntimeException("boom"), "partial", "req");
+
+        // then
+        assertThat(recordingListener.events).containsExactly(
+                "request req",
+                "response resp to req",
+                "error boom after partial to req"
+        );
+    }
+}
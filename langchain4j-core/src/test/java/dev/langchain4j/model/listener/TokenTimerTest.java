@@ -0,0 +1,32 @@
+package dev.langchain4j.model.listener;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenTimerTest {
+
+    @Test
+    void should_measure_time_to_first_token_and_gaps() throws InterruptedException {
+
+        // given
+        TokenTimer timer = new TokenTimer();
+        assertThat(timer.timeToFirstToken()).isNull();
+        assertThat(timer.interTokenGaps()).isEmpty();
+
+        // when
+        Thread.sleep(20);
+        timer.onToken();
+        Thread.sleep(10);
+        timer.onToken();
+        timer.onToken();
+
+        // then
+        assertThat(timer.timeToFirstToken()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+        assertThat(timer.interTokenGaps()).hasSize(2);
+        assertThat(timer.interTokenGaps().get(0)).isGreaterThanOrEqualTo(Duration.ofMillis(10));
+        assertThat(timer.elapsed()).isGreaterThanOrEqualTo(Duration.ofMillis(30));
+    }
+}
@@ -0,0 +1,74 @@
+package dev.langchain4j.model.scoring.listener;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.listener.ModelListener;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.scoring.ScoringModel;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ListeningScoringModelTest {
+
+    @SuppressWarnings("unchecked")
+    ModelListener<ScoringModelRequest, ScoringModelResponse> listener = mock(ModelListener.class);
+
+    @Test
+    void should_notify_listeners_about_request_and_response() {
+
+        // given
+        ScoringModel delegate = (segments, query) -> Response.from(asList(0.1, 0.9));
+        ScoringModel model = ListeningScoringModel.builder()
+                .delegate(delegate)
+                .modelName("test-model")
+                .listeners(singletonList(listener))
+                .build();
+
+        // when
+        model.scoreAll(asList(TextSegment.from("a"), TextSegment.from("b")), "query");
+
+        // then
+        ArgumentCaptor<ScoringModelRequest> request = ArgumentCaptor.forClass(ScoringModelRequest.class);
+        verify(listener).onRequest(request.capture());
+        assertThat(request.getValue().model()).isEqualTo("test-model");
+        assertThat(request.getValue().query()).isEqualTo("query");
+        assertThat(request.getValue().batchSize()).isEqualTo(2);
+        assertThat(request.getValue().segments()).containsExactly(TextSegment.from("a"), TextSegment.from("b"));
+
+        ArgumentCaptor<ScoringModelResponse> modelListenerResponse = ArgumentCaptor.forClass(ScoringModelResponse.class);
+        verify(listener).onResponse(modelListenerResponse.capture(), same(request.getValue()));
+        assertThat(modelListenerResponse.getValue().model()).isEqualTo("test-model");
+        assertThat(modelListenerResponse.getValue().scores()).containsExactly(0.1, 0.9);
+        assertThat(modelListenerResponse.getValue().tokenUsage()).isNull();
+        assertThat(modelListenerResponse.getValue().duration()).isNotNull();
+        assertThat(modelListenerResponse.getValue().retries()).isNull();
+    }
+
+    @Test
+    void should_notify_listeners_about_error() {
+
+        // given
+        RuntimeException error = new RuntimeException("boom");
+        ScoringModel delegate = (segments, query) -> {
+            throw error;
+        };
+        ScoringModel model = ListeningScoringModel.builder()
+                .delegate(delegate)
+                .listeners(singletonList(listener))
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> model.score("a", "query")).isSameAs(error);
+        verify(listener).onRequest(any());
+        verify(listener).onError(same(error), isNull(), any());
+    }
+}
@@ -15,6 +15,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -25,9 +27,12 @@ import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.synchronizedList;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 class DefaultRetrievalAugmentorTest {
@@ -92,10 +97,12 @@ class DefaultRetrievalAugmentorTest {
 
         verify(contentRetriever1).retrieve(query1);
         verify(contentRetriever1).retrieve(query2);
+        verify(contentRetriever1, atLeast(0)).id(); // read for logging, depending on the log level
         verifyNoMoreInteractions(contentRetriever1);
 
         verify(contentRetriever2).retrieve(query1);
         verify(contentRetriever2).retrieve(query2);
+        verify(contentRetriever2, atLeast(0)).id(); // read for logging, depending on the log level
         verifyNoMoreInteractions(contentRetriever2);
 
         Map<Query, Collection<List<Content>>> queryToContents = new HashMap<>();
@@ -150,6 +157,146 @@ class DefaultRetrievalAugmentorTest {
         verifyNoMoreInteractions(queryRouter);
     }
 
+    @ParameterizedTest
+    @MethodSource("executors")
+    void should_report_stages_to_listeners(Executor executor) {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+
+        Content content1 = Content.from("content 1");
+        ContentRetriever contentRetriever1 = new TestContentRetriever(content1);
+        Content content2 = Content.from("content 2");
+        ContentRetriever contentRetriever2 = new TestContentRetriever(content2);
+
+        RecordingListener listener = new RecordingListener();
+        RetrievalAugmentorListener failingListener = new RetrievalAugmentorListener() {
+
+            @Override
+            public void onAugmented(AugmentationRequest request, AugmentationResult result, Duration duration) {
+                throw new RuntimeException("should not break the augmentation");
+            }
+        };
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryTransformer(new TestQueryTransformer(query1, query2))
+                .queryRouter(new DefaultQueryRouter(contentRetriever1, contentRetriever2))
+                .contentAggregator(new TestContentAggregator())
+                .contentInjector(new TestContentInjector())
+                .executor(executor)
+                .listeners(asList(failingListener, listener))
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        AugmentationRequest augmentationRequest = new AugmentationRequest(userMessage, Metadata.from(userMessage, null, null));
+
+        // when
+        AugmentationResult augmentationResult = retrievalAugmentor.augment(augmentationRequest);
+
+        // then
+        assertThat(listener.events).containsExactlyInAnyOrder(
+                "transformed into 2 queries",
+                "routed query 1 to 2 retrievers",
+                "routed query 2 to 2 retrievers",
+                "retrieved 1 contents for query 1 from TestContentRetriever",
+                "retrieved 1 contents for query 1 from TestContentRetriever",
+                "retrieved 1 contents for query 2 from TestContentRetriever",
+                "retrieved 1 contents for query 2 from TestContentRetriever",
+                "aggregated into 4 contents",
+                "injected 4 contents",
+                "augmented"
+        );
+        assertThat(listener.events.get(0)).isEqualTo("transformed into 2 queries");
+        assertThat(listener.events.get(listener.events.size() - 1)).isEqualTo("augmented");
+        assertThat(listener.durations).hasSize(10).allSatisfy(duration -> assertThat(duration.isNegative()).isFalse());
+        assertThat(listener.result).isSameAs(augmentationResult);
+    }
+
+    @ParameterizedTest
+    @MethodSource("executors")
+    void should_report_retrieval_error_to_listeners(Executor executor) {
+
+        // given
+        RuntimeException error = new RuntimeException("retrieval failed");
+        ContentRetriever failingRetriever = new ContentRetriever() {
+
+            @Override
+            public List<Content> retrieve(Query query) {
+                throw error;
+            }
+
+            @Override
+            public String id() {
+                return "failing";
+            }
+        };
+        RecordingListener listener = new RecordingListener();
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .contentRetriever(failingRetriever)
+                .executor(executor)
+                .listeners(singletonList(listener))
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        AugmentationRequest augmentationRequest = new AugmentationRequest(userMessage, Metadata.from(userMessage, null, null));
+
+        // when-then
+        assertThatThrownBy(() -> retrievalAugmentor.augment(augmentationRequest)).hasRootCause(error);
+        assertThat(listener.events).contains("failed to retrieve for query from failing: retrieval failed");
+    }
+
+    static class RecordingListener implements RetrievalAugmentorListener {
+
+        final List<String> events = synchronizedList(new ArrayList<>());
+        final List<Duration> durations = synchronizedList(new ArrayList<>());
+        volatile AugmentationResult result;
+
+        @Override
+        public void onQueryTransformed(Query originalQuery, Collection<Query> queries, Duration duration) {
+            record("transformed into " + queries.size() + " queries", duration);
+        }
+
+        @Override
+        public void onQueryRouted(Query query, Collection<ContentRetriever> retrievers, Duration duration) {
+            record("routed " + query.text() + " to " + retrievers.size() + " retrievers", duration);
+        }
+
+        @Override
+        public void onContentRetrieved(Query query, ContentRetriever retriever, List<Content> contents, Duration duration) {
+            record("retrieved " + contents.size() + " contents for " + query.text() + " from " + retriever.id(), duration);
+        }
+
+        @Override
+        public void onContentRetrievalError(Query query, ContentRetriever retriever, Throwable error, Duration duration) {
+            record("failed to retrieve for " + query.text() + " from " + retriever.id() + ": " + error.getMessage(), duration);
+        }
+
+        @Override
+        public void onContentAggregated(Map<Query, Collection<List<Content>>> queryToContents,
+                                        List<Content> contents,
+                                        Duration duration) {
+            record("aggregated into " + contents.size() + " contents", duration);
+        }
+
+        @Override
+        public void onContentInjected(List<Content> contents, ChatMessage augmentedChatMessage, Duration duration) {
+            record("injected " + contents.size() + " contents", duration);
+        }
+
+        @Override
+        public void onAugmented(AugmentationRequest request, AugmentationResult result, Duration duration) {
+            this.result = result;
+            record("augmented", duration);
+        }
+
+        private void record(String event, Duration duration) {
+            events.add(event);
+            durations.add(duration);
+        }
+    }
+
     static Stream<Arguments> executors() {
         return Stream.<Arguments>builder()
                 .add(Arguments.of(Executors.newCachedThreadPool()))
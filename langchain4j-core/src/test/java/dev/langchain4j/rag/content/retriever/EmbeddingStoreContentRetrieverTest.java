@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 
 import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
 import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -71,6 +72,25 @@ class EmbeddingStoreContentRetrieverTest {
         verifyNoMoreInteractions(EMBEDDING_STORE);
     }
 
+    @Test
+    void should_have_id() {
+
+        // given
+        ContentRetriever defaultIdRetriever = new EmbeddingStoreContentRetriever(EMBEDDING_STORE, EMBEDDING_MODEL);
+        ContentRetriever contentRetriever = EmbeddingStoreContentRetriever.builder()
+                .embeddingStore(EMBEDDING_STORE)
+                .embeddingModel(EMBEDDING_MODEL)
+                .id("documentation")
+                .build();
+
+        // when
+        contentRetriever.retrieve(QUERY);
+
+        // then
+        assertThat(defaultIdRetriever.id()).isEqualTo("EmbeddingStoreContentRetriever");
+        assertThat(contentRetriever.id()).isEqualTo("documentation");
+    }
+
     @Test
     void should_retrieve_builder() {
 
@@ -10,10 +10,25 @@ import dev.langchain4j.data.segment.TextSegmentTransformer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static dev.langchain4j.data.segment.TextSegment.textSegment;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 class EmbeddingStoreIngestorTest {
@@ -199,4 +214,611 @@ class EmbeddingStoreIngestorTest {
         verify(embeddingStore).addAll(singletonList(expectedEmbedding), singletonList(expectedTextSegment));
         verifyNoMoreInteractions(embeddingStore);
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_embed_and_store_in_batches_when_pipelined() {
+
+        // given
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            documents.add(Document.from("Document " + i));
+        }
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<List<TextSegment>> embeddedBatches = new CopyOnWriteArrayList<>();
+        EmbeddingModel embeddingModel = segments -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+                embeddedBatches.add(segments);
+                return Response.from(segments.stream()
+                        .map(segment -> Embedding.from(new float[]{segment.text().length()}))
+                        .collect(toList()));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        };
+
+        List<TextSegment> storedSegments = new CopyOnWriteArrayList<>();
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        doAnswer(invocation -> {
+            List<Embedding> embeddings = invocation.getArgument(0);
+            List<TextSegment> segments = invocation.getArgument(1);
+            assertThat(embeddings).hasSameSizeAs(segments);
+            storedSegments.addAll(segments);
+            return null;
+        }).when(embeddingStore).addAll(anyList(), anyList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .batchSize(7)
+                .maxInFlightBatches(3)
+                .executor(executor)
+                .build();
+
+        // when
+        ingestor.ingest(documents);
+
+        // then
+        assertThat(embeddedBatches).hasSize(15);
+        assertThat(embeddedBatches).allSatisfy(batch -> assertThat(batch.size()).isLessThanOrEqualTo(7));
+        assertThat(maxInFlight.get()).isBetween(1, 3);
+        assertThat(storedSegments).containsExactlyInAnyOrderElementsOf(documents.stream()
+                .map(Document::toTextSegment)
+                .collect(toList()));
+        verify(embeddingStore, times(15)).addAll(anyList(), anyList());
+
+        executor.shutdown();
+    }
+
+    @Test
+    void should_transform_and_split_documents_one_by_one_when_pipelined() {
+
+        // given
+        Document firstDocument = Document.from("First sentence. Second sentence.");
+        Document filteredOutDocument = Document.from("Filtered out.");
+
+        DocumentTransformer documentTransformer = document -> document == filteredOutDocument ? null : document;
+        DocumentSplitter documentSplitter = document -> asList(
+                textSegment("First sentence."),
+                textSegment("Second sentence.")
+        );
+        TextSegmentTransformer textSegmentTransformer = segment -> textSegment("Transformed " + segment.text());
+
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(asList(
+                textSegment("Transformed First sentence."),
+                textSegment("Transformed Second sentence.")
+        ))).thenReturn(Response.from(asList(
+                Embedding.from(new float[]{1}),
+                Embedding.from(new float[]{2})
+        )));
+
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentTransformer(documentTransformer)
+                .documentSplitter(documentSplitter)
+                .textSegmentTransformer(textSegmentTransformer)
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .executor(Runnable::run)
+                .build();
+
+        // when
+        ingestor.ingest(filteredOutDocument, firstDocument);
+
+        // then
+        verify(embeddingStore).addAll(
+                asList(
+                        Embedding.from(new float[]{1}),
+                        Embedding.from(new float[]{2})),
+                asList(
+                        textSegment("Transformed First sentence."),
+                        textSegment("Transformed Second sentence.")
+                ));
+        verifyNoMoreInteractions(embeddingStore);
+    }
+
+    @Test
+    void should_stop_and_rethrow_when_batch_fails_when_pipelined() {
+
+        // given
+        RuntimeException exception = new RuntimeException("embedding failed");
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList())).thenThrow(exception);
+
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .batchSize(1)
+                .maxInFlightBatches(1)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> ingestor.ingest(
+                Document.from("First"),
+                Document.from("Second"),
+                Document.from("Third")
+        )).isSameAs(exception);
+
+        verify(embeddingModel, atMost(2)).embedAll(anyList());
+        verifyNoInteractions(embeddingStore);
+    }
+
+    @Test
+    void should_rethrow_when_splitting_fails_when_pipelined() {
+
+        // given
+        DocumentSplitter documentSplitter = document -> {
+            throw new IllegalStateException("splitting failed");
+        };
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(documentSplitter)
+                .embeddingModel(mock(EmbeddingModel.class))
+                .embeddingStore(mock(EmbeddingStore.class))
+                .maxInFlightBatches(2)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> ingestor.ingest(Document.from("text")))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("splitting failed");
+    }
+
+    @Test
+    void should_validate_pipeline_configuration() {
+
+        assertThatThrownBy(() -> EmbeddingStoreIngestor.builder()
+                .embeddingModel(mock(EmbeddingModel.class))
+                .embeddingStore(mock(EmbeddingStore.class))
+                .batchSize(0)
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("batchSize must be greater than zero, but is: 0");
+
+        assertThatThrownBy(() -> EmbeddingStoreIngestor.builder()
+                .embeddingModel(mock(EmbeddingModel.class))
+                .embeddingStore(mock(EmbeddingStore.class))
+                .maxInFlightBatches(0)
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxInFlightBatches must be greater than zero, but is: 0");
+    }
+
+    @Test
+    void should_ingest_stream_lazily_and_report_failed_batches() {
+
+        // given
+        Stream<Document> documents = IntStream.range(0, 10)
+                .mapToObj(i -> Document.from("Document " + i));
+
+        RuntimeException exception = new RuntimeException("embedding failed");
+        EmbeddingModel embeddingModel = segments -> {
+            if (segments.contains(Document.from("Document 4").toTextSegment())) {
+                throw exception;
+            }
+            return Response.from(segments.stream()
+                    .map(segment -> Embedding.from(new float[]{1}))
+                    .collect(toList()));
+        };
+
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        when(embeddingStore.addAll(anyList(), anyList())).thenReturn(asList("id1", "id2", "id3"));
+
+        List<IngestionBatchResult> reportedBatches = new CopyOnWriteArrayList<>();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .batchSize(3)
+                .maxInFlightBatches(1)
+                .executor(Runnable::run)
+                .build();
+
+        // when
+        IngestionResult result = ingestor.ingest(documents.iterator(), reportedBatches::add);
+
+        // then
+        assertThat(result.documentCount()).isEqualTo(10);
+        assertThat(result.batchCount()).isEqualTo(4);
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(result.storedSegmentCount()).isEqualTo(7);
+        assertThat(result.failedBatches()).hasSize(1);
+        IngestionBatchResult failedBatch = result.failedBatches().get(0);
+        assertThat(failedBatch.index()).isEqualTo(1);
+        assertThat(failedBatch.isSuccessful()).isFalse();
+        assertThat(failedBatch.error()).isSameAs(exception);
+        assertThat(failedBatch.ids()).isEmpty();
+        assertThat(result).hasToString("IngestionResult { documentCount = 10, batchCount = 4, failedBatchCount = 1 }");
+        assertThat(failedBatch).hasToString(
+                "IngestionBatchResult { index = 1, segmentCount = 3, error = java.lang.RuntimeException: embedding failed }");
+
+        assertThat(reportedBatches).extracting(IngestionBatchResult::index).containsExactly(0, 1, 2, 3);
+        assertThat(reportedBatches).extracting(IngestionBatchResult::segmentCount).containsExactly(3, 3, 3, 1);
+        assertThat(reportedBatches.get(0).ids()).containsExactly("id1", "id2", "id3");
+        assertThat(reportedBatches.get(0).error()).isNull();
+        assertThat(reportedBatches.get(1)).isSameAs(failedBatch);
+        verify(embeddingStore, times(3)).addAll(anyList(), anyList());
+    }
+
+    @Test
+    void should_consume_documents_incrementally_when_streaming() {
+
+        // given
+        AtomicInteger readDocuments = new AtomicInteger();
+        Iterator<Document> documents = new Iterator<Document>() {
+
+            @Override
+            public boolean hasNext() {
+                return readDocuments.get() < 1_000;
+            }
+
+            @Override
+            public Document next() {
+                return Document.from("Document " + readDocuments.incrementAndGet());
+            }
+        };
+
+        List<Integer> readDocumentsWhenEmbedding = new ArrayList<>();
+        EmbeddingModel embeddingModel = segments -> {
+            readDocumentsWhenEmbedding.add(readDocuments.get());
+            return Response.from(segments.stream()
+                    .map(segment -> Embedding.from(new float[]{1}))
+                    .collect(toList()));
+        };
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(mock(EmbeddingStore.class))
+                .batchSize(10)
+                .executor(Runnable::run)
+                .build();
+
+        // when
+        IngestionResult result = ingestor.ingest(documents);
+
+        // then
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.storedSegmentCount()).isEqualTo(1_000);
+        assertThat(readDocumentsWhenEmbedding).hasSize(100);
+        for (int batch = 0; batch < 100; batch++) {
+            assertThat(readDocumentsWhenEmbedding.get(batch)).isEqualTo((batch + 1) * 10);
+        }
+    }
+
+    @Test
+    void should_ingest_empty_stream() {
+
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .build();
+
+        IngestionResult result = ingestor.ingest(Stream.empty());
+
+        assertThat(result.documentCount()).isZero();
+        assertThat(result.batchCount()).isZero();
+        assertThat(result.isSuccessful()).isTrue();
+        verifyNoInteractions(embeddingModel, embeddingStore);
+    }
+
+    @Test
+    void should_embed_and_store_on_daemon_threads_by_default() {
+
+        // given
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        EmbeddingModel embeddingModel = segments -> {
+            threads.add(Thread.currentThread());
+            return Response.from(segments.stream()
+                    .map(segment -> Embedding.from(new float[]{1}))
+                    .collect(toList()));
+        };
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(mock(EmbeddingStore.class))
+                .batchSize(1)
+                .build();
+
+        // when
+        ingestor.ingest(Document.from("First"), Document.from("Second"));
+        ingestor.close();
+        ingestor.ingest(Document.from("Third"));
+        ingestor.close();
+
+        // then
+        assertThat(threads).hasSize(3).allMatch(Thread::isDaemon);
+        assertThat(threads).doesNotContain(Thread.currentThread());
+    }
+
+    @Test
+    void should_ingest_incrementally() {
+
+        // given
+        DocumentSplitter documentSplitter = document -> {
+            List<TextSegment> segments = new ArrayList<>();
+            String[] sentences = document.text().split("\\. ");
+            for (int i = 0; i < sentences.length; i++) {
+                segments.add(TextSegment.from(sentences[i], document.metadata().copy().put("index", i)));
+            }
+            return segments;
+        };
+
+        List<String> embeddedTexts = new ArrayList<>();
+        EmbeddingModel embeddingModel = segments -> {
+            segments.forEach(segment -> embeddedTexts.add(segment.text()));
+            return Response.from(segments.stream()
+                    .map(segment -> Embedding.from(new float[]{segment.text().length()}))
+                    .collect(toList()));
+        };
+
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        IngestionRecordStore ingestionRecordStore = new InMemoryIngestionRecordStore();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(documentSplitter)
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .ingestionRecordStore(ingestionRecordStore)
+                .batchSize(2)
+                .executor(Runnable::run)
+                .build();
+
+        Document first = Document.from("One. Two. Three", Metadata.from(Document.FILE_NAME, "first.txt"));
+        Document second = Document.from("Four", Metadata.from(Document.URL, "https://example.com/second"));
+
+        // when
+        ingestor.ingest(first, second);
+
+        // then
+        assertThat(embeddedTexts).containsExactly("One", "Two", "Three", "Four");
+        assertThat(ingestionRecordStore.getSegmentIds("first.txt")).hasSize(3);
+        assertThat(ingestionRecordStore.getSegmentIds("https://example.com/second")).hasSize(1);
+        verify(embeddingStore, times(2)).addAll(anyList(), anyList(), anyList());
+        verifyNoMoreInteractions(embeddingStore);
+
+        // when
+        embeddedTexts.clear();
+        ingestor.ingest(first, second);
+
+        // then
+        assertThat(embeddedTexts).isEmpty();
+        verifyNoMoreInteractions(embeddingStore);
+
+        // when
+        Document changedFirst = Document.from("One. Deux. Three. Four", Metadata.from(Document.FILE_NAME, "first.txt"));
+        ingestor.ingest(changedFirst, second);
+
+        // then
+        assertThat(embeddedTexts).containsExactly("Deux", "Four");
+        String staleId = EmbeddingStoreIngestor.segmentId(TextSegment.from("Two", first.metadata().copy().put("index", 1)));
+        String deuxId = EmbeddingStoreIngestor.segmentId(TextSegment.from("Deux", changedFirst.metadata().copy().put("index", 1)));
+        String fourId = EmbeddingStoreIngestor.segmentId(TextSegment.from("Four", changedFirst.metadata().copy().put("index", 3)));
+        InOrder inOrder = inOrder(embeddingStore);
+        inOrder.verify(embeddingStore).addAll(
+                eq(asList(deuxId, fourId)),
+                eq(asList(Embedding.from(new float[]{4}), Embedding.from(new float[]{4}))),
+                anyList());
+        inOrder.verify(embeddingStore).removeAll(singletonList(staleId));
+        verifyNoMoreInteractions(embeddingStore);
+        assertThat(ingestionRecordStore.getSegmentIds("first.txt")).hasSize(4).contains(deuxId, fourId);
+    }
+
+    @Test
+    void should_not_record_document_when_its_segments_fail_to_be_stored() {
+
+        // given
+        EmbeddingModel embeddingModel = segments -> Response.from(segments.stream()
+                .map(segment -> Embedding.from(new float[]{1}))
+                .collect(toList()));
+
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        RuntimeException exception = new RuntimeException("store failed");
+        doThrow(exception).doNothing().when(embeddingStore).addAll(anyList(), anyList(), anyList());
+
+        IngestionRecordStore ingestionRecordStore = new InMemoryIngestionRecordStore();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .ingestionRecordStore(ingestionRecordStore)
+                .batchSize(1)
+                .executor(Runnable::run)
+                .build();
+
+        Document first = Document.from("First", Metadata.from(Document.FILE_NAME, "first.txt"));
+        Document second = Document.from("Second", Metadata.from(Document.FILE_NAME, "second.txt"));
+
+        // when
+        IngestionResult result = ingestor.ingest(asList(first, second).iterator());
+
+        // then
+        assertThat(result.failedBatches()).hasSize(1);
+        assertThat(ingestionRecordStore.getSegmentIds("first.txt")).isEmpty();
+        assertThat(ingestionRecordStore.getSegmentIds("second.txt")).hasSize(1);
+
+        // when
+        result = ingestor.ingest(asList(first, second).iterator());
+
+        // then
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.storedSegmentCount()).isEqualTo(1);
+        assertThat(ingestionRecordStore.getSegmentIds("first.txt")).hasSize(1);
+        verify(embeddingStore, times(3)).addAll(anyList(), anyList(), anyList());
+    }
+
+    @Test
+    void should_not_remove_stale_segments_when_new_segments_fail_to_be_stored() {
+
+        // given
+        EmbeddingModel embeddingModel = segments -> Response.from(segments.stream()
+                .map(segment -> Embedding.from(new float[]{1}))
+                .collect(toList()));
+
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        IngestionRecordStore ingestionRecordStore = new InMemoryIngestionRecordStore();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .ingestionRecordStore(ingestionRecordStore)
+                .executor(Runnable::run)
+                .build();
+
+        Metadata metadata = Metadata.from(Document.FILE_NAME, "file.txt");
+        ingestor.ingest(Document.from("First version", metadata));
+        RuntimeException exception = new RuntimeException("store failed");
+        doThrow(exception).when(embeddingStore).addAll(anyList(), anyList(), anyList());
+
+        // when-then
+        assertThatThrownBy(() -> ingestor.ingest(Document.from("Second version", metadata)))
+                .isSameAs(exception);
+        verify(embeddingStore, never()).removeAll(anyCollection());
+        assertThat(ingestionRecordStore.getSegmentIds("file.txt"))
+                .containsExactly(EmbeddingStoreIngestor.segmentId(TextSegment.from("First version", metadata.copy().put("index", 0))));
+    }
+
+    @Test
+    void should_keep_batch_successful_and_retry_when_stale_segments_fail_to_be_removed() {
+
+        // given
+        EmbeddingModel embeddingModel = segments -> Response.from(segments.stream()
+                .map(segment -> Embedding.from(new float[]{1}))
+                .collect(toList()));
+
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        doThrow(new RuntimeException("remove failed")).doNothing().when(embeddingStore).removeAll(anyCollection());
+        IngestionRecordStore ingestionRecordStore = new InMemoryIngestionRecordStore();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .ingestionRecordStore(ingestionRecordStore)
+                .batchSize(1)
+                .executor(Runnable::run)
+                .build();
+
+        Metadata metadata = Metadata.from(Document.FILE_NAME, "file.txt");
+        String firstId = EmbeddingStoreIngestor.segmentId(TextSegment.from("First version", metadata.copy().put("index", 0)));
+        String secondId = EmbeddingStoreIngestor.segmentId(TextSegment.from("Second version", metadata.copy().put("index", 0)));
+        ingestor.ingest(Document.from("First version", metadata));
+
+        // when
+        IngestionResult result = ingestor.ingest(singletonList(Document.from("Second version", metadata)).iterator());
+
+        // then
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.storedSegmentCount()).isEqualTo(1);
+        assertThat(ingestionRecordStore.getSegmentIds("file.txt")).containsExactly(firstId);
+
+        // when
+        ingestor.ingest(Document.from("Second version", metadata));
+
+        // then
+        verify(embeddingStore, times(2)).removeAll(singletonList(firstId));
+        assertThat(ingestionRecordStore.getSegmentIds("file.txt")).containsExactly(secondId);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_require_an_embedding_store_able_to_remove_segments_to_ingest_incrementally() {
+
+        EmbeddingStore<TextSegment> embeddingStore = (EmbeddingStore) new EmbeddingStoreTest.MinimalEmbeddingStore();
+
+        assertThatThrownBy(() -> EmbeddingStoreIngestor.builder()
+                .embeddingModel(segments -> Response.from(emptyList()))
+                .embeddingStore(embeddingStore)
+                .ingestionRecordStore(new InMemoryIngestionRecordStore())
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Incremental ingestion requires an embedding store implementing " +
+                        "addAll(List, List, List) and removeAll(Collection), " +
+                        "but dev.langchain4j.store.embedding.EmbeddingStoreTest$MinimalEmbeddingStore does not");
+    }
+
+    @Test
+    void should_require_a_document_key_to_ingest_incrementally() {
+
+        // given
+        EmbeddingModel embeddingModel = segments -> Response.from(segments.stream()
+                .map(segment -> Embedding.from(new float[]{1}))
+                .collect(toList()));
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .ingestionRecordStore(new InMemoryIngestionRecordStore())
+                .executor(Runnable::run)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> ingestor.ingest(Document.from("text")))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("please specify a document key provider");
+        verifyNoInteractions(embeddingStore);
+    }
+
+    @Test
+    void should_identify_documents_with_the_document_key_provider() {
+
+        // given
+        EmbeddingModel embeddingModel = segments -> Response.from(segments.stream()
+                .map(segment -> Embedding.from(new float[]{1}))
+                .collect(toList()));
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        IngestionRecordStore ingestionRecordStore = new InMemoryIngestionRecordStore();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .ingestionRecordStore(ingestionRecordStore)
+                .documentKeyProvider(document -> document.metadata().getString("id"))
+                .executor(Runnable::run)
+                .build();
+
+        Metadata metadata = Metadata.from("id", "42");
+        ingestor.ingest(Document.from("First version", metadata));
+
+        // when
+        ingestor.ingest(Document.from("Second version", metadata));
+
+        // then
+        String secondId = EmbeddingStoreIngestor.segmentId(TextSegment.from("Second version", metadata.copy().put("index", 0)));
+        verify(embeddingStore).removeAll(singletonList(
+                EmbeddingStoreIngestor.segmentId(TextSegment.from("First version", metadata.copy().put("index", 0)))));
+        assertThat(ingestionRecordStore.getSegmentIds("42")).containsExactly(secondId);
+    }
+
+    @Test
+    void should_derive_deterministic_document_keys_and_segment_ids() {
+
+        Metadata fileMetadata = new Metadata()
+                .put(Document.FILE_NAME, "file.txt")
+                .put(Document.ABSOLUTE_DIRECTORY_PATH, "/docs");
+        assertThat(EmbeddingStoreIngestor.documentKey(Document.from("text", fileMetadata))).isEqualTo("/docs/file.txt");
+        assertThat(EmbeddingStoreIngestor.documentKey(Document.from("text", Metadata.from(Document.FILE_NAME, "file.txt"))))
+                .isEqualTo("file.txt");
+        assertThat(EmbeddingStoreIngestor.documentKey(Document.from("text", Metadata.from(Document.URL, "https://example.com"))))
+                .isEqualTo("https://example.com");
+        assertThat(EmbeddingStoreIngestor.documentKey(Document.from("text"))).isNull();
+
+        TextSegment segment = TextSegment.from("text", new Metadata().put("index", 0).put("file_name", "file.txt"));
+        assertThat(EmbeddingStoreIngestor.segmentId(segment))
+                .isEqualTo(EmbeddingStoreIngestor.segmentId(TextSegment.from("text", new Metadata().put("file_name", "file.txt").put("index", 0))))
+                .isNotEqualTo(EmbeddingStoreIngestor.segmentId(TextSegment.from("text", new Metadata().put("file_name", "file.txt").put("index", 1))))
+                .isNotEqualTo(EmbeddingStoreIngestor.segmentId(TextSegment.from("text!", segment.metadata())));
+    }
+}
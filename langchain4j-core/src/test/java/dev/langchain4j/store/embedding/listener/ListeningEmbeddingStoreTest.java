@@ -0,0 +1,206 @@
+package dev.langchain4j.store.embedding.listener;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.listener.ModelListener;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.filter.Filter;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static dev.langchain4j.store.embedding.listener.EmbeddingStoreRequest.Operation.ADD;
+import static dev.langchain4j.store.embedding.listener.EmbeddingStoreRequest.Operation.REMOVE;
+import static dev.langchain4j.store.embedding.listener.EmbeddingStoreRequest.Operation.SEARCH;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ListeningEmbeddingStoreTest {
+
+    static class MapEmbeddingStore implements EmbeddingStore<TextSegment> {
+
+        final Map<String, Embedding> embeddings = new LinkedHashMap<>();
+        int nextId;
+
+        @Override
+        public String add(Embedding embedding) {
+            String id = String.valueOf(nextId++);
+            add(id, embedding);
+            return id;
+        }
+
+        @Override
+        public void add(String id, Embedding embedding) {
+            embeddings.put(id, embedding);
+        }
+
+        @Override
+        public String add(Embedding embedding, TextSegment textSegment) {
+            return add(embedding);
+        }
+
+        @Override
+        public List<String> addAll(List<Embedding> embeddings) {
+            return embeddings.stream().map(this::add).collect(toList());
+        }
+
+        @Override
+        public List<String> addAll(List<Embedding> embeddings, List<TextSegment> embedded) {
+            return addAll(embeddings);
+        }
+
+        @Override
+        public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+            for (int i = 0; i < ids.size(); i++) {
+                add(ids.get(i), embeddings.get(i));
+            }
+        }
+
+        @Override
+        public void remove(String id) {
+            embeddings.remove(id);
+        }
+
+        @Override
+        public void removeAll(Collection<String> ids) {
+            ids.forEach(embeddings::remove);
+        }
+
+        @Override
+        public void removeAll(Filter filter) {
+            throw new UnsupportedOperationException("Filters are not supported");
+        }
+
+        @Override
+        public void removeAll() {
+            embeddings.clear();
+        }
+
+        @Override
+        public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+            List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
+            embeddings.forEach((id, embedding) -> matches.add(new EmbeddingMatch<>(1.0, id, embedding, null)));
+            return new EmbeddingSearchResult<>(matches);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    ModelListener<EmbeddingStoreRequest, EmbeddingStoreResponse> listener = mock(ModelListener.class);
+
+    MapEmbeddingStore delegate = new MapEmbeddingStore();
+
+    EmbeddingStore<TextSegment> store = ListeningEmbeddingStore.<TextSegment>builder()
+            .delegate(delegate)
+            .listeners(singletonList(listener))
+            .build();
+
+    Embedding embedding = Embedding.from(new float[]{1, 2});
+
+    @Test
+    void should_report_additions() {
+
+        // when
+        String id = store.add(embedding);
+        store.add("id", embedding);
+        store.add(embedding, TextSegment.from("text"));
+        List<String> ids = store.addAll(asList(embedding, embedding));
+        store.addAll(asList(embedding, embedding, embedding), asList(null, null, null));
+        store.addAll(asList("a", "b"), asList(embedding, embedding), asList(null, null));
+
+        // then
+        ArgumentCaptor<EmbeddingStoreRequest> requests = ArgumentCaptor.forClass(EmbeddingStoreRequest.class);
+        verify(listener, times(6)).onRequest(requests.capture());
+        assertThat(requests.getAllValues()).extracting(EmbeddingStoreRequest::operation).containsOnly(ADD);
+        assertThat(requests.getAllValues()).extracting(EmbeddingStoreRequest::batchSize).containsExactly(1, 1, 1, 2, 3, 2);
+        assertThat(requests.getAllValues().get(1).ids()).containsExactly("id");
+        assertThat(requests.getAllValues().get(5).ids()).containsExactly("a", "b");
+
+        ArgumentCaptor<EmbeddingStoreResponse> responses = ArgumentCaptor.forClass(EmbeddingStoreResponse.class);
+        verify(listener, times(6)).onResponse(responses.capture(), any());
+        assertThat(responses.getAllValues().get(0).ids()).containsExactly(id);
+        assertThat(responses.getAllValues().get(1).ids()).isNull();
+        assertThat(responses.getAllValues().get(3).ids()).isEqualTo(ids);
+        assertThat(responses.getAllValues()).allSatisfy(response -> assertThat(response.duration()).isNotNull());
+
+        assertThat(delegate.embeddings).hasSize(10);
+    }
+
+    @Test
+    void should_report_removals() {
+
+        // given
+        Filter filter = metadataKey("key").isEqualTo("value");
+
+        // when
+        store.remove("a");
+        store.removeAll(asList("b", "c"));
+        store.removeAll();
+        assertThatThrownBy(() -> store.removeAll(filter)).isInstanceOf(UnsupportedOperationException.class);
+
+        // then
+        ArgumentCaptor<EmbeddingStoreRequest> requests = ArgumentCaptor.forClass(EmbeddingStoreRequest.class);
+        verify(listener, times(4)).onRequest(requests.capture());
+        assertThat(requests.getAllValues()).extracting(EmbeddingStoreRequest::operation).containsOnly(REMOVE);
+        assertThat(requests.getAllValues().get(0).ids()).containsExactly("a");
+        assertThat(requests.getAllValues().get(1).ids()).containsExactly("b", "c");
+        assertThat(requests.getAllValues().get(1).batchSize()).isEqualTo(2);
+        assertThat(requests.getAllValues().get(3).filter()).isSameAs(filter);
+
+        verify(listener, times(3)).onResponse(any(), any());
+        verify(listener).onError(any(UnsupportedOperationException.class), isNull(), same(requests.getAllValues().get(3)));
+    }
+
+    @Test
+    void should_report_searches() {
+
+        // given
+        delegate.add("a", embedding);
+        EmbeddingSearchRequest searchRequest = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding)
+                .build();
+
+        // when
+        EmbeddingSearchResult<TextSegment> result = store.search(searchRequest);
+        List<EmbeddingMatch<TextSegment>> matches = store.findRelevant(embedding, 3);
+
+        // then
+        assertThat(matches).isEqualTo(result.matches());
+
+        ArgumentCaptor<EmbeddingStoreRequest> requests = ArgumentCaptor.forClass(EmbeddingStoreRequest.class);
+        verify(listener, times(2)).onRequest(requests.capture());
+        assertThat(requests.getAllValues()).extracting(EmbeddingStoreRequest::operation).containsOnly(SEARCH);
+        assertThat(requests.getAllValues().get(0).searchRequest()).isSameAs(searchRequest);
+        assertThat(requests.getAllValues().get(1).searchRequest().maxResults()).isEqualTo(3);
+
+        ArgumentCaptor<EmbeddingStoreResponse> responses = ArgumentCaptor.forClass(EmbeddingStoreResponse.class);
+        verify(listener, times(2)).onResponse(responses.capture(), any());
+        assertThat(responses.getAllValues().get(0).searchResult()).isSameAs(result);
+    }
+
+    @Test
+    void should_delegate_search_by_memory_id_without_reporting() {
+
+        // when-then
+        assertThatThrownBy(() -> store.findRelevant("memory", embedding, 3, 0.5))
+                .hasMessage("Not implemented");
+        verify(listener, times(0)).onRequest(any());
+    }
+}
@@ -1,11 +1,19 @@
 package dev.langchain4j.store.memory.chat;
 
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
 
 class InMemoryChatMemoryStoreTest implements WithAssertions {
     @Test
@@ -28,4 +36,76 @@ class InMemoryChatMemoryStoreTest implements WithAssertions {
 
         assertThat(store.getMessages("foo")).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_append_and_evict_oldest_messages() {
+        InMemoryChatMemoryStore store = new InMemoryChatMemoryStore();
+        store.appendMessages("foo", Arrays.asList(new SystemMessage("sys"), new UserMessage("one")));
+        List<ChatMessage> snapshot = store.getMessages("foo");
+
+        store.appendMessages("foo", Arrays.asList(new AiMessage("two"), new UserMessage("three")));
+        store.evictOldest("foo", 2);
+
+        assertThat(store.getMessages("foo")).containsExactly(
+                new SystemMessage("sys"),
+                new UserMessage("three"));
+        assertThat(snapshot).containsExactly(
+                new SystemMessage("sys"),
+                new UserMessage("one"));
+
+        store.evictOldest("foo", 10);
+        assertThat(store.getMessages("foo")).containsExactly(new SystemMessage("sys"));
+
+        store.evictOldest("bar", 1);
+        assertThat(store.getMessages("bar")).isEmpty();
+    }
+
+    @Test
+    void should_append_and_evict_oldest_messages_by_default() {
+        Map<Object, List<ChatMessage>> messagesByMemoryId = new HashMap<>();
+        ChatMemoryStore store = new ChatMemoryStore() {
+
+            @Override
+            public List<ChatMessage> getMessages(Object memoryId) {
+                return messagesByMemoryId.getOrDefault(memoryId, new ArrayList<>());
+            }
+
+            @Override
+            public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+                messagesByMemoryId.put(memoryId, messages);
+            }
+
+            @Override
+            public void deleteMessages(Object memoryId) {
+                messagesByMemoryId.remove(memoryId);
+            }
+        };
+
+        store.appendMessages("foo", singletonList(new UserMessage("one")));
+        store.appendMessages("foo", Arrays.asList(new SystemMessage("sys"), new AiMessage("two")));
+        store.evictOldest("foo", 1);
+
+        assertThat(store.getMessages("foo")).containsExactly(
+                new SystemMessage("sys"),
+                new AiMessage("two"));
+
+        List<ChatMessage> messages = store.getMessages("foo");
+        store.evictOldest("foo", 0);
+        assertThat(store.getMessages("foo")).isSameAs(messages);
+    }
+
+    @Test
+    void should_remove_oldest_messages_but_system_messages() {
+        List<ChatMessage> messages = new ArrayList<>(Arrays.asList(
+                new UserMessage("one"),
+                new SystemMessage("sys"),
+                new AiMessage("two"),
+                new UserMessage("three")));
+
+        assertThat(ChatMemoryStore.removeOldest(messages, 2)).isEqualTo(2);
+        assertThat(messages).containsExactly(new SystemMessage("sys"), new UserMessage("three"));
+
+        assertThat(ChatMemoryStore.removeOldest(messages, 5)).isEqualTo(1);
+        assertThat(messages).containsExactly(new SystemMessage("sys"));
+    }
+}
@@ -7,6 +7,7 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.internal.Utils;
 import dev.langchain4j.model.dashscope.spi.QwenEmbeddingModelBuilderFactory;
 import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.batch.EmbeddingBatcher;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
 import lombok.Builder;
@@ -28,7 +29,9 @@ public class QwenEmbeddingModel implements EmbeddingModel {
     public static final String TYPE_KEY = "type";
     public static final String TYPE_QUERY = "query";
     public static final String TYPE_DOCUMENT = "document";
-    private static final int MAX_BATCH_SIZE = 25;
+    private static final EmbeddingBatcher BATCHER = EmbeddingBatcher.builder()
+            .maxSegmentsPerBatch(25)
+            .build();
 
     private final String apiKey;
     private final String modelName;
@@ -60,25 +63,7 @@ public class QwenEmbeddingModel implements EmbeddingModel {
 
     private Response<List<Embedding>> embedTexts(List<TextSegment> textSegments,
                                                  TextEmbeddingParam.TextType textType) {
-        int size = textSegments.size();
-        if (size < MAX_BATCH_SIZE) {
-            return batchEmbedTexts(textSegments, textType);
-        }
-
-        List<Embedding> allEmbeddings = new ArrayList<>(size);
-        TokenUsage allUsage = null;
-        int fromIndex = 0;
-        int toIndex = MAX_BATCH_SIZE;
-        while (fromIndex < size) {
-            List<TextSegment> batchTextSegments = textSegments.subList(fromIndex, toIndex);
-            Response<List<Embedding>> batchResponse = batchEmbedTexts(batchTextSegments, textType);
-            allEmbeddings.addAll(batchResponse.content());
-            allUsage = TokenUsage.sum(allUsage, batchResponse.tokenUsage());
-            fromIndex = toIndex;
-            toIndex = Math.min(size, fromIndex + MAX_BATCH_SIZE);
-        }
-
-        return Response.from(allEmbeddings, allUsage);
+        return BATCHER.embedAll(textSegments, batch -> batchEmbedTexts(batch, textType));
     }
 
     private Response<List<Embedding>> batchEmbedTexts(List<TextSegment> textSegments, TextEmbeddingParam.TextType textType) {
@@ -126,6 +126,11 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
     return ids;
   }
 
+  @Override
+  public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+    addAllInternal(ids, embeddings, embedded);
+  }
+
   @Override
   public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest embeddingSearchRequest) {
 
@@ -204,6 +204,26 @@ class OllamaClient {
         }
     }
 
+    /**
+     * Embeds multiple inputs in a single request, using the {@code /api/embed} endpoint.
+     *
+     * @return the response, or {@code null} if the server responded with 404, e.g. when it predates this endpoint
+     */
+    public EmbedResponse embed(EmbedRequest request) {
+        try {
+            retrofit2.Response<EmbedResponse> retrofitResponse = ollamaApi.embed(request).execute();
+            if (retrofitResponse.isSuccessful()) {
+                return retrofitResponse.body();
+            } else if (retrofitResponse.code() == 404) {
+                return null;
+            } else {
+                throw toException(retrofitResponse);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public ModelsListResponse listModels() {
         try {
             retrofit2.Response<ModelsListResponse> retrofitResponse = ollamaApi.listModels().execute();
@@ -3,29 +3,49 @@ package dev.langchain4j.model.ollama;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.batch.EmbeddingBatcher;
 import dev.langchain4j.model.ollama.spi.OllamaEmbeddingModelBuilderFactory;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
 import lombok.Builder;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import static dev.langchain4j.internal.RetryUtils.withRetry;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.time.Duration.ofSeconds;
+import static java.util.stream.Collectors.toList;
 
 /**
  * <a href="https://github.com/jmorganca/ollama/blob/main/docs/api.md">Ollama API reference</a>
+ * <p>
+ * By default, each {@link TextSegment} is embedded with its own request, one request after another.
+ * To embed large numbers of segments faster:
+ * <ul>
+ *     <li>set {@code maxSegmentsPerBatch} to embed several segments per request using the {@code /api/embed} endpoint
+ *     (Ollama 0.3.0 and newer). If the server does not provide this endpoint,
+ *     the model falls back to one request per segment.</li>
+ *     <li>set {@code maxConcurrentRequests} to send several requests at the same time.
+ *     Requests are executed on the provided {@code executor}, or on a cached thread pool by default
+ *     (see {@link EmbeddingBatcher}).
+ *     Ollama processes up to {@code OLLAMA_NUM_PARALLEL} requests per model concurrently and queues the rest.</li>
+ * </ul>
+ * The embeddings are returned in the order of the segments and the {@link TokenUsage} is summed over all requests.
  */
 public class OllamaEmbeddingModel implements EmbeddingModel {
 
     private final OllamaClient client;
     private final String modelName;
     private final Integer maxRetries;
+    private final EmbeddingBatcher batcher;
+
+    private volatile boolean embedEndpointSupported = true;
 
     @Builder
     public OllamaEmbeddingModel(String baseUrl,
@@ -34,7 +54,10 @@ public class OllamaEmbeddingModel implements EmbeddingModel {
                                 Integer maxRetries,
                                 Boolean logRequests,
                                 Boolean logResponses,
-                                Map<String, String> customHeaders) {
+                                Map<String, String> customHeaders,
+                                Integer maxSegmentsPerBatch,
+                                Integer maxConcurrentRequests,
+                                Executor executor) {
         this.client = OllamaClient.builder()
                 .baseUrl(baseUrl)
                 .timeout(getOrDefault(timeout, ofSeconds(60)))
@@ -44,13 +67,41 @@ public class OllamaEmbeddingModel implements EmbeddingModel {
                 .build();
         this.modelName = ensureNotBlank(modelName, "modelName");
         this.maxRetries = getOrDefault(maxRetries, 3);
+        this.batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(getOrDefault(maxSegmentsPerBatch, 1))
+                .maxConcurrentBatches(maxConcurrentRequests)
+                .executor(executor)
+                .build();
     }
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
-        List<Embedding> embeddings = new ArrayList<>();
+        return batcher.embedAll(textSegments, this::embedBatch);
+    }
+
+    private Response<List<Embedding>> embedBatch(List<TextSegment> textSegments) {
+
+        if (textSegments.size() > 1 && embedEndpointSupported) {
+            EmbedRequest request = EmbedRequest.builder()
+                    .model(modelName)
+                    .input(textSegments.stream().map(TextSegment::text).collect(toList()))
+                    .build();
 
-        textSegments.forEach(textSegment -> {
+            EmbedResponse response = withRetry(() -> client.embed(request), maxRetries);
+
+            if (response != null) {
+                List<Embedding> embeddings = response.getEmbeddings().stream()
+                        .map(Embedding::from)
+                        .collect(toList());
+                TokenUsage tokenUsage = response.getPromptEvalCount() == null
+                        ? null
+                        : new TokenUsage(response.getPromptEvalCount());
+                return Response.from(embeddings, tokenUsage);
+            }
+        }
+
+        List<Embedding> embeddings = new ArrayList<>(textSegments.size());
+        for (TextSegment textSegment : textSegments) {
             EmbeddingRequest request = EmbeddingRequest.builder()
                     .model(modelName)
                     .prompt(textSegment.text())
@@ -59,7 +110,12 @@ public class OllamaEmbeddingModel implements EmbeddingModel {
             EmbeddingResponse response = withRetry(() -> client.embed(request), maxRetries);
 
             embeddings.add(Embedding.from(response.getEmbedding()));
-        });
+        }
+
+        if (textSegments.size() > 1) {
+            // the /api/embed endpoint was not found, but the older /api/embeddings works: stop trying the former
+            embedEndpointSupported = false;
+        }
 
         return Response.from(embeddings);
     }
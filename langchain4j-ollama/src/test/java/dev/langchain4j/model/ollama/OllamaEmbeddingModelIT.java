@@ -3,10 +3,16 @@ package dev.langchain4j.model.ollama;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.data.segment.TextSegment;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static dev.langchain4j.model.ollama.OllamaImage.ALL_MINILM_MODEL;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
 
 class OllamaEmbeddingModelIT extends AbstractOllamaEmbeddingModelInfrastructure {
 
@@ -31,4 +37,32 @@ class OllamaEmbeddingModelIT extends AbstractOllamaEmbeddingModelInfrastructure
         assertThat(response.tokenUsage()).isNull();
         assertThat(response.finishReason()).isNull();
     }
+
+    @Test
+    void should_embed_in_concurrent_batches() {
+
+        // given
+        EmbeddingModel batchingModel = OllamaEmbeddingModel.builder()
+                .baseUrl(ollama.getEndpoint())
+                .modelName(ALL_MINILM_MODEL)
+                .maxSegmentsPerBatch(4)
+                .maxConcurrentRequests(3)
+                .build();
+
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            segments.add(TextSegment.from("segment number " + i));
+        }
+
+        // when
+        Response<List<Embedding>> response = batchingModel.embedAll(segments);
+
+        // then
+        assertThat(response.content()).hasSize(10);
+        for (int i = 0; i < segments.size(); i++) {
+            Embedding expected = model.embed(segments.get(i)).content();
+            assertThat(CosineSimilarity.between(response.content().get(i), expected)).isCloseTo(1.0, offset(1e-4));
+        }
+        assertThat(response.tokenUsage().inputTokenCount()).isPositive();
+    }
 }
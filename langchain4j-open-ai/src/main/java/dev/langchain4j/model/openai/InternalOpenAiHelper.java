@@ -16,6 +16,7 @@ import dev.langchain4j.model.output.FinishReason;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 
@@ -298,7 +299,11 @@ public class InternalOpenAiHelper {
 
     static ChatLanguageModelResponse createModelListenerResponse(String responseId,
                                                                  String responseModel,
-                                                                 Response<AiMessage> response) {
+                                                                 Response<AiMessage> response,
+                                                                 Duration duration,
+                                                                 Duration timeToFirstToken,
+                                                                 List<Duration> interTokenGaps,
+                                                                 Integer retries) {
         if (response == null) {
             return null;
         }
@@ -309,6 +314,10 @@ public class InternalOpenAiHelper {
                 .tokenUsage(response.tokenUsage())
                 .finishReason(response.finishReason())
                 .aiMessage(response.content())
+                .duration(duration)
+                .timeToFirstToken(timeToFirstToken)
+                .interTokenGaps(interTokenGaps)
+                .retries(retries)
                 .build();
     }
 }
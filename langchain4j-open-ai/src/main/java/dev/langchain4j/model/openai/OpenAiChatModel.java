@@ -23,6 +23,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static dev.langchain4j.internal.RetryUtils.withRetry;
 import static dev.langchain4j.internal.Utils.getOrDefault;
@@ -172,8 +173,13 @@ public class OpenAiChatModel implements ChatLanguageModel, TokenCountEstimator {
             }
         });
 
+        long start = System.nanoTime();
+        AtomicInteger attempts = new AtomicInteger();
         try {
-            ChatCompletionResponse chatCompletionResponse = withRetry(() -> client.chatCompletion(request).execute(), maxRetries);
+            ChatCompletionResponse chatCompletionResponse = withRetry(() -> {
+                attempts.incrementAndGet();
+                return client.chatCompletion(request).execute();
+            }, maxRetries);
 
             Response<AiMessage> response = Response.from(
                     aiMessageFrom(chatCompletionResponse),
@@ -184,7 +190,11 @@ public class OpenAiChatModel implements ChatLanguageModel, TokenCountEstimator {
             ChatLanguageModelResponse modelListenerResponse = createModelListenerResponse(
                     chatCompletionResponse.id(),
                     chatCompletionResponse.model(),
-                    response
+                    response,
+                    Duration.ofNanos(System.nanoTime() - start),
+                    null,
+                    null,
+                    attempts.get() - 1
             );
             listeners.forEach(listener -> {
                 try {
@@ -1,6 +1,7 @@
 package dev.langchain4j.model.openai;
 
 import dev.ai4j.openai4j.OpenAiClient;
+import dev.ai4j.openai4j.OpenAiHttpException;
 import dev.ai4j.openai4j.embedding.EmbeddingRequest;
 import dev.ai4j.openai4j.embedding.EmbeddingResponse;
 import dev.langchain4j.data.embedding.Embedding;
@@ -8,34 +9,56 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.Tokenizer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.TokenCountEstimator;
+import dev.langchain4j.model.embedding.batch.EmbeddingBatcher;
+import dev.langchain4j.model.embedding.listener.EmbeddingModelRequest;
+import dev.langchain4j.model.embedding.listener.EmbeddingModelResponse;
+import dev.langchain4j.model.listener.ModelListener;
 import dev.langchain4j.model.openai.spi.OpenAiEmbeddingModelBuilderFactory;
 import dev.langchain4j.model.output.Response;
 import lombok.Builder;
 
 import java.net.Proxy;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static dev.langchain4j.internal.RetryUtils.withRetry;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.model.listener.ModelListeners.onError;
+import static dev.langchain4j.model.listener.ModelListeners.onRequest;
+import static dev.langchain4j.model.listener.ModelListeners.onResponse;
 import static dev.langchain4j.model.openai.InternalOpenAiHelper.*;
 import static dev.langchain4j.model.openai.OpenAiModelName.TEXT_EMBEDDING_ADA_002;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.time.Duration.ofSeconds;
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 
 /**
  * Represents an OpenAI embedding model, such as text-embedding-ada-002.
+ * <p>
+ * The OpenAI API accepts up to 2048 inputs per request, so larger lists of segments are split into several requests.
+ * Use <code>maxSegmentsPerBatch()</code> and <code>maxTokensPerBatch()</code> to tighten these batches
+ * (tokens are estimated with the {@link Tokenizer}), and <code>maxConcurrentRequests()</code> to send
+ * several requests at the same time. See {@link EmbeddingBatcher} for details.
+ * <p>
+ * The {@code listeners} are notified about every request sent to the OpenAI API, that is, once per batch.
  */
 public class OpenAiEmbeddingModel implements EmbeddingModel, TokenCountEstimator {
 
+    private static final int DEFAULT_MAX_SEGMENTS_PER_BATCH = 2048;
+
     private final OpenAiClient client;
     private final String modelName;
     private final Integer dimensions;
     private final String user;
     private final Integer maxRetries;
     private final Tokenizer tokenizer;
+    private final EmbeddingBatcher batcher;
+    private final List<ModelListener<EmbeddingModelRequest, EmbeddingModelResponse>> listeners;
 
     @Builder
     public OpenAiEmbeddingModel(String baseUrl,
@@ -50,7 +73,12 @@ public class OpenAiEmbeddingModel implements EmbeddingModel, TokenCountEstimator
                                 Boolean logRequests,
                                 Boolean logResponses,
                                 Tokenizer tokenizer,
-                                Map<String, String> customHeaders) {
+                                Map<String, String> customHeaders,
+                                Integer maxSegmentsPerBatch,
+                                Integer maxTokensPerBatch,
+                                Integer maxConcurrentRequests,
+                                Executor executor,
+                                List<ModelListener<EmbeddingModelRequest, EmbeddingModelResponse>> listeners) {
 
         baseUrl = getOrDefault(baseUrl, OPENAI_URL);
         if (OPENAI_DEMO_API_KEY.equals(apiKey)) {
@@ -78,6 +106,14 @@ public class OpenAiEmbeddingModel implements EmbeddingModel, TokenCountEstimator
         this.user = user;
         this.maxRetries = getOrDefault(maxRetries, 3);
         this.tokenizer = getOrDefault(tokenizer, OpenAiTokenizer::new);
+        this.batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(getOrDefault(maxSegmentsPerBatch, DEFAULT_MAX_SEGMENTS_PER_BATCH))
+                .maxTokensPerBatch(maxTokensPerBatch)
+                .tokenCountEstimator(this)
+                .maxConcurrentBatches(maxConcurrentRequests)
+                .executor(executor)
+                .build();
+        this.listeners = listeners == null ? emptyList() : new ArrayList<>(listeners);
     }
 
     public String modelName() {
@@ -86,33 +122,55 @@ public class OpenAiEmbeddingModel implements EmbeddingModel, TokenCountEstimator
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
-
-        List<String> texts = textSegments.stream()
-                .map(TextSegment::text)
-                .collect(toList());
-
-        return embedTexts(texts);
+        return batcher.embedAll(textSegments, this::embedBatch);
     }
 
-    private Response<List<Embedding>> embedTexts(List<String> texts) {
+    private Response<List<Embedding>> embedBatch(List<TextSegment> batch) {
 
         EmbeddingRequest request = EmbeddingRequest.builder()
-                .input(texts)
+                .input(batch.stream().map(TextSegment::text).collect(toList()))
                 .model(modelName)
                 .dimensions(dimensions)
                 .user(user)
                 .build();
 
-        EmbeddingResponse response = withRetry(() -> client.embedding(request).execute(), maxRetries);
-
-        List<Embedding> embeddings = response.data().stream()
-                .map(openAiEmbedding -> Embedding.from(openAiEmbedding.embedding()))
-                .collect(toList());
-
-        return Response.from(
-                embeddings,
-                tokenUsageFrom(response.usage())
-        );
+        EmbeddingModelRequest modelListenerRequest = EmbeddingModelRequest.builder()
+                .model(modelName)
+                .textSegments(batch)
+                .build();
+        onRequest(listeners, modelListenerRequest);
+
+        long start = System.nanoTime();
+        AtomicInteger attempts = new AtomicInteger();
+        try {
+            EmbeddingResponse response = withRetry(() -> {
+                attempts.incrementAndGet();
+                return client.embedding(request).execute();
+            }, maxRetries);
+
+            List<Embedding> embeddings = response.data().stream()
+                    .map(openAiEmbedding -> Embedding.from(openAiEmbedding.embedding()))
+                    .collect(toList());
+
+            Response<List<Embedding>> result = Response.from(
+                    embeddings,
+                    tokenUsageFrom(response.usage())
+            );
+
+            EmbeddingModelResponse modelListenerResponse = EmbeddingModelResponse.builder()
+                    .model(response.model())
+                    .embeddings(embeddings)
+                    .tokenUsage(result.tokenUsage())
+                    .duration(Duration.ofNanos(System.nanoTime() - start))
+                    .retries(attempts.get() - 1)
+                    .build();
+            onResponse(listeners, modelListenerResponse, modelListenerRequest);
+
+            return result;
+        } catch (RuntimeException e) {
+            onError(listeners, e.getCause() instanceof OpenAiHttpException ? e.getCause() : e, null, modelListenerRequest);
+            throw e;
+        }
     }
 
     @Override
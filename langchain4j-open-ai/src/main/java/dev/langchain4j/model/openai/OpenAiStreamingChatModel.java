@@ -15,6 +15,7 @@ import dev.langchain4j.model.chat.TokenCountEstimator;
 import dev.langchain4j.model.chat.listener.ChatLanguageModelRequest;
 import dev.langchain4j.model.chat.listener.ChatLanguageModelResponse;
 import dev.langchain4j.model.listener.ModelListener;
+import dev.langchain4j.model.listener.TokenTimer;
 import dev.langchain4j.model.openai.spi.OpenAiStreamingChatModelBuilderFactory;
 import dev.langchain4j.model.output.Response;
 import lombok.Builder;
@@ -176,10 +177,14 @@ public class OpenAiStreamingChatModel implements StreamingChatLanguageModel, Tok
 
         AtomicReference<String> responseId = new AtomicReference<>();
         AtomicReference<String> responseModel = new AtomicReference<>();
+        TokenTimer tokenTimer = new TokenTimer();
 
         client.chatCompletion(request)
                 .onPartialResponse(partialResponse -> {
                     responseBuilder.append(partialResponse);
+                    if (hasDelta(partialResponse)) {
+                        tokenTimer.onToken();
+                    }
                     handle(partialResponse, handler);
 
                     if (!isNullOrBlank(partialResponse.id())) {
@@ -195,7 +200,11 @@ public class OpenAiStreamingChatModel implements StreamingChatLanguageModel, Tok
                     ChatLanguageModelResponse modelListenerResponse = createModelListenerResponse(
                             responseId.get(),
                             responseModel.get(),
-                            response
+                            response,
+                            tokenTimer.elapsed(),
+                            tokenTimer.timeToFirstToken(),
+                            tokenTimer.interTokenGaps(),
+                            null
                     );
                     listeners.forEach(listener -> {
                         try {
@@ -213,7 +222,11 @@ public class OpenAiStreamingChatModel implements StreamingChatLanguageModel, Tok
                     ChatLanguageModelResponse modelListenerResponse = createModelListenerResponse(
                             responseId.get(),
                             responseModel.get(),
-                            response
+                            response,
+                            tokenTimer.elapsed(),
+                            tokenTimer.timeToFirstToken(),
+                            tokenTimer.interTokenGaps(),
+                            null
                     );
                     listeners.forEach(listener -> {
                         try {
@@ -249,6 +262,15 @@ public class OpenAiStreamingChatModel implements StreamingChatLanguageModel, Tok
         return inputTokenCount;
     }
 
+    private static boolean hasDelta(ChatCompletionResponse partialResponse) {
+        List<ChatCompletionChoice> choices = partialResponse.choices();
+        if (choices == null || choices.isEmpty()) {
+            return false;
+        }
+        Delta delta = choices.get(0).delta();
+        return delta != null && (delta.content() != null || !isNullOrEmpty(delta.toolCalls()));
+    }
+
     private static void handle(ChatCompletionResponse partialResponse,
                                StreamingResponseHandler<AiMessage> handler) {
         List<ChatCompletionChoice> choices = partialResponse.choices();
@@ -2,6 +2,7 @@ package dev.langchain4j.model.openai;
 
 import com.knuddels.jtokkit.Encodings;
 import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingRegistry;
 import com.knuddels.jtokkit.api.IntArrayList;
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.agent.tool.ToolParameters;
@@ -9,6 +10,7 @@ import dev.langchain4j.agent.tool.ToolSpecification;
 import dev.langchain4j.data.message.*;
 import dev.langchain4j.model.Tokenizer;
 
+import java.lang.ref.WeakReference;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -25,11 +27,26 @@ import static java.util.Collections.singletonList;
  * This class can be used to estimate the cost (in tokens) before calling OpenAI or when using streaming.
  * Magic numbers present in this class were found empirically while testing.
  * There are integration tests in place that are making sure that the calculations here are very close to that of OpenAI.
+ * <p>
+ * All instances share a single (lazily populated) encoding registry.
+ * Since {@link ChatMessage}s are immutable, the estimated token count of each message instance is cached
+ * (in {@value #MESSAGE_CACHE_SIZE} slots per tokenizer, selected by identity hash code),
+ * so that evaluating the same chat memory again does not re-encode the messages it already contains.
+ * The cache only holds weak references to the messages, and neither hashes their content nor takes a lock.
  */
 public class OpenAiTokenizer implements Tokenizer {
 
+    static final int MESSAGE_CACHE_SIZE = 1_024;
+
+    private static final EncodingRegistry ENCODING_REGISTRY = Encodings.newLazyEncodingRegistry();
+
     private final String modelName;
     private final Optional<Encoding> encoding;
+    /**
+     * Accessed without synchronization: {@link CachedTokenCount}s are immutable,
+     * so a race can only make a lookup miss and the message be encoded again.
+     */
+    private final CachedTokenCount[] messageTokenCounts = new CachedTokenCount[MESSAGE_CACHE_SIZE];
 
     /**
      * Creates an instance of the {@code OpenAiTokenizer} for the "gpt-3.5-turbo" model.
@@ -69,7 +86,7 @@ public class OpenAiTokenizer implements Tokenizer {
         // Doing so would cause the failure of every OpenAI***Model that uses this tokenizer.
         // This is done to account for situations when a new OpenAI model is available,
         // but JTokkit does not yet support it.
-        this.encoding = Encodings.newLazyEncodingRegistry().getEncodingForModel(modelName);
+        this.encoding = ENCODING_REGISTRY.getEncodingForModel(modelName);
     }
 
     public int estimateTokenCountInText(String text) {
@@ -79,6 +96,31 @@ public class OpenAiTokenizer implements Tokenizer {
 
     @Override
     public int estimateTokenCountInMessage(ChatMessage message) {
+        Integer cached = cachedTokenCount(message);
+        if (cached != null) {
+            return cached;
+        }
+        int tokenCount = doEstimateTokenCountInMessage(message);
+        messageTokenCounts[slotOf(message)] = new CachedTokenCount(message, tokenCount);
+        return tokenCount;
+    }
+
+    /**
+     * @return the cached token count of the given message instance, or {@code null} if it is not cached.
+     */
+    Integer cachedTokenCount(ChatMessage message) {
+        CachedTokenCount cached = messageTokenCounts[slotOf(message)];
+        if (cached != null && cached.message.get() == message) {
+            return cached.tokenCount;
+        }
+        return null;
+    }
+
+    private static int slotOf(ChatMessage message) {
+        return System.identityHashCode(message) & (MESSAGE_CACHE_SIZE - 1);
+    }
+
+    private int doEstimateTokenCountInMessage(ChatMessage message) {
         int tokenCount = 1; // 1 token for role
         tokenCount += extraTokensPerMessage();
 
@@ -389,4 +431,15 @@ public class OpenAiTokenizer implements Tokenizer {
                 || modelName.equals(GPT_4_1106_PREVIEW.toString())
                 || modelName.equals(GPT_4_0125_PREVIEW.toString());
     }
+
+    private static class CachedTokenCount {
+
+        private final WeakReference<ChatMessage> message;
+        private final int tokenCount;
+
+        private CachedTokenCount(ChatMessage message, int tokenCount) {
+            this.message = new WeakReference<>(message);
+            this.tokenCount = tokenCount;
+        }
+    }
 }
@@ -555,6 +555,8 @@ class OpenAiChatModelIT {
         assertThat(response.tokenUsage().totalTokenCount()).isGreaterThan(0);
         assertThat(response.finishReason()).isNotNull();
         assertThat(response.aiMessage()).isEqualTo(aiMessage);
+        assertThat(response.duration()).isPositive();
+        assertThat(response.retries()).isZero();
     }
 
     @Test
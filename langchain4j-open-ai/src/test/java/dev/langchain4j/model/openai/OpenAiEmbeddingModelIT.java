@@ -3,14 +3,19 @@ package dev.langchain4j.model.openai;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.listener.EmbeddingModelRequest;
+import dev.langchain4j.model.embedding.listener.EmbeddingModelResponse;
+import dev.langchain4j.model.listener.ModelListener;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static dev.langchain4j.model.openai.OpenAiEmbeddingModelName.TEXT_EMBEDDING_3_SMALL;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class OpenAiEmbeddingModelIT {
@@ -70,6 +75,49 @@ class OpenAiEmbeddingModelIT {
         assertThat(response.finishReason()).isNull();
     }
 
+    @Test
+    void should_listen_request_and_response_per_batch() {
+
+        // given
+        List<EmbeddingModelRequest> requests = new ArrayList<>();
+        List<EmbeddingModelResponse> responses = new ArrayList<>();
+        ModelListener<EmbeddingModelRequest, EmbeddingModelResponse> modelListener =
+                new ModelListener<EmbeddingModelRequest, EmbeddingModelResponse>() {
+
+                    @Override
+                    public void onRequest(EmbeddingModelRequest request) {
+                        requests.add(request);
+                    }
+
+                    @Override
+                    public void onResponse(EmbeddingModelResponse response, EmbeddingModelRequest request) {
+                        responses.add(response);
+                    }
+                };
+
+        EmbeddingModel model = OpenAiEmbeddingModel.builder()
+                .baseUrl(System.getenv("OPENAI_BASE_URL"))
+                .apiKey(System.getenv("OPENAI_API_KEY"))
+                .organizationId(System.getenv("OPENAI_ORGANIZATION_ID"))
+                .maxSegmentsPerBatch(2)
+                .listeners(singletonList(modelListener))
+                .build();
+
+        // when
+        model.embedAll(asList(TextSegment.from("one"), TextSegment.from("two"), TextSegment.from("three")));
+
+        // then
+        assertThat(requests).extracting(EmbeddingModelRequest::batchSize).containsExactly(2, 1);
+
+        assertThat(responses).hasSize(2);
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.model()).isNotBlank();
+            assertThat(response.tokenUsage().inputTokenCount()).isGreaterThan(0);
+            assertThat(response.duration()).isPositive();
+            assertThat(response.retries()).isZero();
+        });
+    }
+
     @Test
     void should_embed_text_with_embedding_shortening() {
 
@@ -723,6 +723,9 @@ class OpenAiStreamingChatModelIT {
         assertThat(response.tokenUsage().totalTokenCount()).isGreaterThan(0);
         assertThat(response.finishReason()).isNotNull();
         assertThat(response.aiMessage()).isEqualTo(aiMessage);
+        assertThat(response.duration()).isPositive();
+        assertThat(response.timeToFirstToken()).isPositive();
+        assertThat(response.interTokenGaps()).isNotEmpty();
     }
 
     @Test
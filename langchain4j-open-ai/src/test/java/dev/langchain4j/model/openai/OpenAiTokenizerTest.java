@@ -3,11 +3,15 @@ package dev.langchain4j.model.openai;
 import dev.ai4j.openai4j.chat.ChatCompletionModel;
 import dev.ai4j.openai4j.completion.CompletionModel;
 import dev.ai4j.openai4j.embedding.EmbeddingModel;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.model.Tokenizer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -97,6 +101,50 @@ class OpenAiTokenizerTest {
         assertThat(countArguments("{\"one\" : 1,\"two\" : 2,\"three\" : 3}")).isEqualTo(3);
     }
 
+    @Test
+    void should_cache_token_count_of_message_instances() {
+
+        // given
+        OpenAiTokenizer tokenizer = new OpenAiTokenizer(GPT_3_5_TURBO);
+        ToolExecutionRequest first = ToolExecutionRequest.builder().name("current_time").arguments("{\"zone\":\"UTC\"}").build();
+        ToolExecutionRequest second = ToolExecutionRequest.builder().name("weather").arguments("{\"city\":\"Paris\"}").build();
+        UserMessage userMessage = UserMessage.from("Hello, how are you?");
+        AiMessage aiMessage = AiMessage.from(first, second);
+
+        // when
+        int userMessageTokenCount = tokenizer.estimateTokenCountInMessage(userMessage);
+        int aiMessageTokenCount = tokenizer.estimateTokenCountInMessage(aiMessage);
+
+        // then
+        assertThat(tokenizer.cachedTokenCount(userMessage)).isEqualTo(userMessageTokenCount);
+        assertThat(tokenizer.cachedTokenCount(aiMessage)).isEqualTo(aiMessageTokenCount);
+        assertThat(tokenizer.cachedTokenCount(UserMessage.from("Hello, how are you?"))).isNull();
+        assertThat(tokenizer.estimateTokenCountInMessage(UserMessage.from("Hello, how are you?")))
+                .isEqualTo(userMessageTokenCount);
+        assertThat(tokenizer.estimateTokenCountInMessage(userMessage))
+                .isEqualTo(new OpenAiTokenizer(GPT_3_5_TURBO).estimateTokenCountInMessage(userMessage));
+    }
+
+    @Test
+    void should_not_keep_cached_messages_alive() throws InterruptedException {
+
+        // given
+        OpenAiTokenizer tokenizer = new OpenAiTokenizer(GPT_3_5_TURBO);
+        UserMessage message = UserMessage.from("Hello, how are you?");
+        tokenizer.estimateTokenCountInMessage(message);
+        WeakReference<UserMessage> reference = new WeakReference<>(message);
+
+        // when
+        message = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // then
+        assertThat(reference.get()).isNull();
+    }
+
     @ParameterizedTest
     @EnumSource(OpenAiChatModelName.class)
     void should_support_all_chat_models(OpenAiChatModelName modelName) {
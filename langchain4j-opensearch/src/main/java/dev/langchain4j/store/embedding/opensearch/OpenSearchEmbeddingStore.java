@@ -260,6 +260,11 @@ public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
         return ids;
     }
 
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        addAllInternal(ids, embeddings, embedded);
+    }
+
     /**
      * This implementation uses the exact k-NN with scoring script to calculate
      * See https://opensearch.org/docs/latest/search-plugins/knn/knn-score-script/
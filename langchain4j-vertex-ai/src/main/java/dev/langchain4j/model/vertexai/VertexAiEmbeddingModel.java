@@ -14,6 +14,7 @@ import com.google.protobuf.util.JsonFormat;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.batch.EmbeddingBatcher;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.model.vertexai.spi.VertexAiEmbeddingModelBuilderFactory;
@@ -26,7 +27,6 @@ import static com.google.cloud.aiplatform.util.ValueConverter.EMPTY_VALUE;
 import static dev.langchain4j.internal.Json.toJson;
 import static dev.langchain4j.internal.RetryUtils.withRetry;
 import static dev.langchain4j.internal.Utils.getOrDefault;
-import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.util.stream.Collectors.toList;
@@ -67,8 +67,7 @@ public class VertexAiEmbeddingModel implements EmbeddingModel {
     private final LlmUtilityServiceSettings llmUtilitySettings;
     private final EndpointName endpointName;
     private final Integer maxRetries;
-    private final Integer maxSegmentsPerBatch;
-    private final Integer maxTokensPerBatch;
+    private final EmbeddingBatcher batcher;
     private final TaskType taskType;
     private final String titleMetadataKey;
 
@@ -108,10 +107,10 @@ public class VertexAiEmbeddingModel implements EmbeddingModel {
 
         this.maxRetries = getOrDefault(maxRetries, 3);
 
-        this.maxSegmentsPerBatch = ensureGreaterThanZero(
-            getOrDefault(maxSegmentsPerBatch, DEFAULT_MAX_SEGMENTS_PER_BATCH), "maxSegmentsPerBatch");
-        this.maxTokensPerBatch = ensureGreaterThanZero(
-            getOrDefault(maxTokensPerBatch, DEFAULT_MAX_TOKENS_PER_BATCH), "maxTokensPerBatch");
+        this.batcher = EmbeddingBatcher.builder()
+            .maxSegmentsPerBatch(getOrDefault(maxSegmentsPerBatch, DEFAULT_MAX_SEGMENTS_PER_BATCH))
+            .maxTokensPerBatch(getOrDefault(maxTokensPerBatch, DEFAULT_MAX_TOKENS_PER_BATCH))
+            .build();
 
         this.taskType = taskType;
         this.titleMetadataKey = getOrDefault(titleMetadataKey, "title");
@@ -126,10 +125,8 @@ public class VertexAiEmbeddingModel implements EmbeddingModel {
             int inputTokenCount = 0;
 
             List<Integer> tokensCounts = this.calculateTokensCounts(segments);
-            List<Integer> batchSizes = groupByBatches(tokensCounts);
 
-            for (int i = 0, j = 0; i < segments.size() && j < batchSizes.size(); i += batchSizes.get(j), j++) {
-                List<TextSegment> batch = segments.subList(i, i + batchSizes.get(j));
+            for (List<TextSegment> batch : batcher.split(segments, tokensCounts)) {
 
                 List<Value> instances = new ArrayList<>();
                 for (TextSegment segment : batch) {
@@ -212,39 +209,6 @@ public class VertexAiEmbeddingModel implements EmbeddingModel {
         }
     }
 
-    private List<Integer> groupByBatches(List<Integer> tokensCounts) {
-        // create a list of sublists of tokens counts
-        // where the maximum number of text segments per sublist is 250
-        // and the sum of the tokens counts in each sublist is less than 20_000
-
-        List<List<Integer>> batches = new ArrayList<>();
-
-        List<Integer> currentBatch = new ArrayList<>();
-        int currentBatchSum = 0;
-        for (Integer tokensCount : tokensCounts) {
-            if (currentBatchSum + tokensCount <= maxTokensPerBatch &&
-                currentBatch.size() < maxSegmentsPerBatch) {
-                currentBatch.add(tokensCount);
-                currentBatchSum += tokensCount;
-            } else {
-                batches.add(currentBatch);
-                currentBatch = new ArrayList<>();
-                currentBatch.add(tokensCount);
-                currentBatchSum = tokensCount;
-            }
-        }
-        if (!currentBatch.isEmpty()) {
-            batches.add(currentBatch);
-        }
-
-        // returns the list of number of text segments for each batch of embedding calculations
-
-        return batches.stream()
-            .mapToInt(List::size)
-            .boxed()
-            .collect(toList());
-    }
-
     private static Embedding toEmbedding(Value prediction) {
 
         List<Float> vector = prediction.getStructValue()
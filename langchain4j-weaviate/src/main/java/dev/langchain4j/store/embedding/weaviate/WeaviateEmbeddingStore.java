@@ -128,7 +128,7 @@ public class WeaviateEmbeddingStore implements EmbeddingStore<TextSegment> {
      */
     @Override
     public void add(String id, Embedding embedding) {
-        addAll(singletonList(id), singletonList(embedding), null);
+        addAllInternal(singletonList(id), singletonList(embedding), null);
     }
 
     @Override
@@ -143,7 +143,15 @@ public class WeaviateEmbeddingStore implements EmbeddingStore<TextSegment> {
 
     @Override
     public List<String> addAll(List<Embedding> embeddings, List<TextSegment> embedded) {
-        return addAll(null, embeddings, embedded);
+        return addAllInternal(null, embeddings, embedded);
+    }
+
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        if (ids.size() != embeddings.size()) {
+            throw new IllegalArgumentException("The list of ids and embeddings must have the same size");
+        }
+        addAllInternal(ids, embeddings, embedded);
     }
 
     /**
@@ -216,7 +224,7 @@ public class WeaviateEmbeddingStore implements EmbeddingStore<TextSegment> {
         return resItems.stream().map(WeaviateEmbeddingStore::toEmbeddingMatch).collect(toList());
     }
 
-    private List<String> addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+    private List<String> addAllInternal(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
         if (embedded != null && embeddings.size() != embedded.size()) {
             throw new IllegalArgumentException("The list of embeddings and embedded must have the same size");
         }
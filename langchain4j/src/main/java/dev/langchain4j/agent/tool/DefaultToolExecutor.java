@@ -4,26 +4,45 @@ import dev.langchain4j.internal.Json;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 
 import static dev.langchain4j.agent.tool.ToolExecutionRequestUtil.argumentsAsMap;
 
+/**
+ * Executes a method annotated with {@link Tool}.
+ * <p>
+ * Everything that does not depend on the arguments is resolved once, when the executor is created:
+ * a {@link MethodHandle} that invokes the method (bound to the object, if the method is not static),
+ * the names of the parameters, the parameter annotated with {@link ToolMemoryId},
+ * a coercer converting each JSON argument into the type of its parameter,
+ * and the conversion of the returned value into a {@code String}.
+ */
 public class DefaultToolExecutor implements ToolExecutor {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultToolExecutor.class);
 
     private final Object object;
     private final Method method;
+    private final ToolParameter[] parameters;
+    private final MethodHandle invoker;
+    private final Function<Object, String> resultConverter;
 
     public DefaultToolExecutor(Object object, Method method) {
         this.object = Objects.requireNonNull(object, "object");
         this.method = Objects.requireNonNull(method, "method");
+        this.parameters = toolParameters(method);
+        this.invoker = invoker(object, method);
+        this.resultConverter = resultConverter(method.getReturnType());
     }
 
     public String execute(ToolExecutionRequest toolExecutionRequest, Object memoryId) {
@@ -32,41 +51,34 @@ public class DefaultToolExecutor implements ToolExecutor {
         // TODO ensure this method never throws exceptions
 
         Object[] arguments = prepareArguments(
-                method, argumentsAsMap(toolExecutionRequest.arguments()), memoryId);
+                parameters, argumentsAsMap(toolExecutionRequest.arguments()), memoryId);
+        ensureInvocable(arguments);
+        Object returnedValue;
         try {
-            String result = execute(arguments);
-            log.debug("Tool execution result: {}", result);
-            return result;
-        } catch (IllegalAccessException e) {
-            try {
-                method.setAccessible(true);
-                String result = execute(arguments);
-                log.debug("Tool execution result: {}", result);
-                return result;
-            } catch (IllegalAccessException e2) {
-                throw new RuntimeException(e2);
-            } catch (InvocationTargetException e2) {
-                Throwable cause = e2.getCause();
-                log.error("Error while executing tool", cause);
-                return cause.getMessage();
-            }
-        } catch (InvocationTargetException e) {
-            Throwable cause = e.getCause();
+            returnedValue = (Object) invoker.invokeExact(arguments);
+        } catch (Throwable cause) {
             log.error("Error while executing tool", cause);
             return cause.getMessage();
         }
+        String result = resultConverter.apply(returnedValue);
+        log.debug("Tool execution result: {}", result);
+        return result;
     }
 
-    private String execute(Object[] arguments)
-            throws IllegalAccessException, InvocationTargetException {
-        Object result = method.invoke(object, arguments);
-        Class<?> returnType = method.getReturnType();
-        if (returnType == void.class) {
-            return "Success";
-        } else if (returnType == String.class) {
-            return (String) result;
-        } else {
-            return Json.toJson(result);
+    /**
+     * Fails the same way {@link Method#invoke(Object, Object...)} would, before the invocation,
+     * so that any exception thrown by the invocation can only come from the tool itself.
+     */
+    private void ensureInvocable(Object[] arguments) {
+        for (int i = 0; i < parameters.length; i++) {
+            ToolParameter parameter = parameters[i];
+            Object argument = arguments[i];
+            if (argument == null ? parameter.type.isPrimitive() : !parameter.boxedType.isInstance(argument)) {
+                throw new IllegalArgumentException(String.format(
+                        "Argument \"%s\" of type %s cannot be passed to the parameter of type %s of the tool %s",
+                        parameter.name, argument == null ? null : argument.getClass().getName(),
+                        parameter.type.getName(), method.getName()));
+            }
         }
     }
 
@@ -75,94 +87,153 @@ public class DefaultToolExecutor implements ToolExecutor {
             Map<String, Object> argumentsMap,
             Object memoryId
     ) {
-        Parameter[] parameters = method.getParameters();
+        return prepareArguments(toolParameters(method), argumentsMap, memoryId);
+    }
+
+    private static Object[] prepareArguments(
+            ToolParameter[] parameters,
+            Map<String, Object> argumentsMap,
+            Object memoryId
+    ) {
         Object[] arguments = new Object[parameters.length];
 
         for (int i = 0; i < parameters.length; i++) {
 
-            if (parameters[i].isAnnotationPresent(ToolMemoryId.class)) {
+            ToolParameter parameter = parameters[i];
+            if (parameter.memoryId) {
                 arguments[i] = memoryId;
                 continue;
             }
 
-            String parameterName = parameters[i].getName();
-            if (argumentsMap.containsKey(parameterName)) {
-                Object argument = argumentsMap.get(parameterName);
-                Class<?> parameterType = parameters[i].getType();
-
-                arguments[i] = coerceArgument(argument, parameterName, parameterType);
+            if (argumentsMap.containsKey(parameter.name)) {
+                arguments[i] = parameter.coercer.apply(argumentsMap.get(parameter.name));
             }
         }
 
         return arguments;
     }
 
+    private static ToolParameter[] toolParameters(Method method) {
+        Parameter[] parameters = method.getParameters();
+        ToolParameter[] toolParameters = new ToolParameter[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            toolParameters[i] = new ToolParameter(parameters[i]);
+        }
+        return toolParameters;
+    }
+
+    private static MethodHandle invoker(Object object, Method method) {
+        MethodHandle methodHandle;
+        try {
+            methodHandle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            method.setAccessible(true);
+            try {
+                methodHandle = MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException e2) {
+                throw new RuntimeException(e2);
+            }
+        }
+        if (!Modifier.isStatic(method.getModifiers())) {
+            methodHandle = methodHandle.bindTo(object);
+        }
+        return methodHandle
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+    }
+
+    private static Function<Object, String> resultConverter(Class<?> returnType) {
+        if (returnType == void.class) {
+            return ignored -> "Success";
+        } else if (returnType == String.class) {
+            return result -> (String) result;
+        } else {
+            return Json::toJson;
+        }
+    }
+
     static Object coerceArgument(
             Object argument,
             String parameterName,
             Class<?> parameterType
+    ) {
+        return coercer(parameterName, parameterType).apply(argument);
+    }
+
+    /**
+     * @return A function converting an argument parsed from JSON into the type of the parameter.
+     */
+    private static Function<Object, Object> coercer(
+            String parameterName,
+            Class<?> parameterType
     ) {
         if (parameterType == String.class) {
-            return argument.toString();
+            return Object::toString;
         }
 
         if (parameterType.isEnum()) {
-            try {
-                @SuppressWarnings({"unchecked", "rawtypes"})
-                Class<Enum> enumClass = (Class<Enum>) parameterType;
-                return Enum.valueOf(enumClass, Objects.requireNonNull(argument.toString()));
-            } catch (Exception|Error e) {
-                throw new IllegalArgumentException(String.format(
-                        "Argument \"%s\" is not a valid enum value for %s: <%s>",
-                        parameterName, parameterType.getName(), argument), e);
-            }
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Class<Enum> enumClass = (Class<Enum>) parameterType;
+            return argument -> {
+                try {
+                    return Enum.valueOf(enumClass, Objects.requireNonNull(argument.toString()));
+                } catch (Exception|Error e) {
+                    throw new IllegalArgumentException(String.format(
+                            "Argument \"%s\" is not a valid enum value for %s: <%s>",
+                            parameterName, parameterType.getName(), argument), e);
+                }
+            };
         }
 
         if (parameterType == Boolean.class || parameterType == boolean.class) {
-            if (argument instanceof Boolean) {
-                return argument;
-            }
-            throw new IllegalArgumentException(String.format(
-                    "Argument \"%s\" is not convertable to %s, got %s: <%s>",
-                    parameterName, parameterType.getName(), argument.getClass().getName(), argument));
+            return argument -> {
+                if (argument instanceof Boolean) {
+                    return argument;
+                }
+                throw new IllegalArgumentException(String.format(
+                        "Argument \"%s\" is not convertable to %s, got %s: <%s>",
+                        parameterName, parameterType.getName(), argument.getClass().getName(), argument));
+            };
         }
 
         if (parameterType == Double.class || parameterType == double.class) {
-            return getDoubleValue(argument, parameterName, parameterType);
+            return argument -> getDoubleValue(argument, parameterName, parameterType);
         }
 
         if (parameterType == Float.class || parameterType == float.class) {
-            double doubleValue = getDoubleValue(argument, parameterName, parameterType);
-            checkBounds(doubleValue, parameterName, parameterType, -Float.MIN_VALUE, Float.MAX_VALUE);
-            return (float) doubleValue;
+            return argument -> {
+                double doubleValue = getDoubleValue(argument, parameterName, parameterType);
+                checkBounds(doubleValue, parameterName, parameterType, -Float.MIN_VALUE, Float.MAX_VALUE);
+                return (float) doubleValue;
+            };
         }
 
         if (parameterType == BigDecimal.class) {
-            return BigDecimal.valueOf(getDoubleValue(argument, parameterName, parameterType));
+            return argument -> BigDecimal.valueOf(getDoubleValue(argument, parameterName, parameterType));
         }
 
         if (parameterType == Integer.class || parameterType == int.class) {
-            return (int) getBoundedLongValue(
+            return argument -> (int) getBoundedLongValue(
                     argument, parameterName, parameterType, Integer.MIN_VALUE, Integer.MAX_VALUE);
         }
 
         if (parameterType == Long.class || parameterType == long.class) {
-            return getBoundedLongValue(
+            return argument -> getBoundedLongValue(
                     argument, parameterName, parameterType, Long.MIN_VALUE, Long.MAX_VALUE);
         }
 
         if (parameterType == Short.class || parameterType == short.class) {
-            return (short) getBoundedLongValue(
+            return argument -> (short) getBoundedLongValue(
                     argument, parameterName, parameterType, Short.MIN_VALUE, Short.MAX_VALUE);
         }
 
         if (parameterType == Byte.class || parameterType == byte.class) {
-            return (byte) getBoundedLongValue(
+            return argument -> (byte) getBoundedLongValue(
                     argument, parameterName, parameterType, Byte.MIN_VALUE, Byte.MAX_VALUE);
         }
 
         if (parameterType == BigInteger.class) {
-            return BigDecimal.valueOf(
+            return argument -> BigDecimal.valueOf(
                     getNonFractionalDoubleValue(argument, parameterName, parameterType)).toBigInteger();
         }
 
@@ -170,7 +241,7 @@ public class DefaultToolExecutor implements ToolExecutor {
         // throw new IllegalArgumentException(String.format(
         //         "Unsupported parameter type: %s :: <%s>", parameterType, argument));
 
-        return argument;
+        return Function.identity();
     }
 
     private static double getDoubleValue(
@@ -230,4 +301,28 @@ public class DefaultToolExecutor implements ToolExecutor {
     static boolean hasNoFractionalPart(Double doubleValue) {
         return doubleValue.equals(Math.floor(doubleValue));
     }
+
+    private static class ToolParameter {
+
+        private final String name;
+        private final Class<?> type;
+        private final Class<?> boxedType;
+        private final boolean memoryId;
+        private final Function<Object, Object> coercer;
+
+        ToolParameter(Parameter parameter) {
+            this.name = parameter.getName();
+            this.type = parameter.getType();
+            this.boxedType = boxed(type);
+            this.memoryId = parameter.isAnnotationPresent(ToolMemoryId.class);
+            this.coercer = coercer(name, type);
+        }
+
+        private static Class<?> boxed(Class<?> type) {
+            if (!type.isPrimitive()) {
+                return type;
+            }
+            return MethodType.methodType(type).wrap().returnType();
+        }
+    }
 }
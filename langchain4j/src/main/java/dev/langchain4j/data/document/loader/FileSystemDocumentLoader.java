@@ -14,9 +14,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 import static dev.langchain4j.data.document.source.FileSystemSource.from;
@@ -25,6 +25,7 @@ import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.nio.file.Files.isDirectory;
 import static java.nio.file.Files.isRegularFile;
+import static java.util.stream.Collectors.toList;
 
 public class FileSystemDocumentLoader {
 
@@ -469,13 +470,254 @@ public class FileSystemDocumentLoader {
         return loadDocumentsRecursively(directoryPath, pathMatcher, DEFAULT_DOCUMENT_PARSER);
     }
 
+    /**
+     * Lazily and recursively loads {@link Document}s from the specified directory and its subdirectories.
+     * <br>
+     * The files are parsed using the specified {@link DocumentParser}.
+     * <br>
+     * Skips any {@code Document}s that fail to load.
+     * <br>
+     * Unlike {@code loadDocumentsRecursively}, files are only read and parsed when the returned {@link Stream}
+     * is consumed, so that the documents do not all have to fit in memory at the same time.
+     * This makes it suitable for ingesting large directories with {@code EmbeddingStoreIngestor.ingest(Stream)}.
+     * <br>
+     * The returned {@code Stream} holds an open directory and must be closed,
+     * for example using a try-with-resources statement.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param documentParser The parser to be used for parsing text from each file.
+     * @return lazily populated stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(Path directoryPath, DocumentParser documentParser) {
+        return streamDocumentsRecursively(directoryPath, (path) -> true, documentParser);
+    }
+
+    /**
+     * Lazily and recursively loads {@link Document}s from the specified directory and its subdirectories.
+     * <br>
+     * The files are parsed using the default {@link DocumentParser}.
+     * The default {@code DocumentParser} is loaded through SPI (see {@link DocumentParserFactory}).
+     * If no {@code DocumentParserFactory} is available in the classpath, a {@link TextDocumentParser} is used.
+     * <br>
+     * Skips any {@code Document}s that fail to load.
+     * <br>
+     * Unlike {@code loadDocumentsRecursively}, files are only read and parsed when the returned {@link Stream}
+     * is consumed, so that the documents do not all have to fit in memory at the same time.
+     * This makes it suitable for ingesting large directories with {@code EmbeddingStoreIngestor.ingest(Stream)}.
+     * <br>
+     * The returned {@code Stream} holds an open directory and must be closed,
+     * for example using a try-with-resources statement.
+     *
+     * @param directoryPath The path to the directory with files.
+     * @return lazily populated stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(Path directoryPath) {
+        return streamDocumentsRecursively(directoryPath, DEFAULT_DOCUMENT_PARSER);
+    }
+
+    /**
+     * Lazily and recursively loads {@link Document}s from the specified directory and its subdirectories.
+     * <br>
+     * The files are parsed using the specified {@link DocumentParser}.
+     * <br>
+     * Skips any {@code Document}s that fail to load.
+     * <br>
+     * Unlike {@code loadDocumentsRecursively}, files are only read and parsed when the returned {@link Stream}
+     * is consumed, so that the documents do not all have to fit in memory at the same time.
+     * This makes it suitable for ingesting large directories with {@code EmbeddingStoreIngestor.ingest(Stream)}.
+     * <br>
+     * The returned {@code Stream} holds an open directory and must be closed,
+     * for example using a try-with-resources statement.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param documentParser The parser to be used for parsing text from each file.
+     * @return lazily populated stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(String directoryPath, DocumentParser documentParser) {
+        return streamDocumentsRecursively(Paths.get(directoryPath), documentParser);
+    }
+
+    /**
+     * Lazily and recursively loads {@link Document}s from the specified directory and its subdirectories.
+     * <br>
+     * The files are parsed using the default {@link DocumentParser}.
+     * The default {@code DocumentParser} is loaded through SPI (see {@link DocumentParserFactory}).
+     * If no {@code DocumentParserFactory} is available in the classpath, a {@link TextDocumentParser} is used.
+     * <br>
+     * Skips any {@code Document}s that fail to load.
+     * <br>
+     * Unlike {@code loadDocumentsRecursively}, files are only read and parsed when the returned {@link Stream}
+     * is consumed, so that the documents do not all have to fit in memory at the same time.
+     * This makes it suitable for ingesting large directories with {@code EmbeddingStoreIngestor.ingest(Stream)}.
+     * <br>
+     * The returned {@code Stream} holds an open directory and must be closed,
+     * for example using a try-with-resources statement.
+     *
+     * @param directoryPath The path to the directory with files.
+     * @return lazily populated stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(String directoryPath) {
+        return streamDocumentsRecursively(directoryPath, DEFAULT_DOCUMENT_PARSER);
+    }
+
+    /**
+     * Lazily and recursively loads matching {@link Document}s from the specified directory and its subdirectories.
+     * <br>
+     * The files are parsed using the specified {@link DocumentParser}.
+     * <br>
+     * Skips any {@code Document}s that fail to load.
+     * <br>
+     * Unlike {@code loadDocumentsRecursively}, files are only read and parsed when the returned {@link Stream}
+     * is consumed, so that the documents do not all have to fit in memory at the same time.
+     * This makes it suitable for ingesting large directories with {@code EmbeddingStoreIngestor.ingest(Stream)}.
+     * <br>
+     * The returned {@code Stream} holds an open directory and must be closed,
+     * for example using a try-with-resources statement.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param pathMatcher    Only files whose paths match the provided {@link PathMatcher} will be loaded.
+     *                       For example, using {@code FileSystems.getDefault().getPathMatcher("glob:**.txt")} will
+     *                       load all files from {@code directoryPath} and its subdirectories with a {@code txt} extension.
+     *                       When traversing the directory tree, each file path is converted from absolute to relative
+     *                       (relative to {@code directoryPath}) before being matched by a {@code pathMatcher}.
+     *                       Thus, {@code pathMatcher} should use relative patterns.
+     *                       Please be aware that {@code *.txt} pattern (with a single asterisk) will match files
+     *                       only in the {@code directoryPath}, but it will not match files from the subdirectories
+     *                       of {@code directoryPath}.
+     * @param documentParser The parser to be used for parsing text from each file.
+     * @return lazily populated stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(Path directoryPath,
+                                                              PathMatcher pathMatcher,
+                                                              DocumentParser documentParser) {
+        if (!isDirectory(directoryPath)) {
+            throw illegalArgument("'%s' is not a directory", directoryPath);
+        }
+
+        try {
+            return toDocuments(Files.walk(directoryPath), pathMatcher, directoryPath, documentParser);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Lazily and recursively loads matching {@link Document}s from the specified directory and its subdirectories.
+     * <br>
+     * The files are parsed using the default {@link DocumentParser}.
+     * The default {@code DocumentParser} is loaded through SPI (see {@link DocumentParserFactory}).
+     * If no {@code DocumentParserFactory} is available in the classpath, a {@link TextDocumentParser} is used.
+     * <br>
+     * Skips any {@code Document}s that fail to load.
+     * <br>
+     * Unlike {@code loadDocumentsRecursively}, files are only read and parsed when the returned {@link Stream}
+     * is consumed, so that the documents do not all have to fit in memory at the same time.
+     * This makes it suitable for ingesting large directories with {@code EmbeddingStoreIngestor.ingest(Stream)}.
+     * <br>
+     * The returned {@code Stream} holds an open directory and must be closed,
+     * for example using a try-with-resources statement.
+     *
+     * @param directoryPath The path to the directory with files.
+     * @param pathMatcher   Only files whose paths match the provided {@link PathMatcher} will be loaded.
+     *                      For example, using {@code FileSystems.getDefault().getPathMatcher("glob:**.txt")} will
+     *                      load all files from {@code directoryPath} and its subdirectories with a {@code txt} extension.
+     *                      When traversing the directory tree, each file path is converted from absolute to relative
+     *                      (relative to {@code directoryPath}) before being matched by a {@code pathMatcher}.
+     *                      Thus, {@code pathMatcher} should use relative patterns.
+     *                      Please be aware that {@code *.txt} pattern (with a single asterisk) will match files
+     *                      only in the {@code directoryPath}, but it will not match files from the subdirectories
+     *                      of {@code directoryPath}.
+     * @return lazily populated stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(Path directoryPath, PathMatcher pathMatcher) {
+        return streamDocumentsRecursively(directoryPath, pathMatcher, DEFAULT_DOCUMENT_PARSER);
+    }
+
+    /**
+     * Lazily and recursively loads matching {@link Document}s from the specified directory and its subdirectories.
+     * <br>
+     * The files are parsed using the specified {@link DocumentParser}.
+     * <br>
+     * Skips any {@code Document}s that fail to load.
+     * <br>
+     * Unlike {@code loadDocumentsRecursively}, files are only read and parsed when the returned {@link Stream}
+     * is consumed, so that the documents do not all have to fit in memory at the same time.
+     * This makes it suitable for ingesting large directories with {@code EmbeddingStoreIngestor.ingest(Stream)}.
+     * <br>
+     * The returned {@code Stream} holds an open directory and must be closed,
+     * for example using a try-with-resources statement.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param pathMatcher    Only files whose paths match the provided {@link PathMatcher} will be loaded.
+     *                       For example, using {@code FileSystems.getDefault().getPathMatcher("glob:**.txt")} will
+     *                       load all files from {@code directoryPath} and its subdirectories with a {@code txt} extension.
+     *                       When traversing the directory tree, each file path is converted from absolute to relative
+     *                       (relative to {@code directoryPath}) before being matched by a {@code pathMatcher}.
+     *                       Thus, {@code pathMatcher} should use relative patterns.
+     *                       Please be aware that {@code *.txt} pattern (with a single asterisk) will match files
+     *                       only in the {@code directoryPath}, but it will not match files from the subdirectories
+     *                       of {@code directoryPath}.
+     * @param documentParser The parser to be used for parsing text from each file.
+     * @return lazily populated stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(String directoryPath,
+                                                              PathMatcher pathMatcher,
+                                                              DocumentParser documentParser) {
+        return streamDocumentsRecursively(Paths.get(directoryPath), pathMatcher, documentParser);
+    }
+
+    /**
+     * Lazily and recursively loads matching {@link Document}s from the specified directory and its subdirectories.
+     * <br>
+     * The files are parsed using the default {@link DocumentParser}.
+     * The default {@code DocumentParser} is loaded through SPI (see {@link DocumentParserFactory}).
+     * If no {@code DocumentParserFactory} is available in the classpath, a {@link TextDocumentParser} is used.
+     * <br>
+     * Skips any {@code Document}s that fail to load.
+     * <br>
+     * Unlike {@code loadDocumentsRecursively}, files are only read and parsed when the returned {@link Stream}
+     * is consumed, so that the documents do not all have to fit in memory at the same time.
+     * This makes it suitable for ingesting large directories with {@code EmbeddingStoreIngestor.ingest(Stream)}.
+     * <br>
+     * The returned {@code Stream} holds an open directory and must be closed,
+     * for example using a try-with-resources statement.
+     *
+     * @param directoryPath The path to the directory with files.
+     * @param pathMatcher   Only files whose paths match the provided {@link PathMatcher} will be loaded.
+     *                      For example, using {@code FileSystems.getDefault().getPathMatcher("glob:**.txt")} will
+     *                      load all files from {@code directoryPath} and its subdirectories with a {@code txt} extension.
+     *                      When traversing the directory tree, each file path is converted from absolute to relative
+     *                      (relative to {@code directoryPath}) before being matched by a {@code pathMatcher}.
+     *                      Thus, {@code pathMatcher} should use relative patterns.
+     *                      Please be aware that {@code *.txt} pattern (with a single asterisk) will match files
+     *                      only in the {@code directoryPath}, but it will not match files from the subdirectories
+     *                      of {@code directoryPath}.
+     * @return lazily populated stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(String directoryPath, PathMatcher pathMatcher) {
+        return streamDocumentsRecursively(directoryPath, pathMatcher, DEFAULT_DOCUMENT_PARSER);
+    }
+
     private static List<Document> loadDocuments(Stream<Path> pathStream,
                                                 PathMatcher pathMatcher,
                                                 Path pathMatcherRoot,
                                                 DocumentParser documentParser) {
-        List<Document> documents = new ArrayList<>();
+        return toDocuments(pathStream, pathMatcher, pathMatcherRoot, documentParser).collect(toList());
+    }
 
-        pathStream
+    private static Stream<Document> toDocuments(Stream<Path> pathStream,
+                                                PathMatcher pathMatcher,
+                                                Path pathMatcherRoot,
+                                                DocumentParser documentParser) {
+        return pathStream
                 .filter(Files::isRegularFile)
                 // converting absolute path into relative before using pathMatcher
                 // because patterns defined in pathMatcher are relative to pathMatcherRoot (directoryPath)
@@ -483,19 +725,20 @@ public class FileSystemDocumentLoader {
                 .filter(pathMatcher::matches)
                 // converting relative path back into absolute before loading document
                 .map(pathMatcherRoot::resolve)
-                .forEach(file -> {
-                    try {
-                        Document document = loadDocument(file, documentParser);
-                        documents.add(document);
-                    } catch (BlankDocumentException ignored) {
-                        // blank/empty documents are ignored
-                    } catch (Exception e) {
-                        String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
-                        log.warn("Failed to load '{}': {}", file, message);
-                    }
-                });
-
-        return documents;
+                .map(file -> tryToLoadDocument(file, documentParser))
+                .filter(Objects::nonNull);
+    }
+
+    private static Document tryToLoadDocument(Path file, DocumentParser documentParser) {
+        try {
+            return loadDocument(file, documentParser);
+        } catch (BlankDocumentException ignored) {
+            // blank/empty documents are ignored
+        } catch (Exception e) {
+            String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            log.warn("Failed to load '{}': {}", file, message);
+        }
+        return null;
     }
 
     private static DocumentParser loadDocumentParser() {
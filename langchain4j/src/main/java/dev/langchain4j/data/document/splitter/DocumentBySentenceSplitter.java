@@ -8,6 +8,9 @@ import opennlp.tools.sentdetect.SentenceDetectorME;
 import opennlp.tools.sentdetect.SentenceModel;
 
 import java.io.InputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Splits the provided {@link Document} into sentences and attempts to fit as many sentences as possible
@@ -17,6 +20,8 @@ import java.io.InputStream;
  * For token-based limit, a {@link Tokenizer} must be provided.
  * <p>
  * Sentence boundaries are detected using the Apache OpenNLP library with the English sentence model.
+ * The model is loaded by the first instance and shared by all instances.
+ * Each instance keeps a small pool of sentence detectors, which are not thread-safe, to reuse across calls.
  * <p>
  * If multiple sentences fit within {@code maxSegmentSize}, they are joined together using a space (" ").
  * <p>
@@ -30,26 +35,37 @@ import java.io.InputStream;
  */
 public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
 
+    private static final int MAX_POOLED_SENTENCE_DETECTORS = Runtime.getRuntime().availableProcessors();
+
+    private static SentenceModel sharedSentenceModel;
+
     private final SentenceModel sentenceModel;
 
+    /**
+     * {@link SentenceDetectorME} is not thread-safe, but it is cheap to create from an already loaded model.
+     * Each {@link #split(String)} call borrows one, up to {@link #MAX_POOLED_SENTENCE_DETECTORS} are kept for reuse.
+     */
+    private final Queue<SentenceDetectorME> sentenceDetectors = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledSentenceDetectors = new AtomicInteger();
+
     public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
                                       int maxOverlapSizeInChars) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, null);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = sentenceModel();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
                                       int maxOverlapSizeInChars,
                                       DocumentSplitter subSplitter) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, subSplitter);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = sentenceModel();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
                                       int maxOverlapSizeInTokens,
                                       Tokenizer tokenizer) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenizer, null);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = sentenceModel();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
@@ -57,12 +73,22 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
                                       Tokenizer tokenizer,
                                       DocumentSplitter subSplitter) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenizer, subSplitter);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = sentenceModel();
+    }
+
+    /**
+     * Loads the sentence model on first use. A failure is not remembered, so that the next instance tries again.
+     */
+    private static synchronized SentenceModel sentenceModel() {
+        if (sharedSentenceModel == null) {
+            sharedSentenceModel = createSentenceModel();
+        }
+        return sharedSentenceModel;
     }
 
-    private SentenceModel createSentenceModel() {
+    private static SentenceModel createSentenceModel() {
         String sentenceModelFilePath = "/opennlp/opennlp-en-ud-ewt-sentence-1.0-1.9.3.bin";
-        try (InputStream is = getClass().getResourceAsStream(sentenceModelFilePath)) {
+        try (InputStream is = DocumentBySentenceSplitter.class.getResourceAsStream(sentenceModelFilePath)) {
             return new SentenceModel(is);
         } catch (Exception e) {
             throw new RuntimeException(e);
@@ -71,8 +97,21 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
 
     @Override
     public String[] split(String text) {
-        SentenceDetectorME sentenceDetector = new SentenceDetectorME(sentenceModel);
-        return sentenceDetector.sentDetect(text);
+        SentenceDetectorME sentenceDetector = sentenceDetectors.poll();
+        if (sentenceDetector == null) {
+            sentenceDetector = new SentenceDetectorME(sentenceModel);
+        } else {
+            pooledSentenceDetectors.decrementAndGet();
+        }
+        try {
+            return sentenceDetector.sentDetect(text);
+        } finally {
+            if (pooledSentenceDetectors.incrementAndGet() <= MAX_POOLED_SENTENCE_DETECTORS) {
+                sentenceDetectors.offer(sentenceDetector);
+            } else {
+                pooledSentenceDetectors.decrementAndGet();
+            }
+        }
     }
 
     @Override
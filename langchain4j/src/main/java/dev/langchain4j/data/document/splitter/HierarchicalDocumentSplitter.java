@@ -119,7 +119,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
 
             if (segmentBuilder.hasSpaceFor(partSize)) {
                 // The part fits in the current segment, so we append it.
-                segmentBuilder.append(part);
+                segmentBuilder.append(part, partSize);
                 continue;
             }
 
@@ -136,7 +136,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
 
                     if (segmentBuilder.hasSpaceFor(partSize)) {
                         // The part fits in the current segment, so we append it.
-                        segmentBuilder.append(part);
+                        segmentBuilder.append(part, partSize);
                         continue;
                     }
                 }
@@ -190,8 +190,9 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
 
         SegmentBuilder overlapBuilder = new SegmentBuilder(maxOverlapSize, this::estimateSize, joinDelimiter());
         for (String sentence : sentences) {
-            if (overlapBuilder.hasSpaceFor(sentence)) {
-                overlapBuilder.prepend(sentence);
+            int sentenceSize = overlapBuilder.sizeOf(sentence);
+            if (overlapBuilder.hasSpaceFor(sentenceSize)) {
+                overlapBuilder.prepend(sentence, sentenceSize);
             } else {
                 break;
             }
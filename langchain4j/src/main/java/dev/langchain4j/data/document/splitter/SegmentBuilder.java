@@ -7,14 +7,25 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 /**
  * Segment builder utility class for HierarchicalDocumentSplitter.
+ * <p>
+ * The text is accumulated in a {@link StringBuilder}, and the size of the segment is tracked incrementally
+ * (as its last exact size, plus the sizes of the parts and separators joined since then),
+ * so that appending a part costs only the sizing of that part.
+ * With a token-based {@code sizeFunction}, that sum can differ slightly from the size of the whole text
+ * (in either direction: tokens can merge or split differently where parts are joined),
+ * so it is only trusted while it leaves a margin of one unit per join below {@code maxSegmentSize}.
+ * Otherwise, and when {@link #getSize()} is called, the exact size of the whole text is computed.
+ * The whole text is thus sized again only when the parts joined since it was last sized
+ * come close to filling the remaining headroom, i.e. a few times per segment rather than for each part.
  */
 class SegmentBuilder {
     private final int maxSegmentSize;
     private final Function<String, Integer> sizeFunction;
     private final String joinSeparator;
     private final int joinSeparatorSize;
-    private String segment = "";
+    private final StringBuilder segment = new StringBuilder();
     private int segmentSize = 0;
+    private int joinsSinceExactSize = 0;
 
     /**
      * Creates a new instance of {@link SegmentBuilder}.
@@ -34,6 +45,7 @@ class SegmentBuilder {
      * @return The current size of the segment.
      */
     public int getSize() {
+        reconcileSize();
         return segmentSize;
     }
 
@@ -43,11 +55,7 @@ class SegmentBuilder {
      * @return {@code true} if the provided text can be added to the current segment.
      */
     public boolean hasSpaceFor(String text) {
-        int totalSize = sizeOf(text);
-        if (isNotEmpty()) {
-            totalSize += segmentSize + joinSeparatorSize;
-        }
-        return totalSize <= maxSegmentSize;
+        return hasSpaceFor(sizeOf(text));
     }
 
     /**
@@ -56,11 +64,15 @@ class SegmentBuilder {
      * @return {@code true} if the provided size can be added to the current segment.
      */
     public boolean hasSpaceFor(int size) {
-        int totalSize = size;
-        if (isNotEmpty()) {
-            totalSize += segmentSize + joinSeparatorSize;
+        if (!isNotEmpty()) {
+            return size <= maxSegmentSize;
         }
-        return totalSize <= maxSegmentSize;
+        int estimatedSize = size + segmentSize + joinSeparatorSize;
+        if (joinsSinceExactSize == 0 || estimatedSize <= maxSegmentSize - (joinsSinceExactSize + 1)) {
+            return estimatedSize <= maxSegmentSize;
+        }
+        reconcileSize();
+        return size + segmentSize + joinSeparatorSize <= maxSegmentSize;
     }
 
     /**
@@ -77,11 +89,22 @@ class SegmentBuilder {
      * @param text The text to append.
      */
     public void append(String text) {
+        append(text, sizeOf(text));
+    }
+
+    /**
+     * Appends the provided text, of which the size is already known, to the current segment.
+     * @param text The text to append.
+     * @param textSize The size of the text (as returned by the {@code sizeFunction}).
+     */
+    public void append(String text, int textSize) {
         if (isNotEmpty()) {
-            segment += joinSeparator;
+            segment.append(joinSeparator);
+            segmentSize += joinSeparatorSize;
+            joinsSinceExactSize++;
         }
-        segment += text;
-        segmentSize = sizeOf(segment);
+        segment.append(text);
+        segmentSize += textSize;
     }
 
     /**
@@ -89,12 +112,22 @@ class SegmentBuilder {
      * @param text The text to prepend.
      */
     public void prepend(String text) {
+        prepend(text, sizeOf(text));
+    }
+
+    /**
+     * Prepends the provided text, of which the size is already known, to the current segment.
+     * @param text The text to prepend.
+     * @param textSize The size of the text (as returned by the {@code sizeFunction}).
+     */
+    public void prepend(String text, int textSize) {
         if (isNotEmpty()) {
-            segment = text + joinSeparator + segment;
-        } else {
-            segment = text;
+            segment.insert(0, joinSeparator);
+            segmentSize += joinSeparatorSize;
+            joinsSinceExactSize++;
         }
-        segmentSize = sizeOf(segment);
+        segment.insert(0, text);
+        segmentSize += textSize;
     }
 
     /**
@@ -102,19 +135,27 @@ class SegmentBuilder {
      * @return {@code true} if the current segment is not empty.
      */
     public boolean isNotEmpty() {
-        return !segment.isEmpty();
+        return segment.length() > 0;
     }
 
     @Override
     public String toString() {
-        return segment.trim();
+        return segment.toString().trim();
     }
 
     /**
      * Resets the current segment.
      */
     public void reset() {
-        segment = "";
+        segment.setLength(0);
         segmentSize = 0;
+        joinsSinceExactSize = 0;
+    }
+
+    private void reconcileSize() {
+        if (joinsSinceExactSize > 0) {
+            segmentSize = sizeOf(segment.toString());
+            joinsSinceExactSize = 0;
+        }
     }
-}
\ No newline at end of file
+}
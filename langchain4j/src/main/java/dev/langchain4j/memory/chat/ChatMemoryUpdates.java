@@ -0,0 +1,62 @@
+package dev.langchain4j.memory.chat;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Writes the state of a chat memory window to its {@link ChatMemoryStore} after a message has been added.
+ * <p>
+ * When the store implements {@link ChatMemoryStore#appendMessages(Object, List)} and
+ * {@link ChatMemoryStore#evictOldest(Object, int)} natively, only the added message is written
+ * and only the evicted messages are deleted. Otherwise, the whole window is written with
+ * {@link ChatMemoryStore#updateMessages(Object, List)}, as the default implementations of these methods
+ * would read and rewrite the whole window twice.
+ */
+class ChatMemoryUpdates {
+
+    private final ChatMemoryStore store;
+    private final boolean incremental;
+
+    ChatMemoryUpdates(ChatMemoryStore store) {
+        this.store = store;
+        this.incremental = overrides(store, "appendMessages", Object.class, List.class)
+                && overrides(store, "evictOldest", Object.class, int.class);
+    }
+
+    /**
+     * @param memoryId     The ID of the chat memory.
+     * @param storedCount  The number of messages in the store before the message was added.
+     * @param addedMessage The added message, which was appended to the end of the window.
+     * @param window       The messages retained after the oldest ones were evicted.
+     *                     Just like {@link ChatMemoryStore#evictOldest(Object, int)}, the window never evicts
+     *                     its {@link SystemMessage}.
+     */
+    void messageAppended(Object memoryId, int storedCount, ChatMessage addedMessage, List<ChatMessage> window) {
+        if (!incremental) {
+            store.updateMessages(memoryId, window);
+            return;
+        }
+        store.appendMessages(memoryId, singletonList(addedMessage));
+        int evictedCount = storedCount + 1 - window.size();
+        if (evictedCount > 0) {
+            store.evictOldest(memoryId, evictedCount);
+        }
+    }
+
+    void messagesReplaced(Object memoryId, List<ChatMessage> window) {
+        store.updateMessages(memoryId, window);
+    }
+
+    private static boolean overrides(ChatMemoryStore store, String methodName, Class<?>... parameterTypes) {
+        try {
+            return store.getClass().getMethod(methodName, parameterTypes).getDeclaringClass() != ChatMemoryStore.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
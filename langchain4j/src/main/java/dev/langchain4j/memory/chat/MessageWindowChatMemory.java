@@ -42,11 +42,13 @@ public class MessageWindowChatMemory implements ChatMemory {
     private final Object id;
     private final Integer maxMessages;
     private final ChatMemoryStore store;
+    private final ChatMemoryUpdates updates;
 
     private MessageWindowChatMemory(Builder builder) {
         this.id = ensureNotNull(builder.id, "id");
         this.maxMessages = ensureGreaterThanZero(builder.maxMessages, "maxMessages");
         this.store = ensureNotNull(builder.store, "store");
+        this.updates = new ChatMemoryUpdates(store);
     }
 
     @Override
@@ -56,7 +58,8 @@ public class MessageWindowChatMemory implements ChatMemory {
 
     @Override
     public void add(ChatMessage message) {
-        List<ChatMessage> messages = messages();
+        List<ChatMessage> messages = new LinkedList<>(store.getMessages(id));
+        int storedCount = messages.size();
         if (message instanceof SystemMessage) {
             Optional<SystemMessage> systemMessage = findSystemMessage(messages);
             if (systemMessage.isPresent()) {
@@ -64,12 +67,16 @@ public class MessageWindowChatMemory implements ChatMemory {
                     return; // do not add the same system message
                 } else {
                     messages.remove(systemMessage.get()); // need to replace existing system message
+                    messages.add(message);
+                    ensureCapacity(messages, maxMessages);
+                    updates.messagesReplaced(id, messages);
+                    return;
                 }
             }
         }
         messages.add(message);
         ensureCapacity(messages, maxMessages);
-        store.updateMessages(id, messages);
+        updates.messageAppended(id, storedCount, message, messages);
     }
 
     private static Optional<SystemMessage> findSystemMessage(List<ChatMessage> messages) {
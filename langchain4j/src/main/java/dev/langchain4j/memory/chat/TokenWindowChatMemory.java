@@ -12,12 +12,16 @@ import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 
 /**
  * This chat memory operates as a sliding window of {@link #maxTokens} tokens.
@@ -36,6 +40,10 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  * that prohibit sending orphan {@code ToolExecutionResultMessage}(s) in the request.
  * <p>
  * The state of chat memory is stored in {@link ChatMemoryStore} ({@link InMemoryChatMemoryStore} is used by default).
+ * <p>
+ * The token count of each message is cached, so that every message is tokenized only once while it stays in the window.
+ * This assumes that the {@link Tokenizer} counts the tokens of multiple messages as the sum of the tokens of each message
+ * plus a fixed overhead, which is the case for the provided tokenizers.
  */
 public class TokenWindowChatMemory implements ChatMemory {
 
@@ -45,12 +53,27 @@ public class TokenWindowChatMemory implements ChatMemory {
     private final Integer maxTokens;
     private final Tokenizer tokenizer;
     private final ChatMemoryStore store;
+    private final ChatMemoryUpdates updates;
+
+    /**
+     * The tokens counted by {@link Tokenizer#estimateTokenCountInMessages(Iterable)} on top of the tokens
+     * of each message (e.g. the tokens priming the reply).
+     */
+    private final int overheadTokenCount;
+
+    /**
+     * The token count of each message in the window, as of the last call to {@link #ensureCapacity(List)}.
+     * Replaced (never modified) on each call, so that it can be read concurrently.
+     */
+    private volatile Map<ChatMessage, Integer> tokenCounts = emptyMap();
 
     private TokenWindowChatMemory(Builder builder) {
         this.id = ensureNotNull(builder.id, "id");
         this.maxTokens = ensureGreaterThanZero(builder.maxTokens, "maxTokens");
         this.tokenizer = ensureNotNull(builder.tokenizer, "tokenizer");
         this.store = ensureNotNull(builder.store, "store");
+        this.updates = new ChatMemoryUpdates(store);
+        this.overheadTokenCount = tokenizer.estimateTokenCountInMessages(emptyList());
     }
 
     @Override
@@ -60,7 +83,8 @@ public class TokenWindowChatMemory implements ChatMemory {
 
     @Override
     public void add(ChatMessage message) {
-        List<ChatMessage> messages = messages();
+        List<ChatMessage> messages = new LinkedList<>(store.getMessages(id));
+        int storedCount = messages.size();
         if (message instanceof SystemMessage) {
             Optional<SystemMessage> maybeSystemMessage = findSystemMessage(messages);
             if (maybeSystemMessage.isPresent()) {
@@ -68,12 +92,16 @@ public class TokenWindowChatMemory implements ChatMemory {
                     return; // do not add the same system message
                 } else {
                     messages.remove(maybeSystemMessage.get()); // need to replace existing system message
+                    messages.add(message);
+                    ensureCapacity(messages);
+                    updates.messagesReplaced(id, messages);
+                    return;
                 }
             }
         }
         messages.add(message);
-        ensureCapacity(messages, maxTokens, tokenizer);
-        store.updateMessages(id, messages);
+        ensureCapacity(messages);
+        updates.messageAppended(id, storedCount, message, messages);
     }
 
     private static Optional<SystemMessage> findSystemMessage(List<ChatMessage> messages) {
@@ -86,13 +114,30 @@ public class TokenWindowChatMemory implements ChatMemory {
     @Override
     public List<ChatMessage> messages() {
         List<ChatMessage> messages = new LinkedList<>(store.getMessages(id));
-        ensureCapacity(messages, maxTokens, tokenizer);
+        ensureCapacity(messages);
         return messages;
     }
 
-    private static void ensureCapacity(List<ChatMessage> messages, int maxTokens, Tokenizer tokenizer) {
+    /**
+     * Evicts the oldest messages until the remaining ones fit into {@link #maxTokens}.
+     * <p>
+     * The token count of the messages is the fixed per-request overhead of the {@link Tokenizer}
+     * (see {@link #overheadTokenCount}) plus the token count of each message.
+     * The token count of each message is cached, so only the messages that were not seen before are tokenized.
+     */
+    private void ensureCapacity(List<ChatMessage> messages) {
+
+        Map<ChatMessage, Integer> previousTokenCounts = tokenCounts;
+        Map<ChatMessage, Integer> currentTokenCounts = new HashMap<>();
+
+        int currentTokenCount = overheadTokenCount;
+        for (ChatMessage message : messages) {
+            currentTokenCount += currentTokenCounts.computeIfAbsent(message, ignored -> {
+                Integer previousTokenCount = previousTokenCounts.get(message);
+                return previousTokenCount != null ? previousTokenCount : tokenizer.estimateTokenCountInMessage(message);
+            });
+        }
 
-        int currentTokenCount = tokenizer.estimateTokenCountInMessages(messages);
         while (currentTokenCount > maxTokens) {
 
             int messageToEvictIndex = 0;
@@ -101,7 +146,7 @@ public class TokenWindowChatMemory implements ChatMemory {
             }
 
             ChatMessage evictedMessage = messages.remove(messageToEvictIndex);
-            int tokenCountOfEvictedMessage = tokenizer.estimateTokenCountInMessage(evictedMessage);
+            int tokenCountOfEvictedMessage = currentTokenCounts.get(evictedMessage);
             log.trace("Evicting the following message ({} tokens) to comply with the capacity requirement: {}",
                     tokenCountOfEvictedMessage, evictedMessage);
             currentTokenCount -= tokenCountOfEvictedMessage;
@@ -113,10 +158,12 @@ public class TokenWindowChatMemory implements ChatMemory {
                     // so we have to automatically evict orphan ToolExecutionResultMessage(s) if AiMessage was evicted
                     ChatMessage orphanToolExecutionResultMessage = messages.remove(messageToEvictIndex);
                     log.trace("Evicting orphan {}", orphanToolExecutionResultMessage);
-                    currentTokenCount -= tokenizer.estimateTokenCountInMessage(orphanToolExecutionResultMessage);
+                    currentTokenCount -= currentTokenCounts.get(orphanToolExecutionResultMessage);
                 }
             }
         }
+
+        tokenCounts = currentTokenCounts;
     }
 
     @Override
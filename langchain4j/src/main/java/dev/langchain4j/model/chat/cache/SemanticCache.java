@@ -0,0 +1,372 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static dev.langchain4j.internal.Json.toJson;
+import static dev.langchain4j.internal.Utils.generateUUIDFrom;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.isNullOrEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.model.output.FinishReason.STOP;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+
+/**
+ * A cache of the answers of a chat model, looked up by the meaning of the question rather than by its exact text,
+ * used by {@link SemanticCachingChatLanguageModel} and {@link SemanticCachingStreamingChatLanguageModel}.
+ * <p>
+ * The final {@link UserMessage} of a conversation is embedded with the {@link EmbeddingModel}
+ * and searched in the {@link EmbeddingStore}. A previous answer is reused when its question
+ * has a relevance score of at least {@code minScore}.
+ * Answers are only reused within the same scope: the same model (see {@code modelId} of the decorators),
+ * the same {@link SystemMessage}s and the same tools. Other previous messages of the conversation are not
+ * part of the scope, so a follow-up question such as "and in 2023?" could match an unrelated conversation:
+ * use the cache for self-contained questions.
+ * <p>
+ * Only final text answers are cached: answers requesting the execution of tools,
+ * or truncated for any reason other than {@link FinishReason#STOP}, are not.
+ * Cached answers are returned without {@link dev.langchain4j.model.output.TokenUsage}, since no tokens were used.
+ * <p>
+ * By default, the cache is unbounded and its entries never expire. Configure {@code maxSize} and/or
+ * {@code timeToLive} to bound it: the oldest answers are evicted first.
+ * The bounds only apply to the answers added by this instance; when the {@link EmbeddingStore} is persistent,
+ * answers added by previous instances are still subject to {@code timeToLive}, but not to {@code maxSize}.
+ * <p>
+ * A failure of the {@link EmbeddingModel} or of the {@link EmbeddingStore} is logged
+ * and the request is sent to the model as if the cache did not exist.
+ * The cache counts hits, misses and evictions, which helps to tune {@code minScore} and to size it.
+ * A single cache can be shared by several decorators.
+ */
+public class SemanticCache {
+
+    private static final Logger log = LoggerFactory.getLogger(SemanticCache.class);
+
+    static final String SCOPE = "scope";
+    static final String ANSWER = "answer";
+    static final String FINISH_REASON = "finish_reason";
+    static final String EXPIRES_AT = "expires_at";
+
+    private final EmbeddingModel embeddingModel;
+    private final EmbeddingStore<TextSegment> embeddingStore;
+    private final double minScore;
+    private final Integer maxSize;
+    private final Duration timeToLive;
+    private final Clock clock;
+
+    /**
+     * The IDs of the answers added by this instance, in insertion order, which is also their expiry order.
+     */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>();
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    private SemanticCache(Builder builder) {
+        this.embeddingModel = ensureNotNull(builder.embeddingModel, "embeddingModel");
+        this.embeddingStore = getOrDefault(builder.embeddingStore, InMemoryEmbeddingStore::new);
+        this.minScore = ensureBetween(getOrDefault(builder.minScore, 0.95), 0, 1, "minScore");
+        this.maxSize = builder.maxSize == null ? null : ensureGreaterThanZero(builder.maxSize, "maxSize");
+        this.timeToLive = builder.timeToLive;
+        this.clock = getOrDefault(builder.clock, Clock::systemUTC);
+    }
+
+    /**
+     * Looks up an answer to the specified conversation.
+     *
+     * @return The lookup, holding the cached answer, if any.
+     * Its {@link Lookup#answer()} is {@code null} when there is no cached answer
+     * or when the conversation cannot be cached (e.g. it does not end with a text {@link UserMessage}).
+     */
+    Lookup lookup(String modelId, List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        if (isNullOrEmpty(messages)) {
+            return Lookup.UNCACHEABLE;
+        }
+        ChatMessage lastMessage = messages.get(messages.size() - 1);
+        if (!(lastMessage instanceof UserMessage) || !((UserMessage) lastMessage).hasSingleText()) {
+            return Lookup.UNCACHEABLE;
+        }
+        String question = ((UserMessage) lastMessage).singleText();
+        String scope = scope(modelId, messages, toolSpecifications);
+
+        Embedding embedding;
+        List<EmbeddingMatch<TextSegment>> matches;
+        try {
+            embedding = embeddingModel.embed(question).content();
+            matches = embeddingStore.search(EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embedding)
+                    .maxResults(1)
+                    .minScore(minScore)
+                    .filter(filter(scope))
+                    .build()
+            ).matches();
+        } catch (RuntimeException e) {
+            log.warn("Failed to look up the semantic cache, the request is sent to the model", e);
+            return Lookup.UNCACHEABLE;
+        }
+
+        if (matches.isEmpty()) {
+            synchronized (this) {
+                missCount++;
+            }
+            return new Lookup(scope, question, embedding, null);
+        }
+
+        Metadata metadata = matches.get(0).embedded().metadata();
+        String finishReason = metadata.getString(FINISH_REASON);
+        Response<AiMessage> answer = Response.from(
+                AiMessage.from(metadata.getString(ANSWER)),
+                null,
+                finishReason == null ? null : FinishReason.valueOf(finishReason)
+        );
+        synchronized (this) {
+            hitCount++;
+        }
+        return new Lookup(scope, question, embedding, answer);
+    }
+
+    /**
+     * Caches the answer of the model to a conversation that was not found in the cache.
+     */
+    void put(Lookup lookup, Response<AiMessage> response) {
+        if (lookup.embedding == null || !isCacheable(response)) {
+            return;
+        }
+
+        Metadata metadata = new Metadata()
+                .put(SCOPE, lookup.scope)
+                .put(ANSWER, response.content().text());
+        if (response.finishReason() != null) {
+            metadata.put(FINISH_REASON, response.finishReason().name());
+        }
+        long expiresAt = timeToLive == null ? Long.MAX_VALUE : clock.millis() + timeToLive.toMillis();
+        if (timeToLive != null) {
+            metadata.put(EXPIRES_AT, expiresAt);
+        }
+
+        try {
+            String id = embeddingStore.add(lookup.embedding, TextSegment.from(lookup.question, metadata));
+            List<String> evicted;
+            synchronized (this) {
+                entries.put(id, expiresAt);
+                evicted = evict();
+            }
+            if (!evicted.isEmpty()) {
+                embeddingStore.removeAll(evicted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to add an answer to the semantic cache", e);
+        }
+    }
+
+    /**
+     * @return The number of answers added by this instance that have not been evicted yet,
+     * including expired ones that were not evicted yet.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return The number of lookups that found a cached answer.
+     */
+    public synchronized long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return The number of lookups that did not find a cached answer.
+     * Conversations that cannot be cached are not counted.
+     */
+    public synchronized long missCount() {
+        return missCount;
+    }
+
+    /**
+     * @return The ratio of lookups that found a cached answer, between 0 and 1, or 0 if there was no lookup.
+     */
+    public synchronized double hitRatio() {
+        long lookupCount = hitCount + missCount;
+        return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+    }
+
+    /**
+     * @return The number of answers evicted because of {@code maxSize} or {@code timeToLive}.
+     */
+    public synchronized long evictionCount() {
+        return evictionCount;
+    }
+
+    private static boolean isCacheable(Response<AiMessage> response) {
+        if (response == null || response.content() == null) {
+            return false;
+        }
+        AiMessage aiMessage = response.content();
+        return !aiMessage.hasToolExecutionRequests()
+                && aiMessage.text() != null
+                && (response.finishReason() == null || response.finishReason() == STOP);
+    }
+
+    private static String scope(String modelId, List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        StringBuilder scope = new StringBuilder(modelId);
+        for (ChatMessage message : messages) {
+            if (message instanceof SystemMessage) {
+                scope.append('\u0000').append(message.text());
+            }
+        }
+        if (!isNullOrEmpty(toolSpecifications)) {
+            scope.append('\u0000').append(toJson(toolSpecifications));
+        }
+        return generateUUIDFrom(scope.toString());
+    }
+
+    private Filter filter(String scope) {
+        Filter filter = metadataKey(SCOPE).isEqualTo(scope);
+        if (timeToLive != null) {
+            filter = filter.and(metadataKey(EXPIRES_AT).isGreaterThan(clock.millis()));
+        }
+        return filter;
+    }
+
+    /**
+     * Entries are kept in insertion order, so both the eldest and the expired entries are at the head.
+     */
+    private List<String> evict() {
+        List<String> evicted = new ArrayList<>();
+        long now = clock.millis();
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            boolean tooMany = maxSize != null && entries.size() > maxSize;
+            if (!tooMany && eldest.getValue() > now) {
+                break;
+            }
+            iterator.remove();
+            evicted.add(eldest.getKey());
+            evictionCount++;
+        }
+        return evicted;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private EmbeddingModel embeddingModel;
+        private EmbeddingStore<TextSegment> embeddingStore;
+        private Double minScore;
+        private Integer maxSize;
+        private Duration timeToLive;
+        private Clock clock;
+
+        /**
+         * @param embeddingModel The {@link EmbeddingModel} embedding the questions. Mandatory.
+         * @return builder
+         */
+        public Builder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * @param embeddingStore The {@link EmbeddingStore} holding the questions and their answers.
+         *                       It must support metadata filtering and removal by ID.
+         *                       Default value: a new {@link InMemoryEmbeddingStore}.
+         * @return builder
+         */
+        public Builder embeddingStore(EmbeddingStore<TextSegment> embeddingStore) {
+            this.embeddingStore = embeddingStore;
+            return this;
+        }
+
+        /**
+         * @param minScore The minimum relevance score (between 0 and 1) of a previous question
+         *                 for its answer to be reused. Default value: 0.95.
+         *                 The lower the score, the more hits, but the higher the risk to answer another question.
+         * @return builder
+         */
+        public Builder minScore(Double minScore) {
+            this.minScore = minScore;
+            return this;
+        }
+
+        /**
+         * @param maxSize The maximum number of answers in the cache. Default value: unlimited.
+         * @return builder
+         */
+        public Builder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * @param timeToLive The time after which a cached answer is not reused anymore. Default value: unlimited.
+         * @return builder
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public SemanticCache build() {
+            return new SemanticCache(this);
+        }
+    }
+
+    /**
+     * The result of a lookup, used to cache the answer of the model in case of a miss.
+     */
+    static class Lookup {
+
+        static final Lookup UNCACHEABLE = new Lookup(null, null, null, null);
+
+        private final String scope;
+        private final String question;
+        private final Embedding embedding;
+        private final Response<AiMessage> answer;
+
+        private Lookup(String scope, String question, Embedding embedding, Response<AiMessage> answer) {
+            this.scope = scope;
+            this.question = question;
+            this.embedding = embedding;
+            this.answer = answer;
+        }
+
+        Response<AiMessage> answer() {
+            return answer;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.cache.SemanticCache.Lookup;
+import dev.langchain4j.model.output.Response;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link ChatLanguageModel} that reuses the answers of another {@link ChatLanguageModel}
+ * to questions with the same meaning, using a {@link SemanticCache}.
+ * <p>
+ * When the {@link SemanticCache} has an answer to the final user message, it is returned without calling the delegate.
+ * Otherwise, the delegate is called and its answer is cached.
+ * Requests forcing the execution of a tool are always sent to the delegate.
+ */
+public class SemanticCachingChatLanguageModel implements ChatLanguageModel {
+
+    private final ChatLanguageModel delegate;
+    private final SemanticCache cache;
+    private final String modelId;
+
+    private SemanticCachingChatLanguageModel(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        this.cache = ensureNotNull(builder.cache, "cache");
+        this.modelId = ensureNotBlank(builder.modelId, "modelId");
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return generate(messages, null, () -> delegate.generate(messages));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        return generate(messages, toolSpecifications, () -> delegate.generate(messages, toolSpecifications));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        return delegate.generate(messages, toolSpecification);
+    }
+
+    private Response<AiMessage> generate(List<ChatMessage> messages,
+                                         List<ToolSpecification> toolSpecifications,
+                                         Supplier<Response<AiMessage>> generation) {
+        Lookup lookup = cache.lookup(modelId, messages, toolSpecifications);
+        if (lookup.answer() != null) {
+            return lookup.answer();
+        }
+
+        Response<AiMessage> response = generation.get();
+        cache.put(lookup, response);
+        return response;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private ChatLanguageModel delegate;
+        private SemanticCache cache;
+        private String modelId;
+
+        /**
+         * @param delegate The {@link ChatLanguageModel} answering the questions that are not cached. Mandatory.
+         * @return builder
+         */
+        public Builder delegate(ChatLanguageModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param cache The {@link SemanticCache}. Mandatory.
+         * @return builder
+         */
+        public Builder cache(SemanticCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * @param modelId Identifies the delegate model and its parameters (e.g. provider, model name and temperature).
+         *                Answers are only reused for the same {@code modelId},
+         *                so it must change whenever the delegate is configured differently. Mandatory.
+         * @return builder
+         */
+        public Builder modelId(String modelId) {
+            this.modelId = modelId;
+            return this;
+        }
+
+        public SemanticCachingChatLanguageModel build() {
+            return new SemanticCachingChatLanguageModel(this);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.chat.cache.SemanticCache.Lookup;
+import dev.langchain4j.model.output.Response;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link StreamingChatLanguageModel} that reuses the answers of another {@link StreamingChatLanguageModel}
+ * to questions with the same meaning, using a {@link SemanticCache}.
+ * <p>
+ * When the {@link SemanticCache} has an answer to the final user message, it is replayed to the handler,
+ * word by word, on the calling thread, without calling the delegate.
+ * Otherwise, the delegate is called and its complete answer is cached.
+ * Requests forcing the execution of a tool are always sent to the delegate.
+ */
+public class SemanticCachingStreamingChatLanguageModel implements StreamingChatLanguageModel {
+
+    /**
+     * Splits after whitespace, so that each token is a word followed by its whitespace.
+     */
+    private static final Pattern TOKEN_BOUNDARY = Pattern.compile("(?<=\\s)(?=\\S)");
+
+    private final StreamingChatLanguageModel delegate;
+    private final SemanticCache cache;
+    private final String modelId;
+
+    private SemanticCachingStreamingChatLanguageModel(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        this.cache = ensureNotNull(builder.cache, "cache");
+        this.modelId = ensureNotBlank(builder.modelId, "modelId");
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+        generate(messages, null, handler, cachingHandler -> delegate.generate(messages, cachingHandler));
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages,
+                         List<ToolSpecification> toolSpecifications,
+                         StreamingResponseHandler<AiMessage> handler) {
+        generate(messages, toolSpecifications, handler,
+                cachingHandler -> delegate.generate(messages, toolSpecifications, cachingHandler));
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages,
+                         ToolSpecification toolSpecification,
+                         StreamingResponseHandler<AiMessage> handler) {
+        delegate.generate(messages, toolSpecification, handler);
+    }
+
+    private void generate(List<ChatMessage> messages,
+                          List<ToolSpecification> toolSpecifications,
+                          StreamingResponseHandler<AiMessage> handler,
+                          Consumer<StreamingResponseHandler<AiMessage>> generation) {
+        Lookup lookup = cache.lookup(modelId, messages, toolSpecifications);
+        if (lookup.answer() != null) {
+            replay(lookup.answer(), handler);
+            return;
+        }
+
+        generation.accept(new StreamingResponseHandler<AiMessage>() {
+
+            @Override
+            public void onNext(String token) {
+                handler.onNext(token);
+            }
+
+            @Override
+            public void onComplete(Response<AiMessage> response) {
+                cache.put(lookup, response);
+                handler.onComplete(response);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                handler.onError(error);
+            }
+        });
+    }
+
+    private static void replay(Response<AiMessage> answer, StreamingResponseHandler<AiMessage> handler) {
+        String text = answer.content().text();
+        if (!text.isEmpty()) {
+            for (String token : TOKEN_BOUNDARY.split(text)) {
+                handler.onNext(token);
+            }
+        }
+        handler.onComplete(answer);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private StreamingChatLanguageModel delegate;
+        private SemanticCache cache;
+        private String modelId;
+
+        /**
+         * @param delegate The {@link StreamingChatLanguageModel} answering the questions that are not cached. Mandatory.
+         * @return builder
+         */
+        public Builder delegate(StreamingChatLanguageModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param cache The {@link SemanticCache}. Mandatory.
+         * @return builder
+         */
+        public Builder cache(SemanticCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * @param modelId Identifies the delegate model and its parameters (e.g. provider, model name and temperature).
+         *                Answers are only reused for the same {@code modelId},
+         *                so it must change whenever the delegate is configured differently. Mandatory.
+         * @return builder
+         */
+        public Builder modelId(String modelId) {
+            this.modelId = modelId;
+            return this;
+        }
+
+        public SemanticCachingStreamingChatLanguageModel build() {
+            return new SemanticCachingStreamingChatLanguageModel(this);
+        }
+    }
+}
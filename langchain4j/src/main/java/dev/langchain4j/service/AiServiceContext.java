@@ -9,9 +9,11 @@ import dev.langchain4j.model.chat.StreamingChatLanguageModel;
 import dev.langchain4j.model.moderation.ModerationModel;
 import dev.langchain4j.rag.RetrievalAugmentor;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 public class AiServiceContext {
@@ -24,12 +26,18 @@ public class AiServiceContext {
     public StreamingChatLanguageModel streamingChatModel;
 
     public Map</* id */ Object, ChatMemory> chatMemories;
+    /**
+     * When set, retains the {@link ChatMemory} of each memory ID instead of {@link #chatMemories}.
+     */
+    public ChatMemoryRegistry chatMemoryRegistry;
     public ChatMemoryProvider chatMemoryProvider;
 
     public ModerationModel moderationModel;
 
     public List<ToolSpecification> toolSpecifications;
     public Map<String, ToolExecutor> toolExecutors;
+    public Executor toolExecutionExecutor;
+    public Duration toolExecutionTimeout;
 
     public RetrievalAugmentor retrievalAugmentor;
 
@@ -40,10 +48,13 @@ public class AiServiceContext {
     }
 
     public boolean hasChatMemory() {
-        return chatMemories != null;
+        return chatMemories != null || chatMemoryRegistry != null;
     }
 
     public ChatMemory chatMemory(Object memoryId) {
+        if (chatMemoryRegistry != null) {
+            return chatMemoryRegistry.get(memoryId, chatMemoryProvider);
+        }
         return chatMemories.computeIfAbsent(memoryId, ignored -> chatMemoryProvider.get(memoryId));
     }
 }
@@ -0,0 +1,322 @@
+package dev.langchain4j.service;
+
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.input.Prompt;
+import dev.langchain4j.model.input.PromptTemplate;
+import dev.langchain4j.model.input.structured.StructuredPrompt;
+import dev.langchain4j.model.input.structured.StructuredPromptProcessor;
+
+import java.io.InputStream;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Scanner;
+import java.util.function.Function;
+
+import static dev.langchain4j.exception.IllegalConfigurationException.illegalConfiguration;
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.isNotNullOrBlank;
+
+/**
+ * A method of an AI Service, with everything that can be resolved without its arguments resolved once:
+ * the indexes of the annotated parameters, the templates from {@link dev.langchain4j.service.SystemMessage}
+ * and {@link dev.langchain4j.service.UserMessage} annotations (and resources), the return type
+ * and its output format instructions.
+ * <p>
+ * An instance is immutable and is reused for all invocations of the method,
+ * which then only bind their arguments.
+ */
+class AiServiceMethod {
+
+    private static final String IT = "it";
+    private static final String IT_PLACEHOLDER = "{{it}}";
+
+    private final Method method;
+    private final Parameter[] parameters;
+
+    private final int memoryIdIndex;
+    private final int userNameIndex;
+    private final int userMessageIndex;
+    private final int itIndex;
+    private final boolean userMessageFromTheOnlyArgument;
+    /**
+     * The names of the template variables, by parameter index ({@code null} for parameters not annotated with @V).
+     */
+    private final String[] variableNames;
+
+    private final PromptTemplate systemMessageTemplate;
+    private final boolean systemMessageTemplateHasIt;
+    private final PromptTemplate userMessageTemplate;
+    private final boolean userMessageTemplateHasIt;
+
+    private final Class<?> returnType;
+    private final boolean returnsResult;
+    private final String outputFormatInstructions;
+    private final boolean moderated;
+
+    private AiServiceMethod(Method method) throws ClassNotFoundException {
+        validateParameters(method);
+
+        this.method = method;
+        this.parameters = method.getParameters();
+
+        this.memoryIdIndex = indexOfParameterAnnotatedWith(parameters, MemoryId.class);
+        this.userNameIndex = indexOfParameterAnnotatedWith(parameters, UserName.class);
+        this.userMessageIndex = indexOfParameterAnnotatedWith(parameters, dev.langchain4j.service.UserMessage.class);
+        this.itIndex = indexOfIt(parameters);
+        this.variableNames = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            V annotation = parameters[i].getAnnotation(V.class);
+            variableNames[i] = annotation == null ? null : annotation.value();
+        }
+
+        dev.langchain4j.service.SystemMessage systemMessage = method.getAnnotation(dev.langchain4j.service.SystemMessage.class);
+        String systemMessageTemplate = systemMessage == null
+                ? null
+                : getTemplate(method, "System", systemMessage.fromResource(), systemMessage.value(), systemMessage.delimiter());
+        this.systemMessageTemplate = systemMessageTemplate == null ? null : PromptTemplate.from(systemMessageTemplate);
+        this.systemMessageTemplateHasIt = systemMessageTemplate != null && systemMessageTemplate.contains(IT_PLACEHOLDER);
+
+        dev.langchain4j.service.UserMessage userMessage = method.getAnnotation(dev.langchain4j.service.UserMessage.class);
+        if (userMessage != null && userMessageIndex != -1) {
+            throw illegalConfiguration(
+                    "Error: The method '%s' has multiple @UserMessage annotations. Please use only one.",
+                    method.getName()
+            );
+        }
+        String userMessageTemplate = userMessage == null
+                ? null
+                : getTemplate(method, "User", userMessage.fromResource(), userMessage.value(), userMessage.delimiter());
+        this.userMessageTemplate = userMessageTemplate == null ? null : PromptTemplate.from(userMessageTemplate);
+        this.userMessageTemplateHasIt = userMessageTemplate != null && userMessageTemplate.contains(IT_PLACEHOLDER);
+        this.userMessageFromTheOnlyArgument = parameters.length == 1 && parameters[0].getAnnotations().length == 0;
+        if (userMessageTemplate == null && userMessageIndex == -1 && !userMessageFromTheOnlyArgument) {
+            throw illegalConfiguration("Error: The method '%s' does not have a user message defined.", method.getName());
+        }
+
+        // TODO give user ability to provide custom OutputParser
+        Class<?> returnType = method.getReturnType();
+        this.returnsResult = returnType == Result.class;
+        if (returnsResult) {
+            AnnotatedType annotatedReturnType = method.getAnnotatedReturnType();
+            ParameterizedType type = (ParameterizedType) annotatedReturnType.getType();
+            Type[] typeArguments = type.getActualTypeArguments();
+            for (Type typeArg : typeArguments) {
+                returnType = Class.forName(typeArg.getTypeName());
+            }
+        }
+        this.returnType = returnType;
+        this.outputFormatInstructions = ServiceOutputParser.outputFormatInstructions(returnType);
+        this.moderated = method.isAnnotationPresent(Moderate.class);
+    }
+
+    static AiServiceMethod from(Method method) throws ClassNotFoundException {
+        return new AiServiceMethod(method);
+    }
+
+    /**
+     * @return The return type of the method, or the type argument of {@link Result} if the method returns a {@code Result}.
+     */
+    Class<?> returnType() {
+        return returnType;
+    }
+
+    boolean returnsResult() {
+        return returnsResult;
+    }
+
+    String outputFormatInstructions() {
+        return outputFormatInstructions;
+    }
+
+    boolean isModerated() {
+        return moderated;
+    }
+
+    Optional<Object> findMemoryId(Object[] args) {
+        if (memoryIdIndex == -1) {
+            return Optional.empty();
+        }
+        Object memoryId = args[memoryIdIndex];
+        if (memoryId == null) {
+            throw illegalArgument(
+                    "The value of parameter '%s' annotated with @MemoryId in method '%s' must not be null",
+                    parameters[memoryIdIndex].getName(), method.getName()
+            );
+        }
+        return Optional.of(memoryId);
+    }
+
+    Optional<SystemMessage> prepareSystemMessage(Object memoryId,
+                                                 Object[] args,
+                                                 Function<Object, Optional<String>> systemMessageProvider) {
+        if (systemMessageTemplate != null) {
+            return Optional.of(systemMessageTemplate
+                    .apply(findTemplateVariables(systemMessageTemplateHasIt, args))
+                    .toSystemMessage());
+        }
+        return systemMessageProvider.apply(memoryId)
+                .map(template -> applyTemplate(template, args).toSystemMessage());
+    }
+
+    UserMessage prepareUserMessage(Object[] args) {
+        Prompt prompt;
+        if (userMessageTemplate != null) {
+            prompt = userMessageTemplate.apply(findTemplateVariables(userMessageTemplateHasIt, args));
+        } else {
+            prompt = applyTemplate(toString(args[userMessageIndex != -1 ? userMessageIndex : 0]), args);
+        }
+
+        if (userNameIndex != -1) {
+            return UserMessage.from(args[userNameIndex].toString(), prompt.text());
+        }
+        return prompt.toUserMessage();
+    }
+
+    /**
+     * Applies a template that is only known at invocation time.
+     * Such a template is usually used once (e.g. a raw user message), so it is not parsed unless it has variables.
+     */
+    private Prompt applyTemplate(String template, Object[] args) {
+        if (isNotNullOrBlank(template) && !template.contains("{{")) {
+            return Prompt.from(template);
+        }
+        return PromptTemplate.from(template).apply(findTemplateVariables(template.contains(IT_PLACEHOLDER), args));
+    }
+
+    private Map<String, Object> findTemplateVariables(boolean templateHasIt, Object[] args) {
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < variableNames.length; i++) {
+            if (variableNames[i] != null) {
+                variables.put(variableNames[i], args[i]);
+            }
+        }
+
+        if (templateHasIt && !variables.containsKey(IT)) {
+            if (itIndex == -1) {
+                throw illegalConfiguration("Error: cannot find the value of the prompt template variable \"{{it}}\".");
+            }
+            variables.put(IT, toString(args[itIndex]));
+        }
+
+        return variables;
+    }
+
+    static void validateParameters(Method method) {
+        Parameter[] parameters = method.getParameters();
+        if (parameters == null || parameters.length < 2) {
+            return;
+        }
+
+        for (Parameter parameter : parameters) {
+            V v = parameter.getAnnotation(V.class);
+            dev.langchain4j.service.UserMessage userMessage = parameter.getAnnotation(dev.langchain4j.service.UserMessage.class);
+            MemoryId memoryId = parameter.getAnnotation(MemoryId.class);
+            UserName userName = parameter.getAnnotation(UserName.class);
+            if (v == null && userMessage == null && memoryId == null && userName == null) {
+                throw illegalConfiguration(
+                        "Parameter '%s' of method '%s' should be annotated with @V or @UserMessage " +
+                                "or @UserName or @MemoryId", parameter.getName(), method.getName()
+                );
+            }
+        }
+    }
+
+    private static int indexOfParameterAnnotatedWith(Parameter[] parameters,
+                                                     Class<? extends java.lang.annotation.Annotation> annotation) {
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].isAnnotationPresent(annotation)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return The index of the parameter providing the value of the {{it}} variable, or -1 if there is none.
+     */
+    private static int indexOfIt(Parameter[] parameters) {
+        if (parameters.length == 1) {
+            Parameter parameter = parameters[0];
+            if (!parameter.isAnnotationPresent(MemoryId.class)
+                    && !parameter.isAnnotationPresent(dev.langchain4j.service.UserMessage.class)
+                    && !parameter.isAnnotationPresent(UserName.class)
+                    && (!parameter.isAnnotationPresent(V.class) || isAnnotatedWithIt(parameter))) {
+                return 0;
+            }
+        }
+
+        for (int i = 0; i < parameters.length; i++) {
+            if (isAnnotatedWithIt(parameters[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static boolean isAnnotatedWithIt(Parameter parameter) {
+        V annotation = parameter.getAnnotation(V.class);
+        return annotation != null && IT.equals(annotation.value());
+    }
+
+    private static String getTemplate(Method method, String type, String resource, String[] value, String delimiter) {
+        String messageTemplate;
+        if (!resource.trim().isEmpty()) {
+            messageTemplate = getResourceText(method.getDeclaringClass(), resource);
+            if (messageTemplate == null) {
+                throw illegalConfiguration("@%sMessage's resource '%s' not found", type, resource);
+            }
+        } else {
+            messageTemplate = String.join(delimiter, value);
+        }
+        if (messageTemplate.trim().isEmpty()) {
+            throw illegalConfiguration("@%sMessage's template cannot be empty", type);
+        }
+        return messageTemplate;
+    }
+
+    private static String getResourceText(Class<?> clazz, String name) {
+        return getText(clazz.getResourceAsStream(name));
+    }
+
+    private static String getText(InputStream inputStream) {
+        if (inputStream == null) {
+            return null;
+        }
+        try (Scanner scanner = new Scanner(inputStream);
+             Scanner s = scanner.useDelimiter("\\A")) {
+            return s.hasNext() ? s.next() : "";
+        }
+    }
+
+    private static String toString(Object arg) {
+        if (arg.getClass().isArray()) {
+            return arrayToString(arg);
+        } else if (arg.getClass().isAnnotationPresent(StructuredPrompt.class)) {
+            return StructuredPromptProcessor.toPrompt(arg).text();
+        } else {
+            return arg.toString();
+        }
+    }
+
+    private static String arrayToString(Object arg) {
+        StringBuilder sb = new StringBuilder("[");
+        int length = Array.getLength(arg);
+        for (int i = 0; i < length; i++) {
+            sb.append(toString(Array.get(arg, i)));
+            if (i < length - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
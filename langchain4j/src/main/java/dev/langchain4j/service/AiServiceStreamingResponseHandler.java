@@ -1,7 +1,5 @@
 package dev.langchain4j.service;
 
-import dev.langchain4j.agent.tool.ToolExecutionRequest;
-import dev.langchain4j.agent.tool.ToolExecutor;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.model.StreamingResponseHandler;
@@ -62,13 +60,8 @@ class AiServiceStreamingResponseHandler implements StreamingResponseHandler<AiMe
         }
 
         if (aiMessage.hasToolExecutionRequests()) {
-            for (ToolExecutionRequest toolExecutionRequest : aiMessage.toolExecutionRequests()) {
-                ToolExecutor toolExecutor = context.toolExecutors.get(toolExecutionRequest.name());
-                String toolExecutionResult = toolExecutor.execute(toolExecutionRequest, memoryId);
-                ToolExecutionResultMessage toolExecutionResultMessage = ToolExecutionResultMessage.from(
-                        toolExecutionRequest,
-                        toolExecutionResult
-                );
+            for (ToolExecutionResultMessage toolExecutionResultMessage :
+                    ToolExecutions.execute(context, aiMessage.toolExecutionRequests(), memoryId)) {
                 context.chatMemory(memoryId).add(toolExecutionResultMessage);
             }
 
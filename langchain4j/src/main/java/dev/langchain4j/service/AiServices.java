@@ -26,15 +26,18 @@ import dev.langchain4j.spi.services.AiServicesFactory;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.function.Function;
 
 import static dev.langchain4j.agent.tool.ToolSpecifications.toolSpecificationFrom;
 import static dev.langchain4j.exception.IllegalConfigurationException.illegalConfiguration;
 import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.newDaemonCachedThreadPool;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.util.stream.Collectors.toList;
@@ -53,7 +56,7 @@ import static java.util.stream.Collectors.toList;
  * - Single (shared) {@link ChatMemory}, configured via {@link #chatMemory(ChatMemory)}
  * - Separate (per-user) {@code ChatMemory}, configured via {@link #chatMemoryProvider(ChatMemoryProvider)} and a method parameter annotated with @{@link MemoryId}
  * - RAG, configured via {@link #contentRetriever(ContentRetriever)} or {@link #retrievalAugmentor(RetrievalAugmentor)}
- * - Tools, configured via {@link #tools(List)} or {@link #tools(Object...)} and methods annotated with @{@link Tool}
+ * - Tools, configured via {@link #tools(List)} or {@link #tools(Object...)} and methods annotated with @{@link Tool}, optionally executed concurrently via {@link #executeToolsConcurrently(Executor)}
  * - Various method return types (output parsers), see more details below
  * - Streaming (use {@link TokenStream} as a return type)
  * - Structured prompts as method arguments (see @{@link StructuredPrompt})
@@ -249,6 +252,7 @@ public abstract class AiServices<T> {
     public AiServices<T> chatMemory(ChatMemory chatMemory) {
         context.chatMemories = new ConcurrentHashMap<>();
         context.chatMemories.put(DEFAULT, chatMemory);
+        context.chatMemoryRegistry = null;
         return this;
     }
 
@@ -274,6 +278,31 @@ public abstract class AiServices<T> {
      */
     public AiServices<T> chatMemoryProvider(ChatMemoryProvider chatMemoryProvider) {
         context.chatMemories = new ConcurrentHashMap<>();
+        context.chatMemoryRegistry = null;
+        context.chatMemoryProvider = chatMemoryProvider;
+        return this;
+    }
+
+    /**
+     * Configures the chat memory provider, which provides a dedicated instance of {@link ChatMemory} for each user/conversation,
+     * and the registry retaining these instances between method calls.
+     * <p>
+     * By default (see {@link #chatMemoryProvider(ChatMemoryProvider)}), every {@link ChatMemory} is retained
+     * for as long as the AI Service exists. Configure a bounded {@link ChatMemoryRegistry} when the AI Service
+     * serves many distinct users/conversations, so that unused {@link ChatMemory} instances are evicted.
+     * An evicted {@link ChatMemory} is obtained again from the {@link ChatMemoryProvider} when needed,
+     * so the provided {@link ChatMemory} instances should keep their messages in a shared or persistent
+     * {@link dev.langchain4j.store.memory.chat.ChatMemoryStore}.
+     *
+     * @param chatMemoryProvider The provider of a {@link ChatMemory} for each new user/conversation.
+     * @param chatMemoryRegistry The registry retaining the provided {@link ChatMemory} instances.
+     * @return builder
+     * @see ChatMemoryRegistry
+     */
+    public AiServices<T> chatMemoryProvider(ChatMemoryProvider chatMemoryProvider,
+                                            ChatMemoryRegistry chatMemoryRegistry) {
+        context.chatMemoryRegistry = ensureNotNull(chatMemoryRegistry, "chatMemoryRegistry");
+        context.chatMemories = null;
         context.chatMemoryProvider = chatMemoryProvider;
         return this;
     }
@@ -338,6 +367,57 @@ public abstract class AiServices<T> {
         return this;
     }
 
+    /**
+     * Configures the AI Service to execute concurrently the tools that the LLM requests in a single response
+     * (parallel function calling), using a cached thread pool of daemon threads.
+     * The pool is never shut down, its idle threads terminate after a minute.
+     * By default, the tools are executed one after another.
+     * <p>
+     * The results of the tools are still added to the {@link ChatMemory} in the order of the requests.
+     *
+     * @return builder
+     * @see #executeToolsConcurrently(Executor)
+     */
+    public AiServices<T> executeToolsConcurrently() {
+        return executeToolsConcurrently(newDaemonCachedThreadPool("langchain4j-tools"));
+    }
+
+    /**
+     * Configures the AI Service to execute concurrently the tools that the LLM requests in a single response
+     * (parallel function calling), using the specified {@link Executor}.
+     * By default, the tools are executed one after another.
+     * <p>
+     * The results of the tools are still added to the {@link ChatMemory} in the order of the requests.
+     * Tools usually wait for I/O, so an executor with a thread per task
+     * (such as {@code Executors.newVirtualThreadPerTaskExecutor()} on Java 21+) fits them well.
+     *
+     * @param executor The executor to run the tools on.
+     * @return builder
+     * @see #toolExecutionTimeout(Duration)
+     */
+    public AiServices<T> executeToolsConcurrently(Executor executor) {
+        context.toolExecutionExecutor = ensureNotNull(executor, "executor");
+        return this;
+    }
+
+    /**
+     * Configures the maximum time each tool can run, when tools are executed concurrently
+     * (see {@link #executeToolsConcurrently(Executor)}).
+     * A tool that does not complete in time is cancelled (interrupted),
+     * and the LLM receives a message saying that its execution timed out.
+     *
+     * @param timeout The maximum time each tool can run, counted from the moment the LLM response is received.
+     * @return builder
+     */
+    public AiServices<T> toolExecutionTimeout(Duration timeout) {
+        ensureNotNull(timeout, "timeout");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw illegalArgument("timeout must be positive, but is: %s", timeout);
+        }
+        context.toolExecutionTimeout = timeout;
+        return this;
+    }
+
     /**
      * Deprecated. Use {@link #contentRetriever(ContentRetriever)}
      * (e.g. {@link EmbeddingStoreContentRetriever}) instead.
@@ -412,6 +492,10 @@ public abstract class AiServices<T> {
         if (context.chatModel == null && context.streamingChatModel == null) {
             throw illegalConfiguration("Please specify either chatLanguageModel or streamingChatLanguageModel");
         }
+        if (context.toolExecutionTimeout != null && context.toolExecutionExecutor == null) {
+            throw illegalConfiguration("toolExecutionTimeout applies only to tools executed concurrently, " +
+                    "please configure executeToolsConcurrently() as well");
+        }
     }
 
     protected void validateResultReturnType(Method method) {
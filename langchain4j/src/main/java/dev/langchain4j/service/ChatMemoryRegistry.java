@@ -0,0 +1,273 @@
+package dev.langchain4j.service;
+
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Holds the {@link ChatMemory} of each user/conversation of an AI Service, by memory ID.
+ * <p>
+ * By default, the registry is unbounded: a {@link ChatMemory} obtained from the {@link ChatMemoryProvider}
+ * is kept for as long as the AI Service exists. For a service with many distinct users, configure
+ * {@code maxSize} and/or {@code maxIdleTime}:
+ * <ul>
+ *     <li>when the registry holds {@code maxSize} memories, the least recently used one is evicted
+ *     to make room for a new one;</li>
+ *     <li>a memory that has not been used for {@code maxIdleTime} is evicted.</li>
+ * </ul>
+ * When an evicted memory is needed again, a new {@link ChatMemory} is obtained from the {@link ChatMemoryProvider}.
+ * Therefore, eviction is only safe when the provided {@link ChatMemory}s keep their messages in a {@link ChatMemoryStore}
+ * that outlives them (e.g. a persistent store, or a single in-memory store shared by all memories):
+ * the new {@link ChatMemory} then continues the conversation from the store.
+ * <p>
+ * An unbounded registry is backed by a {@link ConcurrentHashMap}, so concurrent calls for different memory IDs
+ * do not contend with each other. A bounded registry takes a single lock to keep track of the recency of its memories,
+ * but creates the {@link ChatMemory}s outside the lock, so a slow {@link ChatMemoryProvider} does not block other users.
+ * The registry counts hits, misses and evictions, which helps to size it.
+ */
+public class ChatMemoryRegistry {
+
+    private final Integer maxSize;
+    private final Duration maxIdleTime;
+    private final Clock clock;
+    private final boolean bounded;
+    /**
+     * Used when unbounded.
+     */
+    private final Map<Object, ChatMemory> chatMemories = new ConcurrentHashMap<>();
+    /**
+     * Used when bounded, guarded by {@code this}.
+     */
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * Creates an unbounded registry, which never evicts a {@link ChatMemory}.
+     */
+    public ChatMemoryRegistry() {
+        this(builder());
+    }
+
+    private ChatMemoryRegistry(Builder builder) {
+        this.maxSize = builder.maxSize == null ? null : ensureGreaterThanZero(builder.maxSize, "maxSize");
+        this.maxIdleTime = builder.maxIdleTime;
+        this.clock = getOrDefault(builder.clock, Clock::systemUTC);
+        this.bounded = maxSize != null || maxIdleTime != null;
+    }
+
+    /**
+     * Returns the {@link ChatMemory} of the specified memory ID,
+     * obtaining it from the {@link ChatMemoryProvider} when it is not in the registry.
+     *
+     * @param memoryId           The memory ID.
+     * @param chatMemoryProvider The provider of a {@link ChatMemory} for a new (or evicted) memory ID.
+     * @return The {@link ChatMemory}.
+     */
+    public ChatMemory get(Object memoryId, ChatMemoryProvider chatMemoryProvider) {
+        if (!bounded) {
+            ChatMemory chatMemory = chatMemories.get(memoryId);
+            if (chatMemory != null) {
+                hitCount.incrementAndGet();
+                return chatMemory;
+            }
+            return chatMemories.computeIfAbsent(memoryId, id -> {
+                missCount.incrementAndGet();
+                return chatMemoryProvider.get(id);
+            });
+        }
+
+        synchronized (this) {
+            Instant now = now();
+            Entry entry = entries.get(memoryId);
+            if (entry != null) {
+                if (!isIdle(entry, now)) {
+                    entry.lastAccess = now;
+                    hitCount.incrementAndGet();
+                    return entry.chatMemory;
+                }
+                entries.remove(memoryId);
+                evictionCount.incrementAndGet();
+            }
+            missCount.incrementAndGet();
+        }
+
+        ChatMemory chatMemory = chatMemoryProvider.get(memoryId);
+        if (chatMemory == null) {
+            return null;
+        }
+
+        synchronized (this) {
+            Entry existing = entries.get(memoryId);
+            if (existing != null) {
+                // another thread has registered a memory for this ID in the meantime
+                existing.lastAccess = now();
+                return existing.chatMemory;
+            }
+            store(memoryId, chatMemory);
+            return chatMemory;
+        }
+    }
+
+    /**
+     * Puts the {@link ChatMemory} of the specified memory ID into the registry, replacing the existing one, if any.
+     *
+     * @param memoryId   The memory ID.
+     * @param chatMemory The {@link ChatMemory}.
+     */
+    public void put(Object memoryId, ChatMemory chatMemory) {
+        ensureNotNull(chatMemory, "chatMemory");
+        if (!bounded) {
+            chatMemories.put(memoryId, chatMemory);
+            return;
+        }
+        synchronized (this) {
+            store(memoryId, chatMemory);
+        }
+    }
+
+    /**
+     * Removes the {@link ChatMemory} of the specified memory ID from the registry.
+     * Its messages are not removed from its {@link ChatMemoryStore}; use {@link ChatMemory#clear()} for that.
+     *
+     * @param memoryId The memory ID.
+     * @return The removed {@link ChatMemory}, or {@code null} if there was none.
+     */
+    public ChatMemory remove(Object memoryId) {
+        if (!bounded) {
+            return chatMemories.remove(memoryId);
+        }
+        synchronized (this) {
+            Entry entry = entries.remove(memoryId);
+            return entry == null ? null : entry.chatMemory;
+        }
+    }
+
+    /**
+     * @return The number of {@link ChatMemory}s in the registry, including idle ones that were not evicted yet.
+     */
+    public int size() {
+        if (!bounded) {
+            return chatMemories.size();
+        }
+        synchronized (this) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return The number of times {@link #get(Object, ChatMemoryProvider)} found the {@link ChatMemory} in the registry.
+     */
+    public long hitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return The number of times {@link #get(Object, ChatMemoryProvider)} had to obtain the {@link ChatMemory}
+     * from the {@link ChatMemoryProvider}.
+     */
+    public long missCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return The number of {@link ChatMemory}s evicted because of {@code maxSize} or {@code maxIdleTime}.
+     */
+    public long evictionCount() {
+        return evictionCount.get();
+    }
+
+    private void store(Object memoryId, ChatMemory chatMemory) {
+        Instant now = now();
+        entries.put(memoryId, new Entry(chatMemory, now));
+        evict(now);
+    }
+
+    /**
+     * Entries are kept in access order, so both the least recently used and the idle entries are at the head.
+     */
+    private void evict(Instant now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            boolean tooMany = maxSize != null && entries.size() > maxSize;
+            if (!tooMany && !isIdle(eldest, now)) {
+                break;
+            }
+            iterator.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private boolean isIdle(Entry entry, Instant now) {
+        return maxIdleTime != null && !now.isBefore(entry.lastAccess.plus(maxIdleTime));
+    }
+
+    private Instant now() {
+        return clock.instant();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer maxSize;
+        private Duration maxIdleTime;
+        private Clock clock;
+
+        /**
+         * @param maxSize The maximum number of {@link ChatMemory}s in the registry. Default value: unlimited.
+         * @return builder
+         */
+        public Builder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * @param maxIdleTime The time after which an unused {@link ChatMemory} is evicted. Default value: unlimited.
+         * @return builder
+         */
+        public Builder maxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+            return this;
+        }
+
+        Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public ChatMemoryRegistry build() {
+            return new ChatMemoryRegistry(this);
+        }
+    }
+
+    private static class Entry {
+
+        private final ChatMemory chatMemory;
+        private Instant lastAccess;
+
+        private Entry(ChatMemory chatMemory, Instant lastAccess) {
+            this.chatMemory = chatMemory;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package dev.langchain4j.service;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolExecutor;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Executes the tools requested by the LLM in a single {@link dev.langchain4j.data.message.AiMessage}.
+ * <p>
+ * By default, the tools are executed one after another, in the calling thread.
+ * When an {@link Executor} is configured (see {@link AiServices#executeToolsConcurrently(Executor)}),
+ * the tools are executed concurrently, and each of them can be given a timeout
+ * (see {@link AiServices#toolExecutionTimeout(Duration)}).
+ * Either way, the results are returned in the order of the requests.
+ */
+class ToolExecutions {
+
+    private static final Logger log = LoggerFactory.getLogger(ToolExecutions.class);
+
+    private ToolExecutions() {
+    }
+
+    static List<ToolExecutionResultMessage> execute(AiServiceContext context,
+                                                    List<ToolExecutionRequest> toolExecutionRequests,
+                                                    Object memoryId) {
+        Executor executor = context.toolExecutionExecutor;
+        Duration timeout = context.toolExecutionTimeout;
+        if (executor == null || (toolExecutionRequests.size() == 1 && timeout == null)) {
+            List<ToolExecutionResultMessage> results = new ArrayList<>(toolExecutionRequests.size());
+            for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+                String result = context.toolExecutors.get(toolExecutionRequest.name()).execute(toolExecutionRequest, memoryId);
+                results.add(ToolExecutionResultMessage.from(toolExecutionRequest, result));
+            }
+            return results;
+        }
+
+        long startNanos = System.nanoTime();
+        List<FutureTask<String>> tasks = new ArrayList<>(toolExecutionRequests.size());
+        for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+            ToolExecutor toolExecutor = context.toolExecutors.get(toolExecutionRequest.name());
+            FutureTask<String> task = new FutureTask<>(() -> toolExecutor.execute(toolExecutionRequest, memoryId));
+            tasks.add(task);
+            executor.execute(task);
+        }
+
+        List<ToolExecutionResultMessage> results = new ArrayList<>(toolExecutionRequests.size());
+        try {
+            for (int i = 0; i < tasks.size(); i++) {
+                ToolExecutionRequest toolExecutionRequest = toolExecutionRequests.get(i);
+                String result = await(tasks.get(i), toolExecutionRequest, timeout, startNanos);
+                results.add(ToolExecutionResultMessage.from(toolExecutionRequest, result));
+            }
+        } catch (InterruptedException e) {
+            tasks.forEach(task -> task.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (RuntimeException | Error e) {
+            tasks.forEach(task -> task.cancel(true));
+            throw e;
+        }
+        return results;
+    }
+
+    private static String await(FutureTask<String> task,
+                                ToolExecutionRequest toolExecutionRequest,
+                                Duration timeout,
+                                long startNanos) throws InterruptedException {
+        try {
+            if (timeout == null) {
+                return task.get();
+            }
+            long remainingNanos = timeout.toNanos() - (System.nanoTime() - startNanos);
+            return task.get(Math.max(remainingNanos, 0), NANOSECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            log.warn("Execution of the tool '{}' timed out after {} ms, cancelling it",
+                    toolExecutionRequest.name(), timeout.toMillis());
+            return String.format("Execution of the tool '%s' timed out after %s ms",
+                    toolExecutionRequest.name(), timeout.toMillis());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Reads and writes {@link InMemoryEmbeddingStore} in a compact binary format.
+ * <p>
+ * All numbers are little-endian. The file consists of:
+ * <pre>
+ * header (64 bytes):
+ *     int magic ("L4JE"), int version, int dimension, int count,
+ *     long vectorsOffset, long inverseNormsOffset, long segmentsOffset, reserved bytes
+ * vectors:       count * dimension float32, the vectors as they were added, row by row
+ * inverse norms: count float32, 1 / |vector| for each row
+ * segments:      for each row: string id, byte type (0: nothing embedded, 1: {@link TextSegment}),
+ *                and for a text segment: string text, int metadata entry count,
+ *                followed by string key, byte value type, value for each metadata entry
+ * </pre>
+ * Strings are written as an int byte length followed by UTF-8 bytes.
+ * <p>
+ * When reading, the vectors are memory-mapped using {@link FileChannel#map(FileChannel.MapMode, long, long)}
+ * and are searched directly from the page cache, without being copied to the heap.
+ * {@link dev.langchain4j.data.embedding.Embedding}s are only created for the entries that are actually returned.
+ * <p>
+ * When writing, the file is written to a temporary file in the same directory first and then moved into place,
+ * so that a store that has memory-mapped the previous version of the file keeps reading it unchanged.
+ */
+class BinaryInMemoryEmbeddingStoreCodec {
+
+    private static final int MAGIC = 0x454A344C; // the bytes "L4JE" written little-endian
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+
+    /**
+     * The maximum size of a single mapping: {@link FileChannel#map} is limited to {@link Integer#MAX_VALUE} bytes.
+     */
+    private static final long MAX_MAPPED_CHUNK_BYTES = 1L << 30;
+
+    private static final byte NOTHING_EMBEDDED = 0;
+    private static final byte TEXT_SEGMENT = 1;
+
+    private static final byte STRING = 0;
+    private static final byte INTEGER = 1;
+    private static final byte LONG = 2;
+    private static final byte FLOAT = 3;
+    private static final byte DOUBLE = 4;
+
+    private BinaryInMemoryEmbeddingStoreCodec() {
+    }
+
+    static void write(List<? extends InMemoryEmbeddingStore.Entry<?>> entries, Path filePath) throws IOException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        Path temporaryFile = Files.createTempFile(directory, filePath.getFileName().toString(), ".tmp");
+        try {
+            writeTo(entries, temporaryFile);
+            Files.move(temporaryFile, filePath, ATOMIC_MOVE, REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static void writeTo(List<? extends InMemoryEmbeddingStore.Entry<?>> entries, Path filePath) throws IOException {
+
+        int count = entries.size();
+        int dimension = count == 0 ? 0 : entries.get(0).embedding().dimension();
+        long vectorsOffset = HEADER_SIZE;
+        long inverseNormsOffset = vectorsOffset + (long) count * dimension * Float.BYTES;
+        long segmentsOffset = inverseNormsOffset + (long) count * Float.BYTES;
+
+        try (OutputStream fileStream = Files.newOutputStream(filePath, WRITE);
+             LittleEndianOutput out = new LittleEndianOutput(new BufferedOutputStream(fileStream, 1 << 16))) {
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(dimension);
+            out.writeInt(count);
+            out.writeLong(vectorsOffset);
+            out.writeLong(inverseNormsOffset);
+            out.writeLong(segmentsOffset);
+            out.write(new byte[HEADER_SIZE - 40]);
+
+            ByteBuffer row = ByteBuffer.allocate(dimension * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (InMemoryEmbeddingStore.Entry<?> entry : entries) {
+                float[] vector = entry.embedding().vector();
+                if (vector.length != dimension) {
+                    throw illegalArgument("Length of vector a (%s) must be equal to the length of vector b (%s)",
+                            vector.length, dimension);
+                }
+                row.clear();
+                row.asFloatBuffer().put(vector);
+                out.write(row.array());
+            }
+
+            for (InMemoryEmbeddingStore.Entry<?> entry : entries) {
+                out.writeFloat(PackedVectors.inverseNorm(entry.embedding().vector()));
+            }
+
+            for (InMemoryEmbeddingStore.Entry<?> entry : entries) {
+                out.writeString(entry.id);
+                if (entry.embedded == null) {
+                    out.writeByte(NOTHING_EMBEDDED);
+                } else if (entry.embedded instanceof TextSegment) {
+                    out.writeByte(TEXT_SEGMENT);
+                    writeTextSegment((TextSegment) entry.embedded, out);
+                } else {
+                    throw illegalArgument("Only TextSegment can be written in the binary format, but found: %s",
+                            entry.embedded.getClass().getName());
+                }
+            }
+        }
+    }
+
+    private static void writeTextSegment(TextSegment segment, LittleEndianOutput out) throws IOException {
+        out.writeString(segment.text());
+        Map<String, Object> metadata = segment.metadata().toMap();
+        out.writeInt(metadata.size());
+        for (Map.Entry<String, Object> metadataEntry : metadata.entrySet()) {
+            out.writeString(metadataEntry.getKey());
+            Object value = metadataEntry.getValue();
+            if (value instanceof String) {
+                out.writeByte(STRING);
+                out.writeString((String) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(INTEGER);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                out.writeByte(LONG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Float) {
+                out.writeByte(FLOAT);
+                out.writeFloat((Float) value);
+            } else if (value instanceof Double) {
+                out.writeByte(DOUBLE);
+                out.writeDouble((Double) value);
+            } else {
+                throw illegalArgument("Unsupported metadata value type: %s", value.getClass().getName());
+            }
+        }
+    }
+
+    static InMemoryEmbeddingStore<TextSegment> read(Path filePath) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(filePath, READ)) {
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // read the whole header
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+                throw illegalArgument("%s is not a binary InMemoryEmbeddingStore file", filePath);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw illegalArgument("Unsupported binary InMemoryEmbeddingStore file version: %s", version);
+            }
+            int dimension = header.getInt();
+            int count = header.getInt();
+            long vectorsOffset = header.getLong();
+            long inverseNormsOffset = header.getLong();
+            long segmentsOffset = header.getLong();
+
+            int rowsPerChunk = dimension == 0
+                    ? 1
+                    : (int) Math.max(1, MAX_MAPPED_CHUNK_BYTES / ((long) dimension * Float.BYTES));
+            int chunkCount = count == 0 ? 0 : (count - 1) / rowsPerChunk + 1;
+            FloatBuffer[] chunks = new FloatBuffer[chunkCount];
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                int rows = Math.min(rowsPerChunk, count - chunk * rowsPerChunk);
+                long position = vectorsOffset + (long) chunk * rowsPerChunk * dimension * Float.BYTES;
+                chunks[chunk] = channel.map(FileChannel.MapMode.READ_ONLY, position, (long) rows * dimension * Float.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asFloatBuffer();
+            }
+
+            float[] inverseNorms = new float[count];
+            channel.map(FileChannel.MapMode.READ_ONLY, inverseNormsOffset, (long) count * Float.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asFloatBuffer()
+                    .get(inverseNorms);
+
+            PackedVectors vectors = new PackedVectors(dimension, chunks, rowsPerChunk, inverseNorms);
+
+            channel.position(segmentsOffset);
+            LittleEndianInput in = new LittleEndianInput(
+                    new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+            List<InMemoryEmbeddingStore.Entry<TextSegment>> entries = new ArrayList<>(count);
+            for (int row = 0; row < count; row++) {
+                String id = in.readString();
+                byte type = in.readByte();
+                TextSegment segment;
+                if (type == NOTHING_EMBEDDED) {
+                    segment = null;
+                } else if (type == TEXT_SEGMENT) {
+                    segment = readTextSegment(in);
+                } else {
+                    throw illegalArgument("Unsupported embedded type: %s", type);
+                }
+                entries.add(new InMemoryEmbeddingStore.Entry<>(id, vectors, row, segment));
+            }
+
+            return new InMemoryEmbeddingStore<>(vectors, entries);
+        }
+    }
+
+    private static TextSegment readTextSegment(LittleEndianInput in) throws IOException {
+        String text = in.readString();
+        int metadataSize = in.readInt();
+        Map<String, Object> metadata = new HashMap<>();
+        for (int i = 0; i < metadataSize; i++) {
+            String key = in.readString();
+            byte valueType = in.readByte();
+            switch (valueType) {
+                case STRING:
+                    metadata.put(key, in.readString());
+                    break;
+                case INTEGER:
+                    metadata.put(key, in.readInt());
+                    break;
+                case LONG:
+                    metadata.put(key, in.readLong());
+                    break;
+                case FLOAT:
+                    metadata.put(key, in.readFloat());
+                    break;
+                case DOUBLE:
+                    metadata.put(key, in.readDouble());
+                    break;
+                default:
+                    throw illegalArgument("Unsupported metadata value type: %s", valueType);
+            }
+        }
+        return TextSegment.from(text, new Metadata(metadata));
+    }
+
+    private static class LittleEndianOutput implements Closeable {
+
+        private final DataOutputStream out;
+
+        LittleEndianOutput(OutputStream out) {
+            this.out = new DataOutputStream(out);
+        }
+
+        void write(byte[] bytes) throws IOException {
+            out.write(bytes);
+        }
+
+        void writeString(String string) throws IOException {
+            byte[] bytes = string.getBytes(UTF_8);
+            writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        void writeByte(byte value) throws IOException {
+            out.writeByte(value);
+        }
+
+        void writeInt(int value) throws IOException {
+            out.writeInt(Integer.reverseBytes(value));
+        }
+
+        void writeLong(long value) throws IOException {
+            out.writeLong(Long.reverseBytes(value));
+        }
+
+        void writeFloat(float value) throws IOException {
+            writeInt(Float.floatToRawIntBits(value));
+        }
+
+        void writeDouble(double value) throws IOException {
+            writeLong(Double.doubleToRawLongBits(value));
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    private static class LittleEndianInput {
+
+        private final DataInputStream in;
+
+        LittleEndianInput(InputStream in) {
+            this.in = new DataInputStream(in);
+        }
+
+        String readString() throws IOException {
+            byte[] bytes = new byte[readInt()];
+            in.readFully(bytes);
+            return new String(bytes, UTF_8);
+        }
+
+        byte readByte() throws IOException {
+            return in.readByte();
+        }
+
+        int readInt() throws IOException {
+            return Integer.reverseBytes(in.readInt());
+        }
+
+        long readLong() throws IOException {
+            return Long.reverseBytes(in.readLong());
+        }
+
+        float readFloat() throws IOException {
+            return Float.intBitsToFloat(readInt());
+        }
+
+        double readDouble() throws IOException {
+            return Double.longBitsToDouble(readLong());
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * An HNSW (Hierarchical Navigable Small World) graph over the rows of {@link PackedVectors}.
+ * Each node of the graph is identified by the row of its vector.
+ * <p>
+ * Insertions are serialized by a write lock, searches run concurrently under a read lock.
+ * <p>
+ * See <a href="https://arxiv.org/abs/1603.09320">Malkov and Yashunin</a> for the description of the algorithm.
+ */
+class HnswIndex {
+
+    private static final Comparator<Candidate> BEST_FIRST = (a, b) -> Float.compare(b.similarity, a.similarity);
+    private static final Comparator<Candidate> WORST_FIRST = (a, b) -> Float.compare(a.similarity, b.similarity);
+
+    private final int m;
+    private final int maxConnectionsOnGroundLayer;
+    private final int efConstruction;
+    private final int efSearch;
+    private final double levelMultiplier;
+    private final Random random;
+
+    private final PackedVectors vectors;
+    private final List<Node> nodes = new ArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Node entryPoint;
+
+    HnswIndex(HnswIndexConfig config, PackedVectors vectors) {
+        ensureNotNull(config, "config");
+        this.vectors = ensureNotNull(vectors, "vectors");
+        this.m = config.m();
+        this.maxConnectionsOnGroundLayer = 2 * config.m();
+        this.efConstruction = Math.max(config.efConstruction(), config.m());
+        this.efSearch = config.efSearch();
+        this.levelMultiplier = 1 / Math.log(Math.max(config.m(), 2));
+        this.random = config.seed() == null ? new Random() : new Random(config.seed());
+    }
+
+    /**
+     * Inserts all rows of {@link PackedVectors} that are not in the graph yet.
+     */
+    void update() {
+        lock.writeLock().lock();
+        try {
+            for (int row = nodes.size(); row < vectors.size(); row++) {
+                insert(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds approximately the {@code maxResults} rows that are most similar to the query.
+     *
+     * @param query      The normalized query vector.
+     * @param maxResults The maximum number of rows to return.
+     * @param accept     Only rows accepted by this predicate are returned.
+     *                   Rejected rows are still traversed to reach the accepted ones.
+     * @return The found rows, the most similar first.
+     */
+    int[] search(float[] query, int maxResults, IntPredicate accept) {
+        lock.readLock().lock();
+        try {
+            if (entryPoint == null) {
+                return new int[0];
+            }
+
+            Node current = greedySearch(query, entryPoint, entryPoint.maxLayer(), 1);
+            PriorityQueue<Candidate> found = searchLayer(query, current, Math.max(efSearch, maxResults), 0, accept);
+
+            List<Candidate> sorted = sortedBestFirst(found);
+            int[] rows = new int[Math.min(sorted.size(), maxResults)];
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = sorted.get(i).node;
+            }
+            return rows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(int row) {
+        float[] vector = vectors.row(row);
+
+        int layer = randomLayer();
+        Node node = new Node(row, layer, m, maxConnectionsOnGroundLayer);
+        nodes.add(node);
+
+        if (entryPoint == null) {
+            entryPoint = node;
+            return;
+        }
+
+        int topLayer = entryPoint.maxLayer();
+        Node current = greedySearch(vector, entryPoint, topLayer, layer + 1);
+
+        for (int l = Math.min(layer, topLayer); l >= 0; l--) {
+            PriorityQueue<Candidate> found = searchLayer(vector, current, efConstruction, l, null);
+            List<Candidate> sorted = sortedBestFirst(found);
+            current = nodes.get(sorted.get(0).node);
+
+            for (Candidate neighbour : selectNeighbours(sorted, m)) {
+                node.connect(l, neighbour.node);
+                connect(nodes.get(neighbour.node), l, node.index, neighbour.similarity);
+            }
+        }
+
+        if (layer > topLayer) {
+            entryPoint = node;
+        }
+    }
+
+    /**
+     * Descends from {@code topLayer} down to {@code bottomLayer} (inclusive),
+     * moving on each layer to the neighbour most similar to the query until no better neighbour exists.
+     */
+    private Node greedySearch(float[] query, Node start, int topLayer, int bottomLayer) {
+        Node current = start;
+        float currentSimilarity = vectors.similarity(current.index, query);
+        for (int l = topLayer; l >= bottomLayer; l--) {
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                int[] connections = current.connections[l];
+                int connectionCount = current.connectionCounts[l];
+                for (int i = 0; i < connectionCount; i++) {
+                    Node neighbour = nodes.get(connections[i]);
+                    float similarity = vectors.similarity(neighbour.index, query);
+                    if (similarity > currentSimilarity) {
+                        current = neighbour;
+                        currentSimilarity = similarity;
+                        changed = true;
+                    }
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Returns up to {@code ef} accepted nodes of the given {@code layer} that are most similar to the query,
+     * the least similar one at the head of the queue.
+     */
+    private PriorityQueue<Candidate> searchLayer(float[] query,
+                                                 Node start,
+                                                 int ef,
+                                                 int layer,
+                                                 IntPredicate accept) {
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(BEST_FIRST);
+        PriorityQueue<Candidate> results = new PriorityQueue<>(WORST_FIRST);
+
+        Candidate first = new Candidate(start.index, vectors.similarity(start.index, query));
+        visited.set(start.index);
+        candidates.add(first);
+        if (accept == null || accept.test(start.index)) {
+            results.add(first);
+        }
+
+        while (!candidates.isEmpty()) {
+            Candidate candidate = candidates.poll();
+            if (results.size() >= ef && candidate.similarity < results.peek().similarity) {
+                break;
+            }
+
+            Node node = nodes.get(candidate.node);
+            int[] connections = node.connections[layer];
+            int connectionCount = node.connectionCounts[layer];
+            for (int i = 0; i < connectionCount; i++) {
+                int neighbourIndex = connections[i];
+                if (visited.get(neighbourIndex)) {
+                    continue;
+                }
+                visited.set(neighbourIndex);
+
+                float similarity = vectors.similarity(neighbourIndex, query);
+                if (results.size() < ef || similarity > results.peek().similarity) {
+                    Candidate next = new Candidate(neighbourIndex, similarity);
+                    candidates.add(next);
+                    if (accept == null || accept.test(neighbourIndex)) {
+                        results.add(next);
+                        if (results.size() > ef) {
+                            results.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Selects up to {@code maxConnections} neighbours, preferring candidates that are closer to the base node
+     * than to any already selected neighbour. This keeps the graph navigable for clustered data.
+     *
+     * @param candidates candidates sorted by their similarity to the base node, the most similar first
+     */
+    private List<Candidate> selectNeighbours(List<Candidate> candidates, int maxConnections) {
+        List<Candidate> selected = new ArrayList<>(Math.min(candidates.size(), maxConnections));
+        for (Candidate candidate : candidates) {
+            if (selected.size() >= maxConnections) {
+                break;
+            }
+            boolean closerToBase = true;
+            for (Candidate alreadySelected : selected) {
+                if (vectors.similarity(candidate.node, alreadySelected.node) > candidate.similarity) {
+                    closerToBase = false;
+                    break;
+                }
+            }
+            if (closerToBase) {
+                selected.add(candidate);
+            }
+        }
+        return selected;
+    }
+
+    private void connect(Node node, int layer, int newNeighbour, float similarity) {
+        int maxConnections = layer == 0 ? maxConnectionsOnGroundLayer : m;
+        if (node.connectionCounts[layer] < maxConnections) {
+            node.connect(layer, newNeighbour);
+            return;
+        }
+
+        List<Candidate> candidates = new ArrayList<>(maxConnections + 1);
+        candidates.add(new Candidate(newNeighbour, similarity));
+        for (int i = 0; i < node.connectionCounts[layer]; i++) {
+            int neighbour = node.connections[layer][i];
+            candidates.add(new Candidate(neighbour, vectors.similarity(node.index, neighbour)));
+        }
+        candidates.sort(BEST_FIRST);
+
+        node.connectionCounts[layer] = 0;
+        for (Candidate selected : selectNeighbours(candidates, maxConnections)) {
+            node.connect(layer, selected.node);
+        }
+    }
+
+    private int randomLayer() {
+        return (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+    }
+
+    private static List<Candidate> sortedBestFirst(PriorityQueue<Candidate> queue) {
+        List<Candidate> sorted = new ArrayList<>(queue);
+        sorted.sort(BEST_FIRST);
+        return sorted;
+    }
+
+    private static class Node {
+
+        final int index;
+        final int[][] connections;
+        final int[] connectionCounts;
+
+        Node(int index, int maxLayer, int m, int maxConnectionsOnGroundLayer) {
+            this.index = index;
+            this.connections = new int[maxLayer + 1][];
+            this.connectionCounts = new int[maxLayer + 1];
+            for (int layer = 0; layer <= maxLayer; layer++) {
+                connections[layer] = new int[layer == 0 ? maxConnectionsOnGroundLayer : m];
+            }
+        }
+
+        int maxLayer() {
+            return connections.length - 1;
+        }
+
+        void connect(int layer, int neighbour) {
+            connections[layer][connectionCounts[layer]++] = neighbour;
+        }
+    }
+
+    private static class Candidate {
+
+        final int node;
+        final float similarity;
+
+        Candidate(int node, float similarity) {
+            this.node = node;
+            this.similarity = similarity;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+/**
+ * Configuration of the HNSW (Hierarchical Navigable Small World) index
+ * that can optionally be used by the {@link InMemoryEmbeddingStore}.
+ * <p>
+ * With an HNSW index, the search is approximate: it visits only a small part of the stored embeddings
+ * and thus can occasionally miss some of the best matches.
+ * Larger {@link #m()}, {@link #efConstruction()} and {@link #efSearch()} values improve recall
+ * at the cost of memory, insertion time and search latency respectively.
+ */
+public class HnswIndexConfig {
+
+    public static final int DEFAULT_M = 16;
+    public static final int DEFAULT_EF_CONSTRUCTION = 200;
+    public static final int DEFAULT_EF_SEARCH = 50;
+
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final Long seed;
+
+    private HnswIndexConfig(Builder builder) {
+        this.m = ensureGreaterThanZero(getOrDefault(builder.m, DEFAULT_M), "m");
+        this.efConstruction = ensureGreaterThanZero(getOrDefault(builder.efConstruction, DEFAULT_EF_CONSTRUCTION), "efConstruction");
+        this.efSearch = ensureGreaterThanZero(getOrDefault(builder.efSearch, DEFAULT_EF_SEARCH), "efSearch");
+        this.seed = builder.seed;
+    }
+
+    /**
+     * @return The maximum number of connections of each node on the upper layers of the graph.
+     * Nodes on the ground layer can have up to {@code 2 * m} connections.
+     */
+    public int m() {
+        return m;
+    }
+
+    /**
+     * @return The size of the dynamic candidate list used when inserting an embedding into the graph.
+     */
+    public int efConstruction() {
+        return efConstruction;
+    }
+
+    /**
+     * @return The size of the dynamic candidate list used when searching.
+     * The effective value is never smaller than {@link dev.langchain4j.store.embedding.EmbeddingSearchRequest#maxResults()}.
+     */
+    public int efSearch() {
+        return efSearch;
+    }
+
+    /**
+     * @return The seed of the random generator that assigns embeddings to the layers of the graph,
+     * or {@code null} if the generator is not seeded.
+     */
+    public Long seed() {
+        return seed;
+    }
+
+    public static HnswIndexConfig defaults() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer m;
+        private Integer efConstruction;
+        private Integer efSearch;
+        private Long seed;
+
+        /**
+         * @param m The maximum number of connections of each node on the upper layers of the graph.
+         *          If not provided, {@value HnswIndexConfig#DEFAULT_M} will be used.
+         * @return builder
+         */
+        public Builder m(Integer m) {
+            this.m = m;
+            return this;
+        }
+
+        /**
+         * @param efConstruction The size of the dynamic candidate list used when inserting an embedding.
+         *                       If not provided, {@value HnswIndexConfig#DEFAULT_EF_CONSTRUCTION} will be used.
+         * @return builder
+         */
+        public Builder efConstruction(Integer efConstruction) {
+            this.efConstruction = efConstruction;
+            return this;
+        }
+
+        /**
+         * @param efSearch The size of the dynamic candidate list used when searching.
+         *                 If not provided, {@value HnswIndexConfig#DEFAULT_EF_SEARCH} will be used.
+         * @return builder
+         */
+        public Builder efSearch(Integer efSearch) {
+            this.efSearch = efSearch;
+            return this;
+        }
+
+        /**
+         * @param seed The seed of the random generator that assigns embeddings to the layers of the graph.
+         *             With a seed, inserting the same embeddings in the same order always builds the same graph.
+         *             If not provided, the generator is not seeded.
+         * @return builder
+         */
+        public Builder seed(Long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public HnswIndexConfig build() {
+            return new HnswIndexConfig(this);
+        }
+    }
+}
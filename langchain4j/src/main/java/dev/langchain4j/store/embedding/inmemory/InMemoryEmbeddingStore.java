@@ -13,33 +13,114 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
 import java.util.stream.IntStream;
 
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.util.Collections.singletonList;
 import static java.util.Comparator.comparingDouble;
 import static java.util.stream.Collectors.toList;
 
 /**
  * An {@link EmbeddingStore} that stores embeddings in memory.
  * <p>
- * Uses a brute force approach by iterating over all embeddings to find the best matches.
+ * By default, uses a brute force approach by iterating over all embeddings to find the best matches.
+ * Vectors are normalized once when they are added and are packed into a single contiguous array,
+ * so that comparing them with the query is a plain dot product.
+ * <p>
+ * Optionally, an HNSW index can be enabled using {@link Builder#hnswIndex(HnswIndexConfig)}.
+ * Search then becomes approximate, but its latency grows only logarithmically with the number of stored embeddings.
+ * When a {@link Filter} leaves too few candidates in the index, the search falls back to the brute force approach.
+ * The index is not serialized and is not restored by {@link #fromJson(String)} and {@link #fromFile(Path)}.
+ * <p>
+ * For large stores, the brute force search can be spread over multiple cores
+ * using {@link Builder#parallelSearchThreshold(Integer)}.
+ * It finds the same matches as the sequential search.
  * <p>
  * This store can be persisted using the {@link #serializeToJson()} and {@link #serializeToFile(Path)} methods.
  * <p>
  * It can also be recreated from JSON or a file using the {@link #fromJson(String)} and {@link #fromFile(Path)} methods.
+ * <p>
+ * Removed embeddings are only marked as deleted, and are skipped by searches.
+ * Once deleted embeddings make up more than half of the stored vectors, the remaining vectors are compacted
+ * (and the HNSW index, if enabled, is rebuilt), which takes time proportional to the size of the store.
+ * <p>
+ * For large stores, prefer the binary format of {@link #serializeToBinaryFile(Path)} and {@link #fromBinaryFile(Path)}:
+ * it is much more compact, and the vectors are memory-mapped instead of being parsed.
  *
  * @param <Embedded> The class of the object that has been embedded.
  *                   Typically, it is {@link dev.langchain4j.data.segment.TextSegment}.
  */
 public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded> {
 
+    private static final int MIN_PARALLEL_CHUNK_SIZE = 1024;
+
+    /**
+     * The stored entries, in insertion order. Removed entries are removed from this list right away.
+     */
     final CopyOnWriteArrayList<Entry<Embedded>> entries = new CopyOnWriteArrayList<>();
 
+    /**
+     * Searches hold the read lock, so that the rows they scan are not compacted away by a concurrent removal.
+     */
+    private final transient ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final transient HnswIndexConfig hnswIndexConfig;
+    private transient volatile PackedVectors vectors;
+    private transient volatile HnswIndex index;
+    /**
+     * The entry of each row of {@link #vectors}, or {@code null} if the entry was removed. Guarded by {@link #lock}.
+     */
+    private transient List<Entry<Embedded>> rows = new ArrayList<>();
+    private transient int deletedRowCount;
+    /**
+     * The number of entries that have a row, the entries after them in {@link #entries} still have to be packed.
+     */
+    private transient volatile int packedEntryCount;
+    private final transient Integer parallelSearchThreshold;
+    private final transient ForkJoinPool forkJoinPool;
+
+    public InMemoryEmbeddingStore() {
+        this.hnswIndexConfig = null;
+        this.vectors = new PackedVectors();
+        this.index = null;
+        this.parallelSearchThreshold = null;
+        this.forkJoinPool = null;
+    }
+
+    private InMemoryEmbeddingStore(Builder<Embedded> builder) {
+        this.hnswIndexConfig = builder.hnswIndexConfig;
+        this.vectors = new PackedVectors();
+        this.index = hnswIndexConfig == null ? null : new HnswIndex(hnswIndexConfig, vectors);
+        this.parallelSearchThreshold = builder.parallelSearchThreshold == null
+                ? null
+                : ensureGreaterThanZero(builder.parallelSearchThreshold, "parallelSearchThreshold");
+        this.forkJoinPool = getOrDefault(builder.forkJoinPool, ForkJoinPool::commonPool);
+    }
+
+    InMemoryEmbeddingStore(PackedVectors vectors, List<Entry<Embedded>> entries) {
+        this.hnswIndexConfig = null;
+        this.vectors = ensureNotNull(vectors, "vectors");
+        this.index = null;
+        this.parallelSearchThreshold = null;
+        this.forkJoinPool = null;
+        this.entries.addAll(entries);
+        this.rows.addAll(entries);
+        this.packedEntryCount = entries.size();
+    }
+
     @Override
     public String add(Embedding embedding) {
         String id = randomUUID();
@@ -60,7 +141,7 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
     }
 
     public void add(String id, Embedding embedding, Embedded embedded) {
-        entries.add(new Entry<>(id, embedding, embedded));
+        add(singletonList(new Entry<>(id, embedding, embedded)));
     }
 
     @Override
@@ -86,50 +167,338 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return add(newEntries);
     }
 
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<Embedded> embedded) {
+        if (ids.size() != embeddings.size() || embeddings.size() != embedded.size()) {
+            throw new IllegalArgumentException("The list of ids and embeddings and embedded must have the same size");
+        }
+
+        List<Entry<Embedded>> newEntries = IntStream.range(0, embeddings.size())
+                .mapToObj(i -> new Entry<>(ids.get(i), embeddings.get(i), embedded.get(i)))
+                .collect(toList());
+
+        // entries already stored under the same IDs are replaced
+        Set<String> idsToReplace = new HashSet<>(ids);
+        lock.writeLock().lock();
+        try {
+            synchronizeVectors();
+            ensureSameDimension(newEntries);
+            removeIf(entry -> idsToReplace.contains(entry.id));
+            add(newEntries);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
     private List<String> add(List<Entry<Embedded>> newEntries) {
 
-        entries.addAll(newEntries);
+        lock.writeLock().lock();
+        try {
+            synchronizeVectors();
+            ensureSameDimension(newEntries);
+            entries.addAll(newEntries);
+            synchronizeVectors();
+        } finally {
+            lock.writeLock().unlock();
+        }
 
         return newEntries.stream()
                 .map(entry -> entry.id)
                 .collect(toList());
     }
 
+    private void ensureSameDimension(List<Entry<Embedded>> newEntries) {
+        int dimension = vectors.size() > 0 ? vectors.dimension() : -1;
+        for (Entry<Embedded> entry : newEntries) {
+            int length = entry.embedding().dimension();
+            if (dimension == -1) {
+                dimension = length;
+            } else if (length != dimension) {
+                throw illegalArgument("Length of vector a (%s) must be equal to the length of vector b (%s)",
+                        length, dimension);
+            }
+        }
+    }
+
     @Override
-    public EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest embeddingSearchRequest) {
+    public void remove(String id) {
+        ensureNotBlank(id, "id");
+        removeIf(entry -> entry.id.equals(id));
+    }
 
-        Comparator<EmbeddingMatch<Embedded>> comparator = comparingDouble(EmbeddingMatch::score);
-        PriorityQueue<EmbeddingMatch<Embedded>> matches = new PriorityQueue<>(comparator);
+    @Override
+    public void removeAll(Collection<String> ids) {
+        ensureNotEmpty(ids, "ids");
+        Set<String> idsToRemove = new HashSet<>(ids);
+        removeIf(entry -> idsToRemove.contains(entry.id));
+    }
 
-        Filter filter = embeddingSearchRequest.filter();
+    @Override
+    public void removeAll(Filter filter) {
+        ensureNotNull(filter, "filter");
+        removeIf(entry -> entry.embedded instanceof TextSegment
+                && filter.test(((TextSegment) entry.embedded).metadata()));
+    }
 
-        for (Entry<Embedded> entry : entries) {
+    @Override
+    public void removeAll() {
+        removeIf(entry -> true);
+    }
 
-            if (filter != null && entry.embedded instanceof TextSegment) {
-                Metadata metadata = ((TextSegment) entry.embedded).metadata();
-                if (!filter.test(metadata)) {
-                    continue;
+    /**
+     * Removes the matching entries and marks their rows as deleted.
+     * The rows stay in the HNSW index, if any, where they are still traversed but never returned.
+     * Once more than half of the rows are deleted, the remaining vectors are compacted.
+     */
+    private void removeIf(Predicate<Entry<Embedded>> predicate) {
+        lock.writeLock().lock();
+        try {
+            synchronizeVectors();
+            if (!entries.removeIf(predicate)) {
+                return;
+            }
+            for (int row = 0; row < rows.size(); row++) {
+                Entry<Embedded> entry = rows.get(row);
+                if (entry != null && predicate.test(entry)) {
+                    rows.set(row, null);
+                    deletedRowCount++;
                 }
             }
+            packedEntryCount = entries.size();
+            if (deletedRowCount * 2 > rows.size()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
 
-            double cosineSimilarity = CosineSimilarity.between(entry.embedding, embeddingSearchRequest.queryEmbedding());
-            double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
-            if (score >= embeddingSearchRequest.minScore()) {
-                matches.add(new EmbeddingMatch<>(score, entry.id, entry.embedding, entry.embedded));
-                if (matches.size() > embeddingSearchRequest.maxResults()) {
-                    matches.poll();
+    /**
+     * Packs the vectors of the remaining entries into new storage, dropping the deleted rows.
+     * Vectors that were memory-mapped are copied to the heap, and the HNSW index, if any, is rebuilt.
+     * Must be called while holding the write lock.
+     */
+    private void compact() {
+        vectors = new PackedVectors();
+        index = hnswIndexConfig == null ? null : new HnswIndex(hnswIndexConfig, vectors);
+        rows = new ArrayList<>();
+        deletedRowCount = 0;
+        packedEntryCount = 0;
+        synchronizeVectors();
+    }
+
+    /**
+     * Packs the vectors of entries that are not packed yet (e.g. after deserialization) and indexes them.
+     * Must be called while holding the write lock.
+     */
+    private void synchronizeVectors() {
+        for (int i = packedEntryCount; i < entries.size(); i++) {
+            Entry<Embedded> entry = entries.get(i);
+            vectors.add(entry.embedding().vector());
+            rows.add(entry);
+        }
+        packedEntryCount = entries.size();
+        if (index != null) {
+            index.update();
+        }
+    }
+
+    @Override
+    public EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest embeddingSearchRequest) {
+
+        if (packedEntryCount < entries.size()) {
+            lock.writeLock().lock();
+            try {
+                synchronizeVectors();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        lock.readLock().lock();
+        try {
+            int size = vectors.size();
+            if (size == deletedRowCount) {
+                return new EmbeddingSearchResult<>(new ArrayList<>());
+            }
+            float[] query = vectors.normalizedQuery(embeddingSearchRequest.queryEmbedding().vector());
+
+            if (index != null) {
+                List<EmbeddingMatch<Embedded>> matches = searchIndex(embeddingSearchRequest, query, size);
+                if (matches != null) {
+                    return new EmbeddingSearchResult<>(matches);
                 }
             }
+            return new EmbeddingSearchResult<>(searchExhaustively(embeddingSearchRequest, query, size));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return matches found in the HNSW index,
+     * or {@code null} if the index could not provide {@code maxResults} entries that match the filter
+     * and were not removed
+     */
+    private List<EmbeddingMatch<Embedded>> searchIndex(EmbeddingSearchRequest embeddingSearchRequest,
+                                                       float[] query,
+                                                       int size) {
+
+        Filter filter = embeddingSearchRequest.filter();
+        int[] found = index.search(
+                query,
+                embeddingSearchRequest.maxResults(),
+                row -> rows.get(row) != null && matches(filter, rows.get(row))
+        );
+        if ((filter != null || deletedRowCount > 0)
+                && found.length < embeddingSearchRequest.maxResults()
+                && found.length < size - deletedRowCount) {
+            return null;
+        }
+
+        List<EmbeddingMatch<Embedded>> result = new ArrayList<>(found.length);
+        for (int row : found) {
+            double score = RelevanceScore.fromCosineSimilarity(vectors.similarity(row, query));
+            if (score >= embeddingSearchRequest.minScore()) {
+                result.add(toMatch(row, score));
+            }
         }
+        return result;
+    }
+
+    private List<EmbeddingMatch<Embedded>> searchExhaustively(EmbeddingSearchRequest embeddingSearchRequest,
+                                                              float[] query,
+                                                              int size) {
 
-        List<EmbeddingMatch<Embedded>> result = new ArrayList<>(matches);
-        result.sort(comparator);
+        PriorityQueue<ScoredRow> scoredRows;
+        if (parallelSearchThreshold != null && size >= parallelSearchThreshold && forkJoinPool.getParallelism() > 1) {
+            int chunkSize = Math.max(MIN_PARALLEL_CHUNK_SIZE, size / (forkJoinPool.getParallelism() * 4) + 1);
+            scoredRows = forkJoinPool.invoke(new ParallelSearchTask(embeddingSearchRequest, query, 0, size, chunkSize));
+        } else {
+            scoredRows = searchExhaustively(embeddingSearchRequest, query, 0, size);
+        }
+
+        List<EmbeddingMatch<Embedded>> result = new ArrayList<>(scoredRows.size());
+        while (!scoredRows.isEmpty()) {
+            ScoredRow scoredRow = scoredRows.poll();
+            result.add(toMatch(scoredRow.row, scoredRow.score));
+        }
         Collections.reverse(result);
+        return result;
+    }
 
-        return new EmbeddingSearchResult<>(result);
+    /**
+     * Scans the rows in {@code [from, to)}.
+     *
+     * @return up to {@code maxResults} best matching rows, the worst one at the head of the queue
+     */
+    private PriorityQueue<ScoredRow> searchExhaustively(EmbeddingSearchRequest embeddingSearchRequest,
+                                                        float[] query,
+                                                        int from,
+                                                        int to) {
+
+        Filter filter = embeddingSearchRequest.filter();
+        int maxResults = embeddingSearchRequest.maxResults();
+        double minScore = embeddingSearchRequest.minScore();
+
+        PriorityQueue<ScoredRow> scoredRows = new PriorityQueue<>(comparingDouble(ScoredRow::score));
+
+        for (int row = from; row < to; row++) {
+
+            double score = RelevanceScore.fromCosineSimilarity(vectors.similarity(row, query));
+            if (score < minScore) {
+                continue;
+            }
+            if (scoredRows.size() >= maxResults && score <= scoredRows.peek().score) {
+                continue;
+            }
+            Entry<Embedded> entry = rows.get(row);
+            if (entry == null || !matches(filter, entry)) {
+                continue;
+            }
+
+            scoredRows.add(new ScoredRow(row, score));
+            if (scoredRows.size() > maxResults) {
+                scoredRows.poll();
+            }
+        }
+
+        return scoredRows;
+    }
+
+    /**
+     * Splits the rows into chunks that are scanned in parallel, each into its own top-k heap.
+     * The heaps are merged pairwise when the subtasks are joined.
+     */
+    private class ParallelSearchTask extends RecursiveTask<PriorityQueue<ScoredRow>> {
+
+        private final EmbeddingSearchRequest embeddingSearchRequest;
+        private final float[] query;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        ParallelSearchTask(EmbeddingSearchRequest embeddingSearchRequest, float[] query, int from, int to, int chunkSize) {
+            this.embeddingSearchRequest = embeddingSearchRequest;
+            this.query = query;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected PriorityQueue<ScoredRow> compute() {
+            if (to - from <= chunkSize) {
+                return searchExhaustively(embeddingSearchRequest, query, from, to);
+            }
+
+            int middle = (from + to) >>> 1;
+            ParallelSearchTask left = new ParallelSearchTask(embeddingSearchRequest, query, from, middle, chunkSize);
+            ParallelSearchTask right = new ParallelSearchTask(embeddingSearchRequest, query, middle, to, chunkSize);
+            left.fork();
+            PriorityQueue<ScoredRow> scoredRows = right.compute();
+            for (ScoredRow scoredRow : left.join()) {
+                scoredRows.add(scoredRow);
+                if (scoredRows.size() > embeddingSearchRequest.maxResults()) {
+                    scoredRows.poll();
+                }
+            }
+            return scoredRows;
+        }
+    }
+
+    private EmbeddingMatch<Embedded> toMatch(int row, double score) {
+        Entry<Embedded> entry = rows.get(row);
+        return new EmbeddingMatch<>(score, entry.id, entry.embedding(), entry.embedded);
+    }
+
+    private static boolean matches(Filter filter, Entry<?> entry) {
+        if (filter != null && entry.embedded instanceof TextSegment) {
+            Metadata metadata = ((TextSegment) entry.embedded).metadata();
+            return filter.test(metadata);
+        }
+        return true;
+    }
+
+    private static class ScoredRow {
+
+        final int row;
+        final double score;
+
+        ScoredRow(int row, double score) {
+            this.row = row;
+            this.score = score;
+        }
+
+        double score() {
+            return score;
+        }
     }
 
     public String serializeToJson() {
+        for (Entry<Embedded> entry : entries) {
+            entry.embedding(); // codecs read the field directly, so lazily read embeddings must be loaded first
+        }
         return loadCodec().toJson(this);
     }
 
@@ -146,6 +515,25 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         serializeToFile(Paths.get(filePath));
     }
 
+    /**
+     * Writes this store into a file in a compact binary format,
+     * which can be opened using {@link #fromBinaryFile(Path)} much faster than JSON.
+     * Only {@link TextSegment}s (or no embedded objects) are supported.
+     *
+     * @param filePath The path of the file.
+     */
+    public void serializeToBinaryFile(Path filePath) {
+        try {
+            BinaryInMemoryEmbeddingStoreCodec.write(new ArrayList<>(entries), filePath);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void serializeToBinaryFile(String filePath) {
+        serializeToBinaryFile(Paths.get(filePath));
+    }
+
     public static InMemoryEmbeddingStore<TextSegment> fromJson(String json) {
         return loadCodec().fromJson(json);
     }
@@ -163,12 +551,37 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return fromFile(Paths.get(filePath));
     }
 
-    private static class Entry<Embedded> {
+    /**
+     * Opens a store written by {@link #serializeToBinaryFile(Path)}.
+     * <p>
+     * The vectors are memory-mapped rather than read into the heap, and are searched straight from the page cache.
+     * Only the IDs and the {@link TextSegment}s are deserialized.
+     * The file must not be modified or truncated while the returned store is in use.
+     *
+     * @param filePath The path of the file.
+     * @return The store.
+     */
+    public static InMemoryEmbeddingStore<TextSegment> fromBinaryFile(Path filePath) {
+        try {
+            return BinaryInMemoryEmbeddingStoreCodec.read(filePath);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static InMemoryEmbeddingStore<TextSegment> fromBinaryFile(String filePath) {
+        return fromBinaryFile(Paths.get(filePath));
+    }
+
+    static class Entry<Embedded> {
 
         String id;
         Embedding embedding;
         Embedded embedded;
 
+        private transient PackedVectors vectors;
+        private transient int row;
+
         Entry(String id, Embedding embedding) {
             this(id, embedding, null);
         }
@@ -179,19 +592,83 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
             this.embedded = embedded;
         }
 
+        Entry(String id, PackedVectors vectors, int row, Embedded embedded) {
+            this.id = ensureNotBlank(id, "id");
+            this.vectors = ensureNotNull(vectors, "vectors");
+            this.row = row;
+            this.embedded = embedded;
+        }
+
+        /**
+         * @return the embedding. For entries read from a binary file,
+         * it is copied from the memory-mapped vectors on first access.
+         */
+        Embedding embedding() {
+            if (embedding == null) {
+                embedding = Embedding.from(vectors.rawRow(row));
+            }
+            return embedding;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             Entry<?> that = (Entry<?>) o;
             return Objects.equals(this.id, that.id)
-                    && Objects.equals(this.embedding, that.embedding)
+                    && Objects.equals(this.embedding(), that.embedding())
                     && Objects.equals(this.embedded, that.embedded);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(id, embedding, embedded);
+            return Objects.hash(id, embedding(), embedded);
+        }
+    }
+
+    public static <Embedded> Builder<Embedded> builder() {
+        return new Builder<>();
+    }
+
+    public static class Builder<Embedded> {
+
+        private HnswIndexConfig hnswIndexConfig;
+        private Integer parallelSearchThreshold;
+        private ForkJoinPool forkJoinPool;
+
+        /**
+         * @param hnswIndexConfig The configuration of the HNSW index.
+         *                        If not provided, no index is used and all embeddings are scanned on every search.
+         * @return builder
+         */
+        public Builder<Embedded> hnswIndex(HnswIndexConfig hnswIndexConfig) {
+            this.hnswIndexConfig = hnswIndexConfig;
+            return this;
+        }
+
+        /**
+         * @param parallelSearchThreshold The number of stored embeddings starting from which
+         *                                the brute force search is split into chunks that are scanned in parallel.
+         *                                If not provided, the brute force search always runs on the calling thread.
+         * @return builder
+         */
+        public Builder<Embedded> parallelSearchThreshold(Integer parallelSearchThreshold) {
+            this.parallelSearchThreshold = parallelSearchThreshold;
+            return this;
+        }
+
+        /**
+         * @param forkJoinPool The pool used for the parallel brute force search.
+         *                     If not provided, {@link ForkJoinPool#commonPool()} will be used.
+         * @return builder
+         */
+        public Builder<Embedded> forkJoinPool(ForkJoinPool forkJoinPool) {
+            this.forkJoinPool = forkJoinPool;
+            return this;
+        }
+
+        public InMemoryEmbeddingStore<Embedded> build() {
+            return new InMemoryEmbeddingStore<>(this);
         }
     }
 
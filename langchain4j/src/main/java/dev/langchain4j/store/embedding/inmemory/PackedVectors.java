@@ -0,0 +1,228 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.store.embedding.CosineSimilarity;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+
+/**
+ * Vectors packed row by row into contiguous memory, together with the inverse of their norms.
+ * <p>
+ * Since the inverse norm of every row is computed once when the row is added,
+ * the cosine similarity between a row and a normalized query
+ * is a plain dot product over a contiguous range of memory, scaled by a single multiplication:
+ * no pointer chasing and no norm computation at search time.
+ * <p>
+ * The first rows can be backed by memory-mapped {@link FloatBuffer}s (see {@link BinaryInMemoryEmbeddingStoreCodec}),
+ * so that they can be searched straight from the page cache. All rows added later are kept in a {@code float[]}.
+ * <p>
+ * Rows are appended by a single writer at a time (callers must serialize calls to {@link #add(float[])}),
+ * while any number of readers can concurrently access the rows below {@link #size()}.
+ */
+class PackedVectors {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final FloatBuffer[] mappedChunks;
+    private final int rowsPerMappedChunk;
+    private final int mappedRows;
+
+    private volatile float[] data = new float[0];
+    private volatile float[] inverseNorms = new float[0];
+    private volatile int size;
+    private int dimension = -1;
+
+    PackedVectors() {
+        this.mappedChunks = new FloatBuffer[0];
+        this.rowsPerMappedChunk = 1;
+        this.mappedRows = 0;
+    }
+
+    /**
+     * @param dimension          the dimension of the mapped vectors
+     * @param mappedChunks       buffers holding {@code rowsPerMappedChunk} rows each (the last one can hold fewer)
+     * @param rowsPerMappedChunk the number of rows in each buffer
+     * @param inverseNorms       the inverse norms of the mapped rows, one per row
+     */
+    PackedVectors(int dimension, FloatBuffer[] mappedChunks, int rowsPerMappedChunk, float[] inverseNorms) {
+        this.mappedChunks = mappedChunks;
+        this.rowsPerMappedChunk = rowsPerMappedChunk;
+        this.mappedRows = inverseNorms.length;
+        this.inverseNorms = inverseNorms;
+        this.dimension = mappedRows == 0 ? -1 : dimension;
+        this.size = mappedRows;
+    }
+
+    /**
+     * Appends the vector.
+     *
+     * @return the row of the appended vector
+     */
+    int add(float[] vector) {
+        ensureDimension(vector);
+        int row = size;
+        int heapRow = row - mappedRows;
+        float[] currentData = data;
+        float[] currentInverseNorms = inverseNorms;
+        if ((heapRow + 1) * dimension > currentData.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, heapRow + (heapRow >> 1) + 1);
+            currentData = Arrays.copyOf(currentData, capacity * dimension);
+            data = currentData;
+        }
+        if (row >= currentInverseNorms.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, row + (row >> 1) + 1);
+            currentInverseNorms = Arrays.copyOf(currentInverseNorms, capacity);
+            inverseNorms = currentInverseNorms;
+        }
+        System.arraycopy(vector, 0, currentData, heapRow * dimension, dimension);
+        currentInverseNorms[row] = inverseNorm(vector);
+        size = row + 1;
+        return row;
+    }
+
+    /**
+     * @return the number of rows that are safe to read
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the dimension of the vectors, or -1 if no vector has been added yet
+     */
+    int dimension() {
+        return dimension;
+    }
+
+    /**
+     * @return a normalized copy of the query vector, which can be passed to {@link #similarity(int, float[])}
+     */
+    float[] normalizedQuery(float[] vector) {
+        if (dimension != -1 && vector.length != dimension) {
+            throw illegalArgument("Length of vector a (%s) must be equal to the length of vector b (%s)",
+                    vector.length, dimension);
+        }
+        return normalized(vector, inverseNorm(vector));
+    }
+
+    /**
+     * @return a copy of the vector stored in the given row, as it was added
+     */
+    float[] rawRow(int row) {
+        float[] copy = new float[dimension];
+        if (row < mappedRows) {
+            FloatBuffer chunk = mappedChunks[row / rowsPerMappedChunk];
+            int offset = (row % rowsPerMappedChunk) * dimension;
+            for (int i = 0; i < dimension; i++) {
+                copy[i] = chunk.get(offset + i);
+            }
+        } else {
+            System.arraycopy(data, (row - mappedRows) * dimension, copy, 0, dimension);
+        }
+        return copy;
+    }
+
+    /**
+     * @return a normalized copy of the vector stored in the given row
+     */
+    float[] row(int row) {
+        return normalized(rawRow(row), inverseNorms[row]);
+    }
+
+    /**
+     * @return the cosine similarity between the given row and the normalized query
+     */
+    float similarity(int row, float[] normalizedQuery) {
+        float[] currentInverseNorms = inverseNorms;
+        if (row < mappedRows) {
+            FloatBuffer chunk = mappedChunks[row / rowsPerMappedChunk];
+            int offset = (row % rowsPerMappedChunk) * dimension;
+            return dotProduct(chunk, offset, normalizedQuery) * currentInverseNorms[row];
+        }
+        int offset = (row - mappedRows) * dimension;
+        return dotProduct(data, offset, normalizedQuery, 0, normalizedQuery.length) * currentInverseNorms[row];
+    }
+
+    /**
+     * @return the cosine similarity between the two given rows
+     */
+    float similarity(int rowA, int rowB) {
+        if (rowA < mappedRows || rowB < mappedRows) {
+            return similarity(rowA, row(rowB));
+        }
+        float[] currentData = data;
+        float[] currentInverseNorms = inverseNorms;
+        int offsetA = (rowA - mappedRows) * dimension;
+        int offsetB = (rowB - mappedRows) * dimension;
+        return dotProduct(currentData, offsetA, currentData, offsetB, dimension)
+                * currentInverseNorms[rowA] * currentInverseNorms[rowB];
+    }
+
+    private void ensureDimension(float[] vector) {
+        if (dimension == -1) {
+            dimension = vector.length;
+        } else if (vector.length != dimension) {
+            throw illegalArgument("Length of vector a (%s) must be equal to the length of vector b (%s)",
+                    vector.length, dimension);
+        }
+    }
+
+    static float inverseNorm(float[] vector) {
+        double norm = 0.0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        // Avoid division by zero, all-zeros vectors stay all-zeros and are orthogonal to everything.
+        return (float) (1 / Math.max(Math.sqrt(norm), CosineSimilarity.EPSILON));
+    }
+
+    private static float[] normalized(float[] vector, float inverseNorm) {
+        float[] normalized = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = vector[i] * inverseNorm;
+        }
+        return normalized;
+    }
+
+    /**
+     * The loop is unrolled into four independent accumulators,
+     * so that consecutive multiply-adds do not wait on each other.
+     */
+    static float dotProduct(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        float sum0 = 0;
+        float sum1 = 0;
+        float sum2 = 0;
+        float sum3 = 0;
+        int i = 0;
+        for (int bound = length - 3; i < bound; i += 4) {
+            sum0 += a[aOffset + i] * b[bOffset + i];
+            sum1 += a[aOffset + i + 1] * b[bOffset + i + 1];
+            sum2 += a[aOffset + i + 2] * b[bOffset + i + 2];
+            sum3 += a[aOffset + i + 3] * b[bOffset + i + 3];
+        }
+        for (; i < length; i++) {
+            sum0 += a[aOffset + i] * b[bOffset + i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    private static float dotProduct(FloatBuffer a, int aOffset, float[] b) {
+        float sum0 = 0;
+        float sum1 = 0;
+        float sum2 = 0;
+        float sum3 = 0;
+        int i = 0;
+        for (int bound = b.length - 3; i < bound; i += 4) {
+            sum0 += a.get(aOffset + i) * b[i];
+            sum1 += a.get(aOffset + i + 1) * b[i + 1];
+            sum2 += a.get(aOffset + i + 2) * b[i + 2];
+            sum3 += a.get(aOffset + i + 3) * b[i + 3];
+        }
+        for (; i < b.length; i++) {
+            sum0 += a.get(aOffset + i) * b[i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+}
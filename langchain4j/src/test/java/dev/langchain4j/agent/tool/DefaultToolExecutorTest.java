@@ -216,4 +216,55 @@ class DefaultToolExecutorTest implements WithAssertions {
                 .isThrownBy(() -> coerceArgument("abc", "arg", BigInteger.class))
                 .withMessageContaining("Argument \"arg\" is not convertable to java.math.BigInteger, got java.lang.String: <abc>");
     }
-}
\ No newline at end of file
+
+    private static class Tools {
+
+        @Tool
+        static int add(int a, int b) {
+            return a + b;
+        }
+
+        @Tool
+        void doNothing() {
+        }
+
+        @Tool
+        Map<String, Object> describe(@ToolMemoryId String memoryId, String name) {
+            Map<String, Object> description = new HashMap<>();
+            description.put("memoryId", memoryId);
+            description.put("name", name);
+            return description;
+        }
+
+        @Tool
+        String fail() {
+            throw new IllegalStateException("tool failed");
+        }
+    }
+
+    @Test
+    public void test_execute() throws Exception {
+        Tools tools = new Tools();
+
+        assertThat(execute(tools, Tools.class.getDeclaredMethod("add", int.class, int.class), "{\"arg0\": 2, \"arg1\": 3}"))
+                .isEqualTo("5");
+        assertThat(execute(tools, Tools.class.getDeclaredMethod("doNothing"), "{}"))
+                .isEqualTo("Success");
+        assertThat(execute(tools, Tools.class.getDeclaredMethod("describe", String.class, String.class), "{\"arg1\": \"Klaus\"}"))
+                .contains("\"memoryId\": \"memory-1\"", "\"name\": \"Klaus\"");
+        assertThat(execute(tools, Tools.class.getDeclaredMethod("fail"), "{}"))
+                .isEqualTo("tool failed");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> execute(tools, Tools.class.getDeclaredMethod("add", int.class, int.class), "{\"arg0\": 2}"))
+                .withMessage("Argument \"arg1\" of type null cannot be passed to the parameter of type int of the tool add");
+    }
+
+    private static String execute(Object object, Method method, String arguments) {
+        ToolExecutionRequest request = ToolExecutionRequest.builder()
+                .name(method.getName())
+                .arguments(arguments)
+                .build();
+        return new DefaultToolExecutor(object, method).execute(request, "memory-1");
+    }
+}
@@ -13,6 +13,7 @@ import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.nio.file.*;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.*;
 import static java.util.stream.Collectors.toList;
@@ -252,6 +253,58 @@ class FileSystemDocumentLoaderTest implements WithAssertions {
         assertThat(loadDocumentsRecursively(resourceDirectory.toString(), pathMatcher)).isEqualTo(documents);
     }
 
+    @Test
+    void should_lazily_and_recursively_load_documents() {
+
+        // given
+        Path resourceDirectory = resourceDirectory();
+        List<Document> expectedDocuments = loadDocumentsRecursively(resourceDirectory, new TextDocumentParser());
+
+        // when-then
+        try (Stream<Document> documents = streamDocumentsRecursively(resourceDirectory, new TextDocumentParser())) {
+            assertThat(documents).containsExactlyElementsOf(expectedDocuments);
+        }
+        try (Stream<Document> documents = streamDocumentsRecursively(resourceDirectory.toString(), new TextDocumentParser())) {
+            assertThat(documents).containsExactlyElementsOf(expectedDocuments);
+        }
+        try (Stream<Document> documents = streamDocumentsRecursively(resourceDirectory)) {
+            assertThat(documents).containsExactlyElementsOf(expectedDocuments);
+        }
+        try (Stream<Document> documents = streamDocumentsRecursively(resourceDirectory.toString())) {
+            assertThat(documents).containsExactlyElementsOf(expectedDocuments);
+        }
+    }
+
+    @Test
+    void should_lazily_and_recursively_load_matching_documents() {
+
+        // given
+        Path resourceDirectory = resourceDirectory();
+        PathMatcher pathMatcher = FileSystems.getDefault().getPathMatcher("glob:**.banana");
+        List<Document> expectedDocuments = loadDocumentsRecursively(resourceDirectory, pathMatcher);
+
+        // when-then
+        try (Stream<Document> documents = streamDocumentsRecursively(resourceDirectory, pathMatcher, new TextDocumentParser())) {
+            assertThat(documents).containsExactlyElementsOf(expectedDocuments).hasSize(2);
+        }
+        try (Stream<Document> documents = streamDocumentsRecursively(resourceDirectory.toString(), pathMatcher, new TextDocumentParser())) {
+            assertThat(documents).containsExactlyElementsOf(expectedDocuments);
+        }
+        try (Stream<Document> documents = streamDocumentsRecursively(resourceDirectory, pathMatcher)) {
+            assertThat(documents).containsExactlyElementsOf(expectedDocuments);
+        }
+        try (Stream<Document> documents = streamDocumentsRecursively(resourceDirectory.toString(), pathMatcher)) {
+            assertThat(documents).containsExactlyElementsOf(expectedDocuments);
+        }
+    }
+
+    @Test
+    void should_fail_to_lazily_load_bad_directory() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> streamDocumentsRecursively(Paths.get("bad_directory")))
+                .withMessageContaining("'bad_directory' is not a directory");
+    }
+
     private static Path resourceDirectory() {
         String userDir = System.getProperty("user.dir");
         Path resourceDirectory = Paths.get(userDir, "langchain4j/src/test/resources");
@@ -6,7 +6,11 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.openai.OpenAiTokenizer;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static dev.langchain4j.data.document.Metadata.metadata;
 import static dev.langchain4j.data.segment.TextSegment.textSegment;
@@ -173,4 +177,26 @@ class DocumentBySentenceSplitterTest {
                 textSegment(s18, metadata("index", "10").add("document", "0"))
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_split_concurrently() throws Exception {
+
+        String text = "This is a first sentence. This is a second sentence. This is a third sentence.";
+        DocumentSplitter splitter = new DocumentBySentenceSplitter(30, 0);
+        List<TextSegment> expected = splitter.split(Document.from(text));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<TextSegment>>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(executor.submit(() -> new DocumentBySentenceSplitter(30, 0).split(Document.from(text))));
+                futures.add(executor.submit(() -> splitter.split(Document.from(text))));
+            }
+            for (Future<List<TextSegment>> future : futures) {
+                assertThat(future.get()).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -3,6 +3,9 @@ package dev.langchain4j.data.document.splitter;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 class SegmentBuilderTest implements WithAssertions {
     @Test
@@ -70,4 +73,75 @@ class SegmentBuilderTest implements WithAssertions {
             assertThat(builder.toString()).isEqualTo("Hello world");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void test_size_is_tracked_incrementally() {
+        List<String> sized = new ArrayList<>();
+        SegmentBuilder builder = new SegmentBuilder(20,
+                text -> {
+                    sized.add(text);
+                    return text.split(" ").length;
+                },
+                " ; ");
+        sized.clear();
+
+        builder.append("one fish", 2);
+        builder.append("two fish", 2);
+        builder.prepend("red fish", 2);
+
+        assertThat(sized).isEmpty();
+        assertThat(builder.hasSpaceFor(2)).isTrue();
+        assertThat(sized).isEmpty();
+
+        // 3 * 2 (parts) + 2 * 2 (separators, as per the size function) + 2 + 9 does not leave a margin of 3 (joins) below 20,
+        // so the exact size of the segment (8) is computed, and 9 fits
+        assertThat(builder.hasSpaceFor(9)).isTrue();
+        assertThat(sized).containsExactly("red fish ; one fish ; two fish");
+        assertThat(builder.getSize()).isEqualTo(8);
+        assertThat(sized).hasSize(1);
+    }
+
+    @Test
+    public void test_size_is_computed_exactly_near_the_limit() {
+        // joining parts costs more than the sum of their sizes, as can happen with a BPE tokenizer
+        SegmentBuilder builder = new SegmentBuilder(20, text -> text.trim().length(), " ");
+
+        builder.append("aaaa");
+        builder.append("bbbb");
+        builder.append("cccc");
+
+        // 3 * 4 (parts) + 2 * 0 (separators) + 0 + 5 leaves a margin of 3 (joins) below 20, so the sum is trusted
+        assertThat(builder.hasSpaceFor(5)).isTrue();
+
+        // 12 + 0 + 7 does not, so the exact size of the segment (14) is computed, and 7 does not fit
+        assertThat(builder.hasSpaceFor(7)).isFalse();
+        assertThat(builder.getSize()).isEqualTo(14);
+    }
+
+    @Test
+    public void test_whole_segment_is_sized_a_few_times_when_built_word_by_word() {
+        List<String> sized = new ArrayList<>();
+        SegmentBuilder builder = new SegmentBuilder(1_000,
+                text -> {
+                    sized.add(text);
+                    return text.split(" ").length;
+                },
+                " ");
+        List<String> segments = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            String word = "word" + i;
+            if (!builder.hasSpaceFor(word)) {
+                segments.add(builder.toString());
+                builder.reset();
+            }
+            builder.append(word);
+        }
+        segments.add(builder.toString());
+
+        assertThat(segments).hasSize(10);
+        assertThat(segments).allSatisfy(segment -> assertThat(segment.split(" ")).hasSize(1_000));
+        // without tracking the headroom, the whole segment would be sized for each of its last 10% of words
+        assertThat(sized.stream().filter(text -> text.contains(" "))).hasSizeLessThanOrEqualTo(10 * 15);
+    }
+}
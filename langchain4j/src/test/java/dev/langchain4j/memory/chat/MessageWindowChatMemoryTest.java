@@ -2,16 +2,30 @@ package dev.langchain4j.memory.chat;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static dev.langchain4j.data.message.AiMessage.aiMessage;
 import static dev.langchain4j.data.message.SystemMessage.systemMessage;
 import static dev.langchain4j.data.message.UserMessage.userMessage;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 class MessageWindowChatMemoryTest implements WithAssertions {
     @Test
@@ -469,4 +483,77 @@ class MessageWindowChatMemoryTest implements WithAssertions {
         // then orphan toolExecutionResultMessage1 and toolExecutionResultMessage2 are evicted together with aiMessage
         assertThat(chatMemory.messages()).containsExactly(systemMessage, aiMessage2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_append_and_evict_messages_instead_of_rewriting_whole_window() {
+
+        // given
+        ChatMemoryStore store = spy(new InMemoryChatMemoryStore());
+        ChatMemory chatMemory = MessageWindowChatMemory.builder()
+                .maxMessages(3)
+                .chatMemoryStore(store)
+                .build();
+
+        // when
+        chatMemory.add(systemMessage("Be polite"));
+        chatMemory.add(userMessage("one"));
+        chatMemory.add(userMessage("two"));
+        chatMemory.add(userMessage("three"));
+
+        // then
+        verify(store).appendMessages("default", singletonList(userMessage("three")));
+        verify(store).evictOldest("default", 1);
+        verify(store, never()).updateMessages(any(), any());
+        assertThat(chatMemory.messages()).containsExactly(
+                systemMessage("Be polite"),
+                userMessage("two"),
+                userMessage("three"));
+
+        // when
+        chatMemory.add(systemMessage("Be concise"));
+
+        // then
+        verify(store).updateMessages("default", asList(userMessage("two"), userMessage("three"), systemMessage("Be concise")));
+    }
+
+    @Test
+    void should_rewrite_whole_window_when_store_does_not_support_appending() {
+
+        // given
+        List<List<ChatMessage>> updates = new ArrayList<>();
+        ChatMemoryStore store = new ChatMemoryStore() {
+
+            final Map<Object, List<ChatMessage>> messagesById = new HashMap<>();
+
+            @Override
+            public List<ChatMessage> getMessages(Object memoryId) {
+                return messagesById.getOrDefault(memoryId, new ArrayList<>());
+            }
+
+            @Override
+            public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+                updates.add(new ArrayList<>(messages));
+                messagesById.put(memoryId, messages);
+            }
+
+            @Override
+            public void deleteMessages(Object memoryId) {
+                messagesById.remove(memoryId);
+            }
+        };
+        ChatMemory chatMemory = MessageWindowChatMemory.builder()
+                .maxMessages(1)
+                .chatMemoryStore(store)
+                .build();
+
+        // when
+        chatMemory.add(userMessage("one"));
+        chatMemory.add(userMessage("two"));
+
+        // then
+        assertThat(updates).containsExactly(
+                singletonList(userMessage("one")),
+                singletonList(userMessage("two")));
+        assertThat(chatMemory.messages()).containsExactly(userMessage("two"));
+    }
+}
@@ -5,14 +5,25 @@ import dev.langchain4j.data.message.*;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.model.Tokenizer;
 import dev.langchain4j.model.openai.OpenAiTokenizer;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static dev.langchain4j.data.message.SystemMessage.systemMessage;
 import static dev.langchain4j.data.message.UserMessage.userMessage;
 import static dev.langchain4j.internal.TestUtils.*;
 import static dev.langchain4j.model.openai.OpenAiModelName.GPT_3_5_TURBO;
 import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class TokenWindowChatMemoryTest implements WithAssertions {
 
@@ -609,4 +620,69 @@ class TokenWindowChatMemoryTest implements WithAssertions {
                 .isEqualTo(EXTRA_TOKENS_PER_REQUEST + systemMessageTokens + aiMessage2Tokens)
                 .isEqualTo(32);
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_tokenize_each_message_only_once() {
+
+        // given
+        Tokenizer tokenizer = spy(new OpenAiTokenizer(GPT_3_5_TURBO));
+        ChatMemory chatMemory = TokenWindowChatMemory.builder()
+                .maxTokens(50, tokenizer)
+                .chatMemoryStore(new InMemoryChatMemoryStore())
+                .build();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            chatMemory.add(userMessage("message number " + i));
+            chatMemory.messages();
+        }
+
+        // then
+        for (int i = 0; i < 20; i++) {
+            verify(tokenizer).estimateTokenCountInMessage(userMessage("message number " + i));
+        }
+        assertThat(TOKENIZER.estimateTokenCountInMessages(chatMemory.messages())).isLessThanOrEqualTo(50);
+        assertThat(chatMemory.messages()).last().isEqualTo(userMessage("message number 19"));
+    }
+
+    @Test
+    void should_reuse_token_counts_of_messages_read_back_from_persistent_store() {
+
+        // given
+        Tokenizer tokenizer = spy(new OpenAiTokenizer(GPT_3_5_TURBO));
+        ChatMemoryStore copyingStore = new ChatMemoryStore() {
+
+            final Map<Object, List<ChatMessage>> messagesById = new HashMap<>();
+
+            @Override
+            public List<ChatMessage> getMessages(Object memoryId) {
+                // simulates deserialization: new, equal instances on every read
+                return ChatMessageDeserializer.messagesFromJson(
+                        ChatMessageSerializer.messagesToJson(messagesById.getOrDefault(memoryId, new ArrayList<>())));
+            }
+
+            @Override
+            public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+                messagesById.put(memoryId, new ArrayList<>(messages));
+            }
+
+            @Override
+            public void deleteMessages(Object memoryId) {
+                messagesById.remove(memoryId);
+            }
+        };
+        ChatMemory chatMemory = TokenWindowChatMemory.builder()
+                .maxTokens(1000, tokenizer)
+                .chatMemoryStore(copyingStore)
+                .build();
+
+        // when
+        chatMemory.add(systemMessage("Be polite"));
+        chatMemory.add(userMessage("hello"));
+        chatMemory.add(AiMessage.from("hi"));
+        chatMemory.messages();
+
+        // then
+        verify(tokenizer, times(3)).estimateTokenCountInMessage(any());
+    }
+}
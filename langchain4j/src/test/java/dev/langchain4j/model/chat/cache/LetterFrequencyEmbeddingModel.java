@@ -0,0 +1,37 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Embeds a text as the frequencies of its letters, ignoring case and punctuation,
+ * so that questions differing only by case and punctuation have the same embedding.
+ */
+class LetterFrequencyEmbeddingModel implements EmbeddingModel {
+
+    int embedCount;
+
+    @Override
+    public synchronized Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        embedCount += textSegments.size();
+        return Response.from(textSegments.stream()
+                .map(segment -> letterFrequencies(segment.text()))
+                .collect(toList()));
+    }
+
+    private static Embedding letterFrequencies(String text) {
+        float[] vector = new float[26];
+        for (char c : text.toLowerCase().toCharArray()) {
+            if (c >= 'a' && c <= 'z') {
+                vector[c - 'a']++;
+            }
+        }
+        return Embedding.from(vector);
+    }
+}
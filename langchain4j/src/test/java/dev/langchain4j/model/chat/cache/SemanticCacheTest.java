@@ -0,0 +1,126 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.cache.SemanticCache.Lookup;
+import dev.langchain4j.model.output.Response;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SemanticCacheTest {
+
+    static List<ChatMessage> question(String text) {
+        return singletonList(UserMessage.from(text));
+    }
+
+    static void answer(SemanticCache cache, String question, String answer) {
+        Lookup lookup = cache.lookup("model", question(question), null);
+        assertThat(lookup.answer()).isNull();
+        cache.put(lookup, Response.from(AiMessage.from(answer)));
+    }
+
+    static String cachedAnswer(SemanticCache cache, String question) {
+        Response<AiMessage> answer = cache.lookup("model", question(question), null).answer();
+        return answer == null ? null : answer.content().text();
+    }
+
+    @Test
+    void should_evict_oldest_answers_above_max_size() {
+
+        // given
+        SemanticCache cache = SemanticCache.builder()
+                .embeddingModel(new LetterFrequencyEmbeddingModel())
+                .maxSize(2)
+                .build();
+
+        // when
+        answer(cache, "What is the capital of France?", "Paris");
+        answer(cache, "How tall is Mount Everest?", "8849 m");
+        answer(cache, "Who wrote Hamlet?", "Shakespeare");
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+        assertThat(cachedAnswer(cache, "What is the capital of France?")).isNull();
+        assertThat(cachedAnswer(cache, "How tall is Mount Everest?")).isEqualTo("8849 m");
+        assertThat(cachedAnswer(cache, "Who wrote Hamlet?")).isEqualTo("Shakespeare");
+    }
+
+    @Test
+    void should_not_reuse_expired_answers() {
+
+        // given
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        SemanticCache cache = SemanticCache.builder()
+                .embeddingModel(new LetterFrequencyEmbeddingModel())
+                .timeToLive(Duration.ofMinutes(30))
+                .clock(clock)
+                .build();
+        answer(cache, "What is the capital of France?", "Paris");
+
+        // when-then
+        when(clock.millis()).thenReturn(Duration.ofMinutes(20).toMillis());
+        assertThat(cachedAnswer(cache, "What is the capital of France?")).isEqualTo("Paris");
+
+        when(clock.millis()).thenReturn(Duration.ofMinutes(40).toMillis());
+        assertThat(cachedAnswer(cache, "What is the capital of France?")).isNull();
+
+        // when
+        answer(cache, "How tall is Mount Everest?", "8849 m");
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_reuse_answer_only_above_min_score() {
+
+        // given
+        SemanticCache strictCache = SemanticCache.builder()
+                .embeddingModel(new LetterFrequencyEmbeddingModel())
+                .minScore(1.0)
+                .build();
+        SemanticCache lenientCache = SemanticCache.builder()
+                .embeddingModel(new LetterFrequencyEmbeddingModel())
+                .minScore(0.9)
+                .build();
+        answer(strictCache, "What is the capital of France?", "Paris");
+        answer(lenientCache, "What is the capital of France?", "Paris");
+
+        // when-then
+        assertThat(cachedAnswer(strictCache, "What's the capital of France?")).isNull();
+        assertThat(cachedAnswer(lenientCache, "What's the capital of France?")).isEqualTo("Paris");
+    }
+
+    @Test
+    void should_validate_configuration() {
+
+        assertThatThrownBy(() -> SemanticCache.builder().build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("embeddingModel cannot be null");
+
+        assertThatThrownBy(() -> SemanticCache.builder()
+                .embeddingModel(new LetterFrequencyEmbeddingModel())
+                .minScore(1.5)
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> SemanticCache.builder()
+                .embeddingModel(new LetterFrequencyEmbeddingModel())
+                .maxSize(0)
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,216 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.langchain4j.model.output.FinishReason.LENGTH;
+import static dev.langchain4j.model.output.FinishReason.STOP;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SemanticCachingChatLanguageModelTest {
+
+    static class CountingChatLanguageModel implements ChatLanguageModel {
+
+        final List<List<ChatMessage>> calls = new ArrayList<>();
+        AiMessage answer = AiMessage.from("Paris");
+        FinishReason finishReason = STOP;
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            calls.add(messages);
+            return Response.from(answer, new TokenUsage(10, 1), finishReason);
+        }
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+            return generate(messages);
+        }
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+            return generate(messages);
+        }
+    }
+
+    CountingChatLanguageModel delegate = new CountingChatLanguageModel();
+
+    LetterFrequencyEmbeddingModel embeddingModel = new LetterFrequencyEmbeddingModel();
+
+    SemanticCache cache = SemanticCache.builder()
+            .embeddingModel(embeddingModel)
+            .build();
+
+    ChatLanguageModel model = SemanticCachingChatLanguageModel.builder()
+            .delegate(delegate)
+            .cache(cache)
+            .modelId("gpt-4o-mini, temperature 0")
+            .build();
+
+    ToolSpecification weatherTool = ToolSpecification.builder().name("weather").build();
+
+    @Test
+    void should_reuse_answer_to_similar_question() {
+
+        // when
+        Response<AiMessage> first = model.generate(UserMessage.from("What is the capital of France?"));
+        Response<AiMessage> second = model.generate(UserMessage.from("what is the capital of france"));
+
+        // then
+        assertThat(delegate.calls).hasSize(1);
+
+        assertThat(first.tokenUsage()).isEqualTo(new TokenUsage(10, 1));
+        assertThat(second.content()).isEqualTo(AiMessage.from("Paris"));
+        assertThat(second.tokenUsage()).isNull();
+        assertThat(second.finishReason()).isEqualTo(STOP);
+
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_reuse_answer_to_different_question() {
+
+        // when
+        model.generate(UserMessage.from("What is the capital of France?"));
+        model.generate(UserMessage.from("How tall is Mount Everest?"));
+
+        // then
+        assertThat(delegate.calls).hasSize(2);
+        assertThat(cache.hitRatio()).isZero();
+    }
+
+    @Test
+    void should_scope_answers_by_system_message_tools_and_model_id() {
+
+        // given
+        ChatLanguageModel otherModel = SemanticCachingChatLanguageModel.builder()
+                .delegate(delegate)
+                .cache(cache)
+                .modelId("other")
+                .build();
+        UserMessage question = UserMessage.from("What is the capital of France?");
+
+        // when
+        model.generate(question);
+        model.generate(SystemMessage.from("Answer in French"), question);
+        model.generate(singletonList(question), singletonList(weatherTool));
+        otherModel.generate(question);
+
+        // then
+        assertThat(delegate.calls).hasSize(4);
+
+        // when
+        model.generate(SystemMessage.from("Answer in French"), question);
+        model.generate(singletonList(question), singletonList(weatherTool));
+        otherModel.generate(question);
+
+        // then
+        assertThat(delegate.calls).hasSize(4);
+        assertThat(cache.hitCount()).isEqualTo(3);
+    }
+
+    @Test
+    void should_not_cache_tool_execution_requests_and_truncated_answers() {
+
+        // given
+        delegate.answer = AiMessage.from(ToolExecutionRequest.builder().name("weather").arguments("{}").build());
+
+        // when
+        model.generate(singletonList(UserMessage.from("What is the weather in Paris?")), singletonList(weatherTool));
+        model.generate(singletonList(UserMessage.from("What is the weather in Paris?")), singletonList(weatherTool));
+
+        // then
+        assertThat(delegate.calls).hasSize(2);
+
+        // given
+        delegate.answer = AiMessage.from("Paris is");
+        delegate.finishReason = LENGTH;
+
+        // when
+        model.generate(UserMessage.from("What is the capital of France?"));
+        model.generate(UserMessage.from("What is the capital of France?"));
+
+        // then
+        assertThat(delegate.calls).hasSize(4);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void should_bypass_cache_when_conversation_cannot_be_cached() {
+
+        // given
+        List<ChatMessage> afterToolExecution = asList(
+                UserMessage.from("What is the weather in Paris?"),
+                AiMessage.from(ToolExecutionRequest.builder().id("1").name("weather").arguments("{}").build()),
+                ToolExecutionResultMessage.from("1", "weather", "sunny")
+        );
+
+        // when
+        model.generate(afterToolExecution);
+        model.generate(afterToolExecution);
+        model.generate(singletonList(UserMessage.from("Paris?")), weatherTool);
+        model.generate(singletonList(UserMessage.from("Paris?")), weatherTool);
+
+        // then
+        assertThat(delegate.calls).hasSize(4);
+        assertThat(embeddingModel.embedCount).isZero();
+        assertThat(cache.missCount()).isZero();
+    }
+
+    @Test
+    void should_call_delegate_when_cache_fails() {
+
+        // given
+        SemanticCache failingCache = SemanticCache.builder()
+                .embeddingModel(textSegments -> {
+                    throw new RuntimeException("embedding model is down");
+                })
+                .build();
+        ChatLanguageModel model = SemanticCachingChatLanguageModel.builder()
+                .delegate(delegate)
+                .cache(failingCache)
+                .modelId("gpt-4o-mini, temperature 0")
+                .build();
+
+        // when
+        String answer = model.generate("What is the capital of France?");
+
+        // then
+        assertThat(answer).isEqualTo("Paris");
+        assertThat(failingCache.missCount()).isZero();
+    }
+
+    @Test
+    void should_fail_without_delegate_cache_or_model_id() {
+
+        assertThatThrownBy(() -> SemanticCachingChatLanguageModel.builder().cache(cache).modelId("model").build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("delegate cannot be null");
+
+        assertThatThrownBy(() -> SemanticCachingChatLanguageModel.builder().delegate(delegate).modelId("model").build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("cache cannot be null");
+
+        assertThatThrownBy(() -> SemanticCachingChatLanguageModel.builder().delegate(delegate).cache(cache).build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("modelId cannot be null or blank");
+    }
+}
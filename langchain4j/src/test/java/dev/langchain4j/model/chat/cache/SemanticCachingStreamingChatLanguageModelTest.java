@@ -0,0 +1,127 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.langchain4j.model.output.FinishReason.STOP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SemanticCachingStreamingChatLanguageModelTest {
+
+    static class CountingStreamingChatLanguageModel implements StreamingChatLanguageModel {
+
+        int callCount;
+        RuntimeException error;
+
+        @Override
+        public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+            callCount++;
+            if (error != null) {
+                handler.onError(error);
+                return;
+            }
+            handler.onNext("The capital");
+            handler.onNext(" of France is\nParis.");
+            handler.onComplete(Response.from(
+                    AiMessage.from("The capital of France is\nParis."), new TokenUsage(10, 6), STOP));
+        }
+
+        @Override
+        public void generate(List<ChatMessage> messages,
+                             List<ToolSpecification> toolSpecifications,
+                             StreamingResponseHandler<AiMessage> handler) {
+            generate(messages, handler);
+        }
+
+        @Override
+        public void generate(List<ChatMessage> messages,
+                             ToolSpecification toolSpecification,
+                             StreamingResponseHandler<AiMessage> handler) {
+            generate(messages, handler);
+        }
+    }
+
+    static class RecordingHandler implements StreamingResponseHandler<AiMessage> {
+
+        final List<String> tokens = new ArrayList<>();
+        Response<AiMessage> response;
+        Throwable error;
+
+        @Override
+        public void onNext(String token) {
+            tokens.add(token);
+        }
+
+        @Override
+        public void onComplete(Response<AiMessage> response) {
+            this.response = response;
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.error = error;
+        }
+    }
+
+    CountingStreamingChatLanguageModel delegate = new CountingStreamingChatLanguageModel();
+
+    SemanticCache cache = SemanticCache.builder()
+            .embeddingModel(new LetterFrequencyEmbeddingModel())
+            .build();
+
+    StreamingChatLanguageModel model = SemanticCachingStreamingChatLanguageModel.builder()
+            .delegate(delegate)
+            .cache(cache)
+            .modelId("gpt-4o-mini, temperature 0")
+            .build();
+
+    @Test
+    void should_replay_cached_answer_word_by_word() {
+
+        // given
+        RecordingHandler first = new RecordingHandler();
+        RecordingHandler second = new RecordingHandler();
+
+        // when
+        model.generate("What is the capital of France?", first);
+        model.generate("what is the capital of france", second);
+
+        // then
+        assertThat(delegate.callCount).isEqualTo(1);
+        assertThat(first.tokens).containsExactly("The capital", " of France is\nParis.");
+
+        assertThat(second.tokens).containsExactly("The ", "capital ", "of ", "France ", "is\n", "Paris.");
+        assertThat(second.response.content()).isEqualTo(AiMessage.from("The capital of France is\nParis."));
+        assertThat(second.response.tokenUsage()).isNull();
+        assertThat(second.response.finishReason()).isEqualTo(STOP);
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void should_not_cache_failed_answer() {
+
+        // given
+        delegate.error = new RuntimeException("boom");
+        RecordingHandler first = new RecordingHandler();
+        RecordingHandler second = new RecordingHandler();
+
+        // when
+        model.generate("What is the capital of France?", first);
+        model.generate("What is the capital of France?", second);
+
+        // then
+        assertThat(delegate.callCount).isEqualTo(2);
+        assertThat(first.error).isSameAs(delegate.error);
+        assertThat(second.error).isSameAs(delegate.error);
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,98 @@
+package dev.langchain4j.service;
+
+import dev.langchain4j.exception.IllegalConfigurationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static dev.langchain4j.data.message.SystemMessage.systemMessage;
+import static dev.langchain4j.data.message.UserMessage.userMessage;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiServiceMethodTest {
+
+    interface Assistant {
+
+        @SystemMessage("You are a {{role}}")
+        @UserMessage("Tell me about {{topic}}, {{it}}")
+        Result<String> annotated(@MemoryId String memoryId, @V("role") String role, @V("topic") String topic,
+                                 @V("it") String it, @UserName String userName);
+
+        String theOnlyArgument(String userMessage);
+
+        @Moderate
+        String annotatedParameter(@UserMessage String userMessage, @V("name") String name);
+
+        @UserMessage("Hello")
+        String multipleUserMessages(@UserMessage String userMessage);
+
+        String noUserMessage(@MemoryId String memoryId, @V("name") String name);
+
+        @SystemMessage(fromResource = "does-not-exist.txt")
+        String missingResource(String userMessage);
+    }
+
+    @Test
+    void should_resolve_annotated_method_once_and_bind_arguments() throws Exception {
+
+        AiServiceMethod method = AiServiceMethod.from(Assistant.class.getMethod("annotated",
+                String.class, String.class, String.class, String.class, String.class));
+
+        assertThat(method.returnsResult()).isTrue();
+        assertThat(method.returnType()).isEqualTo(String.class);
+        assertThat(method.outputFormatInstructions()).isEmpty();
+        assertThat(method.isModerated()).isFalse();
+
+        Object[] args = {"memory-1", "chef", "pasta", "please", "Klaus"};
+        assertThat(method.findMemoryId(args)).contains("memory-1");
+        assertThat(method.prepareSystemMessage("memory-1", args, memoryId -> Optional.of("ignored")))
+                .contains(systemMessage("You are a chef"));
+        assertThat(method.prepareUserMessage(args))
+                .isEqualTo(userMessage("Klaus", "Tell me about pasta, please"));
+
+        assertThatThrownBy(() -> method.findMemoryId(new Object[]{null, "chef", "pasta", "please", "Klaus"}))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("annotated with @MemoryId in method 'annotated' must not be null");
+    }
+
+    @Test
+    void should_take_templates_from_arguments() throws Exception {
+
+        AiServiceMethod theOnlyArgument = AiServiceMethod.from(Assistant.class.getMethod("theOnlyArgument", String.class));
+        Object[] args = {"What is {{it}}?"};
+
+        assertThat(theOnlyArgument.findMemoryId(args)).isEmpty();
+        assertThat(theOnlyArgument.prepareSystemMessage("default", args, memoryId -> Optional.of("Explain {{it}}")))
+                .contains(systemMessage("Explain What is {{it}}?"));
+        assertThat(theOnlyArgument.prepareUserMessage(args)).isEqualTo(userMessage("What is What is {{it}}??"));
+
+        AiServiceMethod annotatedParameter = AiServiceMethod.from(
+                Assistant.class.getMethod("annotatedParameter", String.class, String.class));
+
+        assertThat(annotatedParameter.isModerated()).isTrue();
+        assertThat(annotatedParameter.prepareSystemMessage("default", new Object[]{"Hi {{name}}", "Klaus"}, memoryId -> Optional.empty()))
+                .isEmpty();
+        assertThat(annotatedParameter.prepareUserMessage(new Object[]{"Hi {{name}}", "Klaus"}))
+                .isEqualTo(userMessage("Hi Klaus"));
+        assertThatThrownBy(() -> annotatedParameter.prepareUserMessage(new Object[]{"Hi {{it}}", "Klaus"}))
+                .isExactlyInstanceOf(IllegalConfigurationException.class)
+                .hasMessage("Error: cannot find the value of the prompt template variable \"{{it}}\".");
+    }
+
+    @Test
+    void should_fail_on_invalid_methods() {
+
+        assertThatThrownBy(() -> AiServiceMethod.from(Assistant.class.getMethod("multipleUserMessages", String.class)))
+                .isExactlyInstanceOf(IllegalConfigurationException.class)
+                .hasMessage("Error: The method 'multipleUserMessages' has multiple @UserMessage annotations. Please use only one.");
+
+        assertThatThrownBy(() -> AiServiceMethod.from(Assistant.class.getMethod("noUserMessage", String.class, String.class)))
+                .isExactlyInstanceOf(IllegalConfigurationException.class)
+                .hasMessage("Error: The method 'noUserMessage' does not have a user message defined.");
+
+        assertThatThrownBy(() -> AiServiceMethod.from(Assistant.class.getMethod("missingResource", String.class)))
+                .isExactlyInstanceOf(IllegalConfigurationException.class)
+                .hasMessage("@SystemMessage's resource 'does-not-exist.txt' not found");
+    }
+}
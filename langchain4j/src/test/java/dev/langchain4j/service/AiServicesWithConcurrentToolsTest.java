@@ -0,0 +1,197 @@
+package dev.langchain4j.service;
+
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.exception.IllegalConfigurationException;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AiServicesWithConcurrentToolsTest {
+
+    interface Assistant {
+
+        String chat(String userMessage);
+    }
+
+    static class Tools {
+
+        final CountDownLatch allStarted;
+
+        Tools(int toolCount) {
+            this.allStarted = new CountDownLatch(toolCount);
+        }
+
+        @Tool
+        String weather(String city) throws InterruptedException {
+            allStarted.countDown();
+            // completes only if all tools run at the same time
+            return allStarted.await(5, SECONDS) ? "sunny in " + city : "timeout";
+        }
+
+        @Tool
+        String slow() throws InterruptedException {
+            allStarted.countDown();
+            Thread.sleep(10_000);
+            return "done";
+        }
+    }
+
+    static class ThreadTools {
+
+        @Tool
+        String thread() {
+            return Thread.currentThread().isDaemon() ? "daemon" : "non-daemon";
+        }
+    }
+
+    ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_execute_tools_concurrently_and_keep_results_in_request_order() {
+
+        // given
+        ToolExecutionRequest paris = request("1", "weather", "{\"arg0\": \"Paris\"}");
+        ToolExecutionRequest london = request("2", "weather", "{\"arg0\": \"London\"}");
+        ToolExecutionRequest berlin = request("3", "weather", "{\"arg0\": \"Berlin\"}");
+        ChatLanguageModel model = modelRequesting(paris, london, berlin);
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatLanguageModel(model)
+                .chatMemory(MessageWindowChatMemory.withMaxMessages(10))
+                .tools(new Tools(3))
+                .executeToolsConcurrently(executor)
+                .build();
+
+        // when
+        String answer = assistant.chat("What is the weather?");
+
+        // then
+        assertThat(answer).isEqualTo("It is sunny everywhere");
+        assertThat(toolResultsSentTo(model)).containsExactly(
+                ToolExecutionResultMessage.from(paris, "sunny in Paris"),
+                ToolExecutionResultMessage.from(london, "sunny in London"),
+                ToolExecutionResultMessage.from(berlin, "sunny in Berlin"));
+    }
+
+    @Test
+    void should_execute_tools_on_daemon_threads_by_default() {
+
+        // given
+        ToolExecutionRequest first = request("1", "thread", "{}");
+        ToolExecutionRequest second = request("2", "thread", "{}");
+        ChatLanguageModel model = modelRequesting(first, second);
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatLanguageModel(model)
+                .chatMemory(MessageWindowChatMemory.withMaxMessages(10))
+                .tools(new ThreadTools())
+                .executeToolsConcurrently()
+                .build();
+
+        // when
+        assistant.chat("Which threads?");
+
+        // then
+        assertThat(toolResultsSentTo(model)).containsExactly(
+                ToolExecutionResultMessage.from(first, "daemon"),
+                ToolExecutionResultMessage.from(second, "daemon"));
+    }
+
+    @Test
+    void should_time_out_slow_tool() {
+
+        // given
+        ToolExecutionRequest paris = request("1", "weather", "{\"arg0\": \"Paris\"}");
+        ToolExecutionRequest slow = request("2", "slow", "{}");
+        ChatLanguageModel model = modelRequesting(paris, slow);
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatLanguageModel(model)
+                .chatMemory(MessageWindowChatMemory.withMaxMessages(10))
+                .tools(new Tools(2))
+                .executeToolsConcurrently(executor)
+                .toolExecutionTimeout(Duration.ofMillis(500))
+                .build();
+
+        // when
+        long start = System.nanoTime();
+        assistant.chat("What is the weather?");
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(toolResultsSentTo(model)).containsExactly(
+                ToolExecutionResultMessage.from(paris, "sunny in Paris"),
+                ToolExecutionResultMessage.from(slow, "Execution of the tool 'slow' timed out after 500 ms"));
+    }
+
+    @Test
+    void should_fail_when_timeout_is_configured_without_concurrent_execution() {
+
+        assertThatThrownBy(() -> AiServices.builder(Assistant.class)
+                .chatLanguageModel(mock(ChatLanguageModel.class))
+                .toolExecutionTimeout(Duration.ofSeconds(1))
+                .build())
+                .isExactlyInstanceOf(IllegalConfigurationException.class)
+                .hasMessage("toolExecutionTimeout applies only to tools executed concurrently, " +
+                        "please configure executeToolsConcurrently() as well");
+
+        assertThatThrownBy(() -> AiServices.builder(Assistant.class).toolExecutionTimeout(Duration.ZERO))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("timeout must be positive, but is: PT0S");
+    }
+
+    private static ToolExecutionRequest request(String id, String name, String arguments) {
+        return ToolExecutionRequest.builder()
+                .id(id)
+                .name(name)
+                .arguments(arguments)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChatLanguageModel modelRequesting(ToolExecutionRequest... toolExecutionRequests) {
+        ChatLanguageModel model = mock(ChatLanguageModel.class);
+        when(model.generate(anyList(), anyList())).thenReturn(
+                Response.from(AiMessage.from(asList(toolExecutionRequests))),
+                Response.from(AiMessage.from("It is sunny everywhere")));
+        return model;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ChatMessage> toolResultsSentTo(ChatLanguageModel model) {
+        ArgumentCaptor<List<ChatMessage>> messages = ArgumentCaptor.forClass(List.class);
+        verify(model, times(2)).generate(messages.capture(), anyList());
+        return messages.getAllValues().get(1).stream()
+                .filter(message -> message instanceof ToolExecutionResultMessage)
+                .collect(toList());
+    }
+}
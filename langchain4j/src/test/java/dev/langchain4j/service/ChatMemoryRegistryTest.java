@@ -0,0 +1,213 @@
+package dev.langchain4j.service;
+
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.chat.mock.ChatModelMock;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChatMemoryRegistryTest {
+
+    AtomicInteger providedMemories = new AtomicInteger();
+
+    ChatMemoryProvider chatMemoryProvider = memoryId -> {
+        providedMemories.incrementAndGet();
+        return MessageWindowChatMemory.builder()
+                .id(memoryId)
+                .maxMessages(10)
+                .build();
+    };
+
+    @Test
+    void should_keep_memories_when_unbounded() {
+
+        // given
+        ChatMemoryRegistry registry = new ChatMemoryRegistry();
+
+        // when
+        ChatMemory first = registry.get(1, chatMemoryProvider);
+        registry.get(2, chatMemoryProvider);
+        ChatMemory second = registry.get(1, chatMemoryProvider);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(providedMemories.get()).isEqualTo(2);
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.hitCount()).isEqualTo(1);
+        assertThat(registry.missCount()).isEqualTo(2);
+        assertThat(registry.evictionCount()).isZero();
+    }
+
+    @Test
+    void should_provide_one_memory_per_id_when_unbounded_and_called_concurrently() throws Exception {
+
+        // given
+        ChatMemoryRegistry registry = new ChatMemoryRegistry();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<ChatMemory>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int memoryId = i % 10;
+            futures.add(executor.submit(() -> registry.get(memoryId, chatMemoryProvider)));
+        }
+        Set<ChatMemory> chatMemories = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Future<ChatMemory> future : futures) {
+            chatMemories.add(future.get());
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(chatMemories).hasSize(10);
+        assertThat(providedMemories.get()).isEqualTo(10);
+        assertThat(registry.missCount()).isEqualTo(10);
+        assertThat(registry.hitCount()).isLessThanOrEqualTo(990);
+    }
+
+    @Test
+    void should_evict_least_recently_used() {
+
+        // given
+        ChatMemoryRegistry registry = ChatMemoryRegistry.builder()
+                .maxSize(2)
+                .build();
+        ChatMemory memory1 = registry.get(1, chatMemoryProvider);
+        ChatMemory memory2 = registry.get(2, chatMemoryProvider);
+        registry.get(1, chatMemoryProvider);
+
+        // when
+        registry.get(3, chatMemoryProvider);
+
+        // then
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.evictionCount()).isEqualTo(1);
+        assertThat(registry.get(1, chatMemoryProvider)).isSameAs(memory1);
+        assertThat(registry.get(2, chatMemoryProvider)).isNotSameAs(memory2);
+        assertThat(registry.hitCount()).isEqualTo(2);
+        assertThat(registry.missCount()).isEqualTo(4);
+        assertThat(registry.evictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void should_evict_idle_memories() {
+
+        // given
+        Clock clock = mock(Clock.class);
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        when(clock.instant()).thenReturn(now);
+        ChatMemoryRegistry registry = ChatMemoryRegistry.builder()
+                .maxIdleTime(Duration.ofMinutes(30))
+                .clock(clock)
+                .build();
+        ChatMemory memory1 = registry.get(1, chatMemoryProvider);
+        ChatMemory memory2 = registry.get(2, chatMemoryProvider);
+        registry.get(3, chatMemoryProvider);
+
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(20)));
+        registry.get(2, chatMemoryProvider);
+
+        // when
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(40)));
+
+        // then
+        assertThat(registry.get(2, chatMemoryProvider)).isSameAs(memory2);
+        assertThat(registry.get(1, chatMemoryProvider)).isNotSameAs(memory1);
+        // memory 3 was evicted when the new memory 1 was stored
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.evictionCount()).isEqualTo(2);
+    }
+
+    interface Assistant {
+
+        String chat(@MemoryId int memoryId, @UserMessage String message);
+    }
+
+    @Test
+    void should_continue_conversation_from_store_after_eviction() {
+
+        // given
+        ChatMemoryStore store = new InMemoryChatMemoryStore();
+        ChatMemoryRegistry registry = ChatMemoryRegistry.builder()
+                .maxSize(1)
+                .build();
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatLanguageModel(ChatModelMock.thatAlwaysResponds("Hi"))
+                .chatMemoryProvider(memoryId -> MessageWindowChatMemory.builder()
+                        .id(memoryId)
+                        .maxMessages(10)
+                        .chatMemoryStore(store)
+                        .build(), registry)
+                .build();
+
+        // when
+        assistant.chat(1, "Hello from 1");
+        assistant.chat(2, "Hello from 2");
+        assistant.chat(1, "Hello again from 1");
+
+        // then
+        assertThat(registry.size()).isEqualTo(1);
+        assertThat(registry.evictionCount()).isEqualTo(2);
+        assertThat(store.getMessages(1)).hasSize(4);
+        assertThat(store.getMessages(2)).hasSize(2);
+    }
+
+    @Test
+    void should_put_and_remove() {
+
+        ChatMemoryRegistry registry = new ChatMemoryRegistry();
+        ChatMemory chatMemory = MessageWindowChatMemory.withMaxMessages(10);
+
+        registry.put("default", chatMemory);
+
+        assertThat(registry.get("default", chatMemoryProvider)).isSameAs(chatMemory);
+        assertThat(registry.remove("default")).isSameAs(chatMemory);
+        assertThat(registry.remove("default")).isNull();
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    void should_not_register_null_memory() {
+
+        ChatMemoryRegistry registry = new ChatMemoryRegistry();
+
+        assertThat(registry.get(1, memoryId -> null)).isNull();
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    void should_validate() {
+
+        assertThatThrownBy(() -> ChatMemoryRegistry.builder().maxSize(0).build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxSize must be greater than zero, but is: 0");
+
+        assertThatThrownBy(() -> new ChatMemoryRegistry().put(1, null))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("chatMemory cannot be null");
+
+        assertThatThrownBy(() -> AiServices.builder(Object.class).chatMemoryProvider(memoryId -> null, null))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("chatMemoryRegistry cannot be null");
+    }
+}
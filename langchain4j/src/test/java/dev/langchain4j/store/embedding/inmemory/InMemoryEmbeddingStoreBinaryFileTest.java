@@ -0,0 +1,233 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+/**
+ * Tests if InMemoryEmbeddingStore works correctly after being written to a binary file and memory-mapped back.
+ * See awaitUntilPersisted()
+ */
+class InMemoryEmbeddingStoreBinaryFileTest extends EmbeddingStoreWithFilteringIT {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @Override
+    protected void awaitUntilPersisted() {
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+        embeddingStore.serializeToBinaryFile(filePath);
+        embeddingStore = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+    }
+
+    @Test
+    void should_serialize_to_and_deserialize_from_binary_file() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> originalEmbeddingStore = new InMemoryEmbeddingStore<>();
+        Metadata metadata = new Metadata()
+                .put("string", "value")
+                .put("integer", 1)
+                .put("long", Long.MAX_VALUE)
+                .put("float", 1.5f)
+                .put("double", Math.PI);
+        Random random = new Random(42);
+        for (int i = 0; i < 100; i++) {
+            originalEmbeddingStore.add(randomEmbedding(random), TextSegment.from("segment ünïcödé " + i, metadata));
+        }
+        originalEmbeddingStore.add(randomEmbedding(random));
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+
+        // when
+        originalEmbeddingStore.serializeToBinaryFile(filePath.toString());
+        InMemoryEmbeddingStore<TextSegment> deserializedEmbeddingStore = InMemoryEmbeddingStore.fromBinaryFile(filePath.toString());
+
+        // then
+        assertThat(deserializedEmbeddingStore.entries)
+                .isEqualTo(originalEmbeddingStore.entries)
+                .hasSameHashCodeAs(originalEmbeddingStore.entries);
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(random))
+                .maxResults(10)
+                .build();
+        assertThat(deserializedEmbeddingStore.search(request).matches())
+                .isEqualTo(originalEmbeddingStore.search(request).matches());
+
+        // JSON serialization of a memory-mapped store
+        InMemoryEmbeddingStore<TextSegment> fromJson = InMemoryEmbeddingStore.fromJson(deserializedEmbeddingStore.serializeToJson());
+        assertThat(fromJson.entries).extracting(entry -> entry.embedding)
+                .isEqualTo(originalEmbeddingStore.entries.stream().map(entry -> entry.embedding).collect(toList()));
+    }
+
+    @Test
+    void should_add_to_memory_mapped_store() {
+
+        // given
+        Random random = new Random(42);
+        InMemoryEmbeddingStore<TextSegment> originalEmbeddingStore = new InMemoryEmbeddingStore<>();
+        originalEmbeddingStore.add(randomEmbedding(random), TextSegment.from("mapped"));
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+        originalEmbeddingStore.serializeToBinaryFile(filePath);
+        InMemoryEmbeddingStore<TextSegment> deserializedEmbeddingStore = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+
+        // when
+        Embedding embedding = randomEmbedding(random);
+        deserializedEmbeddingStore.add(embedding, TextSegment.from("added"));
+
+        // then
+        List<EmbeddingMatch<TextSegment>> matches = deserializedEmbeddingStore.findRelevant(embedding, 2);
+        assertThat(matches).hasSize(2);
+        assertThat(matches.get(0).embedded().text()).isEqualTo("added");
+        assertThat(matches.get(0).score()).isCloseTo(1.0, offset(1e-6));
+        assertThat(matches.get(1).embedded().text()).isEqualTo("mapped");
+
+        assertThatThrownBy(() -> deserializedEmbeddingStore.add(Embedding.from(new float[]{1, 2})))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_remove_from_memory_mapped_store() {
+
+        // given
+        Random random = new Random(42);
+        InMemoryEmbeddingStore<TextSegment> originalEmbeddingStore = new InMemoryEmbeddingStore<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            embeddings.add(randomEmbedding(random));
+            originalEmbeddingStore.add(String.valueOf(i), embeddings.get(i), TextSegment.from("segment " + i));
+        }
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+        originalEmbeddingStore.serializeToBinaryFile(filePath);
+        InMemoryEmbeddingStore<TextSegment> deserializedEmbeddingStore = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+
+        // when
+        deserializedEmbeddingStore.removeAll(asList("0", "5"));
+
+        // then
+        List<EmbeddingMatch<TextSegment>> matches = deserializedEmbeddingStore.findRelevant(embeddings.get(7), 10);
+        assertThat(matches).extracting(EmbeddingMatch::embeddingId)
+                .hasSize(8)
+                .startsWith("7")
+                .doesNotContain("0", "5");
+        assertThat(matches.get(0).embedding()).isEqualTo(embeddings.get(7));
+        assertThat(matches.get(0).score()).isCloseTo(1.0, offset(1e-6));
+    }
+
+    @Test
+    void should_serialize_over_file_mapped_by_deserialized_store() throws Exception {
+
+        // given
+        Random random = new Random(42);
+        InMemoryEmbeddingStore<TextSegment> originalEmbeddingStore = new InMemoryEmbeddingStore<>();
+        Embedding embedding = randomEmbedding(random);
+        originalEmbeddingStore.add(embedding, TextSegment.from("mapped"));
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+        originalEmbeddingStore.serializeToBinaryFile(filePath);
+        InMemoryEmbeddingStore<TextSegment> deserializedEmbeddingStore = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+
+        // when
+        new InMemoryEmbeddingStore<TextSegment>().serializeToBinaryFile(filePath);
+
+        // then
+        List<EmbeddingMatch<TextSegment>> matches = deserializedEmbeddingStore.findRelevant(embedding, 1);
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).embedded().text()).isEqualTo("mapped");
+        assertThat(matches.get(0).score()).isCloseTo(1.0, offset(1e-6));
+
+        assertThat(InMemoryEmbeddingStore.fromBinaryFile(filePath).entries).isEmpty();
+        try (Stream<Path> files = Files.list(temporaryDirectory)) {
+            assertThat(files).containsExactly(filePath);
+        }
+    }
+
+    @Test
+    void should_serialize_empty_store() {
+
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+        new InMemoryEmbeddingStore<TextSegment>().serializeToBinaryFile(filePath);
+
+        InMemoryEmbeddingStore<TextSegment> deserializedEmbeddingStore = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+
+        assertThat(deserializedEmbeddingStore.entries).isEmpty();
+        deserializedEmbeddingStore.add(Embedding.from(new float[]{1, 2}));
+        assertThat(deserializedEmbeddingStore.findRelevant(Embedding.from(new float[]{1, 2}), 1)).hasSize(1);
+    }
+
+    @Test
+    void should_fail_on_missing_or_invalid_file() throws Exception {
+
+        assertThatExceptionOfType(RuntimeException.class)
+                .isThrownBy(() -> InMemoryEmbeddingStore.fromBinaryFile(temporaryDirectory.resolve("missing/store.bin")))
+                .withCauseInstanceOf(NoSuchFileException.class);
+
+        assertThatExceptionOfType(RuntimeException.class)
+                .isThrownBy(() -> new InMemoryEmbeddingStore<TextSegment>()
+                        .serializeToBinaryFile(temporaryDirectory.resolve("missing/store.bin")))
+                .withCauseInstanceOf(NoSuchFileException.class);
+
+        Path jsonFile = temporaryDirectory.resolve("embedding-store.json");
+        new InMemoryEmbeddingStore<TextSegment>().serializeToFile(jsonFile);
+        Files.write(jsonFile, new byte[64], APPEND);
+        assertThatThrownBy(() -> InMemoryEmbeddingStore.fromBinaryFile(jsonFile))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageEndingWith("is not a binary InMemoryEmbeddingStore file");
+    }
+
+    @Test
+    void should_fail_to_serialize_unsupported_embedded_object() {
+
+        InMemoryEmbeddingStore<String> store = new InMemoryEmbeddingStore<>();
+        store.add(Embedding.from(new float[]{1, 2}), "not a text segment");
+
+        assertThatThrownBy(() -> store.serializeToBinaryFile(temporaryDirectory.resolve("store.bin")))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Only TextSegment can be written in the binary format, but found: java.lang.String");
+    }
+
+    private static Embedding randomEmbedding(Random random) {
+        float[] vector = new float[16];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+}
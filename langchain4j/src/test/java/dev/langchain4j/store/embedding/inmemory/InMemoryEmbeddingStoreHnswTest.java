@@ -0,0 +1,242 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryEmbeddingStoreHnswTest extends EmbeddingStoreWithFilteringIT {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryEmbeddingStoreHnswTest.class);
+
+    EmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.<TextSegment>builder()
+            .hnswIndex(HnswIndexConfig.defaults())
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @Test
+    void should_find_nearest_neighbours_with_high_recall() {
+
+        // given
+        int dimension = 64;
+        int size = 20_000;
+        int queries = 200;
+        int maxResults = 10;
+        Random random = new Random(42);
+
+        InMemoryEmbeddingStore<TextSegment> exactStore = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> hnswStore = InMemoryEmbeddingStore.<TextSegment>builder()
+                .hnswIndex(HnswIndexConfig.builder().m(16).efConstruction(200).efSearch(100).seed(42L).build())
+                .build();
+
+        List<Embedding> embeddings = randomClusteredEmbeddings(random, size, dimension);
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            segments.add(TextSegment.from("segment " + i, new Metadata().put("parity", i % 2)));
+        }
+        exactStore.addAll(embeddings, segments);
+        hnswStore.addAll(embeddings, segments);
+
+        List<Embedding> queryEmbeddings = randomClusteredEmbeddings(random, queries, dimension);
+
+        // when
+        int relevant = 0;
+        int retrieved = 0;
+        for (Embedding queryEmbedding : queryEmbeddings) {
+            List<EmbeddingMatch<TextSegment>> expected = exactStore.search(request(queryEmbedding, maxResults)).matches();
+            List<EmbeddingMatch<TextSegment>> actual = hnswStore.search(request(queryEmbedding, maxResults)).matches();
+
+            Set<String> expectedTexts = texts(expected);
+            relevant += expectedTexts.size();
+            retrieved += (int) actual.stream().filter(match -> expectedTexts.contains(match.embedded().text())).count();
+        }
+
+        // then
+        double recall = (double) retrieved / relevant;
+        log.info("recall@{}: {}", maxResults, recall);
+
+        assertThat(recall).isGreaterThan(0.95);
+    }
+
+    @Test
+    void should_return_same_scores_as_exhaustive_search_and_respect_min_score_and_filter() {
+
+        // given
+        Random random = new Random(1);
+        InMemoryEmbeddingStore<TextSegment> exactStore = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> hnswStore = InMemoryEmbeddingStore.<TextSegment>builder()
+                .hnswIndex(HnswIndexConfig.builder().seed(0L).build())
+                .build();
+
+        List<Embedding> embeddings = randomClusteredEmbeddings(random, 500, 16);
+        for (int i = 0; i < embeddings.size(); i++) {
+            TextSegment segment = TextSegment.from("segment " + i, Metadata.from("rare", i % 100 == 0 ? "yes" : "no"));
+            exactStore.add(String.valueOf(i), embeddings.get(i), segment);
+            hnswStore.add(String.valueOf(i), embeddings.get(i), segment);
+        }
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddings.get(7))
+                .maxResults(10)
+                .minScore(0.9)
+                .filter(metadataKey("rare").isEqualTo("yes"))
+                .build();
+
+        // when
+        List<EmbeddingMatch<TextSegment>> expected = exactStore.search(request).matches();
+        List<EmbeddingMatch<TextSegment>> actual = hnswStore.search(request).matches();
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void should_skip_removed_embeddings() {
+
+        // given
+        Random random = new Random(2);
+        InMemoryEmbeddingStore<TextSegment> exactStore = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> hnswStore = InMemoryEmbeddingStore.<TextSegment>builder()
+                .hnswIndex(HnswIndexConfig.builder().seed(0L).build())
+                .build();
+
+        List<Embedding> embeddings = randomClusteredEmbeddings(random, 500, 16);
+        for (int i = 0; i < embeddings.size(); i++) {
+            TextSegment segment = TextSegment.from("segment " + i, new Metadata().put("even", i % 2 == 0 ? "yes" : "no"));
+            exactStore.add(String.valueOf(i), embeddings.get(i), segment);
+            hnswStore.add(String.valueOf(i), embeddings.get(i), segment);
+        }
+
+        // when
+        exactStore.removeAll(metadataKey("even").isEqualTo("yes"));
+        hnswStore.removeAll(metadataKey("even").isEqualTo("yes"));
+        hnswStore.add("new", embeddings.get(10), TextSegment.from("new"));
+        exactStore.add("new", embeddings.get(10), TextSegment.from("new"));
+
+        // then
+        EmbeddingSearchRequest request = request(embeddings.get(10), 5);
+        List<EmbeddingMatch<TextSegment>> matches = hnswStore.search(request).matches();
+        assertThat(matches.get(0).embeddingId()).isEqualTo("new");
+        assertThat(matches).extracting(EmbeddingMatch::embeddingId)
+                .containsExactlyElementsOf(exactStore.search(request).matches().stream()
+                        .map(EmbeddingMatch::embeddingId)
+                        .collect(toList()));
+    }
+
+    @Test
+    void should_find_same_matches_as_exhaustive_search_while_removing_one_by_one() {
+
+        // given
+        Random random = new Random(3);
+        InMemoryEmbeddingStore<TextSegment> exactStore = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> hnswStore = InMemoryEmbeddingStore.<TextSegment>builder()
+                .hnswIndex(HnswIndexConfig.builder().seed(0L).build())
+                .build();
+
+        List<Embedding> embeddings = randomClusteredEmbeddings(random, 200, 16);
+        for (int i = 0; i < embeddings.size(); i++) {
+            TextSegment segment = TextSegment.from("segment " + i);
+            exactStore.add(String.valueOf(i), embeddings.get(i), segment);
+            hnswStore.add(String.valueOf(i), embeddings.get(i), segment);
+        }
+
+        for (int i = 0; i < 190; i++) {
+
+            // when
+            exactStore.remove(String.valueOf(i));
+            hnswStore.remove(String.valueOf(i));
+
+            // then
+            EmbeddingSearchRequest request = request(embeddings.get(i), 3);
+            assertThat(hnswStore.search(request).matches()).extracting(EmbeddingMatch::embeddingId)
+                    .doesNotContain(String.valueOf(i))
+                    .containsExactlyElementsOf(exactStore.search(request).matches().stream()
+                            .map(EmbeddingMatch::embeddingId)
+                            .collect(toList()));
+        }
+        assertThat(hnswStore.entries).hasSize(10);
+    }
+
+    @Test
+    void should_fail_when_dimensions_differ() {
+
+        InMemoryEmbeddingStore<TextSegment> hnswStore = InMemoryEmbeddingStore.<TextSegment>builder()
+                .hnswIndex(HnswIndexConfig.defaults())
+                .build();
+        hnswStore.add(Embedding.from(new float[]{1, 0, 0}));
+
+        assertThatThrownBy(() -> hnswStore.add(Embedding.from(new float[]{1, 0})))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_validate_config() {
+
+        assertThatThrownBy(() -> HnswIndexConfig.builder().m(0).build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("m must be greater than zero, but is: 0");
+    }
+
+    private static EmbeddingSearchRequest request(Embedding queryEmbedding, int maxResults) {
+        return EmbeddingSearchRequest.builder()
+                .queryEmbedding(queryEmbedding)
+                .maxResults(maxResults)
+                .build();
+    }
+
+    private static Set<String> texts(List<EmbeddingMatch<TextSegment>> matches) {
+        return new HashSet<>(matches.stream().map(match -> match.embedded().text()).collect(toList()));
+    }
+
+    private static List<Embedding> randomClusteredEmbeddings(Random random, int count, int dimension) {
+        int clusters = 50;
+        Random centroidRandom = new Random(0);
+        float[][] centroids = new float[clusters][dimension];
+        for (float[] centroid : centroids) {
+            for (int i = 0; i < dimension; i++) {
+                centroid[i] = (float) centroidRandom.nextGaussian();
+            }
+        }
+
+        List<Embedding> embeddings = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            float[] centroid = centroids[random.nextInt(clusters)];
+            float[] vector = new float[dimension];
+            for (int i = 0; i < dimension; i++) {
+                vector[i] = centroid[i] + (float) (random.nextGaussian() * 0.3);
+            }
+            embeddings.add(Embedding.from(vector));
+        }
+        return embeddings;
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+}
@@ -0,0 +1,98 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryEmbeddingStoreParallelSearchTest extends EmbeddingStoreWithFilteringIT {
+
+    EmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.<TextSegment>builder()
+            .parallelSearchThreshold(1)
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @Test
+    void should_find_same_matches_as_sequential_search() {
+
+        // given
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        InMemoryEmbeddingStore<TextSegment> sequentialStore = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> parallelStore = InMemoryEmbeddingStore.<TextSegment>builder()
+                .parallelSearchThreshold(10_000)
+                .forkJoinPool(forkJoinPool)
+                .build();
+
+        Random random = new Random(42);
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            embeddings.add(randomEmbedding(random, 32));
+            segments.add(TextSegment.from("segment " + i, new Metadata().put("group", i % 7)));
+        }
+        for (int i = 0; i < embeddings.size(); i++) {
+            sequentialStore.add(String.valueOf(i), embeddings.get(i), segments.get(i));
+            parallelStore.add(String.valueOf(i), embeddings.get(i), segments.get(i));
+        }
+
+        for (int i = 0; i < 20; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(randomEmbedding(random, 32))
+                    .maxResults(1 + i * 5)
+                    .minScore(i % 2 == 0 ? 0.0 : 0.7)
+                    .filter(i % 3 == 0 ? metadataKey("group").isEqualTo(3) : null)
+                    .build();
+
+            // when
+            List<EmbeddingMatch<TextSegment>> expected = sequentialStore.search(request).matches();
+            List<EmbeddingMatch<TextSegment>> actual = parallelStore.search(request).matches();
+
+            // then
+            assertThat(actual).isEqualTo(expected);
+        }
+
+        forkJoinPool.shutdown();
+    }
+
+    @Test
+    void should_validate_threshold() {
+
+        assertThatThrownBy(() -> InMemoryEmbeddingStore.builder().parallelSearchThreshold(0).build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("parallelSearchThreshold must be greater than zero, but is: 0");
+    }
+
+    private static Embedding randomEmbedding(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+}
@@ -1,13 +1,18 @@
 package dev.langchain4j.store.embedding.inmemory;
 
+import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.document.splitter.DocumentSplitters;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.AllMiniLmL6V2QuantizedEmbeddingModel;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreIngestor;
 import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import dev.langchain4j.store.embedding.InMemoryIngestionRecordStore;
+import dev.langchain4j.store.embedding.filter.Filter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -16,8 +21,14 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class InMemoryEmbeddingStoreTest extends EmbeddingStoreWithFilteringIT {
 
@@ -102,6 +113,117 @@ class InMemoryEmbeddingStoreTest extends EmbeddingStoreWithFilteringIT {
         assertThat(matches.get(1).embedded()).isEqualTo(expectedSegment2);
     }
 
+    @Test
+    void should_add_with_ids_and_remove() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+        List<String> ids = asList("1", "2", "3", "4", "5");
+        List<TextSegment> segments = ids.stream()
+                .map(id -> TextSegment.from("segment " + id, Metadata.from("group", Integer.parseInt(id) % 2 == 0 ? "even" : "odd")))
+                .collect(toList());
+        List<Embedding> embeddings = segments.stream()
+                .map(segment -> embeddingModel.embed(segment).content())
+                .collect(toList());
+        embeddingStore.addAll(ids, embeddings, segments);
+        Embedding query = embeddings.get(0);
+
+        // when
+        embeddingStore.remove("1");
+
+        // then
+        assertThat(embeddingStore.findRelevant(query, 10)).extracting(EmbeddingMatch::embeddingId)
+                .containsExactlyInAnyOrder("2", "3", "4", "5");
+
+        // when
+        embeddingStore.removeAll(asList("2", "unknown"));
+
+        // then
+        assertThat(embeddingStore.findRelevant(query, 10)).extracting(EmbeddingMatch::embeddingId)
+                .containsExactlyInAnyOrder("3", "4", "5");
+
+        // when
+        embeddingStore.removeAll(metadataKey("group").isEqualTo("odd"));
+
+        // then
+        List<EmbeddingMatch<TextSegment>> matches = embeddingStore.findRelevant(embeddings.get(3), 10);
+        assertThat(matches).extracting(EmbeddingMatch::embeddingId).containsExactly("4");
+        assertThat(matches.get(0).embedding()).isEqualTo(embeddings.get(3));
+        assertThat(matches.get(0).embedded()).isEqualTo(segments.get(3));
+        assertThat(InMemoryEmbeddingStore.fromJson(embeddingStore.serializeToJson()).entries)
+                .isEqualTo(embeddingStore.entries);
+
+        // when
+        embeddingStore.removeAll();
+
+        // then
+        assertThat(embeddingStore.findRelevant(query, 10)).isEmpty();
+        embeddingStore.add(Embedding.from(new float[]{1, 2}));
+        assertThat(embeddingStore.findRelevant(Embedding.from(new float[]{1, 2}), 10)).hasSize(1);
+    }
+
+    @Test
+    void should_replace_entries_added_with_existing_ids() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+        Embedding first = Embedding.from(new float[]{1, 0});
+        Embedding second = Embedding.from(new float[]{0, 1});
+        embeddingStore.addAll(asList("1", "2"), asList(first, second), asList(TextSegment.from("one"), TextSegment.from("two")));
+
+        // when
+        embeddingStore.addAll(asList("2", "3"), asList(first, second), asList(TextSegment.from("deux"), TextSegment.from("three")));
+
+        // then
+        assertThat(embeddingStore.entries).extracting(entry -> entry.id).containsExactly("1", "2", "3");
+        assertThat(embeddingStore.findRelevant(first, 10))
+                .extracting(match -> match.embeddingId() + "=" + match.embedded().text())
+                .containsExactlyInAnyOrder("1=one", "2=deux", "3=three");
+    }
+
+    @Test
+    void should_validate_removal_arguments() {
+
+        InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+
+        assertThatThrownBy(() -> embeddingStore.remove(" "))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("id cannot be null or blank");
+        assertThatThrownBy(() -> embeddingStore.removeAll(emptyList()))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("ids cannot be null or empty");
+        assertThatThrownBy(() -> embeddingStore.removeAll((Filter) null))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("filter cannot be null");
+        assertThatThrownBy(() -> embeddingStore.addAll(singletonList("1"), emptyList(), emptyList()))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_ingest_incrementally() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(DocumentSplitters.recursive(30, 0))
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .ingestionRecordStore(new InMemoryIngestionRecordStore())
+                .build();
+        Metadata metadata = Metadata.from(Document.FILE_NAME, "pets.txt");
+        ingestor.ingest(Document.from("Dogs are loyal animals. Cats are independent animals.", metadata));
+        assertThat(embeddingStore.entries).hasSize(2);
+        String dogsId = embeddingStore.entries.get(0).id;
+
+        // when
+        ingestor.ingest(Document.from("Dogs are loyal animals. Parrots can talk.", metadata));
+
+        // then
+        assertThat(embeddingStore.entries).extracting(entry -> entry.embedded.text())
+                .containsExactly("Dogs are loyal animals.", "Parrots can talk.");
+        assertThat(embeddingStore.entries.get(0).id).isEqualTo(dogsId);
+    }
+
     private InMemoryEmbeddingStore<TextSegment> createEmbeddingStore() {
 
         InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
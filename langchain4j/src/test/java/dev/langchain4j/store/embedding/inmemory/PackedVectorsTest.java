@@ -0,0 +1,74 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class PackedVectorsTest {
+
+    @Test
+    void should_compute_cosine_similarity_as_dot_product_of_normalized_rows() {
+
+        // given
+        Random random = new Random(42);
+        PackedVectors vectors = new PackedVectors();
+        float[][] added = new float[100][];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = randomVector(random, 387);
+            assertThat(vectors.add(added[i])).isEqualTo(i);
+        }
+        float[] query = randomVector(random, 387);
+
+        // when
+        float[] normalizedQuery = vectors.normalizedQuery(query);
+
+        // then
+        assertThat(vectors.size()).isEqualTo(100);
+        assertThat(vectors.dimension()).isEqualTo(387);
+        for (int row = 0; row < added.length; row++) {
+            double expected = CosineSimilarity.between(Embedding.from(added[row]), Embedding.from(query));
+            assertThat((double) vectors.similarity(row, normalizedQuery)).isCloseTo(expected, within(1e-5));
+        }
+        double expected = CosineSimilarity.between(Embedding.from(added[3]), Embedding.from(added[97]));
+        assertThat((double) vectors.similarity(3, 97)).isCloseTo(expected, within(1e-5));
+    }
+
+    @Test
+    void should_keep_all_zeros_vector_orthogonal_to_everything() {
+
+        PackedVectors vectors = new PackedVectors();
+        vectors.add(new float[]{0, 0, 0});
+
+        assertThat(vectors.similarity(0, vectors.normalizedQuery(new float[]{1, 2, 3}))).isZero();
+        assertThat(vectors.similarity(0, 0)).isZero();
+        assertThat(vectors.row(0)).containsExactly(0, 0, 0);
+    }
+
+    @Test
+    void should_fail_when_dimensions_differ() {
+
+        PackedVectors vectors = new PackedVectors();
+        vectors.add(new float[]{1, 0, 0});
+
+        assertThatThrownBy(() -> vectors.add(new float[]{1, 0}))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Length of vector a (2) must be equal to the length of vector b (3)");
+        assertThatThrownBy(() -> vectors.normalizedQuery(new float[]{1, 0}))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Length of vector a (2) must be equal to the length of vector b (3)");
+    }
+
+    private static float[] randomVector(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}